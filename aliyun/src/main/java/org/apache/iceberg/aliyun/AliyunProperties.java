@@ -20,6 +20,7 @@ package org.apache.iceberg.aliyun;
 
 import java.io.Serializable;
 import java.util.Map;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.util.PropertyUtil;
 
@@ -76,11 +77,33 @@ public class AliyunProperties implements Serializable {
    */
   public static final String OSS_STAGING_DIRECTORY = "oss.staging-dir";
 
+  /**
+   * Number of keys deleted in a single DeleteMultipleObjects request by {@link
+   * org.apache.iceberg.aliyun.oss.OSSFileIO#deleteFiles(Iterable)}, defaults to 1000. OSS accepts
+   * at most 1000 keys per request.
+   */
+  public static final String OSS_DELETE_BATCH_SIZE = "oss.delete.batch-size";
+
+  public static final int OSS_DELETE_BATCH_SIZE_DEFAULT = 1000;
+
+  public static final int OSS_DELETE_BATCH_SIZE_MAX = 1000;
+
+  /** Number of threads used to issue delete requests, defaults to the number of processors. */
+  public static final String OSS_DELETE_THREADS = "oss.delete.num-threads";
+
+  /** Maximum number of keys returned by each ListObjects request, defaults to 1000. */
+  public static final String OSS_LIST_MAX_KEYS = "oss.list.max-keys";
+
+  public static final int OSS_LIST_MAX_KEYS_DEFAULT = 1000;
+
   private final String ossEndpoint;
   private final String accessKeyId;
   private final String accessKeySecret;
   private final String securityToken;
   private final String ossStagingDirectory;
+  private final int ossDeleteBatchSize;
+  private final int ossDeleteThreads;
+  private final int ossListMaxKeys;
 
   public AliyunProperties() {
     this(ImmutableMap.of());
@@ -96,6 +119,22 @@ public class AliyunProperties implements Serializable {
     this.ossStagingDirectory =
         PropertyUtil.propertyAsString(
             properties, OSS_STAGING_DIRECTORY, System.getProperty("java.io.tmpdir"));
+
+    this.ossDeleteBatchSize =
+        PropertyUtil.propertyAsInt(
+            properties, OSS_DELETE_BATCH_SIZE, OSS_DELETE_BATCH_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        ossDeleteBatchSize > 0 && ossDeleteBatchSize <= OSS_DELETE_BATCH_SIZE_MAX,
+        "Invalid delete batch size: %s (must be between 1 and %s)",
+        ossDeleteBatchSize,
+        OSS_DELETE_BATCH_SIZE_MAX);
+    this.ossDeleteThreads =
+        PropertyUtil.propertyAsInt(
+            properties, OSS_DELETE_THREADS, Runtime.getRuntime().availableProcessors());
+    this.ossListMaxKeys =
+        PropertyUtil.propertyAsInt(properties, OSS_LIST_MAX_KEYS, OSS_LIST_MAX_KEYS_DEFAULT);
+    Preconditions.checkArgument(
+        ossListMaxKeys > 0, "Invalid list max keys: %s (must be > 0)", ossListMaxKeys);
   }
 
   public String ossEndpoint() {
@@ -117,4 +156,16 @@ public class AliyunProperties implements Serializable {
   public String ossStagingDirectory() {
     return ossStagingDirectory;
   }
+
+  public int ossDeleteBatchSize() {
+    return ossDeleteBatchSize;
+  }
+
+  public int ossDeleteThreads() {
+    return ossDeleteThreads;
+  }
+
+  public int ossListMaxKeys() {
+    return ossListMaxKeys;
+  }
 }
@@ -19,17 +19,37 @@
 package org.apache.iceberg.aliyun.oss;
 
 import com.aliyun.oss.OSS;
+import com.aliyun.oss.model.DeleteObjectsRequest;
+import com.aliyun.oss.model.DeleteObjectsResult;
+import com.aliyun.oss.model.ListObjectsRequest;
+import com.aliyun.oss.model.OSSObjectSummary;
+import com.aliyun.oss.model.ObjectListing;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.iceberg.aliyun.AliyunClientFactories;
 import org.apache.iceberg.aliyun.AliyunClientFactory;
 import org.apache.iceberg.aliyun.AliyunProperties;
 import org.apache.iceberg.common.DynConstructors;
-import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.BulkDeletionFailureException;
+import org.apache.iceberg.io.DelegateFileIO;
+import org.apache.iceberg.io.FileInfo;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.collect.Streams;
 import org.apache.iceberg.util.SerializableSupplier;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,10 +60,11 @@ import org.slf4j.LoggerFactory;
  * scheme https are also treated as oss file paths. Using this FileIO with other schemes with result
  * in {@link org.apache.iceberg.exceptions.ValidationException}
  */
-public class OSSFileIO implements FileIO {
+public class OSSFileIO implements DelegateFileIO {
   private static final Logger LOG = LoggerFactory.getLogger(OSSFileIO.class);
   private static final String DEFAULT_METRICS_IMPL =
       "org.apache.iceberg.hadoop.HadoopMetricsContext";
+  private static volatile ExecutorService executorService;
 
   private SerializableSupplier<OSS> oss;
   private AliyunProperties aliyunProperties;
@@ -71,6 +92,20 @@ public class OSSFileIO implements FileIO {
     this.aliyunProperties = new AliyunProperties();
   }
 
+  /**
+   * Constructor with custom oss supplier and aliyun properties.
+   *
+   * <p>Calling {@link OSSFileIO#initialize(Map)} will overwrite information set in this
+   * constructor.
+   *
+   * @param oss oss supplier
+   * @param aliyunProperties aliyun properties
+   */
+  public OSSFileIO(SerializableSupplier<OSS> oss, AliyunProperties aliyunProperties) {
+    this.oss = oss;
+    this.aliyunProperties = aliyunProperties;
+  }
+
   @Override
   public InputFile newInputFile(String path) {
     return new OSSInputFile(client(), new OSSURI(path), aliyunProperties, metrics);
@@ -87,6 +122,99 @@ public class OSSFileIO implements FileIO {
     client().deleteObject(location.bucket(), location.key());
   }
 
+  /**
+   * Deletes the given paths in batches.
+   *
+   * <p>The paths are grouped by bucket and each batch of up to {@link
+   * AliyunProperties#OSS_DELETE_BATCH_SIZE} keys is deleted with a single DeleteMultipleObjects
+   * request. Batches are deleted in parallel.
+   *
+   * @param pathsToDelete paths to delete
+   */
+  @Override
+  public void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException {
+    OSS ossClient = client();
+    Map<String, List<String>> bucketToKeys = Maps.newHashMap();
+    List<Future<Integer>> deletionTasks = Lists.newArrayList();
+    for (String path : pathsToDelete) {
+      OSSURI location = new OSSURI(path);
+      String bucket = location.bucket();
+      List<String> keys = bucketToKeys.computeIfAbsent(bucket, ignored -> Lists.newArrayList());
+      keys.add(location.key());
+      if (keys.size() >= aliyunProperties.ossDeleteBatchSize()) {
+        deletionTasks.add(executorService().submit(() -> deleteBatch(ossClient, bucket, keys)));
+        bucketToKeys.remove(bucket);
+      }
+    }
+
+    // delete the remainder
+    bucketToKeys.forEach(
+        (bucket, keys) ->
+            deletionTasks.add(
+                executorService().submit(() -> deleteBatch(ossClient, bucket, keys))));
+
+    int totalFailedDeletions = 0;
+    for (Future<Integer> deletionTask : deletionTasks) {
+      try {
+        totalFailedDeletions += deletionTask.get();
+      } catch (ExecutionException e) {
+        throw new RuntimeException("Failed to delete batch", e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        deletionTasks.stream().filter(task -> !task.isDone()).forEach(task -> task.cancel(true));
+        throw new RuntimeException("Interrupted when waiting for deletions to complete", e);
+      }
+    }
+
+    if (totalFailedDeletions > 0) {
+      throw new BulkDeletionFailureException(totalFailedDeletions);
+    }
+  }
+
+  /** Deletes a batch of keys from a bucket and returns the number of keys that were not deleted. */
+  private int deleteBatch(OSS ossClient, String bucket, List<String> keys) {
+    DeleteObjectsRequest request = new DeleteObjectsRequest(bucket);
+    request.setKeys(keys);
+    // verbose mode returns every deleted key, so keys missing from the result failed
+    request.setQuiet(false);
+
+    try {
+      DeleteObjectsResult result = ossClient.deleteObjects(request);
+      Set<String> deleted = Sets.newHashSet(result.getDeletedObjects());
+      int failed = 0;
+      for (String key : keys) {
+        if (!deleted.contains(key)) {
+          LOG.warn("Failed to delete object at path oss://{}/{}", bucket, key);
+          failed += 1;
+        }
+      }
+
+      return failed;
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to delete {} objects from bucket {}", keys.size(), bucket, e);
+      return keys.size();
+    }
+  }
+
+  @Override
+  public Iterable<FileInfo> listPrefix(String prefix) {
+    OSSURI location = new OSSURI(prefix);
+    return () -> new ListingIterator(location);
+  }
+
+  /**
+   * Deletes all objects under the given prefix.
+   *
+   * <p>OSS has no atomic prefix delete, so this lists the prefix and deletes the listed objects in
+   * batches. Objects added concurrently may not be deleted.
+   *
+   * @param prefix prefix to delete
+   */
+  @Override
+  public void deletePrefix(String prefix) {
+    deleteFiles(() -> Streams.stream(listPrefix(prefix)).map(FileInfo::location).iterator());
+  }
+
   private OSS client() {
     if (client == null) {
       synchronized (this) {
@@ -121,6 +249,20 @@ public class OSSFileIO implements FileIO {
     }
   }
 
+  private ExecutorService executorService() {
+    if (executorService == null) {
+      synchronized (OSSFileIO.class) {
+        if (executorService == null) {
+          executorService =
+              ThreadPools.newExitingWorkerPool(
+                  "iceberg-ossfileio-delete", aliyunProperties.ossDeleteThreads());
+        }
+      }
+    }
+
+    return executorService;
+  }
+
   @Override
   public void close() {
     // handles concurrent calls to close()
@@ -130,4 +272,46 @@ public class OSSFileIO implements FileIO {
       }
     }
   }
+
+  /** Lists all objects under a prefix, requesting one page of keys at a time. */
+  private class ListingIterator implements Iterator<FileInfo> {
+    private final OSSURI location;
+    private Iterator<OSSObjectSummary> page = Collections.emptyIterator();
+    private String nextMarker = null;
+    private boolean hasMorePages = true;
+
+    private ListingIterator(OSSURI location) {
+      this.location = location;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!page.hasNext() && hasMorePages) {
+        ListObjectsRequest request =
+            new ListObjectsRequest(location.bucket())
+                .withPrefix(location.key())
+                .withMarker(nextMarker)
+                .withMaxKeys(aliyunProperties.ossListMaxKeys());
+        ObjectListing listing = client().listObjects(request);
+        this.page = listing.getObjectSummaries().iterator();
+        this.nextMarker = listing.getNextMarker();
+        this.hasMorePages = listing.isTruncated() && nextMarker != null;
+      }
+
+      return page.hasNext();
+    }
+
+    @Override
+    public FileInfo next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      OSSObjectSummary summary = page.next();
+      return new FileInfo(
+          String.format("oss://%s/%s", location.bucket(), summary.getKey()),
+          summary.getSize(),
+          summary.getLastModified().getTime());
+    }
+  }
 }
@@ -19,6 +19,7 @@
 package org.apache.iceberg.aliyun.oss;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.aliyun.oss.OSS;
 import com.aliyun.oss.OSSClient;
@@ -29,15 +30,20 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.CatalogUtil;
+import org.apache.iceberg.aliyun.AliyunProperties;
+import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.FileInfo;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
 import org.apache.iceberg.util.SerializableSupplier;
 import org.apache.iceberg.util.SerializationUtil;
@@ -156,6 +162,92 @@ public class TestOSSFileIO extends AliyunOSSTestBase {
         .isNull();
   }
 
+  @Test
+  public void testListPrefix() throws IOException {
+    String prefix = location(String.format("list-%s/", UUID.randomUUID()));
+    List<String> expected = writeFiles(prefix, 5, 16);
+    String other = location(String.format("%s.dat", UUID.randomUUID()));
+    writeOSSData(fileIO().newOutputFile(other), randomData(16));
+
+    try (OSSFileIO io = newFileIO(AliyunProperties.OSS_LIST_MAX_KEYS, "2")) {
+      List<FileInfo> files = Lists.newArrayList(io.listPrefix(prefix));
+      assertThat(files)
+          .extracting(FileInfo::location)
+          .containsExactlyInAnyOrderElementsOf(expected);
+      assertThat(files).extracting(FileInfo::size).containsOnly(16L);
+      assertThat(io.listPrefix(location("missing-prefix/"))).isEmpty();
+    }
+  }
+
+  @Test
+  public void testDeleteFiles() throws IOException {
+    String prefix = location(String.format("delete-%s/", UUID.randomUUID()));
+    List<String> paths = writeFiles(prefix, 5, 16);
+
+    try (OSSFileIO io = newFileIO(AliyunProperties.OSS_DELETE_BATCH_SIZE, "2")) {
+      io.deleteFiles(paths);
+    }
+
+    for (String path : paths) {
+      assertThat(fileIO().newInputFile(path).exists()).as("OSS file should not exist").isFalse();
+    }
+  }
+
+  @Test
+  public void testDeleteFilesReportsFailures() throws IOException {
+    String prefix = location(String.format("delete-%s/", UUID.randomUUID()));
+    List<String> paths = writeFiles(prefix, 3, 16);
+    String missingBucket = String.format("oss://missing-bucket-%s/", UUID.randomUUID());
+    List<String> allPaths = Lists.newArrayList(paths);
+    allPaths.add(missingBucket + "a.dat");
+    allPaths.add(missingBucket + "b.dat");
+    allPaths.add(missingBucket + "c.dat");
+
+    try (OSSFileIO io = newFileIO(AliyunProperties.OSS_DELETE_BATCH_SIZE, "2")) {
+      assertThatThrownBy(() -> io.deleteFiles(allPaths))
+          .isInstanceOf(BulkDeletionFailureException.class)
+          .hasMessage("Failed to delete 3 files");
+    }
+
+    for (String path : paths) {
+      assertThat(fileIO().newInputFile(path).exists()).as("OSS file should not exist").isFalse();
+    }
+  }
+
+  @Test
+  public void testDeletePrefix() throws IOException {
+    String prefix = location(String.format("delete-prefix-%s/", UUID.randomUUID()));
+    List<String> paths = writeFiles(prefix, 4, 16);
+    String other = location(String.format("%s.dat", UUID.randomUUID()));
+    writeOSSData(fileIO().newOutputFile(other), randomData(16));
+
+    try (OSSFileIO io = newFileIO(AliyunProperties.OSS_LIST_MAX_KEYS, "3")) {
+      io.deletePrefix(prefix);
+      assertThat(io.listPrefix(prefix)).isEmpty();
+    }
+
+    for (String path : paths) {
+      assertThat(fileIO().newInputFile(path).exists()).as("OSS file should not exist").isFalse();
+    }
+
+    assertThat(fileIO().newInputFile(other).exists()).as("OSS file should exist").isTrue();
+  }
+
+  private OSSFileIO newFileIO(String property, String value) {
+    return new OSSFileIO(ossClient(), new AliyunProperties(ImmutableMap.of(property, value)));
+  }
+
+  private List<String> writeFiles(String prefix, int count, int dataSize) throws IOException {
+    List<String> paths = Lists.newArrayList();
+    for (int i = 0; i < count; i += 1) {
+      String path = String.format("%sfile-%d.dat", prefix, i);
+      writeOSSData(fileIO().newOutputFile(path), randomData(dataSize));
+      paths.add(path);
+    }
+
+    return paths;
+  }
+
   private FileIO fileIO() {
     return fileIO;
   }
@@ -28,17 +28,32 @@ import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
 import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
 
 public class AliyunOSSMock {
 
+  private static final Pattern KEY_PATTERN = Pattern.compile("<Key>(.*?)</Key>");
+  private static final DateTimeFormatter ISO8601_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+
   static final String PROP_ROOT_DIR = "root-dir";
   static final String ROOT_DIR_DEFAULT = "/tmp";
 
@@ -87,9 +102,16 @@ public class AliyunOSSMock {
         if (httpExchange.getRequestMethod().equals("DELETE")) {
           deleteBucket(bucketName, httpExchange);
         }
+        if (httpExchange.getRequestMethod().equals("GET")) {
+          listObjects(bucketName, httpExchange);
+        }
+        if (httpExchange.getRequestMethod().equals("POST")
+            && queryParams(httpExchange).containsKey("delete")) {
+          deleteObjects(bucketName, httpExchange);
+        }
       } else {
-        // object operations
-        String objectName = requests[1];
+        // object operations, keys may contain '/'
+        String objectName = request.substring(bucketName.length() + 1);
         if (objectName.contains("?")) {
           objectName = objectName.substring(0, objectName.indexOf("?"));
         }
@@ -165,6 +187,82 @@ public class AliyunOSSMock {
       handleResponse(httpExchange, 200, "OK", "text/plain");
     }
 
+    private void listObjects(String bucketName, HttpExchange httpExchange) throws IOException {
+      if (!bucketExists(bucketName, httpExchange)) {
+        return;
+      }
+
+      Map<String, String> params = queryParams(httpExchange);
+      String prefix = params.getOrDefault("prefix", "");
+      String marker = params.get("marker");
+      int maxKeys = Integer.parseInt(params.getOrDefault("max-keys", "100"));
+
+      List<String> keys =
+          localStore.listObjects(bucketName, prefix).stream()
+              .filter(key -> marker == null || key.compareTo(marker) > 0)
+              .collect(Collectors.toList());
+      boolean truncated = keys.size() > maxKeys;
+      List<String> page = keys.subList(0, Math.min(maxKeys, keys.size()));
+      String escapedMarker = marker != null ? escapeXml(marker) : "";
+
+      StringBuilder builder = new StringBuilder();
+      builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+      builder.append("<ListBucketResult>");
+      builder.append("<Name>").append(bucketName).append("</Name>");
+      builder.append("<Prefix>").append(escapeXml(prefix)).append("</Prefix>");
+      builder.append("<Marker>").append(escapedMarker).append("</Marker>");
+      builder.append("<MaxKeys>").append(maxKeys).append("</MaxKeys>");
+      builder.append("<Delimiter></Delimiter>");
+      builder.append("<IsTruncated>").append(truncated).append("</IsTruncated>");
+      if (truncated) {
+        String nextMarker = escapeXml(page.get(page.size() - 1));
+        builder.append("<NextMarker>").append(nextMarker).append("</NextMarker>");
+      }
+
+      for (String key : page) {
+        ObjectMetadata metadata = localStore.getObjectMetadata(bucketName, key);
+        builder.append("<Contents>");
+        builder.append("<Key>").append(escapeXml(key)).append("</Key>");
+        builder
+            .append("<LastModified>")
+            .append(createIso8601Date(metadata.getLastModificationDate()))
+            .append("</LastModified>");
+        builder.append("<ETag>\"").append(metadata.getContentMD5()).append("\"</ETag>");
+        builder.append("<Type>Normal</Type>");
+        builder.append("<Size>").append(metadata.getContentLength()).append("</Size>");
+        builder.append("<StorageClass>Standard</StorageClass>");
+        builder.append("<Owner><ID>0</ID><DisplayName>mock</DisplayName></Owner>");
+        builder.append("</Contents>");
+      }
+
+      builder.append("</ListBucketResult>");
+      handleResponse(httpExchange, 200, builder.toString(), "application/xml");
+    }
+
+    private void deleteObjects(String bucketName, HttpExchange httpExchange) throws IOException {
+      if (!bucketExists(bucketName, httpExchange)) {
+        return;
+      }
+
+      String body;
+      try (InputStream inputStream = httpExchange.getRequestBody()) {
+        body = new String(ByteStreams.toByteArray(inputStream), StandardCharsets.UTF_8);
+      }
+
+      StringBuilder builder = new StringBuilder();
+      builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+      builder.append("<DeleteResult>");
+      Matcher matcher = KEY_PATTERN.matcher(body);
+      while (matcher.find()) {
+        String key = unescapeXml(matcher.group(1));
+        localStore.deleteObject(bucketName, key);
+        builder.append("<Deleted><Key>").append(escapeXml(key)).append("</Key></Deleted>");
+      }
+
+      builder.append("</DeleteResult>");
+      handleResponse(httpExchange, 200, builder.toString(), "application/xml");
+    }
+
     private void getObjectMeta(String bucketName, String objectName, HttpExchange httpExchange)
         throws IOException {
       verifyBucketExistence(bucketName, httpExchange);
@@ -287,6 +385,63 @@ public class AliyunOSSMock {
       }
     }
 
+    private boolean bucketExists(String bucketName, HttpExchange httpExchange) throws IOException {
+      if (localStore.getBucket(bucketName) == null) {
+        String errorMessage =
+            createErrorResponse(
+                OSSErrorCode.NO_SUCH_BUCKET, "The specified bucket does not exist.");
+        handleResponse(httpExchange, 404, errorMessage, "application/xml");
+        return false;
+      }
+
+      return true;
+    }
+
+    private Map<String, String> queryParams(HttpExchange httpExchange) {
+      Map<String, String> params = Maps.newHashMap();
+      String query = httpExchange.getRequestURI().getRawQuery();
+      if (query == null || query.isEmpty()) {
+        return params;
+      }
+
+      for (String param : query.split("&")) {
+        int separator = param.indexOf('=');
+        if (separator < 0) {
+          params.put(decode(param), "");
+        } else {
+          params.put(decode(param.substring(0, separator)), decode(param.substring(separator + 1)));
+        }
+      }
+
+      return params;
+    }
+
+    private String decode(String value) {
+      try {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+      } catch (UnsupportedEncodingException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private String escapeXml(String value) {
+      return value
+          .replace("&", "&amp;")
+          .replace("<", "&lt;")
+          .replace(">", "&gt;")
+          .replace("\"", "&quot;")
+          .replace("'", "&apos;");
+    }
+
+    private String unescapeXml(String value) {
+      return value
+          .replace("&lt;", "<")
+          .replace("&gt;", ">")
+          .replace("&quot;", "\"")
+          .replace("&apos;", "'")
+          .replace("&amp;", "&");
+    }
+
     private ObjectMetadata verifyObjectExistence(String bucketName, String fileName) {
       ObjectMetadata objectMetadata = null;
       try {
@@ -302,9 +457,10 @@ public class AliyunOSSMock {
         HttpExchange httpExchange, int responseCode, String responsePayload, String contentType)
         throws IOException {
       OutputStream outputStream = httpExchange.getResponseBody();
+      byte[] payload = responsePayload.getBytes(StandardCharsets.UTF_8);
       httpExchange.getResponseHeaders().put("Content-Type", Collections.singletonList(contentType));
-      httpExchange.sendResponseHeaders(responseCode, responsePayload.length());
-      outputStream.write(responsePayload.getBytes());
+      httpExchange.sendResponseHeaders(responseCode, payload.length);
+      outputStream.write(payload);
       outputStream.flush();
       outputStream.close();
     }
@@ -318,6 +474,10 @@ public class AliyunOSSMock {
       return builder.toString();
     }
 
+    private String createIso8601Date(long timestamp) {
+      return ISO8601_FORMAT.format(Instant.ofEpochMilli(timestamp));
+    }
+
     private String createDate(long timestamp) {
       java.util.Date date = new java.util.Date(timestamp);
       ZonedDateTime dateTime = date.toInstant().atZone(ZoneId.of("GMT"));
@@ -38,6 +38,7 @@ import java.security.NoSuchAlgorithmException;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.codec.binary.Hex;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
@@ -194,6 +195,19 @@ public class AliyunOSSMockLocalStore {
     return objectMapper.readValue(metaFile, ObjectMetadata.class);
   }
 
+  List<String> listObjects(String bucketName, String prefix) throws IOException {
+    Path bucketDir = new File(root, bucketName).toPath();
+    try (Stream<Path> walk = Files.walk(bucketDir)) {
+      return walk.filter(Files::isRegularFile)
+          .map(path -> bucketDir.relativize(path).toString().replace(File.separatorChar, '/'))
+          .filter(name -> name.endsWith(DATA_FILE))
+          .map(name -> name.substring(0, name.length() - DATA_FILE.length()))
+          .filter(key -> key.startsWith(prefix))
+          .sorted()
+          .collect(Collectors.toList());
+    }
+  }
+
   private List<Bucket> findBucketsByFilter(final DirectoryStream.Filter<Path> filter) {
     List<Bucket> buckets = Lists.newArrayList();
 
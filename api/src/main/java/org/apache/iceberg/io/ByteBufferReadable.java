@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@code ByteBufferReadable} is an interface that allows {@link SeekableInputStream}
+ * implementations to read directly into a {@link ByteBuffer}, including direct buffers, without an
+ * intermediate heap array.
+ *
+ * <p>Reads start at the current position of the stream and advance it by the number of bytes read.
+ */
+public interface ByteBufferReadable {
+
+  /**
+   * Read up to {@link ByteBuffer#remaining()} bytes into the buffer.
+   *
+   * @param buffer target buffer; its position is advanced by the number of bytes read
+   * @return the number of bytes read, or -1 if the end of the stream was reached
+   * @throws IOException if an error occurs while reading
+   */
+  int read(ByteBuffer buffer) throws IOException;
+
+  /**
+   * Fill the remaining space of the buffer.
+   *
+   * @param buffer target buffer
+   * @throws EOFException if the end of the stream is reached before the buffer is full
+   * @throws IOException if an error occurs while reading
+   */
+  default void readFully(ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (read(buffer) < 0) {
+        throw new EOFException(
+            "Reached the end of stream with " + buffer.remaining() + " bytes left to read");
+      }
+    }
+  }
+}
@@ -29,4 +29,23 @@ public interface FileIOMetricsContext extends MetricsContext {
   String READ_OPERATIONS = "read.operations";
   String WRITE_BYTES = "write.bytes";
   String WRITE_OPERATIONS = "write.operations";
+
+  // latency histograms, recorded in microseconds
+  String OPEN_LATENCY = "open.latency-us";
+  String GET_LATENCY = "get.latency-us";
+  String RANGED_READ_LATENCY = "ranged-read.latency-us";
+  String PUT_LATENCY = "put.latency-us";
+  String MULTIPART_PART_LATENCY = "multipart-part.latency-us";
+  String DELETE_LATENCY = "delete.latency-us";
+  String LIST_LATENCY = "list.latency-us";
+
+  // throughput histograms, recorded in bytes per second for each completed transfer
+  String READ_THROUGHPUT = "read.bytes-per-second";
+  String WRITE_THROUGHPUT = "write.bytes-per-second";
+
+  // gauges of requests or streams that are currently open
+  String READS_IN_FLIGHT = "read.in-flight";
+  String WRITES_IN_FLIGHT = "write.in-flight";
+
+  String RETRIES = "retries";
 }
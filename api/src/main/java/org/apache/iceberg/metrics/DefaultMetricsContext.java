@@ -56,4 +56,9 @@ public class DefaultMetricsContext implements MetricsContext {
   public Histogram histogram(String name) {
     return new FixedReservoirHistogram(DEFAULT_HISTOGRAM_RESERVOIR_SIZE);
   }
+
+  @Override
+  public Gauge gauge(String name) {
+    return new DefaultGauge();
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+/**
+ * Generalized Gauge interface for tracking a value that can go up and down, such as the number of
+ * in-flight requests.
+ */
+public interface Gauge {
+
+  /** Increment the gauge by 1. */
+  default void increment() {
+    add(1L);
+  }
+
+  /** Decrement the gauge by 1. */
+  default void decrement() {
+    add(-1L);
+  }
+
+  /**
+   * Add the provided amount to the gauge. The amount may be negative.
+   *
+   * @param amount to be added.
+   */
+  void add(long amount);
+
+  /**
+   * Set the gauge to the provided value.
+   *
+   * @param value the new value.
+   */
+  void set(long value);
+
+  /**
+   * Reports the current value.
+   *
+   * @return The current value.
+   */
+  long value();
+
+  Gauge NOOP =
+      new Gauge() {
+        @Override
+        public void add(long amount) {}
+
+        @Override
+        public void set(long value) {}
+
+        @Override
+        public long value() {
+          throw new UnsupportedOperationException("NOOP gauge has no value");
+        }
+
+        @Override
+        public String toString() {
+          return "NOOP gauge";
+        }
+      };
+}
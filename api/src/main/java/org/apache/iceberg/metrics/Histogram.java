@@ -58,4 +58,25 @@ public interface Histogram {
      */
     long percentile(double percentile);
   }
+
+  Histogram NOOP =
+      new Histogram() {
+        @Override
+        public void update(long value) {}
+
+        @Override
+        public int count() {
+          throw new UnsupportedOperationException("NOOP histogram has no count");
+        }
+
+        @Override
+        public Statistics statistics() {
+          throw new UnsupportedOperationException("NOOP histogram has no statistics");
+        }
+
+        @Override
+        public String toString() {
+          return "NOOP histogram";
+        }
+      };
 }
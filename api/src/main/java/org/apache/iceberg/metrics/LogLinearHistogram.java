@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A lock-free {@link Histogram} implementation that records observations into log-linear buckets.
+ *
+ * <p>Values below 16 are recorded exactly and every higher power-of-two range is split into 16
+ * linear sub-buckets, so percentiles have a relative error of at most 1/16. Unlike {@link
+ * FixedReservoirHistogram}, an update is a few atomic additions and never blocks, and every
+ * observation contributes to the statistics. Only non-negative values can be recorded.
+ */
+public class LogLinearHistogram implements Histogram {
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int NUM_BUCKETS =
+      SUB_BUCKETS + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(NUM_BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final DoubleAdder sumOfSquares = new DoubleAdder();
+  private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+  private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+  @Override
+  public void update(long value) {
+    Preconditions.checkArgument(value >= 0, "Cannot record negative value: %s", value);
+    buckets.incrementAndGet(bucketIndex(value));
+    sum.add(value);
+    // Convert to double value to avoid potential overflow of square
+    double asDouble = (double) value;
+    sumOfSquares.add(asDouble * asDouble);
+    min.accumulate(value);
+    max.accumulate(value);
+    count.increment();
+  }
+
+  @Override
+  public int count() {
+    return (int) Math.min(count.sum(), Integer.MAX_VALUE);
+  }
+
+  @Override
+  public Statistics statistics() {
+    long[] counts = new long[NUM_BUCKETS];
+    long total = 0L;
+    for (int i = 0; i < NUM_BUCKETS; i += 1) {
+      counts[i] = buckets.get(i);
+      total += counts[i];
+    }
+
+    if (total == 0) {
+      return BucketStatistics.EMPTY;
+    }
+
+    // Use the uncorrected estimator, as in FixedReservoirHistogram
+    double mean = (double) sum.sum() / total;
+    double variance = Math.max(0.0d, sumOfSquares.sum() / total - mean * mean);
+    return new BucketStatistics(counts, total, mean, Math.sqrt(variance), min.get(), max.get());
+  }
+
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+
+    int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+    return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+  }
+
+  static long bucketLowerBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+
+    int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+    int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+    return ((long) (SUB_BUCKETS + subBucket)) << shift;
+  }
+
+  static long bucketUpperBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+
+    int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+    return bucketLowerBound(index) + ((1L << shift) - 1);
+  }
+
+  private static class BucketStatistics implements Statistics {
+    private static final BucketStatistics EMPTY =
+        new BucketStatistics(new long[0], 0L, 0.0, 0.0, 0L, 0L);
+
+    private final long[] counts;
+    private final long total;
+    private final double mean;
+    private final double stdDev;
+    private final long min;
+    private final long max;
+
+    private BucketStatistics(
+        long[] counts, long total, double mean, double stdDev, long min, long max) {
+      this.counts = counts;
+      this.total = total;
+      this.mean = mean;
+      this.stdDev = stdDev;
+      this.min = min;
+      this.max = max;
+    }
+
+    @Override
+    public int size() {
+      return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public double mean() {
+      return mean;
+    }
+
+    @Override
+    public double stdDev() {
+      return stdDev;
+    }
+
+    @Override
+    public long max() {
+      return max;
+    }
+
+    @Override
+    public long min() {
+      return min;
+    }
+
+    @Override
+    public long percentile(double percentile) {
+      Preconditions.checkArgument(
+          !Double.isNaN(percentile) && percentile >= 0.0 && percentile <= 1.0,
+          "Percentile point cannot be outside the range of [0.0 - 1.0]: %s",
+          percentile);
+      if (total == 0) {
+        return 0L;
+      }
+
+      long rank = Math.max(1L, (long) Math.ceil(percentile * total));
+      long seen = 0L;
+      for (int i = 0; i < counts.length; i += 1) {
+        seen += counts[i];
+        if (seen >= rank) {
+          long lower = bucketLowerBound(i);
+          long midpoint = lower + (bucketUpperBound(i) - lower) / 2;
+          return Math.max(min, Math.min(max, midpoint));
+        }
+      }
+
+      return max;
+    }
+  }
+}
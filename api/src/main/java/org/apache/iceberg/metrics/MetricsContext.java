@@ -153,6 +153,18 @@ public interface MetricsContext extends Serializable {
     throw new UnsupportedOperationException("Histogram is not supported.");
   }
 
+  /**
+   * Get a named gauge.
+   *
+   * <p>Contexts that do not support gauges return {@link Gauge#NOOP}.
+   *
+   * @param name The name of the gauge
+   * @return a {@link Gauge} implementation
+   */
+  default Gauge gauge(String name) {
+    return Gauge.NOOP;
+  }
+
   /**
    * Utility method for producing no metrics.
    *
@@ -187,6 +199,16 @@ public interface MetricsContext extends Serializable {
       public org.apache.iceberg.metrics.Counter counter(String name, Unit unit) {
         return org.apache.iceberg.metrics.DefaultCounter.NOOP;
       }
+
+      @Override
+      public Histogram histogram(String name) {
+        return Histogram.NOOP;
+      }
+
+      @Override
+      public Gauge gauge(String name) {
+        return Gauge.NOOP;
+      }
     };
   }
 }
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.MetricsConfig;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.deletes.EqualityDeleteWriter;
+import org.apache.iceberg.deletes.PositionDeleteWriter;
+import org.apache.iceberg.encryption.EncryptedOutputFile;
+import org.apache.iceberg.encryption.EncryptionUtil;
+import org.apache.iceberg.io.DataWriter;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.FileAppenderFactory;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+
+/**
+ * Factory to create a new {@link FileAppender} to write {@link ArrowRow rows} of Arrow batches.
+ *
+ * <p>Only Parquet is supported. Position delete files are written without row data.
+ */
+public class ArrowAppenderFactory implements FileAppenderFactory<ArrowRow> {
+  private final Schema schema;
+  private final PartitionSpec spec;
+  private final int[] equalityFieldIds;
+  private final Schema eqDeleteRowSchema;
+  private final Map<String, String> config = Maps.newHashMap();
+
+  public ArrowAppenderFactory(Schema schema) {
+    this(schema, PartitionSpec.unpartitioned());
+  }
+
+  public ArrowAppenderFactory(Schema schema, PartitionSpec spec) {
+    this(schema, spec, null, null);
+  }
+
+  public ArrowAppenderFactory(
+      Schema schema, PartitionSpec spec, int[] equalityFieldIds, Schema eqDeleteRowSchema) {
+    this.schema = schema;
+    this.spec = spec;
+    this.equalityFieldIds = equalityFieldIds;
+    this.eqDeleteRowSchema = eqDeleteRowSchema;
+  }
+
+  public ArrowAppenderFactory set(String property, String value) {
+    config.put(property, value);
+    return this;
+  }
+
+  public ArrowAppenderFactory setAll(Map<String, String> properties) {
+    config.putAll(properties);
+    return this;
+  }
+
+  @Override
+  public FileAppender<ArrowRow> newAppender(OutputFile outputFile, FileFormat fileFormat) {
+    return newAppender(EncryptionUtil.plainAsEncryptedOutput(outputFile), fileFormat);
+  }
+
+  @Override
+  public FileAppender<ArrowRow> newAppender(
+      EncryptedOutputFile encryptedOutputFile, FileFormat fileFormat) {
+    checkFormat(fileFormat);
+
+    try {
+      return Parquet.write(encryptedOutputFile)
+          .schema(schema)
+          .createWriterFunc(ArrowParquetWriter::create)
+          .setAll(config)
+          .metricsConfig(MetricsConfig.fromProperties(config))
+          .overwrite()
+          .build();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public DataWriter<ArrowRow> newDataWriter(
+      EncryptedOutputFile file, FileFormat format, StructLike partition) {
+    return new DataWriter<>(
+        newAppender(file, format),
+        format,
+        file.encryptingOutputFile().location(),
+        spec,
+        partition,
+        file.keyMetadata());
+  }
+
+  @Override
+  public EqualityDeleteWriter<ArrowRow> newEqDeleteWriter(
+      EncryptedOutputFile file, FileFormat format, StructLike partition) {
+    Preconditions.checkState(
+        equalityFieldIds != null && equalityFieldIds.length > 0,
+        "Equality field ids shouldn't be null or empty when creating equality-delete writer");
+    Preconditions.checkNotNull(
+        eqDeleteRowSchema,
+        "Equality delete row schema shouldn't be null when creating equality-delete writer");
+    checkFormat(format);
+
+    try {
+      return Parquet.writeDeletes(file)
+          .createWriterFunc(ArrowParquetWriter::create)
+          .withPartition(partition)
+          .overwrite()
+          .setAll(config)
+          .metricsConfig(MetricsConfig.fromProperties(config))
+          .rowSchema(eqDeleteRowSchema)
+          .withSpec(spec)
+          .withKeyMetadata(file.keyMetadata())
+          .equalityFieldIds(equalityFieldIds)
+          .buildEqualityWriter();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public PositionDeleteWriter<ArrowRow> newPosDeleteWriter(
+      EncryptedOutputFile file, FileFormat format, StructLike partition) {
+    checkFormat(format);
+
+    try {
+      return Parquet.writeDeletes(file)
+          .withPartition(partition)
+          .overwrite()
+          .setAll(config)
+          .metricsConfig(MetricsConfig.fromProperties(config))
+          .withSpec(spec)
+          .withKeyMetadata(file.keyMetadata())
+          .buildPositionWriter();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void checkFormat(FileFormat format) {
+    if (format != FileFormat.PARQUET) {
+      throw new UnsupportedOperationException("Cannot write Arrow batches to format: " + format);
+    }
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.apache.iceberg.MetricsConfig;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.deletes.EqualityDeleteWriter;
+import org.apache.iceberg.deletes.PositionDeleteWriter;
+import org.apache.iceberg.encryption.EncryptedOutputFile;
+import org.apache.iceberg.io.DataWriter;
+import org.apache.iceberg.io.FileWriterFactory;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A {@link FileWriterFactory} that writes {@link ArrowRow rows} of Arrow batches to Parquet files,
+ * for use with writers like {@link org.apache.iceberg.io.RollingDataWriter}.
+ *
+ * <p>Position delete files are written without row data.
+ */
+public class ArrowFileWriterFactory implements FileWriterFactory<ArrowRow> {
+  private final Table table;
+  private final Schema dataSchema;
+  private final SortOrder dataSortOrder;
+  private final int[] equalityFieldIds;
+  private final Schema equalityDeleteRowSchema;
+  private final SortOrder equalityDeleteSortOrder;
+
+  private ArrowFileWriterFactory(
+      Table table,
+      Schema dataSchema,
+      SortOrder dataSortOrder,
+      int[] equalityFieldIds,
+      Schema equalityDeleteRowSchema,
+      SortOrder equalityDeleteSortOrder) {
+    this.table = table;
+    this.dataSchema = dataSchema;
+    this.dataSortOrder = dataSortOrder;
+    this.equalityFieldIds = equalityFieldIds;
+    this.equalityDeleteRowSchema = equalityDeleteRowSchema;
+    this.equalityDeleteSortOrder = equalityDeleteSortOrder;
+  }
+
+  public static Builder builderFor(Table table) {
+    return new Builder(table);
+  }
+
+  @Override
+  public DataWriter<ArrowRow> newDataWriter(
+      EncryptedOutputFile file, PartitionSpec spec, StructLike partition) {
+    try {
+      return Parquet.writeData(file)
+          .schema(dataSchema)
+          .createWriterFunc(ArrowParquetWriter::create)
+          .setAll(table.properties())
+          .metricsConfig(MetricsConfig.forTable(table))
+          .withSpec(spec)
+          .withPartition(partition)
+          .withKeyMetadata(file.keyMetadata())
+          .withSortOrder(dataSortOrder)
+          .overwrite()
+          .build();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public EqualityDeleteWriter<ArrowRow> newEqualityDeleteWriter(
+      EncryptedOutputFile file, PartitionSpec spec, StructLike partition) {
+    try {
+      return Parquet.writeDeletes(file)
+          .createWriterFunc(ArrowParquetWriter::create)
+          .setAll(table.properties())
+          .metricsConfig(MetricsConfig.forTable(table))
+          .rowSchema(equalityDeleteRowSchema)
+          .equalityFieldIds(equalityFieldIds)
+          .withSpec(spec)
+          .withPartition(partition)
+          .withKeyMetadata(file.keyMetadata())
+          .withSortOrder(equalityDeleteSortOrder)
+          .overwrite()
+          .buildEqualityWriter();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public PositionDeleteWriter<ArrowRow> newPositionDeleteWriter(
+      EncryptedOutputFile file, PartitionSpec spec, StructLike partition) {
+    try {
+      return Parquet.writeDeletes(file)
+          .setAll(table.properties())
+          .metricsConfig(MetricsConfig.forPositionDelete(table))
+          .withSpec(spec)
+          .withPartition(partition)
+          .withKeyMetadata(file.keyMetadata())
+          .overwrite()
+          .buildPositionWriter();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public static class Builder {
+    private final Table table;
+    private Schema dataSchema;
+    private SortOrder dataSortOrder;
+    private int[] equalityFieldIds;
+    private Schema equalityDeleteRowSchema;
+    private SortOrder equalityDeleteSortOrder;
+
+    private Builder(Table table) {
+      this.table = table;
+      this.dataSchema = table.schema();
+    }
+
+    public Builder dataSchema(Schema newDataSchema) {
+      this.dataSchema = newDataSchema;
+      return this;
+    }
+
+    public Builder dataSortOrder(SortOrder newDataSortOrder) {
+      this.dataSortOrder = newDataSortOrder;
+      return this;
+    }
+
+    public Builder equalityFieldIds(int[] newEqualityFieldIds) {
+      this.equalityFieldIds = newEqualityFieldIds;
+      return this;
+    }
+
+    public Builder equalityDeleteRowSchema(Schema newEqualityDeleteRowSchema) {
+      this.equalityDeleteRowSchema = newEqualityDeleteRowSchema;
+      return this;
+    }
+
+    public Builder equalityDeleteSortOrder(SortOrder newEqualityDeleteSortOrder) {
+      this.equalityDeleteSortOrder = newEqualityDeleteSortOrder;
+      return this;
+    }
+
+    public ArrowFileWriterFactory build() {
+      boolean noEqualityDeleteConf = equalityFieldIds == null && equalityDeleteRowSchema == null;
+      boolean fullEqualityDeleteConf = equalityFieldIds != null && equalityDeleteRowSchema != null;
+      Preconditions.checkArgument(
+          noEqualityDeleteConf || fullEqualityDeleteConf,
+          "Equality field IDs and equality delete row schema must be set together");
+
+      return new ArrowFileWriterFactory(
+          table,
+          dataSchema,
+          dataSortOrder,
+          equalityFieldIds,
+          equalityDeleteRowSchema,
+          equalityDeleteSortOrder);
+    }
+  }
+}
@@ -0,0 +1,743 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampMicroTZVector;
+import org.apache.arrow.vector.TimeStampMicroVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.BaseRepeatedValueVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.iceberg.DoubleFieldMetrics;
+import org.apache.iceberg.FieldMetrics;
+import org.apache.iceberg.FloatFieldMetrics;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.parquet.ParquetValueWriter;
+import org.apache.iceberg.parquet.ParquetValueWriters;
+import org.apache.iceberg.parquet.TripleWriter;
+import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnWriteStore;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+/**
+ * Creates Parquet value writers that write {@link ArrowRow rows} of Arrow batches.
+ *
+ * <p>Values are copied straight from the Arrow buffers into the Parquet column writers without
+ * materializing records or boxing primitives. Columns are matched to the Iceberg schema by name and
+ * must use the Arrow types produced by {@link ArrowSchemaUtil}.
+ */
+public class ArrowParquetWriter {
+  private ArrowParquetWriter() {}
+
+  @SuppressWarnings("unchecked")
+  public static ParquetValueWriter<ArrowRow> create(Schema schema, MessageType type) {
+    return (ParquetValueWriter<ArrowRow>)
+        TypeWithSchemaVisitor.visit(schema.asStruct(), type, new WriteBuilder(type));
+  }
+
+  private static class WriteBuilder extends TypeWithSchemaVisitor<ParquetValueWriter<?>> {
+    private final MessageType type;
+
+    private WriteBuilder(MessageType type) {
+      this.type = type;
+    }
+
+    @Override
+    public ParquetValueWriter<?> message(
+        Types.StructType struct, MessageType message, List<ParquetValueWriter<?>> fieldWriters) {
+      return new RootWriter(names(struct, message), fields(message, fieldWriters));
+    }
+
+    @Override
+    public ParquetValueWriter<?> struct(
+        Types.StructType iceberg, GroupType struct, List<ParquetValueWriter<?>> fieldWriters) {
+      return new StructVectorWriter(names(iceberg, struct), fields(struct, fieldWriters));
+    }
+
+    private List<ParquetValueWriter<?>> fields(
+        GroupType struct, List<ParquetValueWriter<?>> fieldWriters) {
+      List<ParquetValueWriter<?>> writers = Lists.newArrayListWithExpectedSize(fieldWriters.size());
+      for (int i = 0; i < fieldWriters.size(); i += 1) {
+        Type fieldType = struct.getType(i);
+        int fieldD = type.getMaxDefinitionLevel(path(fieldType.getName()));
+        writers.add(option(fieldType, fieldD, fieldWriters.get(i)));
+      }
+
+      return writers;
+    }
+
+    @Override
+    public ParquetValueWriter<?> list(
+        Types.ListType iceberg, GroupType array, ParquetValueWriter<?> elementWriter) {
+      GroupType repeated = array.getFields().get(0).asGroupType();
+      String[] repeatedPath = currentPath();
+
+      int repeatedD = type.getMaxDefinitionLevel(repeatedPath);
+      int repeatedR = type.getMaxRepetitionLevel(repeatedPath);
+
+      Type elementType = repeated.getType(0);
+      int elementD = type.getMaxDefinitionLevel(path(elementType.getName()));
+
+      return new ListVectorWriter(
+          repeatedD, repeatedR, option(elementType, elementD, elementWriter));
+    }
+
+    @Override
+    public ParquetValueWriter<?> map(
+        Types.MapType iceberg,
+        GroupType map,
+        ParquetValueWriter<?> keyWriter,
+        ParquetValueWriter<?> valueWriter) {
+      GroupType repeatedKeyValue = map.getFields().get(0).asGroupType();
+      String[] repeatedPath = currentPath();
+
+      int repeatedD = type.getMaxDefinitionLevel(repeatedPath);
+      int repeatedR = type.getMaxRepetitionLevel(repeatedPath);
+
+      Type keyType = repeatedKeyValue.getType(0);
+      int keyD = type.getMaxDefinitionLevel(path(keyType.getName()));
+      Type valueType = repeatedKeyValue.getType(1);
+      int valueD = type.getMaxDefinitionLevel(path(valueType.getName()));
+
+      return new MapVectorWriter(
+          repeatedD,
+          repeatedR,
+          option(keyType, keyD, keyWriter),
+          option(valueType, valueD, valueWriter));
+    }
+
+    @Override
+    public ParquetValueWriter<?> primitive(
+        org.apache.iceberg.types.Type.PrimitiveType iceberg, PrimitiveType primitive) {
+      ColumnDescriptor desc = type.getColumnDescription(currentPath());
+      switch (iceberg.typeId()) {
+        case BOOLEAN:
+          return new BooleanWriter(desc);
+        case INTEGER:
+          return new IntWriter(desc, IntVector.class);
+        case DATE:
+          return new IntWriter(desc, DateDayVector.class);
+        case LONG:
+          return new LongWriter(desc, BigIntVector.class);
+        case TIME:
+          return new LongWriter(desc, TimeMicroVector.class);
+        case TIMESTAMP:
+          if (((Types.TimestampType) iceberg).shouldAdjustToUTC()) {
+            return new LongWriter(desc, TimeStampMicroTZVector.class);
+          }
+
+          return new LongWriter(desc, TimeStampMicroVector.class);
+        case FLOAT:
+          return new FloatWriter(desc);
+        case DOUBLE:
+          return new DoubleWriter(desc);
+        case STRING:
+          return new VariableWidthWriter(desc, VarCharVector.class);
+        case BINARY:
+          return new VariableWidthWriter(desc, VarBinaryVector.class);
+        case FIXED:
+        case UUID:
+          return new FixedWidthWriter(desc);
+        case DECIMAL:
+          switch (primitive.getPrimitiveTypeName()) {
+            case INT32:
+              return new IntDecimalWriter(desc);
+            case INT64:
+              return new LongDecimalWriter(desc);
+            case FIXED_LEN_BYTE_ARRAY:
+              return new FixedDecimalWriter(desc);
+            default:
+              throw new UnsupportedOperationException("Unsupported decimal type: " + primitive);
+          }
+
+        default:
+          throw new UnsupportedOperationException("Cannot write Arrow vectors of type: " + iceberg);
+      }
+    }
+
+    private static String[] names(Types.StructType iceberg, GroupType struct) {
+      return struct.getFields().stream()
+          .map(field -> iceberg.field(field.getId().intValue()).name())
+          .toArray(String[]::new);
+    }
+
+    private static ParquetValueWriter<?> option(
+        Type fieldType, int definitionLevel, ParquetValueWriter<?> writer) {
+      if (fieldType.isRepetition(Type.Repetition.OPTIONAL)) {
+        return new OptionWriter(definitionLevel, (VectorWriter) writer);
+      }
+
+      return writer;
+    }
+  }
+
+  /** A writer for values that are addressed by their index in an Arrow vector. */
+  private interface VectorWriter extends ParquetValueWriter<Object> {
+    /** Binds this writer, and any child writers, to the vector that holds its values. */
+    void bind(FieldVector vector);
+
+    boolean isNull(int index);
+
+    void writeAt(int repetitionLevel, int index);
+  }
+
+  private static class RootWriter extends ParquetValueWriters.StructWriter<ArrowRow> {
+    private final String[] names;
+    private final VectorWriter[] writers;
+    private VectorSchemaRoot boundRoot = null;
+
+    private RootWriter(String[] names, List<ParquetValueWriter<?>> writers) {
+      super(writers);
+      this.names = names;
+      this.writers = writers.toArray(new VectorWriter[0]);
+    }
+
+    @Override
+    public void write(int repetitionLevel, ArrowRow row) {
+      if (row.root() != boundRoot) {
+        bind(row.root());
+      }
+
+      int index = row.position();
+      for (VectorWriter writer : writers) {
+        writer.writeAt(repetitionLevel, index);
+      }
+    }
+
+    private void bind(VectorSchemaRoot root) {
+      for (int i = 0; i < writers.length; i += 1) {
+        FieldVector vector = root.getVector(names[i]);
+        Preconditions.checkArgument(
+            vector != null, "Cannot find column %s in Arrow batch: %s", names[i], root.getSchema());
+        writers[i].bind(vector);
+      }
+
+      this.boundRoot = root;
+    }
+
+    @Override
+    protected Object get(ArrowRow row, int index) {
+      throw new UnsupportedOperationException("Arrow rows are written by vector index");
+    }
+  }
+
+  private static class OptionWriter implements VectorWriter {
+    private final int definitionLevel;
+    private final VectorWriter writer;
+    private final List<TripleWriter<?>> children;
+    private long nullValueCount = 0;
+
+    private OptionWriter(int definitionLevel, VectorWriter writer) {
+      this.definitionLevel = definitionLevel;
+      this.writer = writer;
+      this.children = writer.columns();
+    }
+
+    @Override
+    public void bind(FieldVector vector) {
+      writer.bind(vector);
+    }
+
+    @Override
+    public boolean isNull(int index) {
+      return writer.isNull(index);
+    }
+
+    @Override
+    public void writeAt(int repetitionLevel, int index) {
+      if (writer.isNull(index)) {
+        nullValueCount++;
+        for (TripleWriter<?> column : children) {
+          column.writeNull(repetitionLevel, definitionLevel - 1);
+        }
+
+      } else {
+        writer.writeAt(repetitionLevel, index);
+      }
+    }
+
+    @Override
+    public void write(int repetitionLevel, Object value) {
+      throw new UnsupportedOperationException("Arrow values are written by vector index");
+    }
+
+    @Override
+    public List<TripleWriter<?>> columns() {
+      return children;
+    }
+
+    @Override
+    public void setColumnStore(ColumnWriteStore columnStore) {
+      writer.setColumnStore(columnStore);
+    }
+
+    @Override
+    public Stream<FieldMetrics<?>> metrics() {
+      if (writer instanceof LeafWriter) {
+        // leaf writers only see non-null values, so the nulls counted here are added
+        return writer
+            .metrics()
+            .map(
+                metrics ->
+                    new FieldMetrics<>(
+                        metrics.id(),
+                        metrics.valueCount() + nullValueCount,
+                        nullValueCount,
+                        metrics.nanValueCount(),
+                        metrics.lowerBound(),
+                        metrics.upperBound()));
+      }
+
+      return writer.metrics();
+    }
+  }
+
+  private static class StructVectorWriter implements VectorWriter {
+    private final String[] names;
+    private final VectorWriter[] writers;
+    private final List<TripleWriter<?>> children;
+    private StructVector vector = null;
+
+    private StructVectorWriter(String[] names, List<ParquetValueWriter<?>> writers) {
+      this.names = names;
+      this.writers = writers.toArray(new VectorWriter[0]);
+
+      ImmutableList.Builder<TripleWriter<?>> columnsBuilder = ImmutableList.builder();
+      for (ParquetValueWriter<?> writer : writers) {
+        columnsBuilder.addAll(writer.columns());
+      }
+
+      this.children = columnsBuilder.build();
+    }
+
+    @Override
+    public void bind(FieldVector newVector) {
+      this.vector = (StructVector) newVector;
+      for (int i = 0; i < writers.length; i += 1) {
+        FieldVector child = vector.getChild(names[i]);
+        Preconditions.checkArgument(
+            child != null, "Cannot find field %s in Arrow struct: %s", names[i], vector.getField());
+        writers[i].bind(child);
+      }
+    }
+
+    @Override
+    public boolean isNull(int index) {
+      return vector.isNull(index);
+    }
+
+    @Override
+    public void writeAt(int repetitionLevel, int index) {
+      for (VectorWriter writer : writers) {
+        writer.writeAt(repetitionLevel, index);
+      }
+    }
+
+    @Override
+    public void write(int repetitionLevel, Object value) {
+      throw new UnsupportedOperationException("Arrow values are written by vector index");
+    }
+
+    @Override
+    public List<TripleWriter<?>> columns() {
+      return children;
+    }
+
+    @Override
+    public void setColumnStore(ColumnWriteStore columnStore) {
+      for (VectorWriter writer : writers) {
+        writer.setColumnStore(columnStore);
+      }
+    }
+
+    @Override
+    public Stream<FieldMetrics<?>> metrics() {
+      return Arrays.stream(writers).flatMap(ParquetValueWriter::metrics);
+    }
+  }
+
+  private abstract static class RepeatedVectorWriter implements VectorWriter {
+    private final int definitionLevel;
+    private final int repetitionLevel;
+    private final List<TripleWriter<?>> children;
+    private ListVector vector = null;
+
+    private RepeatedVectorWriter(
+        int definitionLevel, int repetitionLevel, List<TripleWriter<?>> children) {
+      this.definitionLevel = definitionLevel;
+      this.repetitionLevel = repetitionLevel;
+      this.children = children;
+    }
+
+    @Override
+    public void bind(FieldVector newVector) {
+      this.vector = (ListVector) newVector;
+      bindElements(vector.getDataVector());
+    }
+
+    protected abstract void bindElements(FieldVector elements);
+
+    protected abstract void writeElement(int parentRepetition, int index);
+
+    @Override
+    public boolean isNull(int index) {
+      return vector.isNull(index);
+    }
+
+    @Override
+    public void writeAt(int parentRepetition, int index) {
+      ArrowBuf offsets = vector.getOffsetBuffer();
+      int start = offsets.getInt((long) index * BaseRepeatedValueVector.OFFSET_WIDTH);
+      int end = offsets.getInt((long) (index + 1) * BaseRepeatedValueVector.OFFSET_WIDTH);
+
+      if (start == end) {
+        // the collection is empty, which is a null with a definition level one below repeated
+        for (TripleWriter<?> column : children) {
+          column.writeNull(parentRepetition, definitionLevel - 1);
+        }
+
+        return;
+      }
+
+      writeElement(parentRepetition, start);
+      for (int element = start + 1; element < end; element += 1) {
+        writeElement(repetitionLevel, element);
+      }
+    }
+
+    @Override
+    public void write(int parentRepetition, Object value) {
+      throw new UnsupportedOperationException("Arrow values are written by vector index");
+    }
+
+    @Override
+    public List<TripleWriter<?>> columns() {
+      return children;
+    }
+  }
+
+  private static class ListVectorWriter extends RepeatedVectorWriter {
+    private final VectorWriter elementWriter;
+
+    private ListVectorWriter(
+        int definitionLevel, int repetitionLevel, ParquetValueWriter<?> elementWriter) {
+      super(definitionLevel, repetitionLevel, elementWriter.columns());
+      this.elementWriter = (VectorWriter) elementWriter;
+    }
+
+    @Override
+    protected void bindElements(FieldVector elements) {
+      elementWriter.bind(elements);
+    }
+
+    @Override
+    protected void writeElement(int repetitionLevel, int index) {
+      elementWriter.writeAt(repetitionLevel, index);
+    }
+
+    @Override
+    public void setColumnStore(ColumnWriteStore columnStore) {
+      elementWriter.setColumnStore(columnStore);
+    }
+
+    @Override
+    public Stream<FieldMetrics<?>> metrics() {
+      return elementWriter.metrics();
+    }
+  }
+
+  private static class MapVectorWriter extends RepeatedVectorWriter {
+    private final VectorWriter keyWriter;
+    private final VectorWriter valueWriter;
+
+    private MapVectorWriter(
+        int definitionLevel,
+        int repetitionLevel,
+        ParquetValueWriter<?> keyWriter,
+        ParquetValueWriter<?> valueWriter) {
+      super(
+          definitionLevel,
+          repetitionLevel,
+          ImmutableList.<TripleWriter<?>>builder()
+              .addAll(keyWriter.columns())
+              .addAll(valueWriter.columns())
+              .build());
+      this.keyWriter = (VectorWriter) keyWriter;
+      this.valueWriter = (VectorWriter) valueWriter;
+    }
+
+    @Override
+    public void bind(FieldVector newVector) {
+      Preconditions.checkArgument(
+          newVector instanceof MapVector,
+          "Cannot write map from Arrow vector: %s",
+          newVector.getField());
+      super.bind(newVector);
+    }
+
+    @Override
+    protected void bindElements(FieldVector elements) {
+      List<FieldVector> entryFields = ((StructVector) elements).getChildrenFromFields();
+      keyWriter.bind(entryFields.get(0));
+      valueWriter.bind(entryFields.get(1));
+    }
+
+    @Override
+    protected void writeElement(int repetitionLevel, int index) {
+      keyWriter.writeAt(repetitionLevel, index);
+      valueWriter.writeAt(repetitionLevel, index);
+    }
+
+    @Override
+    public void setColumnStore(ColumnWriteStore columnStore) {
+      keyWriter.setColumnStore(columnStore);
+      valueWriter.setColumnStore(columnStore);
+    }
+
+    @Override
+    public Stream<FieldMetrics<?>> metrics() {
+      return Stream.concat(keyWriter.metrics(), valueWriter.metrics());
+    }
+  }
+
+  private abstract static class LeafWriter<V extends FieldVector>
+      extends ParquetValueWriters.PrimitiveWriter<Object> implements VectorWriter {
+    private final ColumnDescriptor desc;
+    private final Class<? extends V> vectorClass;
+    private V vector = null;
+
+    private LeafWriter(ColumnDescriptor desc, Class<? extends V> vectorClass) {
+      super(desc);
+      this.desc = desc;
+      this.vectorClass = vectorClass;
+    }
+
+    @Override
+    public void bind(FieldVector newVector) {
+      Preconditions.checkArgument(
+          vectorClass.isInstance(newVector),
+          "Cannot write %s from Arrow vector: %s",
+          desc,
+          newVector.getField());
+      this.vector = vectorClass.cast(newVector);
+    }
+
+    @Override
+    public boolean isNull(int index) {
+      return vector.isNull(index);
+    }
+
+    @Override
+    public void writeAt(int repetitionLevel, int index) {
+      writeValue(repetitionLevel, vector, index);
+    }
+
+    protected abstract void writeValue(int repetitionLevel, V values, int index);
+  }
+
+  private static class BooleanWriter extends LeafWriter<BitVector> {
+    private BooleanWriter(ColumnDescriptor desc) {
+      super(desc, BitVector.class);
+    }
+
+    @Override
+    protected void writeValue(int repetitionLevel, BitVector values, int index) {
+      column.writeBoolean(repetitionLevel, values.get(index) != 0);
+    }
+  }
+
+  private static class IntWriter extends LeafWriter<BaseFixedWidthVector> {
+    private IntWriter(ColumnDescriptor desc, Class<? extends BaseFixedWidthVector> vectorClass) {
+      super(desc, vectorClass);
+    }
+
+    @Override
+    protected void writeValue(int repetitionLevel, BaseFixedWidthVector values, int index) {
+      int value = values.getDataBuffer().getInt((long) index * Integer.BYTES);
+      column.writeInteger(repetitionLevel, value);
+    }
+  }
+
+  private static class LongWriter extends LeafWriter<BaseFixedWidthVector> {
+    private LongWriter(ColumnDescriptor desc, Class<? extends BaseFixedWidthVector> vectorClass) {
+      super(desc, vectorClass);
+    }
+
+    @Override
+    protected void writeValue(int repetitionLevel, BaseFixedWidthVector values, int index) {
+      long value = values.getDataBuffer().getLong((long) index * Long.BYTES);
+      column.writeLong(repetitionLevel, value);
+    }
+  }
+
+  private static class FloatWriter extends LeafWriter<Float4Vector> {
+    private final FloatFieldMetrics.Builder floatFieldMetricsBuilder;
+
+    private FloatWriter(ColumnDescriptor desc) {
+      super(desc, Float4Vector.class);
+      int id = desc.getPrimitiveType().getId().intValue();
+      this.floatFieldMetricsBuilder = new FloatFieldMetrics.Builder(id);
+    }
+
+    @Override
+    protected void writeValue(int repetitionLevel, Float4Vector values, int index) {
+      float value = values.get(index);
+      column.writeFloat(repetitionLevel, value);
+      floatFieldMetricsBuilder.addValue(value);
+    }
+
+    @Override
+    public Stream<FieldMetrics<?>> metrics() {
+      return Stream.of(floatFieldMetricsBuilder.build());
+    }
+  }
+
+  private static class DoubleWriter extends LeafWriter<Float8Vector> {
+    private final DoubleFieldMetrics.Builder doubleFieldMetricsBuilder;
+
+    private DoubleWriter(ColumnDescriptor desc) {
+      super(desc, Float8Vector.class);
+      int id = desc.getPrimitiveType().getId().intValue();
+      this.doubleFieldMetricsBuilder = new DoubleFieldMetrics.Builder(id);
+    }
+
+    @Override
+    protected void writeValue(int repetitionLevel, Float8Vector values, int index) {
+      double value = values.get(index);
+      column.writeDouble(repetitionLevel, value);
+      doubleFieldMetricsBuilder.addValue(value);
+    }
+
+    @Override
+    public Stream<FieldMetrics<?>> metrics() {
+      return Stream.of(doubleFieldMetricsBuilder.build());
+    }
+  }
+
+  private static class VariableWidthWriter extends LeafWriter<BaseVariableWidthVector> {
+    private byte[] buffer = new byte[64];
+
+    private VariableWidthWriter(
+        ColumnDescriptor desc, Class<? extends BaseVariableWidthVector> vectorClass) {
+      super(desc, vectorClass);
+    }
+
+    @Override
+    protected void writeValue(int repetitionLevel, BaseVariableWidthVector values, int index) {
+      int start = values.getStartOffset(index);
+      int length = values.getStartOffset(index + 1) - start;
+      if (length > buffer.length) {
+        this.buffer = new byte[Math.max(length, buffer.length * 2)];
+      }
+
+      // Parquet copies reused bytes before keeping them for statistics or dictionaries
+      values.getDataBuffer().getBytes(start, buffer, 0, length);
+      column.writeBinary(repetitionLevel, Binary.fromReusedByteArray(buffer, 0, length));
+    }
+  }
+
+  private static class FixedWidthWriter extends LeafWriter<FixedSizeBinaryVector> {
+    private final byte[] buffer;
+
+    private FixedWidthWriter(ColumnDescriptor desc) {
+      super(desc, FixedSizeBinaryVector.class);
+      this.buffer = new byte[desc.getPrimitiveType().getTypeLength()];
+    }
+
+    @Override
+    protected void writeValue(int repetitionLevel, FixedSizeBinaryVector values, int index) {
+      values.getDataBuffer().getBytes((long) index * buffer.length, buffer, 0, buffer.length);
+      column.writeBinary(repetitionLevel, Binary.fromReusedByteArray(buffer));
+    }
+  }
+
+  private static class IntDecimalWriter extends LeafWriter<DecimalVector> {
+    private IntDecimalWriter(ColumnDescriptor desc) {
+      super(desc, DecimalVector.class);
+    }
+
+    @Override
+    protected void writeValue(int repetitionLevel, DecimalVector values, int index) {
+      // Arrow decimals are little-endian, so the low bytes hold the unscaled value
+      long offset = (long) index * DecimalVector.TYPE_WIDTH;
+      column.writeInteger(repetitionLevel, values.getDataBuffer().getInt(offset));
+    }
+  }
+
+  private static class LongDecimalWriter extends LeafWriter<DecimalVector> {
+    private LongDecimalWriter(ColumnDescriptor desc) {
+      super(desc, DecimalVector.class);
+    }
+
+    @Override
+    protected void writeValue(int repetitionLevel, DecimalVector values, int index) {
+      long offset = (long) index * DecimalVector.TYPE_WIDTH;
+      column.writeLong(repetitionLevel, values.getDataBuffer().getLong(offset));
+    }
+  }
+
+  private static class FixedDecimalWriter extends LeafWriter<DecimalVector> {
+    private final byte[] buffer;
+
+    private FixedDecimalWriter(ColumnDescriptor desc) {
+      super(desc, DecimalVector.class);
+      this.buffer = new byte[desc.getPrimitiveType().getTypeLength()];
+    }
+
+    @Override
+    protected void writeValue(int repetitionLevel, DecimalVector values, int index) {
+      // Parquet expects big-endian bytes, the upper bytes Arrow stores are only sign extension
+      ArrowBuf data = values.getDataBuffer();
+      long offset = (long) index * DecimalVector.TYPE_WIDTH;
+      for (int i = 0; i < buffer.length; i += 1) {
+        buffer[buffer.length - 1 - i] = data.getByte(offset + i);
+      }
+
+      column.writeBinary(repetitionLevel, Binary.fromReusedByteArray(buffer));
+    }
+  }
+}
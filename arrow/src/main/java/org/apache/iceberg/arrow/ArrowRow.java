@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.UUIDUtil;
+
+/**
+ * A reusable {@link StructLike} view of one row of a {@link VectorSchemaRoot}.
+ *
+ * <p>Columns are matched to the fields of the Iceberg schema by name, and values are returned
+ * using Iceberg's internal representation so that rows can be partitioned. Moving the view to
+ * another row does not allocate, so a single instance can be passed for every row of a batch to
+ * writers that consume rows, like {@link org.apache.iceberg.io.PartitionedFanoutWriter} or {@link
+ * org.apache.iceberg.io.RollingDataWriter}.
+ */
+public class ArrowRow implements StructLike {
+  private final Types.StructType struct;
+  private final FieldVector[] vectors;
+  private VectorSchemaRoot root = null;
+  private int position = 0;
+
+  public ArrowRow(Schema schema) {
+    this.struct = schema.asStruct();
+    this.vectors = new FieldVector[struct.fields().size()];
+  }
+
+  /**
+   * Points this view at the first row of a batch.
+   *
+   * @param newRoot an Arrow batch that contains a column for each field of the schema
+   * @return this for method chaining
+   */
+  public ArrowRow wrap(VectorSchemaRoot newRoot) {
+    if (newRoot != root) {
+      List<Types.NestedField> fields = struct.fields();
+      for (int i = 0; i < vectors.length; i += 1) {
+        String name = fields.get(i).name();
+        FieldVector vector = newRoot.getVector(name);
+        Preconditions.checkArgument(
+            vector != null, "Cannot find column %s in Arrow batch: %s", name, newRoot.getSchema());
+        vectors[i] = vector;
+      }
+
+      this.root = newRoot;
+    }
+
+    this.position = 0;
+    return this;
+  }
+
+  /**
+   * Moves this view to a row of the current batch.
+   *
+   * @param newPosition the index of the row in the current batch
+   * @return this for method chaining
+   */
+  public ArrowRow position(int newPosition) {
+    this.position = newPosition;
+    return this;
+  }
+
+  public VectorSchemaRoot root() {
+    return root;
+  }
+
+  public int position() {
+    return position;
+  }
+
+  @Override
+  public int size() {
+    return vectors.length;
+  }
+
+  @Override
+  public <T> T get(int pos, Class<T> javaClass) {
+    return javaClass.cast(value(struct.fields().get(pos).type(), vectors[pos], position));
+  }
+
+  @Override
+  public <T> void set(int pos, T value) {
+    throw new UnsupportedOperationException("Cannot modify an Arrow row");
+  }
+
+  private static Object value(Type type, FieldVector vector, int index) {
+    if (vector.isNull(index)) {
+      return null;
+    }
+
+    switch (type.typeId()) {
+      case BOOLEAN:
+        return ((BitVector) vector).get(index) != 0;
+      case INTEGER:
+      case DATE:
+        return ((BaseFixedWidthVector) vector).getDataBuffer().getInt((long) index * Integer.BYTES);
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+        return ((BaseFixedWidthVector) vector).getDataBuffer().getLong((long) index * Long.BYTES);
+      case FLOAT:
+        return ((Float4Vector) vector).get(index);
+      case DOUBLE:
+        return ((Float8Vector) vector).get(index);
+      case DECIMAL:
+        return ((DecimalVector) vector).getObject(index);
+      case STRING:
+        return new String(((VarCharVector) vector).get(index), StandardCharsets.UTF_8);
+      case BINARY:
+        return ByteBuffer.wrap(((VarBinaryVector) vector).get(index));
+      case FIXED:
+        return ByteBuffer.wrap(((FixedSizeBinaryVector) vector).get(index));
+      case UUID:
+        return UUIDUtil.convert(((FixedSizeBinaryVector) vector).get(index));
+      case STRUCT:
+        return new StructView(type.asStructType(), (StructVector) vector, index);
+      default:
+        throw new UnsupportedOperationException("Cannot read Arrow values of type: " + type);
+    }
+  }
+
+  private static class StructView implements StructLike {
+    private final Types.StructType struct;
+    private final StructVector vector;
+    private final int index;
+
+    private StructView(Types.StructType struct, StructVector vector, int index) {
+      this.struct = struct;
+      this.vector = vector;
+      this.index = index;
+    }
+
+    @Override
+    public int size() {
+      return struct.fields().size();
+    }
+
+    @Override
+    public <T> T get(int pos, Class<T> javaClass) {
+      Types.NestedField field = struct.fields().get(pos);
+      return javaClass.cast(value(field.type(), vector.getChild(field.name()), index));
+    }
+
+    @Override
+    public <T> void set(int pos, T value) {
+      throw new UnsupportedOperationException("Cannot modify an Arrow row");
+    }
+  }
+}
@@ -20,6 +20,7 @@ package org.apache.iceberg.arrow;
 
 import java.util.List;
 import java.util.Map;
+import org.apache.arrow.vector.complex.MapVector;
 import org.apache.arrow.vector.types.DateUnit;
 import org.apache.arrow.vector.types.FloatingPointPrecision;
 import org.apache.arrow.vector.types.TimeUnit;
@@ -130,8 +131,12 @@ public class ArrowSchemaUtil {
         final MapType mapType = field.type().asMapType();
         arrowType = new ArrowType.Map(false);
         List<Field> entryFields = Lists.transform(mapType.fields(), ArrowSchemaUtil::convert);
+        // Arrow maps hold a non-nullable struct of key and value
         Field entry =
-            new Field("", new FieldType(field.isOptional(), arrowType, null), entryFields);
+            new Field(
+                MapVector.DATA_VECTOR_NAME,
+                new FieldType(false, ArrowType.Struct.INSTANCE, null),
+                entryFields);
         children.add(entry);
         break;
       default:
@@ -33,10 +33,16 @@ import org.apache.arrow.vector.NullCheckingForGet;
 import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.arrow.vector.types.Types.MinorType;
 import org.apache.iceberg.CombinedScanTask;
+import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
 import org.apache.iceberg.TableScan;
+import org.apache.iceberg.data.DeleteFilter;
+import org.apache.iceberg.deletes.DeleteCounter;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
 import org.apache.iceberg.encryption.EncryptedFiles;
 import org.apache.iceberg.encryption.EncryptedInputFile;
 import org.apache.iceberg.encryption.EncryptionManager;
@@ -46,6 +52,7 @@ import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMappingParser;
+import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
@@ -54,8 +61,10 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.Type.TypeID;
+import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.ExceptionUtil;
+import org.apache.iceberg.util.PartitionUtil;
 import org.apache.iceberg.util.TableScanUtil;
 import org.apache.parquet.schema.MessageType;
 import org.slf4j.Logger;
@@ -65,6 +74,9 @@ import org.slf4j.LoggerFactory;
  * Vectorized reader that returns an iterator of {@link ColumnarBatch}. See {@link
  * #open(CloseableIterable)} ()} to learn about the behavior of the iterator.
  *
+ * <p>Parquet files are decoded directly into Arrow vectors. ORC files are read as ORC row batches
+ * that are converted to Arrow vectors by {@link VectorizedArrowOrcReaders}.
+ *
  * <p>The following Iceberg data types are supported and have been tested:
  *
  * <ul>
@@ -80,6 +92,9 @@ import org.slf4j.LoggerFactory;
  *   <li>Iceberg: {@link Types.DateType}, Arrow: {@link MinorType#DATEDAY}
  *   <li>Iceberg: {@link Types.TimeType}, Arrow: {@link MinorType#TIMEMICRO}
  *   <li>Iceberg: {@link Types.UUIDType}, Arrow: {@link MinorType#FIXEDSIZEBINARY}(16)
+ *   <li>Iceberg: {@link Types.StructType}, Arrow: {@link MinorType#STRUCT}
+ *   <li>Iceberg: {@link Types.ListType}, Arrow: {@link MinorType#LIST}
+ *   <li>Iceberg: {@link Types.MapType}, Arrow: {@link MinorType#MAP}
  * </ul>
  *
  * <p>Features that don't work in this implementation:
@@ -91,12 +106,19 @@ import org.slf4j.LoggerFactory;
  *   <li>Columns with constant values are physically encoded as a dictionary. The Arrow vector type
  *       is int32 instead of the type as per the schema. See
  *       https://github.com/apache/iceberg/issues/2484.
- *   <li>Data types: {@link Types.ListType}, {@link Types.MapType}, {@link Types.StructType}, {@link
- *       Types.FixedType} and {@link Types.DecimalType} See
+ *   <li>Data types: {@link Types.FixedType} and {@link Types.DecimalType} See
  *       https://github.com/apache/iceberg/issues/2485 and
  *       https://github.com/apache/iceberg/issues/2486.
- *   <li>Delete files are not supported. See https://github.com/apache/iceberg/issues/2487.
+ *   <li>Values nested in structs, lists and maps are always decoded, even when they are dictionary
+ *       encoded in the data file.
+ *   <li>Delete files are only supported when the reader is created with {@code applyDeletes}, and
+ *       the {@link MetadataColumns#IS_DELETED} column cannot be projected from files with deletes.
  * </ul>
+ *
+ * <p>When {@code applyDeletes} is set, position deletes, deletion vectors, equality deletes and the
+ * residual filter of each task are applied without copying rows: the returned batches keep the
+ * rows read from the data file in their vectors, and list the live rows in a row ID mapping. Use
+ * {@link ColumnarBatch#numLiveRows()} and {@link ColumnarBatch#rowId(int)} to iterate over them.
  */
 public class ArrowReader extends CloseableGroup {
   private static final Logger LOG = LoggerFactory.getLogger(ArrowReader.class);
@@ -114,13 +136,27 @@ public class ArrowReader extends CloseableGroup {
           TypeID.DATE,
           TypeID.UUID,
           TypeID.TIME,
-          TypeID.DECIMAL);
+          TypeID.DECIMAL,
+          TypeID.STRUCT,
+          TypeID.LIST,
+          TypeID.MAP);
 
+  private final Schema tableSchema;
   private final Schema schema;
   private final FileIO io;
   private final EncryptionManager encryption;
   private final int batchSize;
   private final boolean reuseContainers;
+  private final boolean applyDeletes;
+
+  /**
+   * Create a new instance of the reader that does not apply deletes.
+   *
+   * <p>See {@link #ArrowReader(TableScan, int, boolean, boolean)} for details.
+   */
+  public ArrowReader(TableScan scan, int batchSize, boolean reuseContainers) {
+    this(scan, batchSize, reuseContainers, false);
+  }
 
   /**
    * Create a new instance of the reader.
@@ -134,14 +170,20 @@ public class ArrowReader extends CloseableGroup {
    *     avoids allocating memory again and again. Irrespective of the value of {@code
    *     reuseContainers}, the Arrow vectors in the previous {@link Iterator#next()} call are closed
    *     before creating new instances if the current {@link Iterator#next()}.
+   * @param applyDeletes whether to apply delete files and the residual filter of each task. If set
+   *     to {@code false}, reading a task with delete files throws {@link
+   *     UnsupportedOperationException}. If set to {@code true}, batches may contain rows that are
+   *     not live and must be read through {@link ColumnarBatch#rowId(int)}.
    */
-  public ArrowReader(TableScan scan, int batchSize, boolean reuseContainers) {
+  public ArrowReader(TableScan scan, int batchSize, boolean reuseContainers, boolean applyDeletes) {
+    this.tableSchema = scan.table().schema();
     this.schema = scan.schema();
     this.io = scan.table().io();
     this.encryption = scan.table().encryption();
     this.batchSize = batchSize;
     // start planning tasks in the background
     this.reuseContainers = reuseContainers;
+    this.applyDeletes = applyDeletes;
   }
 
   /**
@@ -164,7 +206,8 @@ public class ArrowReader extends CloseableGroup {
    *
    * <ol>
    *   <li>At least one column is queried,
-   *   <li>There are no delete files, and
+   *   <li>There are no delete files, unless {@code applyDeletes} is set, in which case {@link
+   *       MetadataColumns#IS_DELETED} is not queried from files with deletes, and
    *   <li>Supported data types are queried (see {@link #SUPPORTED_TYPES}).
    * </ol>
    *
@@ -173,7 +216,16 @@ public class ArrowReader extends CloseableGroup {
   public CloseableIterator<ColumnarBatch> open(CloseableIterable<CombinedScanTask> tasks) {
     CloseableIterator<ColumnarBatch> itr =
         new VectorizedCombinedScanIterator(
-            tasks, schema, null, io, encryption, true, batchSize, reuseContainers);
+            tasks,
+            tableSchema,
+            schema,
+            null,
+            io,
+            encryption,
+            true,
+            batchSize,
+            reuseContainers,
+            applyDeletes);
     addCloseable(itr);
     return itr;
   }
@@ -184,19 +236,21 @@ public class ArrowReader extends CloseableGroup {
   }
 
   /**
-   * Reads the data file and returns an iterator of {@link VectorSchemaRoot}. Only Parquet data file
-   * format is supported.
+   * Reads the data file and returns an iterator of {@link VectorSchemaRoot}. Parquet and ORC data
+   * files are supported.
    */
   private static final class VectorizedCombinedScanIterator
       implements CloseableIterator<ColumnarBatch> {
 
     private final Iterator<FileScanTask> fileItr;
     private final Map<String, InputFile> inputFiles;
+    private final Schema tableSchema;
     private final Schema expectedSchema;
     private final String nameMapping;
     private final boolean caseSensitive;
     private final int batchSize;
     private final boolean reuseContainers;
+    private final boolean applyDeletes;
     private CloseableIterator<ColumnarBatch> currentIterator;
     private FileScanTask currentTask;
 
@@ -204,6 +258,7 @@ public class ArrowReader extends CloseableGroup {
      * Create a new instance.
      *
      * @param tasks Combined file scan tasks.
+     * @param tableSchema Table schema, used to find the columns required to apply equality deletes.
      * @param expectedSchema Read schema. The returned data will have this schema.
      * @param nameMapping Mapping from external schema names to Iceberg type IDs.
      * @param io File I/O.
@@ -219,16 +274,20 @@ public class ArrowReader extends CloseableGroup {
      *     the value of {@code reuseContainers}, the Arrow vectors in the previous {@link
      *     Iterator#next()} call are closed before creating new instances if the current {@link
      *     Iterator#next()}.
+     * @param applyDeletes If {@code true}, delete files and residual filters are applied using a
+     *     row ID mapping. If {@code false}, tasks with delete files are rejected.
      */
     VectorizedCombinedScanIterator(
         CloseableIterable<CombinedScanTask> tasks,
+        Schema tableSchema,
         Schema expectedSchema,
         String nameMapping,
         FileIO io,
         EncryptionManager encryptionManager,
         boolean caseSensitive,
         int batchSize,
-        boolean reuseContainers) {
+        boolean reuseContainers,
+        boolean applyDeletes) {
       List<FileScanTask> fileTasks =
           StreamSupport.stream(tasks.spliterator(), false)
               .map(CombinedScanTask::files)
@@ -237,8 +296,13 @@ public class ArrowReader extends CloseableGroup {
       this.fileItr = fileTasks.iterator();
 
       if (fileTasks.stream().anyMatch(TableScanUtil::hasDeletes)) {
-        throw new UnsupportedOperationException(
-            "Cannot read files that require applying delete files");
+        if (!applyDeletes) {
+          throw new UnsupportedOperationException(
+              "Cannot read files that require applying delete files");
+        } else if (expectedSchema.findField(MetadataColumns.IS_DELETED.fieldId()) != null) {
+          throw new UnsupportedOperationException(
+              "Cannot project _deleted from files that require applying delete files");
+        }
       }
 
       if (expectedSchema.columns().isEmpty()) {
@@ -248,7 +312,7 @@ public class ArrowReader extends CloseableGroup {
 
       Set<TypeID> unsupportedTypes =
           Sets.difference(
-              expectedSchema.columns().stream()
+              TypeUtil.indexById(expectedSchema.asStruct()).values().stream()
                   .map(c -> c.type().typeId())
                   .collect(Collectors.toSet()),
               SUPPORTED_TYPES);
@@ -259,7 +323,9 @@ public class ArrowReader extends CloseableGroup {
 
       Map<String, ByteBuffer> keyMetadata = Maps.newHashMap();
       fileTasks.stream()
-          .map(FileScanTask::file)
+          .flatMap(
+              task ->
+                  Stream.<ContentFile<?>>concat(Stream.of(task.file()), task.deletes().stream()))
           .forEach(file -> keyMetadata.put(file.location(), file.keyMetadata()));
 
       Stream<EncryptedInputFile> encrypted =
@@ -277,11 +343,13 @@ public class ArrowReader extends CloseableGroup {
       decryptedFiles.forEach(decrypted -> files.putIfAbsent(decrypted.location(), decrypted));
       this.inputFiles = ImmutableMap.copyOf(files);
       this.currentIterator = CloseableIterator.empty();
+      this.tableSchema = tableSchema;
       this.expectedSchema = expectedSchema;
       this.nameMapping = nameMapping;
       this.caseSensitive = caseSensitive;
       this.batchSize = batchSize;
       this.reuseContainers = reuseContainers;
+      this.applyDeletes = applyDeletes;
     }
 
     @Override
@@ -321,15 +389,20 @@ public class ArrowReader extends CloseableGroup {
       CloseableIterable<ColumnarBatch> iter;
       InputFile location = getInputFile(task);
       Preconditions.checkNotNull(location, "Could not find InputFile associated with FileScanTask");
-      if (task.file().format() == FileFormat.PARQUET) {
+      boolean isParquet = task.file().format() == FileFormat.PARQUET;
+      ArrowDeleteFilter deletes =
+          task.deletes().isEmpty() ? null : new ArrowDeleteFilter(task, isParquet);
+      Schema readSchema = deletes != null ? deletes.requiredSchema() : expectedSchema;
+      PositionDeleteIndex deletedPositions = deletes != null ? deletes.deletedRowPositions() : null;
+      if (isParquet) {
         Parquet.ReadBuilder builder =
             Parquet.read(location)
-                .project(expectedSchema)
+                .project(readSchema)
                 .split(task.start(), task.length())
                 .createBatchedReaderFunc(
                     fileSchema ->
                         buildReader(
-                            expectedSchema,
+                            readSchema,
                             fileSchema, /* setArrowValidityVector */
                             NullCheckingForGet.NULL_CHECKING_ENABLED))
                 .recordsPerBatch(batchSize)
@@ -343,11 +416,57 @@ public class ArrowReader extends CloseableGroup {
           builder.withNameMapping(NameMappingParser.fromJson(nameMapping));
         }
 
+        iter = builder.build();
+      } else if (task.file().format() == FileFormat.ORC) {
+        Map<Integer, ?> idToConstant = PartitionUtil.constantsMap(task);
+        Schema fileProjection =
+            TypeUtil.selectNot(
+                readSchema,
+                Sets.union(idToConstant.keySet(), MetadataColumns.metadataFieldIds()));
+        ORC.ReadBuilder builder =
+            ORC.read(location)
+                .project(fileProjection)
+                .split(task.start(), task.length())
+                .createBatchedReaderFunc(
+                    fileSchema ->
+                        VectorizedArrowOrcReaders.buildReader(
+                            readSchema,
+                            fileSchema,
+                            idToConstant,
+                            deletedPositions,
+                            reuseContainers))
+                .recordsPerBatch(batchSize)
+                .filter(task.residual())
+                .caseSensitive(caseSensitive);
+
+        if (nameMapping != null) {
+          builder.withNameMapping(NameMappingParser.fromJson(nameMapping));
+        }
+
         iter = builder.build();
       } else {
         throw new UnsupportedOperationException(
             "Format: " + task.file().format() + " not supported for batched reads");
       }
+
+      if (!applyDeletes) {
+        return iter.iterator();
+      }
+
+      // the ORC reader drops deleted positions while converting batches
+      ColumnarBatchFilter filter =
+          new ColumnarBatchFilter(
+              readSchema,
+              expectedSchema.columns().size(),
+              isParquet ? deletedPositions : null,
+              deletes != null && deletes.hasEqDeletes() ? deletes.eqDeletedRowFilter() : null,
+              task.residual(),
+              caseSensitive,
+              reuseContainers);
+      if (!filter.isNoop()) {
+        iter = CloseableIterable.transform(iter, filter);
+      }
+
       return iter.iterator();
     }
 
@@ -367,6 +486,32 @@ public class ArrowReader extends CloseableGroup {
       return inputFiles.get(task.file().location());
     }
 
+    /**
+     * Loads the deletes of a task. Rows are tested against equality deletes through a {@link
+     * ColumnarBatchRow} over the batch columns, in the order of {@link #requiredSchema()}.
+     */
+    private class ArrowDeleteFilter extends DeleteFilter<ColumnarBatchRow> {
+      private ArrowDeleteFilter(FileScanTask task, boolean needRowPosCol) {
+        super(
+            task.file().location(),
+            task.deletes(),
+            tableSchema,
+            expectedSchema,
+            new DeleteCounter(),
+            needRowPosCol);
+      }
+
+      @Override
+      protected StructLike asStructLike(ColumnarBatchRow row) {
+        return row;
+      }
+
+      @Override
+      protected InputFile getInputFile(String location) {
+        return inputFiles.get(location);
+      }
+    }
+
     /**
      * Build the {@link ArrowBatchReader} for the expected schema and file schema.
      *
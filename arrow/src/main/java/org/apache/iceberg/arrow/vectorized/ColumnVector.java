@@ -43,6 +43,8 @@ import org.apache.iceberg.types.Types;
  *   <li>{@link Types.TimeType}
  *   <li>{@link Types.UUIDType}
  *   <li>{@link Types.DecimalType}
+ *   <li>{@link Types.StructType}, {@link Types.ListType} and {@link Types.MapType}, through the
+ *       vector returned by {@link #getArrowVector()}
  * </ul>
  */
 public class ColumnVector implements AutoCloseable {
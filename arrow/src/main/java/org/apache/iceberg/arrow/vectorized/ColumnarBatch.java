@@ -26,13 +26,28 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 /**
  * This class is inspired by Spark's {@code ColumnarBatch}. This class wraps a columnar batch in the
  * result set of an Iceberg table query.
+ *
+ * <p>Rows removed by delete files or by the residual filter of a scan are not removed from the
+ * vectors. Instead, the batch carries a row ID mapping to the rows that are still live: use {@link
+ * #numLiveRows()} and {@link #rowId(int)} to iterate over them.
  */
 public class ColumnarBatch implements AutoCloseable {
 
   private final int numRows;
   private final ColumnVector[] columns;
+  private final int[] rowIdMapping;
+  private final int numLiveRows;
 
   ColumnarBatch(int numRows, ColumnVector[] columns) {
+    this(numRows, columns, null, numRows);
+  }
+
+  ColumnarBatch(int numRows, ColumnVector[] columns, int[] rowIdMapping, int numLiveRows) {
+    Preconditions.checkArgument(
+        numLiveRows <= numRows,
+        "Number of live rows (=%s) > number of rows (=%s)",
+        numLiveRows,
+        numRows);
     for (int i = 0; i < columns.length; i++) {
       int columnValueCount = columns[i].getFieldVector().getValueCount();
       Preconditions.checkArgument(
@@ -47,13 +62,21 @@ public class ColumnarBatch implements AutoCloseable {
     }
     this.numRows = numRows;
     this.columns = columns;
+    this.rowIdMapping = rowIdMapping;
+    this.numLiveRows = numLiveRows;
   }
 
   /**
    * Create a new instance of {@link VectorSchemaRoot} from the arrow vectors stored in this arrow
    * batch. The arrow vectors are owned by the reader.
+   *
+   * @throws IllegalStateException if the batch has a row ID mapping, because the vectors also
+   *     contain rows that are not live
    */
   public VectorSchemaRoot createVectorSchemaRootFromVectors() {
+    Preconditions.checkState(
+        rowIdMapping == null,
+        "Cannot create a VectorSchemaRoot from a batch with a row ID mapping, use rowId(int)");
     return VectorSchemaRoot.of(
         Arrays.stream(columns).map(ColumnVector::getArrowVector).toArray(FieldVector[]::new));
   }
@@ -74,11 +97,34 @@ public class ColumnarBatch implements AutoCloseable {
     return columns.length;
   }
 
-  /** Returns the number of rows for read, including filtered rows. */
+  /**
+   * Returns the number of rows in the vectors of this batch, including rows that are not live when
+   * the batch has a row ID mapping.
+   */
   public int numRows() {
     return numRows;
   }
 
+  /** Returns the number of rows that were not removed by deletes or the residual filter. */
+  public int numLiveRows() {
+    return numLiveRows;
+  }
+
+  /** Returns whether any rows of the vectors were removed by deletes or the residual filter. */
+  public boolean hasRowIdMapping() {
+    return rowIdMapping != null;
+  }
+
+  /**
+   * Returns the row ID of a live row, to be passed to the accessors of {@link ColumnVector}.
+   *
+   * @param index the index of the live row, from 0 to {@link #numLiveRows()} (exclusive)
+   * @return the position of the row in the vectors of this batch
+   */
+  public int rowId(int index) {
+    return rowIdMapping != null ? rowIdMapping[index] : index;
+  }
+
   /** Returns the column at `ordinal`. */
   public ColumnVector column(int ordinal) {
     return columns[ordinal];
@@ -0,0 +1,433 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.expressions.And;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.BoundLiteralPredicate;
+import org.apache.iceberg.expressions.BoundPredicate;
+import org.apache.iceberg.expressions.BoundReference;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.Or;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+
+/**
+ * Applies the deletes and the residual filter of a file scan task to the {@link ColumnarBatch
+ * batches} read from its data file.
+ *
+ * <p>Rows are never copied. For each batch, the filter computes the row IDs of the live rows and
+ * returns a batch that shares the vectors of the input batch, trimmed to the expected columns, with
+ * those row IDs as its row ID mapping:
+ *
+ * <ol>
+ *   <li>Deleted positions are removed with one pass over the {@link MetadataColumns#ROW_POSITION}
+ *       column,
+ *   <li>Equality deletes are probed only for the rows that are still live, and
+ *   <li>The residual filter is evaluated one predicate at a time over the remaining rows.
+ *       Comparisons of integral and floating point columns with a literal read the column vector
+ *       directly, other predicates are evaluated against a {@link ColumnarBatchRow}.
+ * </ol>
+ *
+ * The residual is only evaluated when it references top-level primitive columns. Otherwise, it is
+ * only used to skip row groups and stripes, as for scans without deletes.
+ */
+class ColumnarBatchFilter implements Function<ColumnarBatch, ColumnarBatch> {
+  private final int numColumns;
+  private final PositionDeleteIndex deletedPositions;
+  private final int posColumn;
+  private final Predicate<ColumnarBatchRow> eqDeleteFilter;
+  private final Selector residual;
+  private final ColumnarBatchRow row;
+  private final boolean reuseRowIds;
+  private int[] rowIds = new int[0];
+
+  /**
+   * Create a new filter.
+   *
+   * @param readSchema schema of the batches read from the data file
+   * @param numColumns number of columns of the returned batches, a prefix of the read schema
+   * @param deletedPositions deleted positions in the data file, or null if they were already
+   *     removed by the reader
+   * @param eqDeleteFilter predicate that returns false for rows removed by equality deletes, or
+   *     null if there are no equality deletes
+   * @param residual residual filter of the task
+   * @param caseSensitive whether the residual filter binds column names case sensitively
+   * @param reuseRowIds whether the row ID mapping of the previous batch can be reused
+   */
+  ColumnarBatchFilter(
+      Schema readSchema,
+      int numColumns,
+      PositionDeleteIndex deletedPositions,
+      Predicate<ColumnarBatchRow> eqDeleteFilter,
+      Expression residual,
+      boolean caseSensitive,
+      boolean reuseRowIds) {
+    Types.StructType struct = readSchema.asStruct();
+    this.numColumns = numColumns;
+    this.deletedPositions =
+        deletedPositions != null && !deletedPositions.isEmpty() ? deletedPositions : null;
+    this.posColumn = readSchema.columns().indexOf(MetadataColumns.ROW_POSITION);
+    this.eqDeleteFilter = eqDeleteFilter;
+    this.row = new ColumnarBatchRow(struct);
+    this.residual =
+        residual != null && residual != Expressions.alwaysTrue()
+            ? selector(struct, Binder.bind(struct, Expressions.rewriteNot(residual), caseSensitive))
+            : null;
+    this.reuseRowIds = reuseRowIds;
+  }
+
+  /** Returns whether this filter can remove rows. */
+  boolean isNoop() {
+    return deletedPositions == null && eqDeleteFilter == null && residual == null;
+  }
+
+  @Override
+  public ColumnarBatch apply(ColumnarBatch batch) {
+    int numRows = batch.numRows();
+    int[] live = rowIds(numRows);
+    int numLive = 0;
+    if (deletedPositions != null) {
+      ColumnVector positions = batch.column(posColumn);
+      for (int rowId = 0; rowId < numRows; rowId += 1) {
+        if (!deletedPositions.isDeleted(positions.getLong(rowId))) {
+          live[numLive] = rowId;
+          numLive += 1;
+        }
+      }
+    } else {
+      for (int rowId = 0; rowId < numRows; rowId += 1) {
+        live[rowId] = rowId;
+      }
+
+      numLive = numRows;
+    }
+
+    row.wrap(batch);
+    if (eqDeleteFilter != null) {
+      int numKept = 0;
+      for (int index = 0; index < numLive; index += 1) {
+        if (eqDeleteFilter.test(row.rowId(live[index]))) {
+          live[numKept] = live[index];
+          numKept += 1;
+        }
+      }
+
+      numLive = numKept;
+    }
+
+    if (residual != null) {
+      numLive = residual.select(batch, row, live, numLive);
+    }
+
+    ColumnVector[] columns = new ColumnVector[numColumns];
+    for (int pos = 0; pos < numColumns; pos += 1) {
+      columns[pos] = batch.column(pos);
+    }
+
+    return new ColumnarBatch(numRows, columns, numLive < numRows ? live : null, numLive);
+  }
+
+  private int[] rowIds(int numRows) {
+    if (!reuseRowIds) {
+      return new int[numRows];
+    } else if (rowIds.length < numRows) {
+      this.rowIds = new int[numRows];
+    }
+
+    return rowIds;
+  }
+
+  /**
+   * Returns a selector for a bound residual filter, or null if the filter references columns that
+   * are not top-level primitive columns.
+   */
+  private static Selector selector(Types.StructType struct, Expression expr) {
+    switch (expr.op()) {
+      case TRUE:
+        return (batch, row, rowIds, numRows) -> numRows;
+      case FALSE:
+        return (batch, row, rowIds, numRows) -> 0;
+      case AND:
+        And and = (And) expr;
+        Selector leftAnd = selector(struct, and.left());
+        Selector rightAnd = selector(struct, and.right());
+        if (leftAnd == null || rightAnd == null) {
+          return null;
+        }
+
+        return (batch, row, rowIds, numRows) ->
+            rightAnd.select(batch, row, rowIds, leftAnd.select(batch, row, rowIds, numRows));
+      case OR:
+        Or or = (Or) expr;
+        Selector leftOr = selector(struct, or.left());
+        Selector rightOr = selector(struct, or.right());
+        return leftOr != null && rightOr != null ? new OrSelector(leftOr, rightOr) : null;
+      default:
+        if (expr instanceof BoundPredicate) {
+          return predicate(struct, (BoundPredicate<?>) expr);
+        }
+
+        return null;
+    }
+  }
+
+  private static Selector predicate(Types.StructType struct, BoundPredicate<?> predicate) {
+    if (!(predicate.term() instanceof BoundReference)) {
+      return null;
+    }
+
+    int fieldId = ((BoundReference<?>) predicate.term()).fieldId();
+    List<Types.NestedField> fields = struct.fields();
+    int column = -1;
+    for (int pos = 0; pos < fields.size(); pos += 1) {
+      if (fields.get(pos).fieldId() == fieldId) {
+        column = pos;
+        break;
+      }
+    }
+
+    if (column < 0 || !fields.get(column).type().isPrimitiveType()) {
+      return null;
+    }
+
+    if (predicate.isLiteralPredicate() && isComparison(predicate.op())) {
+      BoundLiteralPredicate<?> comparison = predicate.asLiteralPredicate();
+      Object literal = comparison.literal().value();
+      boolean nullMatches = comparison.test(null);
+      switch (fields.get(column).type().typeId()) {
+        case INTEGER:
+        case DATE:
+        case LONG:
+        case TIME:
+        case TIMESTAMP:
+          return new LongComparison(
+              column,
+              fields.get(column).type(),
+              predicate.op(),
+              ((Number) literal).longValue(),
+              nullMatches);
+        case FLOAT:
+        case DOUBLE:
+          return new DoubleComparison(
+              column,
+              fields.get(column).type(),
+              predicate.op(),
+              ((Number) literal).doubleValue(),
+              nullMatches);
+        default:
+          break;
+      }
+    }
+
+    return (batch, row, rowIds, numRows) -> {
+      int numSelected = 0;
+      for (int index = 0; index < numRows; index += 1) {
+        if (predicate.test(row.rowId(rowIds[index]))) {
+          rowIds[numSelected] = rowIds[index];
+          numSelected += 1;
+        }
+      }
+
+      return numSelected;
+    };
+  }
+
+  private static boolean isComparison(Expression.Operation op) {
+    switch (op) {
+      case LT:
+      case LT_EQ:
+      case GT:
+      case GT_EQ:
+      case EQ:
+      case NOT_EQ:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static boolean matches(Expression.Operation op, int cmp) {
+    switch (op) {
+      case LT:
+        return cmp < 0;
+      case LT_EQ:
+        return cmp <= 0;
+      case GT:
+        return cmp > 0;
+      case GT_EQ:
+        return cmp >= 0;
+      case EQ:
+        return cmp == 0;
+      case NOT_EQ:
+        return cmp != 0;
+      default:
+        throw new IllegalStateException("Invalid comparison: " + op);
+    }
+  }
+
+  /**
+   * Narrows a selection of rows of a batch.
+   *
+   * <p>Selectors receive the row IDs of the selected rows in ascending order, in the first {@code
+   * numRows} positions of {@code rowIds}. They move the row IDs of the rows that match to the front
+   * of the array, preserving their order, and return how many rows match.
+   */
+  private interface Selector {
+    int select(ColumnarBatch batch, ColumnarBatchRow row, int[] rowIds, int numRows);
+  }
+
+  private static class OrSelector implements Selector {
+    private final Selector left;
+    private final Selector right;
+    private int[] leftRowIds = new int[0];
+    private int[] rightRowIds = new int[0];
+
+    private OrSelector(Selector left, Selector right) {
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    public int select(ColumnarBatch batch, ColumnarBatchRow row, int[] rowIds, int numRows) {
+      if (leftRowIds.length < numRows) {
+        this.leftRowIds = new int[numRows];
+        this.rightRowIds = new int[numRows];
+      }
+
+      System.arraycopy(rowIds, 0, leftRowIds, 0, numRows);
+      System.arraycopy(rowIds, 0, rightRowIds, 0, numRows);
+      int numLeft = left.select(batch, row, leftRowIds, numRows);
+      int numRight = right.select(batch, row, rightRowIds, numRows);
+
+      // merge the two sorted selections, keeping rows selected by both sides once
+      int leftIndex = 0;
+      int rightIndex = 0;
+      int numSelected = 0;
+      while (leftIndex < numLeft || rightIndex < numRight) {
+        int rowId;
+        if (rightIndex >= numRight
+            || (leftIndex < numLeft && leftRowIds[leftIndex] < rightRowIds[rightIndex])) {
+          rowId = leftRowIds[leftIndex];
+          leftIndex += 1;
+        } else if (leftIndex >= numLeft || rightRowIds[rightIndex] < leftRowIds[leftIndex]) {
+          rowId = rightRowIds[rightIndex];
+          rightIndex += 1;
+        } else {
+          rowId = leftRowIds[leftIndex];
+          leftIndex += 1;
+          rightIndex += 1;
+        }
+
+        rowIds[numSelected] = rowId;
+        numSelected += 1;
+      }
+
+      return numSelected;
+    }
+  }
+
+  private static class LongComparison implements Selector {
+    private final int column;
+    private final boolean isInt;
+    private final Expression.Operation op;
+    private final long literal;
+    private final boolean nullMatches;
+
+    private LongComparison(
+        int column, Type type, Expression.Operation op, long literal, boolean nullMatches) {
+      this.column = column;
+      this.isInt = type.typeId() == Type.TypeID.INTEGER || type.typeId() == Type.TypeID.DATE;
+      this.op = op;
+      this.literal = literal;
+      this.nullMatches = nullMatches;
+    }
+
+    @Override
+    public int select(ColumnarBatch batch, ColumnarBatchRow row, int[] rowIds, int numRows) {
+      ColumnVector vector = batch.column(column);
+      int numSelected = 0;
+      for (int index = 0; index < numRows; index += 1) {
+        int rowId = rowIds[index];
+        boolean matches;
+        if (vector.isNullAt(rowId)) {
+          matches = nullMatches;
+        } else {
+          long value = isInt ? vector.getInt(rowId) : vector.getLong(rowId);
+          matches = matches(op, Long.compare(value, literal));
+        }
+
+        if (matches) {
+          rowIds[numSelected] = rowId;
+          numSelected += 1;
+        }
+      }
+
+      return numSelected;
+    }
+  }
+
+  private static class DoubleComparison implements Selector {
+    private final int column;
+    private final boolean isFloat;
+    private final Expression.Operation op;
+    private final double literal;
+    private final boolean nullMatches;
+
+    private DoubleComparison(
+        int column, Type type, Expression.Operation op, double literal, boolean nullMatches) {
+      this.column = column;
+      this.isFloat = type.typeId() == Type.TypeID.FLOAT;
+      this.op = op;
+      this.literal = literal;
+      this.nullMatches = nullMatches;
+    }
+
+    @Override
+    public int select(ColumnarBatch batch, ColumnarBatchRow row, int[] rowIds, int numRows) {
+      ColumnVector vector = batch.column(column);
+      int numSelected = 0;
+      for (int index = 0; index < numRows; index += 1) {
+        int rowId = rowIds[index];
+        boolean matches;
+        if (vector.isNullAt(rowId)) {
+          matches = nullMatches;
+        } else {
+          // floats are widened exactly, so comparing as doubles matches Float.compare
+          double value = isFloat ? vector.getFloat(rowId) : vector.getDouble(rowId);
+          matches = matches(op, Double.compare(value, literal));
+        }
+
+        if (matches) {
+          rowIds[numSelected] = rowId;
+          numSelected += 1;
+        }
+      }
+
+      return numSelected;
+    }
+  }
+}
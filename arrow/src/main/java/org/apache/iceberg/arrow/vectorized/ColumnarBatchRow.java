@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.UUIDUtil;
+
+/**
+ * A {@link StructLike} view of one row of a {@link ColumnarBatch}.
+ *
+ * <p>Values are returned in Iceberg's internal representation, so that the row can be passed to
+ * expression evaluators and to the equality delete sets of a {@link
+ * org.apache.iceberg.data.DeleteFilter}. Only primitive columns are supported.
+ */
+class ColumnarBatchRow implements StructLike {
+  private final Type[] types;
+  private ColumnarBatch batch = null;
+  private int rowId = 0;
+
+  ColumnarBatchRow(Types.StructType struct) {
+    List<Types.NestedField> fields = struct.fields();
+    this.types = new Type[fields.size()];
+    for (int pos = 0; pos < fields.size(); pos += 1) {
+      types[pos] = fields.get(pos).type();
+    }
+  }
+
+  ColumnarBatchRow wrap(ColumnarBatch newBatch) {
+    this.batch = newBatch;
+    this.rowId = 0;
+    return this;
+  }
+
+  ColumnarBatchRow rowId(int newRowId) {
+    this.rowId = newRowId;
+    return this;
+  }
+
+  @Override
+  public int size() {
+    return types.length;
+  }
+
+  @Override
+  public <T> T get(int pos, Class<T> javaClass) {
+    return javaClass.cast(value(types[pos], batch.column(pos), rowId));
+  }
+
+  @Override
+  public <T> void set(int pos, T value) {
+    throw new UnsupportedOperationException("Cannot set values in a columnar batch row");
+  }
+
+  private static Object value(Type type, ColumnVector vector, int rowId) {
+    if (vector.isNullAt(rowId)) {
+      return null;
+    }
+
+    switch (type.typeId()) {
+      case BOOLEAN:
+        return vector.getBoolean(rowId);
+      case INTEGER:
+      case DATE:
+        return vector.getInt(rowId);
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+        return vector.getLong(rowId);
+      case FLOAT:
+        return vector.getFloat(rowId);
+      case DOUBLE:
+        return vector.getDouble(rowId);
+      case STRING:
+        return vector.getString(rowId);
+      case UUID:
+        return UUIDUtil.convert(vector.getBinary(rowId));
+      case FIXED:
+      case BINARY:
+        return ByteBuffer.wrap(vector.getBinary(rowId));
+      case DECIMAL:
+        Types.DecimalType decimal = (Types.DecimalType) type;
+        return vector.getDecimal(rowId, decimal.precision(), decimal.scale());
+      default:
+        throw new UnsupportedOperationException("Cannot read values of type: " + type);
+    }
+  }
+}
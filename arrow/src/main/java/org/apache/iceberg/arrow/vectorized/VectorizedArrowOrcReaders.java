@@ -0,0 +1,572 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.io.Closeable;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.arrow.ArrowSchemaUtil;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.orc.OrcBatchReader;
+import org.apache.iceberg.orc.OrcSchemaWithTypeVisitor;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.ByteBuffers;
+import org.apache.iceberg.util.UUIDUtil;
+import org.apache.orc.TypeDescription;
+import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
+import org.apache.orc.storage.ql.exec.vector.ColumnVector;
+import org.apache.orc.storage.ql.exec.vector.DecimalColumnVector;
+import org.apache.orc.storage.ql.exec.vector.DoubleColumnVector;
+import org.apache.orc.storage.ql.exec.vector.ListColumnVector;
+import org.apache.orc.storage.ql.exec.vector.LongColumnVector;
+import org.apache.orc.storage.ql.exec.vector.MapColumnVector;
+import org.apache.orc.storage.ql.exec.vector.MultiValuedColumnVector;
+import org.apache.orc.storage.ql.exec.vector.StructColumnVector;
+import org.apache.orc.storage.ql.exec.vector.TimestampColumnVector;
+import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+
+/**
+ * Builds {@link OrcBatchReader readers} that convert ORC {@link VectorizedRowBatch row batches}
+ * into Arrow {@link ColumnarBatch columnar batches}.
+ *
+ * <p>Values are copied once, directly from the arrays of the ORC column vectors into the buffers
+ * of the Arrow vectors. Repeating ORC vectors and vectors without nulls take a fast path that
+ * skips the per-row null checks.
+ *
+ * <p>The expected schema may contain constant columns, {@link MetadataColumns#ROW_POSITION} and
+ * {@link MetadataColumns#IS_DELETED}. These are not read from the file, so the ORC projection
+ * must not include them. When a {@link PositionDeleteIndex} is passed, deleted rows are dropped
+ * from the batches, or flagged in the {@link MetadataColumns#IS_DELETED} column if it is
+ * projected.
+ */
+public class VectorizedArrowOrcReaders {
+
+  private VectorizedArrowOrcReaders() {}
+
+  public static OrcBatchReader<ColumnarBatch> buildReader(
+      Schema expectedSchema, TypeDescription fileSchema, Map<Integer, ?> idToConstant) {
+    return buildReader(expectedSchema, fileSchema, idToConstant, null, false);
+  }
+
+  /**
+   * Build a reader for ORC files.
+   *
+   * @param expectedSchema schema of the returned batches
+   * @param fileSchema ORC schema of the data file, projected without constant and metadata columns
+   * @param idToConstant values of constant columns by field id
+   * @param deletes deleted positions in the data file, or null if there are none
+   * @param reuseContainers whether to reuse the Arrow vectors of the previous batch
+   * @return a reader that returns {@link ColumnarBatch} instances
+   */
+  public static OrcBatchReader<ColumnarBatch> buildReader(
+      Schema expectedSchema,
+      TypeDescription fileSchema,
+      Map<Integer, ?> idToConstant,
+      PositionDeleteIndex deletes,
+      boolean reuseContainers) {
+    StructConverter converter =
+        (StructConverter)
+            OrcSchemaWithTypeVisitor.visit(expectedSchema, fileSchema, new ReadBuilder());
+    return new ArrowOrcBatchReader(
+        expectedSchema,
+        converter.fieldConverters,
+        idToConstant != null ? idToConstant : ImmutableMap.of(),
+        deletes,
+        reuseContainers);
+  }
+
+  private static class ArrowOrcBatchReader implements OrcBatchReader<ColumnarBatch>, Closeable {
+    private final List<Types.NestedField> fields;
+    private final List<Converter> converters;
+    private final Map<Integer, ?> idToConstant;
+    private final PositionDeleteIndex deletes;
+    private final boolean markDeleted;
+    private final boolean reuseContainers;
+    private final BufferAllocator allocator;
+    private final FieldVector[] vectors;
+    private final NullabilityHolder[] nullabilityHolders;
+    private int[] rows = new int[0];
+    private long batchOffsetInFile;
+
+    private ArrowOrcBatchReader(
+        Schema expectedSchema,
+        List<Converter> converters,
+        Map<Integer, ?> idToConstant,
+        PositionDeleteIndex deletes,
+        boolean reuseContainers) {
+      this.fields = expectedSchema.columns();
+      this.converters = converters;
+      this.idToConstant = idToConstant;
+      this.deletes = deletes != null && !deletes.isEmpty() ? deletes : null;
+      this.markDeleted = expectedSchema.findField(MetadataColumns.IS_DELETED.fieldId()) != null;
+      this.reuseContainers = reuseContainers;
+      this.allocator =
+          ArrowAllocation.rootAllocator()
+              .newChildAllocator("VectorizedArrowOrcReader", 0, Long.MAX_VALUE);
+      this.vectors = new FieldVector[fields.size()];
+      this.nullabilityHolders = new NullabilityHolder[fields.size()];
+    }
+
+    @Override
+    public void setBatchContext(long batchOffsetInFile) {
+      this.batchOffsetInFile = batchOffsetInFile;
+    }
+
+    @Override
+    public ColumnarBatch read(VectorizedRowBatch batch) {
+      int numRows = selectRows(batch);
+      org.apache.iceberg.arrow.vectorized.ColumnVector[] columns =
+          new org.apache.iceberg.arrow.vectorized.ColumnVector[fields.size()];
+      for (int pos = 0, vectorIndex = 0; pos < fields.size(); pos += 1) {
+        Types.NestedField field = fields.get(pos);
+        FieldVector vector = newVector(pos, numRows);
+        if (field.fieldId() == MetadataColumns.ROW_ID.fieldId()
+            && idToConstant.get(field.fieldId()) != null) {
+          // row IDs are inherited from the first row ID of the data file
+          long firstRowId = (Long) idToConstant.get(field.fieldId());
+          fillPositions((BigIntVector) vector, firstRowId, numRows);
+        } else if (idToConstant.containsKey(field.fieldId())) {
+          fillConstant(vector, field.type(), idToConstant.get(field.fieldId()), numRows);
+        } else if (field.equals(MetadataColumns.ROW_POSITION)) {
+          fillPositions((BigIntVector) vector, 0L, numRows);
+        } else if (field.equals(MetadataColumns.IS_DELETED)) {
+          fillDeleted((BitVector) vector, numRows);
+        } else if (MetadataColumns.isMetadataColumn(field.fieldId())) {
+          // metadata columns without a value are not projected from the file and are null
+        } else {
+          converters.get(vectorIndex).convert(batch.cols[vectorIndex], vector, rows, numRows);
+          vectorIndex += 1;
+        }
+
+        vector.setValueCount(numRows);
+        NullabilityHolder nulls = nullabilityHolders[pos];
+        for (int row = 0; row < numRows; row += 1) {
+          if (vector.isNull(row)) {
+            nulls.setNull(row);
+          } else {
+            nulls.setNotNull(row);
+          }
+        }
+
+        columns[pos] =
+            new org.apache.iceberg.arrow.vectorized.ColumnVector(
+                VectorHolder.vectorHolder(vector, field, nulls));
+      }
+
+      return new ColumnarBatch(numRows, columns);
+    }
+
+    /** Fills {@link #rows} with the rows of the ORC batch to return and returns their count. */
+    private int selectRows(VectorizedRowBatch batch) {
+      if (rows.length < batch.size) {
+        this.rows = new int[Math.max(batch.size, batch.getMaxSize())];
+      }
+
+      int numRows = 0;
+      for (int index = 0; index < batch.size; index += 1) {
+        int row = batch.selectedInUse ? batch.selected[index] : index;
+        if (deletes == null || markDeleted || !deletes.isDeleted(batchOffsetInFile + row)) {
+          rows[numRows] = row;
+          numRows += 1;
+        }
+      }
+
+      return numRows;
+    }
+
+    private FieldVector newVector(int pos, int numRows) {
+      FieldVector vector = vectors[pos];
+      NullabilityHolder nulls = nullabilityHolders[pos];
+      if (reuseContainers && vector != null && nulls.size() >= numRows) {
+        vector.reset();
+        nulls.reset();
+        return vector;
+      }
+
+      if (vector != null) {
+        vector.close();
+      }
+
+      vector = ArrowSchemaUtil.convert(fields.get(pos)).createVector(allocator);
+      vector.setInitialCapacity(numRows);
+      vector.allocateNew();
+      vectors[pos] = vector;
+      nullabilityHolders[pos] = new NullabilityHolder(Math.max(numRows, rows.length));
+      return vector;
+    }
+
+    private void fillPositions(BigIntVector vector, long base, int numRows) {
+      for (int index = 0; index < numRows; index += 1) {
+        vector.setSafe(index, base + batchOffsetInFile + rows[index]);
+      }
+    }
+
+    private void fillDeleted(BitVector vector, int numRows) {
+      for (int index = 0; index < numRows; index += 1) {
+        boolean isDeleted = deletes != null && deletes.isDeleted(batchOffsetInFile + rows[index]);
+        vector.setSafe(index, isDeleted ? 1 : 0);
+      }
+    }
+
+    @Override
+    public void close() {
+      for (int pos = 0; pos < vectors.length; pos += 1) {
+        if (vectors[pos] != null) {
+          vectors[pos].close();
+          vectors[pos] = null;
+        }
+      }
+
+      allocator.close();
+    }
+  }
+
+  private static void fillConstant(FieldVector vector, Type type, Object value, int numRows) {
+    if (value == null) {
+      return;
+    }
+
+    ConstantWriter writer = constantWriter(type, value);
+    for (int index = 0; index < numRows; index += 1) {
+      writer.write(vector, index);
+    }
+  }
+
+  @FunctionalInterface
+  private interface ConstantWriter {
+    void write(FieldVector vector, int index);
+  }
+
+  private static ConstantWriter constantWriter(Type type, Object value) {
+    switch (type.typeId()) {
+      case BOOLEAN:
+        int bit = (Boolean) value ? 1 : 0;
+        return (vector, index) -> ((BitVector) vector).setSafe(index, bit);
+      case INTEGER:
+        return (vector, index) -> ((IntVector) vector).setSafe(index, (Integer) value);
+      case DATE:
+        return (vector, index) -> ((DateDayVector) vector).setSafe(index, (Integer) value);
+      case LONG:
+        return (vector, index) -> ((BigIntVector) vector).setSafe(index, (Long) value);
+      case TIME:
+        return (vector, index) -> ((TimeMicroVector) vector).setSafe(index, (Long) value);
+      case TIMESTAMP:
+        return (vector, index) -> ((TimeStampVector) vector).setSafe(index, (Long) value);
+      case FLOAT:
+        return (vector, index) -> ((Float4Vector) vector).setSafe(index, (Float) value);
+      case DOUBLE:
+        return (vector, index) -> ((Float8Vector) vector).setSafe(index, (Double) value);
+      case STRING:
+        byte[] utf8 = value.toString().getBytes(StandardCharsets.UTF_8);
+        return (vector, index) -> ((BaseVariableWidthVector) vector).setSafe(index, utf8);
+      case BINARY:
+        byte[] binary = ByteBuffers.toByteArray((ByteBuffer) value);
+        return (vector, index) -> ((BaseVariableWidthVector) vector).setSafe(index, binary);
+      case FIXED:
+        byte[] fixed = ByteBuffers.toByteArray((ByteBuffer) value);
+        return (vector, index) -> ((FixedSizeBinaryVector) vector).setSafe(index, fixed);
+      case UUID:
+        byte[] uuid = UUIDUtil.convert((UUID) value);
+        return (vector, index) -> ((FixedSizeBinaryVector) vector).setSafe(index, uuid);
+      case DECIMAL:
+        return (vector, index) -> ((DecimalVector) vector).setSafe(index, (BigDecimal) value);
+      default:
+        throw new UnsupportedOperationException("Cannot read constant column of type: " + type);
+    }
+  }
+
+  private interface Converter {
+    /**
+     * Copies the values of {@code rows} in the ORC vector to the first {@code numRows} positions of
+     * the Arrow vector and sets the value count of the Arrow vector.
+     */
+    void convert(ColumnVector source, FieldVector target, int[] rows, int numRows);
+  }
+
+  private static class ReadBuilder extends OrcSchemaWithTypeVisitor<Converter> {
+    @Override
+    public Converter record(
+        Types.StructType iStruct,
+        TypeDescription record,
+        List<String> names,
+        List<Converter> fields) {
+      return new StructConverter(fields);
+    }
+
+    @Override
+    public Converter list(Types.ListType iList, TypeDescription array, Converter element) {
+      return new ListConverter(element);
+    }
+
+    @Override
+    public Converter map(Types.MapType iMap, TypeDescription map, Converter key, Converter value) {
+      return new MapConverter(key, value);
+    }
+
+    @Override
+    public Converter primitive(Type.PrimitiveType iPrimitive, TypeDescription primitive) {
+      return new PrimitiveConverter(writer(iPrimitive));
+    }
+  }
+
+  @FunctionalInterface
+  private interface ValueWriter {
+    void write(FieldVector vector, int index, ColumnVector source, int row);
+  }
+
+  @SuppressWarnings("checkstyle:CyclomaticComplexity")
+  private static ValueWriter writer(Type.PrimitiveType type) {
+    switch (type.typeId()) {
+      case BOOLEAN:
+        return (vector, index, source, row) ->
+            ((BitVector) vector).setSafe(index, (int) ((LongColumnVector) source).vector[row]);
+      case INTEGER:
+        return (vector, index, source, row) ->
+            ((IntVector) vector).setSafe(index, (int) ((LongColumnVector) source).vector[row]);
+      case DATE:
+        return (vector, index, source, row) ->
+            ((DateDayVector) vector).setSafe(index, (int) ((LongColumnVector) source).vector[row]);
+      case LONG:
+        return (vector, index, source, row) ->
+            ((BigIntVector) vector).setSafe(index, ((LongColumnVector) source).vector[row]);
+      case TIME:
+        return (vector, index, source, row) ->
+            ((TimeMicroVector) vector).setSafe(index, ((LongColumnVector) source).vector[row]);
+      case FLOAT:
+        return (vector, index, source, row) ->
+            ((Float4Vector) vector)
+                .setSafe(index, (float) ((DoubleColumnVector) source).vector[row]);
+      case DOUBLE:
+        return (vector, index, source, row) ->
+            ((Float8Vector) vector).setSafe(index, ((DoubleColumnVector) source).vector[row]);
+      case TIMESTAMP:
+        return (vector, index, source, row) -> {
+          TimestampColumnVector timestamps = (TimestampColumnVector) source;
+          long micros =
+              Math.floorDiv(timestamps.time[row], 1_000) * 1_000_000
+                  + Math.floorDiv(timestamps.nanos[row], 1000);
+          ((TimeStampVector) vector).setSafe(index, micros);
+        };
+      case STRING:
+      case BINARY:
+        return (vector, index, source, row) -> {
+          BytesColumnVector bytes = (BytesColumnVector) source;
+          ((BaseVariableWidthVector) vector)
+              .setSafe(index, bytes.vector[row], bytes.start[row], bytes.length[row]);
+        };
+      case FIXED:
+      case UUID:
+        return (vector, index, source, row) -> {
+          BytesColumnVector bytes = (BytesColumnVector) source;
+          int start = bytes.start[row];
+          byte[] value = Arrays.copyOfRange(bytes.vector[row], start, start + bytes.length[row]);
+          ((FixedSizeBinaryVector) vector).setSafe(index, value);
+        };
+      case DECIMAL:
+        int precision = ((Types.DecimalType) type).precision();
+        int scale = ((Types.DecimalType) type).scale();
+        if (precision <= 18) {
+          return (vector, index, source, row) ->
+              ((DecimalVector) vector)
+                  .setSafe(index, ((DecimalColumnVector) source).vector[row].serialize64(scale));
+        }
+
+        return (vector, index, source, row) -> {
+          BigDecimal value =
+              ((DecimalColumnVector) source).vector[row].getHiveDecimal().bigDecimalValue();
+          ((DecimalVector) vector).setSafe(index, value.setScale(scale));
+        };
+      default:
+        throw new UnsupportedOperationException(
+            "Vectorized reads are not supported for ORC columns of type: " + type);
+    }
+  }
+
+  private static class PrimitiveConverter implements Converter {
+    private final ValueWriter writer;
+
+    private PrimitiveConverter(ValueWriter writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    public void convert(ColumnVector source, FieldVector target, int[] rows, int numRows) {
+      if (source.isRepeating) {
+        if (source.noNulls || !source.isNull[0]) {
+          for (int index = 0; index < numRows; index += 1) {
+            writer.write(target, index, source, 0);
+          }
+        }
+      } else if (source.noNulls) {
+        for (int index = 0; index < numRows; index += 1) {
+          writer.write(target, index, source, rows[index]);
+        }
+      } else {
+        for (int index = 0; index < numRows; index += 1) {
+          int row = rows[index];
+          // unset values are null in Arrow vectors
+          if (!source.isNull[row]) {
+            writer.write(target, index, source, row);
+          }
+        }
+      }
+
+      target.setValueCount(numRows);
+    }
+  }
+
+  private static class StructConverter implements Converter {
+    private final List<Converter> fieldConverters;
+
+    private StructConverter(List<Converter> fieldConverters) {
+      this.fieldConverters = fieldConverters;
+    }
+
+    @Override
+    public void convert(ColumnVector source, FieldVector target, int[] rows, int numRows) {
+      StructColumnVector struct = (StructColumnVector) source;
+      StructVector vector = (StructVector) target;
+      for (int index = 0; index < numRows; index += 1) {
+        if (isNull(struct, rows[index])) {
+          vector.setNull(index);
+        } else {
+          vector.setIndexDefined(index);
+        }
+      }
+
+      List<FieldVector> children = vector.getChildrenFromFields();
+      for (int pos = 0; pos < fieldConverters.size(); pos += 1) {
+        fieldConverters.get(pos).convert(struct.fields[pos], children.get(pos), rows, numRows);
+      }
+
+      vector.setValueCount(numRows);
+    }
+  }
+
+  /**
+   * Base converter for lists and maps, which stores the values of all selected rows in a single
+   * child vector that is addressed through offsets.
+   */
+  private abstract static class RepeatedConverter implements Converter {
+    private int[] childRows = new int[0];
+
+    @Override
+    public void convert(ColumnVector source, FieldVector target, int[] rows, int numRows) {
+      MultiValuedColumnVector repeated = (MultiValuedColumnVector) source;
+      ListVector vector = (ListVector) target;
+      int numChildRows = 0;
+      for (int index = 0; index < numRows; index += 1) {
+        int row = repeated.isRepeating ? 0 : rows[index];
+        if (isNull(repeated, row)) {
+          vector.setNull(index);
+        } else {
+          int offset = (int) repeated.offsets[row];
+          int length = (int) repeated.lengths[row];
+          if (childRows.length < numChildRows + length) {
+            int capacity = Math.max(childRows.length * 2, numChildRows + length);
+            this.childRows = Arrays.copyOf(childRows, capacity);
+          }
+
+          vector.startNewValue(index);
+          for (int child = 0; child < length; child += 1) {
+            childRows[numChildRows] = offset + child;
+            numChildRows += 1;
+          }
+
+          vector.endValue(index, length);
+        }
+      }
+
+      convertChildren(repeated, vector, childRows, numChildRows);
+      vector.setValueCount(numRows);
+    }
+
+    protected abstract void convertChildren(
+        MultiValuedColumnVector source, ListVector target, int[] rows, int numRows);
+  }
+
+  private static class ListConverter extends RepeatedConverter {
+    private final Converter elementConverter;
+
+    private ListConverter(Converter elementConverter) {
+      this.elementConverter = elementConverter;
+    }
+
+    @Override
+    protected void convertChildren(
+        MultiValuedColumnVector source, ListVector target, int[] rows, int numRows) {
+      ListColumnVector list = (ListColumnVector) source;
+      elementConverter.convert(list.child, target.getDataVector(), rows, numRows);
+    }
+  }
+
+  private static class MapConverter extends RepeatedConverter {
+    private final Converter keyConverter;
+    private final Converter valueConverter;
+
+    private MapConverter(Converter keyConverter, Converter valueConverter) {
+      this.keyConverter = keyConverter;
+      this.valueConverter = valueConverter;
+    }
+
+    @Override
+    protected void convertChildren(
+        MultiValuedColumnVector source, ListVector target, int[] rows, int numRows) {
+      MapColumnVector map = (MapColumnVector) source;
+      StructVector entries = (StructVector) target.getDataVector();
+      for (int index = 0; index < numRows; index += 1) {
+        entries.setIndexDefined(index);
+      }
+
+      List<FieldVector> children = entries.getChildrenFromFields();
+      keyConverter.convert(map.keys, children.get(0), rows, numRows);
+      valueConverter.convert(map.values, children.get(1), rows, numRows);
+      entries.setValueCount(numRows);
+    }
+  }
+
+  private static boolean isNull(ColumnVector vector, int row) {
+    return !vector.noNulls && vector.isNull[vector.isRepeating ? 0 : row];
+  }
+}
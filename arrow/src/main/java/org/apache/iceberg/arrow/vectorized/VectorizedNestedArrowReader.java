@@ -0,0 +1,521 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.iceberg.arrow.ArrowSchemaUtil;
+import org.apache.iceberg.arrow.vectorized.parquet.VectorizedNestedColumnIterator;
+import org.apache.iceberg.parquet.ParquetUtil;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+/**
+ * {@link VectorizedArrowReader} for struct, list and map columns and for the primitive columns
+ * nested in them.
+ *
+ * <p>Every leaf column reads the repetition and definition levels of a batch of rows and writes
+ * its values into the Arrow vector for the leaf. Struct, list and map readers then assemble the
+ * validity and offset buffers of their {@link StructVector}, {@link ListVector} or {@link
+ * org.apache.arrow.vector.complex.MapVector} from the levels of one of their leaves, since all
+ * leaves of a nested field agree on the levels that belong to that field.
+ *
+ * <p>A level entry {@code (r, d)} creates a value in the vector of a field when {@code r} is at
+ * most the field's repetition level and {@code d} is at least the definition level of the
+ * field's closest repeated ancestor. The value is null when {@code d} is lower than the field's own
+ * definition level.
+ */
+public abstract class VectorizedNestedArrowReader extends VectorizedArrowReader {
+  private final BufferAllocator allocator;
+  private final int repetitionLevel;
+  private final int definitionLevel;
+  private final int parentDefinitionLevel;
+
+  private int batchSize = DEFAULT_BATCH_SIZE;
+  private FieldVector vector;
+  private NullabilityHolder nulls;
+
+  private VectorizedNestedArrowReader(
+      Types.NestedField icebergField,
+      MessageType parquetSchema,
+      String[] path,
+      BufferAllocator allocator) {
+    super(icebergField);
+    this.allocator = allocator;
+    this.repetitionLevel = parquetSchema.getMaxRepetitionLevel(path);
+    this.definitionLevel = parquetSchema.getMaxDefinitionLevel(path);
+    this.parentDefinitionLevel = repeatedDefinitionLevel(parquetSchema, path);
+  }
+
+  static VectorizedNestedArrowReader primitive(
+      Types.NestedField icebergField,
+      MessageType parquetSchema,
+      ColumnDescriptor desc,
+      BufferAllocator allocator) {
+    return new LeafReader(icebergField, parquetSchema, desc, allocator);
+  }
+
+  static VectorizedNestedArrowReader struct(
+      Types.NestedField icebergField,
+      MessageType parquetSchema,
+      String[] path,
+      List<VectorizedNestedArrowReader> fields,
+      BufferAllocator allocator) {
+    return new StructReader(icebergField, parquetSchema, path, fields, allocator);
+  }
+
+  static VectorizedNestedArrowReader list(
+      Types.NestedField icebergField,
+      MessageType parquetSchema,
+      String[] path,
+      VectorizedNestedArrowReader element,
+      BufferAllocator allocator) {
+    return new ListReader(icebergField, parquetSchema, path, element, allocator);
+  }
+
+  static VectorizedNestedArrowReader map(
+      Types.NestedField icebergField,
+      MessageType parquetSchema,
+      String[] path,
+      String[] keyValuePath,
+      VectorizedNestedArrowReader key,
+      VectorizedNestedArrowReader value,
+      BufferAllocator allocator) {
+    VectorizedNestedArrowReader entries =
+        new StructReader(null, parquetSchema, keyValuePath, Arrays.asList(key, value), allocator);
+    return new ListReader(icebergField, parquetSchema, path, entries, allocator);
+  }
+
+  /** Returns the definition level of the closest repeated field on the path, or 0 if none. */
+  private static int repeatedDefinitionLevel(MessageType parquetSchema, String[] path) {
+    for (int length = path.length; length > 0; length -= 1) {
+      String[] prefix = Arrays.copyOf(path, length);
+      if (parquetSchema.getType(prefix).isRepetition(Type.Repetition.REPEATED)) {
+        return parquetSchema.getMaxDefinitionLevel(prefix);
+      }
+    }
+
+    return 0;
+  }
+
+  /** Fills the vector with the values of the next {@code numRows} rows. */
+  abstract void fill(FieldVector fieldVector, int numRows);
+
+  /** Returns a leaf whose levels were read by the last call to {@link #fill}. */
+  abstract LeafReader leaf();
+
+  abstract void setLeafRowGroupInfo(
+      PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata);
+
+  boolean isValue(int repLevel, int defLevel) {
+    return repLevel <= repetitionLevel && defLevel >= parentDefinitionLevel;
+  }
+
+  boolean isNull(int defLevel) {
+    return defLevel < definitionLevel;
+  }
+
+  @Override
+  public VectorHolder read(VectorHolder reuse, int numValsToRead) {
+    if (reuse == null || vector == null) {
+      if (vector != null) {
+        vector.close();
+      }
+
+      this.vector = ArrowSchemaUtil.convert(icebergField()).createVector(allocator);
+      this.nulls = new NullabilityHolder(Math.max(batchSize, numValsToRead));
+    } else {
+      vector.reset();
+      nulls.reset();
+    }
+
+    fill(vector, numValsToRead);
+
+    Preconditions.checkState(
+        vector.getValueCount() == numValsToRead,
+        "Number of values read, %s, does not equal expected, %s",
+        vector.getValueCount(),
+        numValsToRead);
+
+    for (int row = 0; row < numValsToRead; row += 1) {
+      if (vector.isNull(row)) {
+        nulls.setNull(row);
+      } else {
+        nulls.setNotNull(row);
+      }
+    }
+
+    return VectorHolder.vectorHolder(vector, icebergField(), nulls);
+  }
+
+  @Override
+  public void setRowGroupInfo(PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {
+    setLeafRowGroupInfo(source, metadata);
+  }
+
+  @Override
+  public void setBatchSize(int size) {
+    this.batchSize = (size == 0) ? DEFAULT_BATCH_SIZE : size;
+  }
+
+  @Override
+  public void close() {
+    if (vector != null) {
+      vector.close();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + ": " + icebergField();
+  }
+
+  static class LeafReader extends VectorizedNestedArrowReader {
+    private final ColumnDescriptor desc;
+    private final VectorizedNestedColumnIterator column;
+    private final ValueWriter writer;
+    private int[] repetitionLevels = new int[DEFAULT_BATCH_SIZE];
+    private int[] definitionLevels = new int[DEFAULT_BATCH_SIZE];
+    private int numEntries = 0;
+
+    private LeafReader(
+        Types.NestedField icebergField,
+        MessageType parquetSchema,
+        ColumnDescriptor desc,
+        BufferAllocator allocator) {
+      super(icebergField, parquetSchema, desc.getPath(), allocator);
+      this.desc = desc;
+      this.column = new VectorizedNestedColumnIterator(desc, "");
+      this.writer = writer(icebergField.type().asPrimitiveType(), desc.getPrimitiveType());
+    }
+
+    int numEntries() {
+      return numEntries;
+    }
+
+    int repetitionLevel(int entry) {
+      return repetitionLevels[entry];
+    }
+
+    int definitionLevel(int entry) {
+      return definitionLevels[entry];
+    }
+
+    @Override
+    void fill(FieldVector fieldVector, int numRows) {
+      this.numEntries = 0;
+      int numValues = 0;
+      for (int row = 0; row < numRows && column.hasNext(); row += 1) {
+        do {
+          int repLevel = column.peekRepetitionLevel();
+          int defLevel = column.nextDefinitionLevel();
+          addLevels(repLevel, defLevel);
+          if (isValue(repLevel, defLevel)) {
+            if (!isNull(defLevel)) {
+              writer.write(fieldVector, numValues, column);
+            }
+
+            numValues += 1;
+          }
+        } while (column.hasNext() && column.peekRepetitionLevel() > 0);
+      }
+
+      fieldVector.setValueCount(numValues);
+    }
+
+    private void addLevels(int repLevel, int defLevel) {
+      if (numEntries == repetitionLevels.length) {
+        this.repetitionLevels = Arrays.copyOf(repetitionLevels, numEntries * 2);
+        this.definitionLevels = Arrays.copyOf(definitionLevels, numEntries * 2);
+      }
+
+      repetitionLevels[numEntries] = repLevel;
+      definitionLevels[numEntries] = defLevel;
+      this.numEntries += 1;
+    }
+
+    @Override
+    LeafReader leaf() {
+      return this;
+    }
+
+    @Override
+    void setLeafRowGroupInfo(PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {
+      column.setRowGroupInfo(source.getPageReader(desc));
+    }
+
+    @Override
+    public String toString() {
+      return desc.toString();
+    }
+  }
+
+  static class StructReader extends VectorizedNestedArrowReader {
+    private final List<VectorizedNestedArrowReader> fields;
+    private final LeafReader leaf;
+
+    private StructReader(
+        Types.NestedField icebergField,
+        MessageType parquetSchema,
+        String[] path,
+        List<VectorizedNestedArrowReader> fields,
+        BufferAllocator allocator) {
+      super(icebergField, parquetSchema, path, allocator);
+      this.fields = fields;
+      this.leaf =
+          fields.stream()
+              .filter(field -> field != null)
+              .findFirst()
+              .map(VectorizedNestedArrowReader::leaf)
+              .orElseThrow(
+                  () -> new IllegalArgumentException("Cannot read a struct without any fields"));
+    }
+
+    @Override
+    void fill(FieldVector fieldVector, int numRows) {
+      StructVector struct = (StructVector) fieldVector;
+      for (int pos = 0; pos < fields.size(); pos += 1) {
+        VectorizedNestedArrowReader field = fields.get(pos);
+        if (field != null) {
+          field.fill((FieldVector) struct.getVectorById(pos), numRows);
+        }
+      }
+
+      int numValues = 0;
+      for (int entry = 0; entry < leaf.numEntries(); entry += 1) {
+        int defLevel = leaf.definitionLevel(entry);
+        if (isValue(leaf.repetitionLevel(entry), defLevel)) {
+          if (isNull(defLevel)) {
+            struct.setNull(numValues);
+          } else {
+            struct.setIndexDefined(numValues);
+          }
+
+          numValues += 1;
+        }
+      }
+
+      struct.setValueCount(numValues);
+    }
+
+    @Override
+    LeafReader leaf() {
+      return leaf;
+    }
+
+    @Override
+    void setLeafRowGroupInfo(PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {
+      for (VectorizedNestedArrowReader field : fields) {
+        if (field != null) {
+          field.setLeafRowGroupInfo(source, metadata);
+        }
+      }
+    }
+  }
+
+  static class ListReader extends VectorizedNestedArrowReader {
+    private final VectorizedNestedArrowReader element;
+
+    private ListReader(
+        Types.NestedField icebergField,
+        MessageType parquetSchema,
+        String[] path,
+        VectorizedNestedArrowReader element,
+        BufferAllocator allocator) {
+      super(icebergField, parquetSchema, path, allocator);
+      this.element = element;
+    }
+
+    @Override
+    void fill(FieldVector fieldVector, int numRows) {
+      // MapVector is a ListVector of key/value structs
+      ListVector list = (ListVector) fieldVector;
+      element.fill(list.getDataVector(), numRows);
+
+      LeafReader leaf = element.leaf();
+      int numValues = 0;
+      int current = -1;
+      int currentSize = 0;
+      for (int entry = 0; entry < leaf.numEntries(); entry += 1) {
+        int repLevel = leaf.repetitionLevel(entry);
+        int defLevel = leaf.definitionLevel(entry);
+        if (isValue(repLevel, defLevel)) {
+          if (current >= 0) {
+            list.endValue(current, currentSize);
+            current = -1;
+          }
+
+          if (isNull(defLevel)) {
+            list.setNull(numValues);
+          } else {
+            list.startNewValue(numValues);
+            current = numValues;
+            currentSize = 0;
+          }
+
+          numValues += 1;
+        }
+
+        if (current >= 0 && element.isValue(repLevel, defLevel)) {
+          currentSize += 1;
+        }
+      }
+
+      if (current >= 0) {
+        list.endValue(current, currentSize);
+      }
+
+      list.setValueCount(numValues);
+    }
+
+    @Override
+    LeafReader leaf() {
+      return element.leaf();
+    }
+
+    @Override
+    void setLeafRowGroupInfo(PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {
+      element.setLeafRowGroupInfo(source, metadata);
+    }
+  }
+
+  @FunctionalInterface
+  private interface ValueWriter {
+    void write(FieldVector vector, int index, VectorizedNestedColumnIterator column);
+  }
+
+  @SuppressWarnings("checkstyle:CyclomaticComplexity")
+  private static ValueWriter writer(
+      org.apache.iceberg.types.Type.PrimitiveType type, PrimitiveType primitive) {
+    PrimitiveType.PrimitiveTypeName typeName = primitive.getPrimitiveTypeName();
+    switch (type.typeId()) {
+      case BOOLEAN:
+        return (vector, index, column) ->
+            ((BitVector) vector).setSafe(index, column.readBoolean() ? 1 : 0);
+      case INTEGER:
+        return (vector, index, column) -> ((IntVector) vector).setSafe(index, column.readInteger());
+      case DATE:
+        return (vector, index, column) ->
+            ((DateDayVector) vector).setSafe(index, column.readInteger());
+      case LONG:
+        if (typeName == PrimitiveType.PrimitiveTypeName.INT32) {
+          return (vector, index, column) ->
+              ((BigIntVector) vector).setSafe(index, column.readInteger());
+        }
+
+        return (vector, index, column) -> ((BigIntVector) vector).setSafe(index, column.readLong());
+      case FLOAT:
+        return (vector, index, column) ->
+            ((Float4Vector) vector).setSafe(index, column.readFloat());
+      case DOUBLE:
+        if (typeName == PrimitiveType.PrimitiveTypeName.FLOAT) {
+          return (vector, index, column) ->
+              ((Float8Vector) vector).setSafe(index, column.readFloat());
+        }
+
+        return (vector, index, column) ->
+            ((Float8Vector) vector).setSafe(index, column.readDouble());
+      case TIME:
+        if (typeName == PrimitiveType.PrimitiveTypeName.INT32) {
+          return (vector, index, column) ->
+              ((TimeMicroVector) vector).setSafe(index, column.readInteger() * 1000L);
+        }
+
+        return (vector, index, column) ->
+            ((TimeMicroVector) vector).setSafe(index, column.readLong());
+      case TIMESTAMP:
+        if (typeName == PrimitiveType.PrimitiveTypeName.INT96) {
+          return (vector, index, column) ->
+              ((TimeStampVector) vector)
+                  .setSafe(index, ParquetUtil.extractTimestampInt96(littleEndian(column)));
+        } else if (isTimestampMillis(primitive)) {
+          return (vector, index, column) ->
+              ((TimeStampVector) vector).setSafe(index, column.readLong() * 1000L);
+        }
+
+        return (vector, index, column) ->
+            ((TimeStampVector) vector).setSafe(index, column.readLong());
+      case STRING:
+      case BINARY:
+        return (vector, index, column) -> {
+          ByteBuffer buffer = column.readBinary().toByteBuffer();
+          ((BaseVariableWidthVector) vector)
+              .setSafe(index, buffer, buffer.position(), buffer.remaining());
+        };
+      case FIXED:
+      case UUID:
+        return (vector, index, column) ->
+            ((FixedSizeBinaryVector) vector).setSafe(index, column.readBinary().getBytes());
+      case DECIMAL:
+        switch (typeName) {
+          case INT32:
+            return (vector, index, column) ->
+                ((DecimalVector) vector).setSafe(index, (long) column.readInteger());
+          case INT64:
+            return (vector, index, column) ->
+                ((DecimalVector) vector).setSafe(index, column.readLong());
+          default:
+            return (vector, index, column) ->
+                ((DecimalVector) vector).setBigEndianSafe(index, column.readBinary().getBytes());
+        }
+      default:
+        throw new UnsupportedOperationException(
+            "Vectorized reads are not supported for nested fields of type: " + type);
+    }
+  }
+
+  private static boolean isTimestampMillis(PrimitiveType primitive) {
+    LogicalTypeAnnotation annotation = primitive.getLogicalTypeAnnotation();
+    return annotation instanceof LogicalTypeAnnotation.TimestampLogicalTypeAnnotation
+        && ((LogicalTypeAnnotation.TimestampLogicalTypeAnnotation) annotation).getUnit()
+            == LogicalTypeAnnotation.TimeUnit.MILLIS;
+  }
+
+  private static ByteBuffer littleEndian(VectorizedNestedColumnIterator column) {
+    Binary binary = column.readBinary();
+    return binary.toByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+  }
+}
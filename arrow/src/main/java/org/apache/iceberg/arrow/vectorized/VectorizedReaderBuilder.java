@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.arrow.vectorized;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
@@ -27,6 +28,7 @@ import org.apache.arrow.memory.BufferAllocator;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.arrow.ArrowAllocation;
 import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader.ConstantVectorReader;
+import org.apache.iceberg.parquet.ParquetSchemaUtil;
 import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
@@ -130,11 +132,87 @@ public class VectorizedReaderBuilder extends TypeWithSchemaVisitor<VectorizedRea
   @Override
   public VectorizedReader<?> struct(
       Types.StructType expected, GroupType groupType, List<VectorizedReader<?>> fieldReaders) {
-    if (expected != null) {
-      throw new UnsupportedOperationException(
-          "Vectorized reads are not supported yet for struct fields");
+    Types.NestedField icebergField = icebergField(groupType);
+    if (expected == null || icebergField == null) {
+      return null;
+    }
+
+    Map<Integer, VectorizedReader<?>> readersById = Maps.newHashMap();
+    List<Type> fields = groupType.getFields();
+    for (int pos = 0; pos < fields.size(); pos += 1) {
+      if (fields.get(pos).getId() != null && fieldReaders.get(pos) != null) {
+        readersById.put(fields.get(pos).getId().intValue(), fieldReaders.get(pos));
+      }
     }
-    return null;
+
+    if (readersById.isEmpty()) {
+      return null;
+    }
+
+    List<VectorizedNestedArrowReader> reorderedFields =
+        Lists.newArrayListWithExpectedSize(expected.fields().size());
+    for (Types.NestedField field : expected.fields()) {
+      VectorizedReader<?> reader = readersById.get(field.fieldId());
+      if (reader == null && field.isRequired()) {
+        throw new IllegalArgumentException(
+            String.format("Missing required field: %s", field.name()));
+      }
+
+      reorderedFields.add((VectorizedNestedArrowReader) reader);
+    }
+
+    return VectorizedNestedArrowReader.struct(
+        icebergField, parquetSchema, currentPath(), reorderedFields, rootAllocator);
+  }
+
+  @Override
+  public VectorizedReader<?> list(
+      Types.ListType expectedList, GroupType array, VectorizedReader<?> elementReader) {
+    Types.NestedField icebergField = icebergField(array);
+    if (expectedList == null || icebergField == null || elementReader == null) {
+      return null;
+    }
+
+    // three-level lists are visited with the repeated group on the path
+    String[] path = currentPath();
+    Type element = ParquetSchemaUtil.determineListElementType(array);
+    if (!element.isRepetition(Type.Repetition.REPEATED)) {
+      path = Arrays.copyOf(path, path.length - 1);
+    }
+
+    return VectorizedNestedArrowReader.list(
+        icebergField,
+        parquetSchema,
+        path,
+        (VectorizedNestedArrowReader) elementReader,
+        rootAllocator);
+  }
+
+  @Override
+  public VectorizedReader<?> map(
+      Types.MapType expectedMap,
+      GroupType map,
+      VectorizedReader<?> keyReader,
+      VectorizedReader<?> valueReader) {
+    Types.NestedField icebergField = icebergField(map);
+    if (expectedMap == null || icebergField == null || keyReader == null) {
+      return null;
+    }
+
+    // maps are visited with the repeated key/value group on the path
+    String[] keyValuePath = currentPath();
+    return VectorizedNestedArrowReader.map(
+        icebergField,
+        parquetSchema,
+        Arrays.copyOf(keyValuePath, keyValuePath.length - 1),
+        keyValuePath,
+        (VectorizedNestedArrowReader) keyReader,
+        (VectorizedNestedArrowReader) valueReader,
+        rootAllocator);
+  }
+
+  private Types.NestedField icebergField(Type type) {
+    return type.getId() != null ? icebergSchema.findField(type.getId().intValue()) : null;
   }
 
   @Override
@@ -147,14 +225,15 @@ public class VectorizedReaderBuilder extends TypeWithSchemaVisitor<VectorizedRea
     }
     int parquetFieldId = primitive.getId().intValue();
     ColumnDescriptor desc = parquetSchema.getColumnDescription(currentPath());
-    // Nested types not yet supported for vectorized reads
-    if (desc.getMaxRepetitionLevel() > 0) {
-      return null;
-    }
     Types.NestedField icebergField = icebergSchema.findField(parquetFieldId);
     if (icebergField == null) {
       return null;
     }
+    // Fields nested in structs, lists or maps are assembled from repetition and definition levels
+    if (desc.getPath().length > 1) {
+      return VectorizedNestedArrowReader.primitive(
+          icebergField, parquetSchema, desc, rootAllocator);
+    }
     // Set the validity buffer if null checking is enabled in arrow
     return new VectorizedArrowReader(desc, icebergField, rootAllocator, setArrowValidityVector);
   }
@@ -47,12 +47,22 @@ public class VectorizedTableScanIterable extends CloseableGroup
   }
 
   /**
-   * Create a new instance.
+   * Create a new instance that does not apply deletes.
    *
    * <p>See {@link ArrowReader#ArrowReader(TableScan, int, boolean)} for details.
    */
   public VectorizedTableScanIterable(TableScan scan, int batchSize, boolean reuseContainers) {
-    this.reader = new ArrowReader(scan, batchSize, reuseContainers);
+    this(scan, batchSize, reuseContainers, false);
+  }
+
+  /**
+   * Create a new instance.
+   *
+   * <p>See {@link ArrowReader#ArrowReader(TableScan, int, boolean, boolean)} for details.
+   */
+  public VectorizedTableScanIterable(
+      TableScan scan, int batchSize, boolean reuseContainers, boolean applyDeletes) {
+    this.reader = new ArrowReader(scan, batchSize, reuseContainers, applyDeletes);
     // start planning tasks in the background
     this.tasks = scan.planTasks();
   }
@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized.parquet;
+
+import java.io.IOException;
+import org.apache.iceberg.parquet.BaseColumnIterator;
+import org.apache.iceberg.parquet.BasePageIterator;
+import org.apache.parquet.bytes.ByteBufferInputStream;
+import org.apache.parquet.bytes.BytesUtils;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.page.DataPageV1;
+import org.apache.parquet.column.page.DataPageV2;
+import org.apache.parquet.column.page.PageReader;
+import org.apache.parquet.io.ParquetDecodingException;
+import org.apache.parquet.io.api.Binary;
+
+/**
+ * Column iterator for leaf columns nested in structs, lists or maps.
+ *
+ * <p>Repetition and definition levels of each data page are decoded in bulk when the page is
+ * loaded. Callers walk the column one entry at a time using {@link #peekRepetitionLevel()} and
+ * {@link #nextDefinitionLevel()}, and read the value of every entry whose definition level is the
+ * column's max definition level. Values are decoded from plain or dictionary encoded pages.
+ */
+public class VectorizedNestedColumnIterator extends BaseColumnIterator {
+  private final NestedPageIterator nestedPageIterator;
+
+  public VectorizedNestedColumnIterator(ColumnDescriptor desc, String writerVersion) {
+    super(desc);
+    this.nestedPageIterator = new NestedPageIterator(desc, writerVersion);
+  }
+
+  public Dictionary setRowGroupInfo(PageReader store) {
+    super.setPageSource(store);
+    return dictionary;
+  }
+
+  @Override
+  protected BasePageIterator pageIterator() {
+    return nestedPageIterator;
+  }
+
+  /** Returns the repetition level of the next entry without consuming it. */
+  public int peekRepetitionLevel() {
+    advance();
+    return nestedPageIterator.peekRepetitionLevel();
+  }
+
+  /** Consumes the next entry and returns its definition level. */
+  public int nextDefinitionLevel() {
+    advance();
+    this.triplesRead += 1;
+    return nestedPageIterator.nextDefinitionLevel();
+  }
+
+  public boolean readBoolean() {
+    return nestedPageIterator.readBoolean();
+  }
+
+  public int readInteger() {
+    return nestedPageIterator.readInteger();
+  }
+
+  public long readLong() {
+    return nestedPageIterator.readLong();
+  }
+
+  public float readFloat() {
+    return nestedPageIterator.readFloat();
+  }
+
+  public double readDouble() {
+    return nestedPageIterator.readDouble();
+  }
+
+  public Binary readBinary() {
+    return nestedPageIterator.readBinary();
+  }
+
+  private static class NestedPageIterator extends BasePageIterator {
+    private int[] pageRepetitionLevels = new int[0];
+    private int[] pageDefinitionLevels = new int[0];
+    private VectorizedPlainValuesReader plainValuesReader = null;
+    private BaseVectorizedParquetValuesReader dictionaryIdReader = null;
+
+    NestedPageIterator(ColumnDescriptor desc, String writerVersion) {
+      super(desc, writerVersion);
+    }
+
+    @Override
+    protected void reset() {
+      super.reset();
+      this.plainValuesReader = null;
+      this.dictionaryIdReader = null;
+    }
+
+    int peekRepetitionLevel() {
+      return pageRepetitionLevels[triplesRead];
+    }
+
+    int nextDefinitionLevel() {
+      int definitionLevel = pageDefinitionLevels[triplesRead];
+      this.triplesRead += 1;
+      this.hasNext = triplesRead < triplesCount;
+      return definitionLevel;
+    }
+
+    boolean readBoolean() {
+      return plainValuesReader.readBoolean();
+    }
+
+    int readInteger() {
+      if (dictionaryIdReader != null) {
+        return dictionary.decodeToInt(dictionaryIdReader.readInteger());
+      }
+
+      return plainValuesReader.readInteger();
+    }
+
+    long readLong() {
+      if (dictionaryIdReader != null) {
+        return dictionary.decodeToLong(dictionaryIdReader.readInteger());
+      }
+
+      return plainValuesReader.readLong();
+    }
+
+    float readFloat() {
+      if (dictionaryIdReader != null) {
+        return dictionary.decodeToFloat(dictionaryIdReader.readInteger());
+      }
+
+      return plainValuesReader.readFloat();
+    }
+
+    double readDouble() {
+      if (dictionaryIdReader != null) {
+        return dictionary.decodeToDouble(dictionaryIdReader.readInteger());
+      }
+
+      return plainValuesReader.readDouble();
+    }
+
+    Binary readBinary() {
+      if (dictionaryIdReader != null) {
+        return dictionary.decodeToBinary(dictionaryIdReader.readInteger());
+      }
+
+      switch (desc.getPrimitiveType().getPrimitiveTypeName()) {
+        case FIXED_LEN_BYTE_ARRAY:
+          return plainValuesReader.readBinary(desc.getPrimitiveType().getTypeLength());
+        case INT96:
+          return plainValuesReader.readBinary(12);
+        default:
+          return plainValuesReader.readBinary(plainValuesReader.readInteger());
+      }
+    }
+
+    @Override
+    protected void initDataReader(Encoding dataEncoding, ByteBufferInputStream in, int valueCount) {
+      try {
+        if (dataEncoding.usesDictionary()) {
+          if (dictionary == null) {
+            throw new ParquetDecodingException(
+                "could not read page in col "
+                    + desc
+                    + " as the dictionary was missing for encoding "
+                    + dataEncoding);
+          }
+
+          this.dictionaryIdReader =
+              new BaseVectorizedParquetValuesReader(desc.getMaxDefinitionLevel(), false);
+          dictionaryIdReader.initFromPage(valueCount, in);
+          this.plainValuesReader = null;
+        } else if (dataEncoding == Encoding.PLAIN) {
+          this.plainValuesReader = new VectorizedPlainValuesReader();
+          plainValuesReader.initFromPage(valueCount, in);
+          this.dictionaryIdReader = null;
+        } else {
+          throw new UnsupportedOperationException(
+              "Cannot support vectorized reads for column "
+                  + desc
+                  + " with encoding "
+                  + dataEncoding
+                  + ". Disable vectorized reads to read this table/file");
+        }
+      } catch (IOException e) {
+        throw new ParquetDecodingException(
+            "could not read page " + valueCount + " in col " + desc, e);
+      }
+    }
+
+    @Override
+    protected void initRepetitionLevelsReader(
+        DataPageV1 dataPageV1, ColumnDescriptor descriptor, ByteBufferInputStream in, int count)
+        throws IOException {
+      int maxLevel = descriptor.getMaxRepetitionLevel();
+      this.pageRepetitionLevels =
+          decodeLevels(
+              new BaseVectorizedParquetValuesReader(
+                  BytesUtils.getWidthFromMaxInt(maxLevel), maxLevel, false),
+              in,
+              count,
+              pageRepetitionLevels);
+    }
+
+    @Override
+    protected void initRepetitionLevelsReader(DataPageV2 dataPageV2, ColumnDescriptor descriptor)
+        throws IOException {
+      int maxLevel = descriptor.getMaxRepetitionLevel();
+      // do not read the length from the stream. v2 pages handle dividing the page bytes.
+      this.pageRepetitionLevels =
+          decodeLevels(
+              new BaseVectorizedParquetValuesReader(
+                  BytesUtils.getWidthFromMaxInt(maxLevel), maxLevel, false, false),
+              dataPageV2.getRepetitionLevels().toInputStream(),
+              dataPageV2.getValueCount(),
+              pageRepetitionLevels);
+    }
+
+    @Override
+    protected void initDefinitionLevelsReader(
+        DataPageV1 dataPageV1, ColumnDescriptor descriptor, ByteBufferInputStream in, int count)
+        throws IOException {
+      int maxLevel = descriptor.getMaxDefinitionLevel();
+      this.pageDefinitionLevels =
+          decodeLevels(
+              new BaseVectorizedParquetValuesReader(
+                  BytesUtils.getWidthFromMaxInt(maxLevel), maxLevel, false),
+              in,
+              count,
+              pageDefinitionLevels);
+    }
+
+    @Override
+    protected void initDefinitionLevelsReader(DataPageV2 dataPageV2, ColumnDescriptor descriptor)
+        throws IOException {
+      int maxLevel = descriptor.getMaxDefinitionLevel();
+      // do not read the length from the stream. v2 pages handle dividing the page bytes.
+      this.pageDefinitionLevels =
+          decodeLevels(
+              new BaseVectorizedParquetValuesReader(
+                  BytesUtils.getWidthFromMaxInt(maxLevel), maxLevel, false, false),
+              dataPageV2.getDefinitionLevels().toInputStream(),
+              dataPageV2.getValueCount(),
+              pageDefinitionLevels);
+    }
+
+    private static int[] decodeLevels(
+        BaseVectorizedParquetValuesReader reader, ByteBufferInputStream in, int count, int[] reuse)
+        throws IOException {
+      int[] levels = reuse.length >= count ? reuse : new int[count];
+      reader.initFromPage(count, in);
+      for (int i = 0; i < count; i += 1) {
+        levels[i] = reader.readInteger();
+      }
+
+      return levels;
+    }
+  }
+}
@@ -0,0 +1,364 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMicroTZVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.PartitionKey;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TestTables;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetReaders;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.DataWriteResult;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.OutputFileFactory;
+import org.apache.iceberg.io.PartitionedFanoutWriter;
+import org.apache.iceberg.io.RollingDataWriter;
+import org.apache.iceberg.io.WriteResult;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.DateTimeUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestArrowParquetWriter {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()),
+          optional(2, "data", Types.StringType.get()),
+          optional(3, "price", Types.DoubleType.get()),
+          optional(4, "amount", Types.DecimalType.of(9, 2)),
+          optional(5, "balance", Types.DecimalType.of(38, 10)),
+          optional(6, "ts", Types.TimestampType.withZone()),
+          optional(7, "tags", Types.ListType.ofOptional(8, Types.IntegerType.get())),
+          optional(
+              9,
+              "props",
+              Types.MapType.ofOptional(10, 11, Types.StringType.get(), Types.IntegerType.get())),
+          optional(
+              12,
+              "location",
+              Types.StructType.of(
+                  required(13, "lat", Types.DoubleType.get()),
+                  optional(14, "city", Types.StringType.get()))));
+
+  private static final long START_MICROS = 1_704_067_200_000_000L;
+  private static final BigDecimal BALANCE = new BigDecimal("-1234567890123456789012.3456789012");
+
+  private final BufferAllocator allocator =
+      ArrowAllocation.rootAllocator().newChildAllocator("test", 0, Long.MAX_VALUE);
+
+  @TempDir private File tempDir;
+
+  @AfterEach
+  public void after() {
+    TestTables.clearTables();
+    allocator.close();
+  }
+
+  @Test
+  public void testWriteBatches() throws IOException {
+    File file = new File(tempDir, "batches.parquet");
+    FileAppender<ArrowRow> appender =
+        new ArrowAppenderFactory(SCHEMA).newAppender(Files.localOutput(file), FileFormat.PARQUET);
+
+    ArrowRow row = new ArrowRow(SCHEMA);
+    try (VectorSchemaRoot first = batch(0, 10);
+        VectorSchemaRoot second = batch(10, 10);
+        FileAppender<ArrowRow> closeable = appender) {
+      for (VectorSchemaRoot root : ImmutableList.of(first, second)) {
+        row.wrap(root);
+        for (int pos = 0; pos < root.getRowCount(); pos += 1) {
+          closeable.add(row.position(pos));
+        }
+      }
+    }
+
+    Metrics metrics = appender.metrics();
+    assertThat(metrics.recordCount()).isEqualTo(20L);
+    assertThat(metrics.nullValueCounts()).containsEntry(1, 0L).containsEntry(2, 7L);
+    assertThat(metrics.nullValueCounts()).containsEntry(3, 4L);
+    assertThat(metrics.nanValueCounts()).containsEntry(3, 2L);
+    Long lowerId = Conversions.fromByteBuffer(Types.LongType.get(), metrics.lowerBounds().get(1));
+    Long upperId = Conversions.fromByteBuffer(Types.LongType.get(), metrics.upperBounds().get(1));
+    assertThat(lowerId).isEqualTo(0L);
+    assertThat(upperId).isEqualTo(19L);
+
+    List<Record> records;
+    try (CloseableIterable<Record> reader =
+        Parquet.read(Files.localInput(file))
+            .project(SCHEMA)
+            .createReaderFunc(fileSchema -> GenericParquetReaders.buildReader(SCHEMA, fileSchema))
+            .build()) {
+      records = Lists.newArrayList(reader);
+    }
+
+    assertThat(records).hasSize(20);
+    for (int id = 0; id < 20; id += 1) {
+      checkRecord(id, records.get(id));
+    }
+  }
+
+  @Test
+  public void testPartitionedFanoutWriter() throws IOException {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).truncate("id", 10).build();
+    Table table = TestTables.create(tempDir, "fanout", SCHEMA, spec, 2);
+    OutputFileFactory fileFactory =
+        OutputFileFactory.builderFor(table, 1, 1).format(FileFormat.PARQUET).build();
+    PartitionKey partitionKey = new PartitionKey(spec, SCHEMA);
+
+    PartitionedFanoutWriter<ArrowRow> writer =
+        new PartitionedFanoutWriter<ArrowRow>(
+            spec,
+            FileFormat.PARQUET,
+            new ArrowAppenderFactory(SCHEMA, spec),
+            fileFactory,
+            table.io(),
+            Long.MAX_VALUE) {
+          @Override
+          protected PartitionKey partition(ArrowRow row) {
+            partitionKey.partition(row);
+            return partitionKey;
+          }
+        };
+
+    try (VectorSchemaRoot root = batch(0, 20)) {
+      ArrowRow row = new ArrowRow(SCHEMA).wrap(root);
+      for (int pos = 0; pos < root.getRowCount(); pos += 1) {
+        writer.write(row.position(pos));
+      }
+    }
+
+    WriteResult result = writer.complete();
+    assertThat(result.dataFiles()).hasSize(2);
+    assertThat(result.dataFiles())
+        .extracting(DataFile::partition)
+        .extracting(partition -> partition.get(0, Long.class))
+        .containsExactlyInAnyOrder(0L, 10L);
+    assertThat(result.dataFiles()).extracting(DataFile::recordCount).containsExactly(10L, 10L);
+  }
+
+  @Test
+  public void testRollingDataWriter() throws IOException {
+    Table table = TestTables.create(tempDir, "rolling", SCHEMA, PartitionSpec.unpartitioned(), 2);
+    OutputFileFactory fileFactory =
+        OutputFileFactory.builderFor(table, 1, 1).format(FileFormat.PARQUET).build();
+    RollingDataWriter<ArrowRow> writer =
+        new RollingDataWriter<>(
+            ArrowFileWriterFactory.builderFor(table).build(),
+            fileFactory,
+            table.io(),
+            Long.MAX_VALUE,
+            table.spec(),
+            null);
+
+    try (VectorSchemaRoot root = batch(0, 20);
+        RollingDataWriter<ArrowRow> closeable = writer) {
+      ArrowRow row = new ArrowRow(SCHEMA).wrap(root);
+      for (int pos = 0; pos < root.getRowCount(); pos += 1) {
+        closeable.write(row.position(pos));
+      }
+    }
+
+    DataWriteResult result = writer.result();
+    assertThat(result.dataFiles()).hasSize(1);
+    DataFile dataFile = result.dataFiles().get(0);
+    assertThat(dataFile.format()).isEqualTo(FileFormat.PARQUET);
+    assertThat(dataFile.recordCount()).isEqualTo(20L);
+    assertThat(dataFile.nullValueCounts()).containsEntry(2, 7L).containsEntry(14, 13L);
+  }
+
+  private VectorSchemaRoot batch(int firstId, int numRows) {
+    VectorSchemaRoot root = VectorSchemaRoot.create(ArrowSchemaUtil.convert(SCHEMA), allocator);
+    root.allocateNew();
+
+    BigIntVector idVector = (BigIntVector) root.getVector("id");
+    VarCharVector dataVector = (VarCharVector) root.getVector("data");
+    Float8Vector priceVector = (Float8Vector) root.getVector("price");
+    DecimalVector amountVector = (DecimalVector) root.getVector("amount");
+    DecimalVector balanceVector = (DecimalVector) root.getVector("balance");
+    TimeStampMicroTZVector tsVector = (TimeStampMicroTZVector) root.getVector("ts");
+    ListVector tagsVector = (ListVector) root.getVector("tags");
+    IntVector tagValues = (IntVector) tagsVector.getDataVector();
+    MapVector propsVector = (MapVector) root.getVector("props");
+    StructVector entries = (StructVector) propsVector.getDataVector();
+    VarCharVector keys = (VarCharVector) entries.getChildrenFromFields().get(0);
+    IntVector values = (IntVector) entries.getChildrenFromFields().get(1);
+    StructVector locationVector = (StructVector) root.getVector("location");
+    Float8Vector latVector = (Float8Vector) locationVector.getChild("lat");
+    VarCharVector cityVector = (VarCharVector) locationVector.getChild("city");
+
+    for (int pos = 0; pos < numRows; pos += 1) {
+      int id = firstId + pos;
+      idVector.setSafe(pos, id);
+
+      String data = data(id);
+      if (data != null) {
+        dataVector.setSafe(pos, data.getBytes(StandardCharsets.UTF_8));
+      } else {
+        dataVector.setNull(pos);
+      }
+
+      Double price = price(id);
+      if (price != null) {
+        priceVector.setSafe(pos, price);
+      } else {
+        priceVector.setNull(pos);
+      }
+
+      amountVector.setSafe(pos, amount(id));
+      balanceVector.setSafe(pos, balance(id));
+      tsVector.setSafe(pos, tsMicros(id));
+
+      List<Integer> tags = tags(id);
+      if (tags != null) {
+        int offset = tagsVector.startNewValue(pos);
+        for (int i = 0; i < tags.size(); i += 1) {
+          if (tags.get(i) != null) {
+            tagValues.setSafe(offset + i, tags.get(i));
+          } else {
+            tagValues.setNull(offset + i);
+          }
+        }
+
+        tagsVector.endValue(pos, tags.size());
+      } else {
+        tagsVector.setNull(pos);
+      }
+
+      int offset = propsVector.startNewValue(pos);
+      int numEntries = 0;
+      for (Map.Entry<String, Integer> entry : props(id).entrySet()) {
+        entries.setIndexDefined(offset + numEntries);
+        keys.setSafe(offset + numEntries, entry.getKey().getBytes(StandardCharsets.UTF_8));
+        values.setSafe(offset + numEntries, entry.getValue());
+        numEntries += 1;
+      }
+
+      propsVector.endValue(pos, numEntries);
+
+      if (id % 3 != 1) {
+        locationVector.setIndexDefined(pos);
+        latVector.setSafe(pos, id * 0.5);
+        if (id % 2 == 0) {
+          cityVector.setSafe(pos, ("city-" + id).getBytes(StandardCharsets.UTF_8));
+        } else {
+          cityVector.setNull(pos);
+        }
+      } else {
+        locationVector.setNull(pos);
+        latVector.setSafe(pos, 0.0);
+        cityVector.setNull(pos);
+      }
+    }
+
+    root.setRowCount(numRows);
+    return root;
+  }
+
+  private static void checkRecord(int id, Record record) {
+    assertThat(record.getField("id")).isEqualTo((long) id);
+    assertThat(record.getField("data")).isEqualTo(data(id));
+    assertThat(record.getField("price")).isEqualTo(price(id));
+    assertThat(record.getField("amount")).isEqualTo(amount(id));
+    assertThat(record.getField("balance")).isEqualTo(balance(id));
+    assertThat(record.getField("ts")).isEqualTo(DateTimeUtil.timestamptzFromMicros(tsMicros(id)));
+    assertThat(record.getField("tags")).isEqualTo(tags(id));
+    assertThat(record.getField("props")).isEqualTo(props(id));
+
+    Record location = (Record) record.getField("location");
+    if (id % 3 != 1) {
+      assertThat(location.getField("lat")).isEqualTo(id * 0.5);
+      assertThat(location.getField("city")).isEqualTo(id % 2 == 0 ? "city-" + id : null);
+    } else {
+      assertThat(location).isNull();
+    }
+  }
+
+  private static String data(int id) {
+    return id % 3 == 0 ? null : "row-" + id;
+  }
+
+  private static Double price(int id) {
+    if (id % 5 == 0) {
+      return null;
+    }
+
+    return id % 9 == 4 ? Double.NaN : id * 1.5;
+  }
+
+  private static BigDecimal amount(int id) {
+    return BigDecimal.valueOf(id * 100L + 7, 2);
+  }
+
+  private static BigDecimal balance(int id) {
+    BigDecimal offset = BigDecimal.valueOf(id);
+    return id % 2 == 0 ? BALANCE.negate().add(offset) : BALANCE.subtract(offset);
+  }
+
+  private static long tsMicros(int id) {
+    return START_MICROS + id * 1_000_003L;
+  }
+
+  private static List<Integer> tags(int id) {
+    switch (id % 4) {
+      case 0:
+        return ImmutableList.of();
+      case 1:
+        return null;
+      default:
+        return Lists.newArrayList(id, null, id + 1);
+    }
+  }
+
+  private static Map<String, Integer> props(int id) {
+    return id % 2 == 0 ? ImmutableMap.of("a", id, "b", -id) : ImmutableMap.of();
+  }
+}
@@ -20,6 +20,7 @@ package org.apache.iceberg.arrow.vectorized;
 
 import static org.apache.iceberg.Files.localInput;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.IOException;
@@ -55,6 +56,9 @@ import org.apache.arrow.vector.TimeStampMicroVector;
 import org.apache.arrow.vector.VarBinaryVector;
 import org.apache.arrow.vector.VarCharVector;
 import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.StructVector;
 import org.apache.arrow.vector.types.Types.MinorType;
 import org.apache.arrow.vector.types.pojo.ArrowType;
 import org.apache.arrow.vector.types.pojo.Field;
@@ -63,22 +67,35 @@ import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DataFiles;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.Files;
+import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.OverwriteFiles;
 import org.apache.iceberg.PartitionKey;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TableScan;
+import org.apache.iceberg.data.GenericAppenderFactory;
 import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.orc.GenericOrcWriter;
 import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.deletes.Deletes;
+import org.apache.iceberg.deletes.EqualityDeleteWriter;
+import org.apache.iceberg.deletes.PositionDelete;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.deletes.PositionDeleteWriter;
+import org.apache.iceberg.encryption.EncryptedFiles;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
@@ -282,6 +299,321 @@ public class TestArrowReader {
         scan, NUM_ROWS_PER_MONTH, 12 * NUM_ROWS_PER_MONTH, 2, ALL_COLUMNS);
   }
 
+  /**
+   * Read struct, list and map columns, including dictionary encoded and null values nested in
+   * them, in batches that do not line up with the Parquet pages of the data file.
+   */
+  @Test
+  public void testReadNestedTypes() throws Exception {
+    tables = new HadoopTables();
+    Table table = tables.create(nestedSchema(), PartitionSpec.unpartitioned(), tableLocation);
+
+    List<GenericRecord> records = createNestedRecords(table.schema(), 100);
+    File parquetFile = File.createTempFile("junit", null, tempDir);
+    assertThat(parquetFile.delete()).isTrue();
+    FileAppender<GenericRecord> appender =
+        Parquet.write(Files.localOutput(parquetFile))
+            .schema(table.schema())
+            .set(TableProperties.PARQUET_PAGE_ROW_LIMIT, "10")
+            .createWriterFunc(GenericParquetWriter::create)
+            .build();
+    try {
+      appender.addAll(records);
+    } finally {
+      appender.close();
+    }
+
+    table
+        .newAppend()
+        .appendFile(
+            DataFiles.builder(table.spec())
+                .withInputFile(localInput(parquetFile))
+                .withMetrics(appender.metrics())
+                .withFormat(FileFormat.PARQUET)
+                .build())
+        .commit();
+
+    int rowIndex = 0;
+    try (VectorizedTableScanIterable itr =
+        new VectorizedTableScanIterable(table.newScan(), 7, false)) {
+      for (ColumnarBatch batch : itr) {
+        for (int row = 0; row < batch.numRows(); row += 1) {
+          checkNestedRow(records.get(rowIndex), batch, row);
+          rowIndex += 1;
+        }
+      }
+    }
+
+    assertThat(rowIndex).isEqualTo(records.size());
+  }
+
+  @Test
+  public void testReadOrcNestedTypes() throws Exception {
+    tables = new HadoopTables();
+    Table table = tables.create(nestedSchema(), PartitionSpec.unpartitioned(), tableLocation);
+
+    List<GenericRecord> records = createNestedRecords(table.schema(), 100);
+    File orcFile = File.createTempFile("junit", null, tempDir);
+    assertThat(orcFile.delete()).isTrue();
+    FileAppender<GenericRecord> appender =
+        ORC.write(Files.localOutput(orcFile))
+            .schema(table.schema())
+            .createWriterFunc(GenericOrcWriter::buildWriter)
+            .build();
+    try {
+      appender.addAll(records);
+    } finally {
+      appender.close();
+    }
+
+    table
+        .newAppend()
+        .appendFile(
+            DataFiles.builder(table.spec())
+                .withInputFile(localInput(orcFile))
+                .withMetrics(appender.metrics())
+                .withFormat(FileFormat.ORC)
+                .build())
+        .commit();
+
+    int rowIndex = 0;
+    try (VectorizedTableScanIterable itr =
+        new VectorizedTableScanIterable(table.newScan(), 7, false)) {
+      for (ColumnarBatch batch : itr) {
+        for (int row = 0; row < batch.numRows(); row += 1) {
+          checkNestedRow(records.get(rowIndex), batch, row);
+          rowIndex += 1;
+        }
+      }
+    }
+
+    assertThat(rowIndex).isEqualTo(records.size());
+  }
+
+  @Test
+  public void testReadOrcWithDeletesAndMetadataColumns() throws Exception {
+    Schema schema =
+        new Schema(
+            Types.NestedField.required(1, "id", Types.LongType.get()),
+            Types.NestedField.optional(2, "data", Types.StringType.get()),
+            Types.NestedField.optional(3, "ts", Types.TimestampType.withZone()),
+            Types.NestedField.optional(4, "price", Types.DecimalType.of(10, 2)));
+    OffsetDateTime start = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    List<GenericRecord> records = Lists.newArrayList();
+    for (int i = 0; i < 100; i += 1) {
+      GenericRecord rec = GenericRecord.create(schema);
+      rec.setField("id", (long) i);
+      rec.setField("data", i % 4 == 0 ? null : "data" + i);
+      rec.setField("ts", start.plusNanos(i * 1_001_000L));
+      rec.setField("price", BigDecimal.valueOf(i * 101L, 2));
+      records.add(rec);
+    }
+
+    File orcFile = File.createTempFile("junit", null, tempDir);
+    assertThat(orcFile.delete()).isTrue();
+    try (FileAppender<GenericRecord> appender =
+        ORC.write(Files.localOutput(orcFile))
+            .schema(schema)
+            .createWriterFunc(GenericOrcWriter::buildWriter)
+            .build()) {
+      appender.addAll(records);
+    }
+
+    Schema expectedSchema =
+        new Schema(
+            ImmutableList.<Types.NestedField>builder()
+                .addAll(schema.columns())
+                .add(MetadataColumns.ROW_POSITION, MetadataColumns.FILE_PATH)
+                .build());
+    Map<Integer, ?> idToConstant =
+        ImmutableMap.of(MetadataColumns.FILE_PATH.fieldId(), orcFile.getName());
+    PositionDeleteIndex deletes =
+        Deletes.toPositionIndex(
+            CloseableIterable.withNoopClose(ImmutableList.of(3L, 4L, 50L, 99L)));
+
+    List<Long> ids = Lists.newArrayList();
+    try (CloseableIterable<ColumnarBatch> batches =
+        ORC.read(localInput(orcFile))
+            .project(schema)
+            .createBatchedReaderFunc(
+                fileSchema ->
+                    VectorizedArrowOrcReaders.buildReader(
+                        expectedSchema, fileSchema, idToConstant, deletes, false))
+            .recordsPerBatch(16)
+            .build()) {
+      for (ColumnarBatch batch : batches) {
+        for (int row = 0; row < batch.numRows(); row += 1) {
+          long id = batch.column(0).getLong(row);
+          Record expected = records.get((int) id);
+          assertThat(batch.column(1).isNullAt(row)).isEqualTo(expected.getField("data") == null);
+          if (expected.getField("data") != null) {
+            assertThat(batch.column(1).getString(row)).isEqualTo(expected.getField("data"));
+          }
+
+          assertThat(batch.column(2).getLong(row))
+              .isEqualTo(timestampToMicros((OffsetDateTime) expected.getField("ts")));
+          assertThat(batch.column(3).getDecimal(row, 10, 2)).isEqualTo(expected.getField("price"));
+          assertThat(batch.column(4).getLong(row)).isEqualTo(id);
+          assertThat(batch.column(5).getString(row)).isEqualTo(orcFile.getName());
+          ids.add(id);
+        }
+      }
+    }
+
+    assertThat(ids).hasSize(96).doesNotContain(3L, 4L, 50L, 99L);
+  }
+
+  @Test
+  public void testReadParquetWithDeletesAndResidualFilter() throws Exception {
+    readWithDeletesAndResidualFilter(FileFormat.PARQUET);
+  }
+
+  @Test
+  public void testReadOrcWithDeletesAndResidualFilter() throws Exception {
+    readWithDeletesAndResidualFilter(FileFormat.ORC);
+  }
+
+  /**
+   * Reads a table with position and equality deletes and a filter on a column that is not used by
+   * the deletes. The batches list the rows that are not deleted and match the filter in their row
+   * ID mapping. Parquet batches keep all rows read from the data file in their vectors, while the
+   * ORC reader drops deleted positions while converting batches.
+   */
+  private void readWithDeletesAndResidualFilter(FileFormat format) throws Exception {
+    Schema schema =
+        new Schema(
+            Types.NestedField.required(1, "id", Types.LongType.get()),
+            Types.NestedField.optional(2, "data", Types.StringType.get()),
+            Types.NestedField.optional(3, "price", Types.DoubleType.get()));
+    tables = new HadoopTables();
+    Table table =
+        tables.create(
+            schema,
+            PartitionSpec.unpartitioned(),
+            ImmutableMap.of(TableProperties.FORMAT_VERSION, "2"),
+            tableLocation);
+
+    List<GenericRecord> records = Lists.newArrayList();
+    for (int i = 0; i < 100; i += 1) {
+      GenericRecord rec = GenericRecord.create(schema);
+      rec.setField("id", (long) i);
+      rec.setField("data", "data" + i);
+      rec.setField("price", i * 1.0);
+      records.add(rec);
+    }
+
+    File file = File.createTempFile("junit", null, tempDir);
+    assertThat(file.delete()).isTrue();
+    FileAppender<GenericRecord> appender;
+    if (format == FileFormat.PARQUET) {
+      appender =
+          Parquet.write(Files.localOutput(file))
+              .schema(schema)
+              .createWriterFunc(GenericParquetWriter::create)
+              .build();
+    } else {
+      appender =
+          ORC.write(Files.localOutput(file))
+              .schema(schema)
+              .createWriterFunc(GenericOrcWriter::buildWriter)
+              .build();
+    }
+
+    try {
+      appender.addAll(records);
+    } finally {
+      appender.close();
+    }
+
+    DataFile dataFile =
+        DataFiles.builder(table.spec())
+            .withInputFile(localInput(file))
+            .withMetrics(appender.metrics())
+            .withFormat(format)
+            .build();
+    table.newAppend().appendFile(dataFile).commit();
+
+    File posDeleteFile = File.createTempFile("junit", null, tempDir);
+    assertThat(posDeleteFile.delete()).isTrue();
+    PositionDeleteWriter<Record> posDeleteWriter =
+        new GenericAppenderFactory(schema, table.spec())
+            .newPosDeleteWriter(
+                EncryptedFiles.plainAsEncryptedOutput(Files.localOutput(posDeleteFile)),
+                FileFormat.PARQUET,
+                null);
+    try (PositionDeleteWriter<Record> writer = posDeleteWriter) {
+      for (long pos : new long[] {3L, 4L, 50L}) {
+        writer.write(PositionDelete.<Record>create().set(dataFile.location(), pos));
+      }
+    }
+
+    Schema eqDeleteSchema = schema.select("data");
+    File eqDeleteFile = File.createTempFile("junit", null, tempDir);
+    assertThat(eqDeleteFile.delete()).isTrue();
+    EqualityDeleteWriter<Record> eqDeleteWriter =
+        new GenericAppenderFactory(schema, table.spec(), new int[] {2}, eqDeleteSchema, null)
+            .newEqDeleteWriter(
+                EncryptedFiles.plainAsEncryptedOutput(Files.localOutput(eqDeleteFile)),
+                FileFormat.PARQUET,
+                null);
+    try (EqualityDeleteWriter<Record> writer = eqDeleteWriter) {
+      for (String data : new String[] {"data10", "data11"}) {
+        writer.write(GenericRecord.create(eqDeleteSchema).copy("data", data));
+      }
+    }
+
+    table
+        .newRowDelta()
+        .addDeletes(posDeleteWriter.toDeleteFile())
+        .addDeletes(eqDeleteWriter.toDeleteFile())
+        .commit();
+
+    TableScan scan =
+        table.newScan().select("id", "price").filter(Expressions.lessThan("price", 80.0));
+
+    // deletes are only applied when the caller opts in
+    assertThatThrownBy(
+            () -> {
+              try (VectorizedTableScanIterable itr =
+                  new VectorizedTableScanIterable(scan, 16, true)) {
+                itr.iterator();
+              }
+            })
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("Cannot read files that require applying delete files");
+
+    List<Long> ids = Lists.newArrayList();
+    int numRows = 0;
+    try (VectorizedTableScanIterable itr = new VectorizedTableScanIterable(scan, 16, true, true)) {
+      for (ColumnarBatch batch : itr) {
+        assertThat(batch.numCols()).isEqualTo(2);
+        numRows += batch.numRows();
+        for (int index = 0; index < batch.numLiveRows(); index += 1) {
+          int rowId = batch.rowId(index);
+          long id = batch.column(0).getLong(rowId);
+          assertThat(batch.column(1).getDouble(rowId)).isEqualTo(id * 1.0);
+          ids.add(id);
+        }
+
+        if (batch.hasRowIdMapping()) {
+          assertThatThrownBy(batch::createVectorSchemaRootFromVectors)
+              .isInstanceOf(IllegalStateException.class)
+              .hasMessageStartingWith("Cannot create a VectorSchemaRoot from a batch");
+        }
+      }
+    }
+
+    List<Long> expectedIds = Lists.newArrayList();
+    for (long id = 0; id < 80; id += 1) {
+      if (id != 3 && id != 4 && id != 10 && id != 11 && id != 50) {
+        expectedIds.add(id);
+      }
+    }
+
+    assertThat(numRows).isEqualTo(format == FileFormat.PARQUET ? 100 : 97);
+    assertThat(ids).isEqualTo(expectedIds);
+  }
+
   /**
    * Run the following verifications:
    *
@@ -870,6 +1202,127 @@ public class TestArrowReader {
     return records;
   }
 
+  private static Schema nestedSchema() {
+    return new Schema(
+        Types.NestedField.required(1, "id", Types.IntegerType.get()),
+        Types.NestedField.optional(
+            2,
+            "location",
+            Types.StructType.of(
+                Types.NestedField.required(3, "lat", Types.DoubleType.get()),
+                Types.NestedField.optional(4, "city", Types.StringType.get()))),
+        Types.NestedField.optional(5, "tags", Types.ListType.ofOptional(6, Types.StringType.get())),
+        Types.NestedField.optional(
+            7,
+            "props",
+            Types.MapType.ofOptional(8, 9, Types.StringType.get(), Types.LongType.get())),
+        Types.NestedField.required(
+            10,
+            "points",
+            Types.ListType.ofRequired(
+                11,
+                Types.StructType.of(
+                    Types.NestedField.required(12, "x", Types.IntegerType.get()),
+                    Types.NestedField.optional(13, "label", Types.StringType.get())))));
+  }
+
+  private static List<GenericRecord> createNestedRecords(Schema schema, int numRows) {
+    Types.StructType locationType = schema.findType("location").asStructType();
+    Types.StructType pointType = schema.findType("points.element").asStructType();
+    List<GenericRecord> records = Lists.newArrayListWithExpectedSize(numRows);
+    for (int i = 0; i < numRows; i += 1) {
+      GenericRecord rec = GenericRecord.create(schema);
+      rec.setField("id", i);
+
+      if (i % 5 != 0) {
+        GenericRecord location = GenericRecord.create(locationType);
+        location.setField("lat", i * 1.5);
+        // a small set of values keeps the column dictionary encoded
+        location.setField("city", i % 3 == 0 ? null : "city" + (i % 4));
+        rec.setField("location", location);
+      }
+
+      if (i % 7 != 0) {
+        List<String> tags = Lists.newArrayList();
+        for (int j = 0; j < i % 4; j += 1) {
+          tags.add(j == 1 ? null : "tag" + ((i + j) % 3));
+        }
+        rec.setField("tags", tags);
+      }
+
+      if (i % 6 != 0) {
+        Map<String, Long> props = Maps.newHashMap();
+        for (int j = 0; j < i % 3; j += 1) {
+          props.put("key" + j, j == 1 ? null : (long) i * j);
+        }
+        rec.setField("props", props);
+      }
+
+      List<GenericRecord> points = Lists.newArrayList();
+      for (int j = 0; j < i % 3; j += 1) {
+        GenericRecord point = GenericRecord.create(pointType);
+        point.setField("x", i + j);
+        point.setField("label", j == 0 ? null : "label" + j);
+        points.add(point);
+      }
+      rec.setField("points", points);
+
+      records.add(rec);
+    }
+
+    return records;
+  }
+
+  private static void checkNestedRow(Record expected, ColumnarBatch batch, int row) {
+    assertThat(batch.column(0).getInt(row)).isEqualTo(expected.getField("id"));
+
+    Record location = (Record) expected.getField("location");
+    assertThat(batch.column(1).isNullAt(row)).isEqualTo(location == null);
+    if (location != null) {
+      StructVector locationVector = (StructVector) batch.column(1).getArrowVector();
+      assertThat(((Float8Vector) locationVector.getChild("lat")).get(row))
+          .isEqualTo(location.getField("lat"));
+      assertThat(toJava(locationVector.getChild("city").getObject(row)))
+          .isEqualTo(location.getField("city"));
+    }
+
+    List<?> tags = ((ListVector) batch.column(2).getArrowVector()).getObject(row);
+    assertThat(batch.column(2).isNullAt(row)).isEqualTo(expected.getField("tags") == null);
+    assertThat(toJava(tags)).isEqualTo(expected.getField("tags"));
+
+    List<?> entries = ((MapVector) batch.column(3).getArrowVector()).getObject(row);
+    assertThat(batch.column(3).isNullAt(row)).isEqualTo(expected.getField("props") == null);
+    if (entries != null) {
+      Map<Object, Object> props = Maps.newHashMap();
+      for (Object entry : entries) {
+        Map<?, ?> keyValue = (Map<?, ?>) entry;
+        props.put(toJava(keyValue.get("key")), keyValue.get("value"));
+      }
+      assertThat(props).isEqualTo(expected.getField("props"));
+    }
+
+    List<?> points = ((ListVector) batch.column(4).getArrowVector()).getObject(row);
+    List<?> expectedPoints = (List<?>) expected.getField("points");
+    assertThat(points).hasSameSizeAs(expectedPoints);
+    for (int i = 0; i < points.size(); i += 1) {
+      Map<?, ?> point = (Map<?, ?>) points.get(i);
+      Record expectedPoint = (Record) expectedPoints.get(i);
+      assertThat(point.get("x")).isEqualTo(expectedPoint.getField("x"));
+      assertThat(toJava(point.get("label"))).isEqualTo(expectedPoint.getField("label"));
+    }
+  }
+
+  /** Converts Arrow's text values, and lists of them, to Java strings. */
+  private static Object toJava(Object value) {
+    if (value instanceof List) {
+      return ((List<?>) value).stream().map(TestArrowReader::toJava).collect(Collectors.toList());
+    } else if (value != null) {
+      return value.toString();
+    }
+
+    return null;
+  }
+
   private DataFile writeParquetFile(Table table, List<GenericRecord> records) throws IOException {
     rowsWritten.addAll(records);
     File parquetFile = File.createTempFile("junit", null, tempDir);
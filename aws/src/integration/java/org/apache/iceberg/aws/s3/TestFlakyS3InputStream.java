@@ -27,10 +27,14 @@ import static org.mockito.Mockito.spy;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.SocketTimeoutException;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import javax.net.ssl.SSLException;
+import org.apache.iceberg.io.DefaultFileIOMetricsContext;
+import org.apache.iceberg.io.FileIOMetricsContext;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -119,6 +123,30 @@ public class TestFlakyS3InputStream extends TestS3InputStream {
     assertThat(resetForRetryCounter.get()).isEqualTo(0);
   }
 
+  @Test
+  public void testFailedCloseReleasesStream() throws Exception {
+    S3URI uri = new S3URI("s3://bucket/path/to/failed-close.dat");
+    s3Client()
+        .putObject(
+            PutObjectRequest.builder().bucket(uri.bucket()).key(uri.key()).build(),
+            RequestBody.fromBytes(new byte[] {1, 2, 3}));
+
+    S3ClientWrapper client = spy(new S3ClientWrapper(s3Client()));
+    doAnswer(invocation -> new FailingCloseInputStream(invocation.callRealMethod()))
+        .when(client)
+        .getObject(any(GetObjectRequest.class), any(ResponseTransformer.class));
+
+    DefaultFileIOMetricsContext metrics =
+        new DefaultFileIOMetricsContext(UUID.randomUUID().toString());
+    S3InputStream in = new S3InputStream(client, uri, new S3FileIOProperties(), metrics);
+    assertThat(in.read()).isEqualTo(1);
+    assertThat(metrics.gauge(FileIOMetricsContext.READS_IN_FLIGHT).value()).isEqualTo(1L);
+
+    assertThatThrownBy(in::close).isInstanceOf(IOException.class).hasMessage("close failed");
+    in.close();
+    assertThat(metrics.gauge(FileIOMetricsContext.READS_IN_FLIGHT).value()).isEqualTo(0L);
+  }
+
   private static Stream<Arguments> retryableExceptions() {
     return Stream.of(
         Arguments.of(
@@ -184,6 +212,25 @@ public class TestFlakyS3InputStream extends TestS3InputStream {
     }
   }
 
+  static class FailingCloseInputStream extends InputStream {
+    private final ResponseInputStream<GetObjectResponse> delegate;
+
+    FailingCloseInputStream(Object invocationResponse) {
+      this.delegate = (ResponseInputStream<GetObjectResponse>) invocationResponse;
+    }
+
+    @Override
+    public int read() throws IOException {
+      return delegate.read();
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+      throw new IOException("close failed");
+    }
+  }
+
   static class FlakyInputStream extends InputStream {
     private final ResponseInputStream<GetObjectResponse> delegate;
     private final AtomicInteger counter;
@@ -24,6 +24,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Random;
+import java.util.UUID;
+import org.apache.iceberg.io.DefaultFileIOMetricsContext;
+import org.apache.iceberg.io.FileIOMetricsContext;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
@@ -190,6 +193,37 @@ public class TestS3InputStream {
     }
   }
 
+  @Test
+  public void testMetrics() throws Exception {
+    S3URI uri = new S3URI("s3://bucket/path/to/metrics.dat");
+    byte[] expected = randomData(1024 * 1024);
+
+    writeS3Data(uri, expected);
+
+    DefaultFileIOMetricsContext metrics =
+        new DefaultFileIOMetricsContext(UUID.randomUUID().toString());
+    try (SeekableInputStream in = new S3InputStream(s3, uri, new S3FileIOProperties(), metrics)) {
+      assertThat(metrics.gauge(FileIOMetricsContext.READS_IN_FLIGHT).value()).isEqualTo(0L);
+
+      byte[] actual = new byte[expected.length];
+      IOUtil.readFully(in, actual, 0, expected.length);
+      assertThat(actual).isEqualTo(expected);
+      assertThat(metrics.gauge(FileIOMetricsContext.READS_IN_FLIGHT).value()).isEqualTo(1L);
+
+      // opening a new stream releases the current one
+      in.seek(0);
+      assertThat(in.read()).isEqualTo(expected[0] & 0xFF);
+      assertThat(metrics.gauge(FileIOMetricsContext.READS_IN_FLIGHT).value()).isEqualTo(1L);
+    }
+
+    assertThat(metrics.values())
+        .containsEntry(FileIOMetricsContext.READS_IN_FLIGHT, 0L)
+        .containsEntry(FileIOMetricsContext.READ_BYTES, (long) expected.length + 1)
+        .containsEntry(FileIOMetricsContext.OPEN_LATENCY + ".count", 2)
+        .containsEntry(FileIOMetricsContext.GET_LATENCY + ".count", 2)
+        .containsKey(FileIOMetricsContext.READ_THROUGHPUT + ".count");
+  }
+
   private byte[] randomData(int size) {
     byte[] data = new byte[size];
     random.nextBytes(data);
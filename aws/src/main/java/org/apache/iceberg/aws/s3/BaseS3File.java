@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.aws.s3;
 
+import org.apache.iceberg.io.FileIOMetrics;
 import org.apache.iceberg.metrics.MetricsContext;
 import software.amazon.awssdk.http.HttpStatusCode;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -33,18 +34,21 @@ abstract class BaseS3File {
   private final S3FileIOProperties s3FileIOProperties;
   private HeadObjectResponse metadata;
   private final MetricsContext metrics;
+  private final FileIOMetrics ioMetrics;
 
   BaseS3File(
       S3Client client,
       S3AsyncClient asyncClient,
       S3URI uri,
       S3FileIOProperties s3FileIOProperties,
-      MetricsContext metrics) {
+      MetricsContext metrics,
+      FileIOMetrics ioMetrics) {
     this.client = client;
     this.asyncClient = asyncClient;
     this.uri = uri;
     this.s3FileIOProperties = s3FileIOProperties;
     this.metrics = metrics;
+    this.ioMetrics = ioMetrics;
   }
 
   public String location() {
@@ -71,6 +75,10 @@ abstract class BaseS3File {
     return metrics;
   }
 
+  FileIOMetrics ioMetrics() {
+    return ioMetrics;
+  }
+
   /**
    * Note: this may be stale if file was deleted since metadata is cached for size/existence checks.
    *
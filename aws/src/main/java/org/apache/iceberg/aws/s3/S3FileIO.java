@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.aws.s3;
 
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
@@ -30,17 +31,21 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.aws.S3FileIOAwsClientFactories;
 import org.apache.iceberg.common.DynConstructors;
 import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.CredentialSupplier;
 import org.apache.iceberg.io.DelegateFileIO;
+import org.apache.iceberg.io.FileIOMetrics;
 import org.apache.iceberg.io.FileInfo;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.ParallelPrefixListing;
 import org.apache.iceberg.io.StorageCredential;
 import org.apache.iceberg.io.SupportsRecoveryOperations;
 import org.apache.iceberg.io.SupportsStorageCredentials;
+import org.apache.iceberg.metrics.Histogram;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
@@ -60,7 +65,9 @@ import org.apache.iceberg.util.Tasks;
 import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.Delete;
@@ -74,6 +81,7 @@ import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.ObjectVersion;
 import software.amazon.awssdk.services.s3.model.PutObjectTaggingRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.services.s3.model.Tag;
 import software.amazon.awssdk.services.s3.model.Tagging;
 import software.amazon.awssdk.services.s3.paginators.ListObjectVersionsIterable;
@@ -94,6 +102,7 @@ public class S3FileIO
   private static final String DEFAULT_METRICS_IMPL =
       "org.apache.iceberg.hadoop.HadoopMetricsContext";
   private static final String ROOT_PREFIX = "s3";
+  private static final String LIST_DELIMITER = "/";
   private static volatile ExecutorService executorService;
 
   private String credential = null;
@@ -101,6 +110,7 @@ public class S3FileIO
   private SerializableSupplier<S3AsyncClient> s3Async;
   private SerializableMap<String, String> properties = null;
   private MetricsContext metrics = MetricsContext.nullMetrics();
+  private transient volatile FileIOMetrics ioMetrics;
   private final AtomicBoolean isResourceClosed = new AtomicBoolean(false);
   private transient StackTraceElement[] createStack;
   // use modifiable collection for Kryo serde
@@ -177,17 +187,17 @@ public class S3FileIO
 
   @Override
   public InputFile newInputFile(String path) {
-    return S3InputFile.fromLocation(path, clientForStoragePath(path), metrics);
+    return S3InputFile.fromLocation(path, 0, clientForStoragePath(path), metrics, ioMetrics());
   }
 
   @Override
   public InputFile newInputFile(String path, long length) {
-    return S3InputFile.fromLocation(path, length, clientForStoragePath(path), metrics);
+    return S3InputFile.fromLocation(path, length, clientForStoragePath(path), metrics, ioMetrics());
   }
 
   @Override
   public OutputFile newOutputFile(String path) {
-    return S3OutputFile.fromLocation(path, clientForStoragePath(path), metrics);
+    return S3OutputFile.fromLocation(path, clientForStoragePath(path), metrics, ioMetrics());
   }
 
   @Override
@@ -210,7 +220,9 @@ public class S3FileIO
     DeleteObjectRequest deleteRequest =
         DeleteObjectRequest.builder().bucket(location.bucket()).key(location.key()).build();
 
+    long start = System.nanoTime();
     client.s3().deleteObject(deleteRequest);
+    FileIOMetrics.recordLatency(ioMetrics().deleteLatency(), start);
   }
 
   @Override
@@ -336,8 +348,10 @@ public class S3FileIO
             .delete(Delete.builder().objects(objectIds).build())
             .build();
     List<String> failures = Lists.newArrayList();
+    long start = System.nanoTime();
     try {
       DeleteObjectsResponse response = client.s3().deleteObjects(request);
+      FileIOMetrics.recordLatency(ioMetrics().deleteLatency(), start);
       if (response.hasErrors()) {
         failures.addAll(
             response.errors().stream()
@@ -365,21 +379,74 @@ public class S3FileIO
     }
 
     S3URI s3uri = uri;
+    Histogram listLatency = ioMetrics().listLatency();
+    int listParallelism = client.s3FileIOProperties().listParallelism();
+    if (listParallelism > 1) {
+      return ParallelPrefixListing.builder(
+              key -> listLevel(client, s3uri, key, listLatency),
+              key -> listKeys(client, s3uri, key, listLatency))
+          .parallelism(listParallelism)
+          .fanoutDepth(client.s3FileIOProperties().listFanoutDepth())
+          .shouldRetry(S3FileIO::isTransientListFailure)
+          .build()
+          .list(s3uri.key());
+    }
+
+    return listKeys(client, s3uri, s3uri.key(), listLatency);
+  }
+
+  private Iterable<FileInfo> listKeys(
+      PrefixedS3Client client, S3URI s3uri, String keyPrefix, Histogram listLatency) {
     ListObjectsV2Request request =
-        ListObjectsV2Request.builder().bucket(s3uri.bucket()).prefix(s3uri.key()).build();
+        ListObjectsV2Request.builder().bucket(s3uri.bucket()).prefix(keyPrefix).build();
 
     return () ->
-        client.s3().listObjectsV2Paginator(request).stream()
+        Streams.stream(
+                FileIOMetrics.timedPages(
+                    client.s3().listObjectsV2Paginator(request).iterator(), listLatency))
             .flatMap(r -> r.contents().stream())
-            .map(
-                o ->
-                    new FileInfo(
-                        String.format("%s://%s/%s", s3uri.scheme(), s3uri.bucket(), o.key()),
-                        o.size(),
-                        o.lastModified().toEpochMilli()))
+            .map(o -> toFileInfo(s3uri, o))
             .iterator();
   }
 
+  private ParallelPrefixListing.Level listLevel(
+      PrefixedS3Client client, S3URI s3uri, String keyPrefix, Histogram listLatency) {
+    ListObjectsV2Request request =
+        ListObjectsV2Request.builder()
+            .bucket(s3uri.bucket())
+            .prefix(keyPrefix)
+            .delimiter(LIST_DELIMITER)
+            .build();
+
+    List<FileInfo> files = Lists.newArrayList();
+    List<String> prefixes = Lists.newArrayList();
+    FileIOMetrics.timedPages(client.s3().listObjectsV2Paginator(request).iterator(), listLatency)
+        .forEachRemaining(
+            response -> {
+              response.contents().forEach(o -> files.add(toFileInfo(s3uri, o)));
+              response.commonPrefixes().forEach(p -> prefixes.add(p.prefix()));
+            });
+
+    return new ParallelPrefixListing.Level(files, prefixes);
+  }
+
+  /** Returns true for throttling, server and connection errors, which may succeed on a retry. */
+  private static boolean isTransientListFailure(Exception e) {
+    if (e instanceof SdkServiceException) {
+      SdkServiceException serviceException = (SdkServiceException) e;
+      return serviceException.isThrottlingException() || serviceException.statusCode() >= 500;
+    }
+
+    return e instanceof SdkClientException || e instanceof UncheckedIOException;
+  }
+
+  private static FileInfo toFileInfo(S3URI s3uri, S3Object object) {
+    return new FileInfo(
+        String.format("%s://%s/%s", s3uri.scheme(), s3uri.bucket(), object.key()),
+        object.size(),
+        object.lastModified().toEpochMilli());
+  }
+
   /**
    * This method provides a "best-effort" to delete all objects under the given prefix.
    *
@@ -503,19 +570,35 @@ public class S3FileIO
 
   @SuppressWarnings("CatchBlockLogException")
   private void initMetrics(Map<String, String> props) {
-    // Report Hadoop metrics if Hadoop is available
+    // Report Hadoop metrics by default if Hadoop is available
+    String metricsImpl =
+        props.getOrDefault(CatalogProperties.IO_METRICS_IMPL, DEFAULT_METRICS_IMPL);
     try {
       DynConstructors.Ctor<MetricsContext> ctor =
           DynConstructors.builder(MetricsContext.class)
-              .hiddenImpl(DEFAULT_METRICS_IMPL, String.class)
+              .hiddenImpl(metricsImpl, String.class)
               .buildChecked();
       MetricsContext context = ctor.newInstance(ROOT_PREFIX);
       context.initialize(props);
       this.metrics = context;
     } catch (NoClassDefFoundError | NoSuchMethodException | ClassCastException e) {
-      LOG.warn(
-          "Unable to load metrics class: '{}', falling back to null metrics", DEFAULT_METRICS_IMPL);
+      LOG.warn("Unable to load metrics class: '{}', falling back to null metrics", metricsImpl);
+    }
+
+    this.ioMetrics = FileIOMetrics.of(metrics);
+  }
+
+  /** Returns the metrics of this FileIO, resolved once from its metrics context. */
+  private FileIOMetrics ioMetrics() {
+    if (ioMetrics == null) {
+      synchronized (this) {
+        if (ioMetrics == null) {
+          this.ioMetrics = FileIOMetrics.of(metrics);
+        }
+      }
     }
+
+    return ioMetrics;
   }
 
   @Override
@@ -403,6 +403,23 @@ public class S3FileIOProperties implements Serializable {
 
   public static final boolean DELETE_ENABLED_DEFAULT = true;
 
+  /**
+   * Number of prefixes listed concurrently by {@link S3FileIO#listPrefix(String)}, default to 1.
+   * When greater than 1, the listing is split over the common prefixes returned by listing with a
+   * "/" delimiter, and each common prefix is listed separately.
+   */
+  public static final String LIST_PARALLELISM = "s3.list.parallelism";
+
+  public static final int LIST_PARALLELISM_DEFAULT = 1;
+
+  /**
+   * Number of levels listed with a "/" delimiter before common prefixes are listed in parallel,
+   * default to 2. Only used when {@link #LIST_PARALLELISM} is greater than 1.
+   */
+  public static final String LIST_FANOUT_DEPTH = "s3.list.fanout-depth";
+
+  public static final int LIST_FANOUT_DEPTH_DEFAULT = 2;
+
   /**
    * Determines if S3 client will use the Acceleration Mode, default to false.
    *
@@ -515,6 +532,8 @@ public class S3FileIOProperties implements Serializable {
   private final Set<Tag> deleteTags;
   private int deleteThreads;
   private boolean isDeleteEnabled;
+  private int listParallelism;
+  private int listFanoutDepth;
   private final Map<String, String> bucketToAccessPointMapping;
   private boolean isPreloadClientEnabled;
   private final boolean isDualStackEnabled;
@@ -557,6 +576,8 @@ public class S3FileIOProperties implements Serializable {
     this.deleteTags = Sets.newHashSet();
     this.deleteThreads = Runtime.getRuntime().availableProcessors();
     this.isDeleteEnabled = DELETE_ENABLED_DEFAULT;
+    this.listParallelism = LIST_PARALLELISM_DEFAULT;
+    this.listFanoutDepth = LIST_FANOUT_DEPTH_DEFAULT;
     this.bucketToAccessPointMapping = Collections.emptyMap();
     this.isPreloadClientEnabled = PRELOAD_CLIENT_ENABLED_DEFAULT;
     this.isDualStackEnabled = DUALSTACK_ENABLED_DEFAULT;
@@ -659,6 +680,14 @@ public class S3FileIOProperties implements Serializable {
             properties, DELETE_THREADS, Runtime.getRuntime().availableProcessors());
     this.isDeleteEnabled =
         PropertyUtil.propertyAsBoolean(properties, DELETE_ENABLED, DELETE_ENABLED_DEFAULT);
+    this.listParallelism =
+        PropertyUtil.propertyAsInt(properties, LIST_PARALLELISM, LIST_PARALLELISM_DEFAULT);
+    Preconditions.checkArgument(
+        listParallelism > 0, "Invalid list parallelism: %s (must be > 0)", listParallelism);
+    this.listFanoutDepth =
+        PropertyUtil.propertyAsInt(properties, LIST_FANOUT_DEPTH, LIST_FANOUT_DEPTH_DEFAULT);
+    Preconditions.checkArgument(
+        listFanoutDepth >= 0, "Invalid list fanout depth: %s (must be >= 0)", listFanoutDepth);
     this.bucketToAccessPointMapping =
         PropertyUtil.propertiesWithPrefix(properties, ACCESS_POINTS_PREFIX);
     this.isPreloadClientEnabled =
@@ -868,6 +897,22 @@ public class S3FileIOProperties implements Serializable {
     this.deleteThreads = threads;
   }
 
+  public int listParallelism() {
+    return listParallelism;
+  }
+
+  public void setListParallelism(int listParallelism) {
+    this.listParallelism = listParallelism;
+  }
+
+  public int listFanoutDepth() {
+    return listFanoutDepth;
+  }
+
+  public void setListFanoutDepth(int listFanoutDepth) {
+    this.listFanoutDepth = listFanoutDepth;
+  }
+
   public boolean isDeleteEnabled() {
     return isDeleteEnabled;
   }
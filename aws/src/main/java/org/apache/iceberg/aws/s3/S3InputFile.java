@@ -20,6 +20,7 @@ package org.apache.iceberg.aws.s3;
 
 import org.apache.iceberg.encryption.NativeFileCryptoParameters;
 import org.apache.iceberg.encryption.NativelyEncryptedFile;
+import org.apache.iceberg.io.FileIOMetrics;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.SeekableInputStream;
 import org.apache.iceberg.metrics.MetricsContext;
@@ -125,13 +126,23 @@ public class S3InputFile extends BaseS3File implements InputFile, NativelyEncryp
 
   static S3InputFile fromLocation(
       String location, long length, PrefixedS3Client client, MetricsContext metrics) {
+    return fromLocation(location, length, client, metrics, FileIOMetrics.of(metrics));
+  }
+
+  static S3InputFile fromLocation(
+      String location,
+      long length,
+      PrefixedS3Client client,
+      MetricsContext metrics,
+      FileIOMetrics ioMetrics) {
     return new S3InputFile(
         client.s3(),
         client.s3FileIOProperties().isS3AnalyticsAcceleratorEnabled() ? client.s3Async() : null,
         new S3URI(location, client.s3FileIOProperties().bucketToAccessPointMapping()),
         length > 0 ? length : null,
         client.s3FileIOProperties(),
-        metrics);
+        metrics,
+        ioMetrics);
   }
 
   S3InputFile(
@@ -141,7 +152,18 @@ public class S3InputFile extends BaseS3File implements InputFile, NativelyEncryp
       Long length,
       S3FileIOProperties s3FileIOProperties,
       MetricsContext metrics) {
-    super(client, asyncClient, uri, s3FileIOProperties, metrics);
+    this(client, asyncClient, uri, length, s3FileIOProperties, metrics, FileIOMetrics.of(metrics));
+  }
+
+  S3InputFile(
+      S3Client client,
+      S3AsyncClient asyncClient,
+      S3URI uri,
+      Long length,
+      S3FileIOProperties s3FileIOProperties,
+      MetricsContext metrics,
+      FileIOMetrics ioMetrics) {
+    super(client, asyncClient, uri, s3FileIOProperties, metrics, ioMetrics);
     this.length = length;
   }
 
@@ -164,7 +186,7 @@ public class S3InputFile extends BaseS3File implements InputFile, NativelyEncryp
     if (s3FileIOProperties().isS3AnalyticsAcceleratorEnabled()) {
       return AnalyticsAcceleratorUtil.newStream(this);
     }
-    return new S3InputStream(client(), uri(), s3FileIOProperties(), metrics());
+    return new S3InputStream(client(), uri(), s3FileIOProperties(), metrics(), ioMetrics());
   }
 
   @Override
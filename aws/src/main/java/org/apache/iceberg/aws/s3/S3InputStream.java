@@ -29,11 +29,14 @@ import java.util.Arrays;
 import java.util.List;
 import javax.net.ssl.SSLException;
 import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.io.FileIOMetrics;
 import org.apache.iceberg.io.FileIOMetricsContext;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
 import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.Gauge;
+import org.apache.iceberg.metrics.Histogram;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
@@ -67,6 +70,14 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
   private final Counter readBytes;
   private final Counter readOperations;
+  private final Counter retries;
+  private final Histogram openLatency;
+  private final Histogram getLatency;
+  private final Histogram rangedReadLatency;
+  private final Histogram readThroughput;
+  private final Gauge readsInFlight;
+  private long streamStartNanos = 0L;
+  private long streamBytes = 0L;
 
   private int skipSize = 1024 * 1024;
   private RetryPolicy<Object> retryPolicy =
@@ -92,6 +103,15 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
   S3InputStream(
       S3Client s3, S3URI location, S3FileIOProperties s3FileIOProperties, MetricsContext metrics) {
+    this(s3, location, s3FileIOProperties, metrics, FileIOMetrics.of(metrics));
+  }
+
+  S3InputStream(
+      S3Client s3,
+      S3URI location,
+      S3FileIOProperties s3FileIOProperties,
+      MetricsContext metrics,
+      FileIOMetrics ioMetrics) {
     this.s3 = s3;
     this.location = location;
     this.s3FileIOProperties = s3FileIOProperties;
@@ -99,6 +119,13 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
     this.readBytes = metrics.counter(FileIOMetricsContext.READ_BYTES, Unit.BYTES);
     this.readOperations = metrics.counter(FileIOMetricsContext.READ_OPERATIONS);
 
+    this.retries = ioMetrics.retries();
+    this.openLatency = ioMetrics.openLatency();
+    this.getLatency = ioMetrics.getLatency();
+    this.rangedReadLatency = ioMetrics.rangedReadLatency();
+    this.readThroughput = ioMetrics.readThroughput();
+    this.readsInFlight = ioMetrics.readsInFlight();
+
     this.createStack = Thread.currentThread().getStackTrace();
   }
 
@@ -124,6 +151,7 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
       int bytesRead = Failsafe.with(retryPolicy).get(() -> stream.read());
       pos += 1;
       next += 1;
+      streamBytes += 1;
       readBytes.increment();
       readOperations.increment();
 
@@ -146,6 +174,7 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
       int bytesRead = Failsafe.with(retryPolicy).get(() -> stream.read(b, off, len));
       pos += bytesRead;
       next += bytesRead;
+      streamBytes += Math.max(bytesRead, 0);
       readBytes.increment(bytesRead);
       readOperations.increment();
 
@@ -165,7 +194,15 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
     String range = String.format("bytes=%s-%s", position, position + length - 1);
 
-    IOUtil.readFully(readRange(range), buffer, offset, length);
+    long start = System.nanoTime();
+    readsInFlight.increment();
+    try {
+      IOUtil.readFully(readRange(range), buffer, offset, length);
+      FileIOMetrics.recordThroughput(readThroughput, length, start);
+    } finally {
+      readsInFlight.decrement();
+      FileIOMetrics.recordLatency(rangedReadLatency, start);
+    }
   }
 
   @Override
@@ -174,7 +211,16 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
     String range = String.format("bytes=-%s", length);
 
-    return IOUtil.readRemaining(readRange(range), buffer, offset, length);
+    long start = System.nanoTime();
+    readsInFlight.increment();
+    try {
+      int bytesRead = IOUtil.readRemaining(readRange(range), buffer, offset, length);
+      FileIOMetrics.recordThroughput(readThroughput, bytesRead, start);
+      return bytesRead;
+    } finally {
+      readsInFlight.decrement();
+      FileIOMetrics.recordLatency(rangedReadLatency, start);
+    }
   }
 
   private InputStream readRange(String range) {
@@ -183,7 +229,15 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
     S3RequestUtil.configureEncryption(s3FileIOProperties, requestBuilder);
 
-    return s3.getObject(requestBuilder.build(), ResponseTransformer.toInputStream());
+    return getObject(requestBuilder.build());
+  }
+
+  /** Sends a GET request and records its latency once the response headers have arrived. */
+  private InputStream getObject(GetObjectRequest request) {
+    long start = System.nanoTime();
+    InputStream response = s3.getObject(request, ResponseTransformer.toInputStream());
+    FileIOMetrics.recordLatency(getLatency, start);
+    return response;
   }
 
   @Override
@@ -234,10 +288,15 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
     S3RequestUtil.configureEncryption(s3FileIOProperties, requestBuilder);
 
+    long start = System.nanoTime();
     closeStream(closeQuietly);
 
     try {
-      stream = s3.getObject(requestBuilder.build(), ResponseTransformer.toInputStream());
+      stream = getObject(requestBuilder.build());
+      FileIOMetrics.recordLatency(openLatency, start);
+      readsInFlight.increment();
+      streamStartNanos = System.nanoTime();
+      streamBytes = 0L;
     } catch (NoSuchKeyException e) {
       throw new NotFoundException(e, "Location does not exist: %s", location);
     }
@@ -245,6 +304,7 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
   @VisibleForTesting
   void resetForRetry() throws IOException {
+    retries.increment();
     openStream(true);
   }
 
@@ -257,7 +317,6 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
         stream.close();
       } catch (IOException e) {
         if (closeQuietly) {
-          stream = null;
           LOG.warn("An error occurred while closing the stream", e);
           return;
         }
@@ -267,11 +326,19 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
         if (!e.getClass().getSimpleName().equals("ConnectionClosedException")) {
           throw e;
         }
+      } finally {
+        // the stream is released even if closing fails, so it is only counted as closed once
+        stream = null;
+        recordStreamClosed();
       }
-      stream = null;
     }
   }
 
+  private void recordStreamClosed() {
+    readsInFlight.decrement();
+    FileIOMetrics.recordThroughput(readThroughput, streamBytes, streamStartNanos);
+  }
+
   private void abortStream() {
     try {
       if (stream instanceof Abortable && stream.read() != -1) {
@@ -23,6 +23,7 @@ import java.io.UncheckedIOException;
 import org.apache.iceberg.encryption.NativeFileCryptoParameters;
 import org.apache.iceberg.encryption.NativelyEncryptedFile;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
+import org.apache.iceberg.io.FileIOMetrics;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.io.PositionOutputStream;
@@ -76,12 +77,18 @@ public class S3OutputFile extends BaseS3File implements OutputFile, NativelyEncr
 
   static S3OutputFile fromLocation(
       String location, PrefixedS3Client client, MetricsContext metrics) {
+    return fromLocation(location, client, metrics, FileIOMetrics.of(metrics));
+  }
+
+  static S3OutputFile fromLocation(
+      String location, PrefixedS3Client client, MetricsContext metrics, FileIOMetrics ioMetrics) {
     return new S3OutputFile(
         client.s3(),
         client.s3FileIOProperties().isS3AnalyticsAcceleratorEnabled() ? client.s3Async() : null,
         new S3URI(location, client.s3FileIOProperties().bucketToAccessPointMapping()),
         client.s3FileIOProperties(),
-        metrics);
+        metrics,
+        ioMetrics);
   }
 
   S3OutputFile(
@@ -90,7 +97,17 @@ public class S3OutputFile extends BaseS3File implements OutputFile, NativelyEncr
       S3URI uri,
       S3FileIOProperties s3FileIOProperties,
       MetricsContext metrics) {
-    super(client, asyncClient, uri, s3FileIOProperties, metrics);
+    this(client, asyncClient, uri, s3FileIOProperties, metrics, FileIOMetrics.of(metrics));
+  }
+
+  S3OutputFile(
+      S3Client client,
+      S3AsyncClient asyncClient,
+      S3URI uri,
+      S3FileIOProperties s3FileIOProperties,
+      MetricsContext metrics,
+      FileIOMetrics ioMetrics) {
+    super(client, asyncClient, uri, s3FileIOProperties, metrics, ioMetrics);
   }
 
   /**
@@ -111,7 +128,7 @@ public class S3OutputFile extends BaseS3File implements OutputFile, NativelyEncr
   @Override
   public PositionOutputStream createOrOverwrite() {
     try {
-      return new S3OutputStream(client(), uri(), s3FileIOProperties(), metrics());
+      return new S3OutputStream(client(), uri(), s3FileIOProperties(), metrics(), ioMetrics());
     } catch (IOException e) {
       throw new UncheckedIOException("Failed to create output stream for location: " + uri(), e);
     }
@@ -119,7 +136,8 @@ public class S3OutputFile extends BaseS3File implements OutputFile, NativelyEncr
 
   @Override
   public InputFile toInputFile() {
-    return new S3InputFile(client(), asyncClient(), uri(), null, s3FileIOProperties(), metrics());
+    return new S3InputFile(
+        client(), asyncClient(), uri(), null, s3FileIOProperties(), metrics(), ioMetrics());
   }
 
   @Override
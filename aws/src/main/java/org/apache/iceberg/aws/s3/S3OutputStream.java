@@ -42,9 +42,12 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
+import org.apache.iceberg.io.FileIOMetrics;
 import org.apache.iceberg.io.FileIOMetricsContext;
 import org.apache.iceberg.io.PositionOutputStream;
 import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.Gauge;
+import org.apache.iceberg.metrics.Histogram;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
@@ -100,14 +103,28 @@ class S3OutputStream extends PositionOutputStream {
 
   private final Counter writeBytes;
   private final Counter writeOperations;
+  private final Histogram putLatency;
+  private final Histogram partLatency;
+  private final Histogram writeThroughput;
+  private final Gauge writesInFlight;
 
   private long pos = 0;
   private boolean closed = false;
 
-  @SuppressWarnings("StaticAssignmentInConstructor")
   S3OutputStream(
       S3Client s3, S3URI location, S3FileIOProperties s3FileIOProperties, MetricsContext metrics)
       throws IOException {
+    this(s3, location, s3FileIOProperties, metrics, FileIOMetrics.of(metrics));
+  }
+
+  @SuppressWarnings("StaticAssignmentInConstructor")
+  S3OutputStream(
+      S3Client s3,
+      S3URI location,
+      S3FileIOProperties s3FileIOProperties,
+      MetricsContext metrics,
+      FileIOMetrics ioMetrics)
+      throws IOException {
     if (executorService == null) {
       synchronized (S3OutputStream.class) {
         if (executorService == null) {
@@ -147,7 +164,13 @@ class S3OutputStream extends PositionOutputStream {
     this.writeBytes = metrics.counter(FileIOMetricsContext.WRITE_BYTES, Unit.BYTES);
     this.writeOperations = metrics.counter(FileIOMetricsContext.WRITE_OPERATIONS);
 
+    this.putLatency = ioMetrics.putLatency();
+    this.partLatency = ioMetrics.multipartPartLatency();
+    this.writeThroughput = ioMetrics.writeThroughput();
+    this.writesInFlight = ioMetrics.writesInFlight();
+
     newStream();
+    writesInFlight.increment();
   }
 
   @Override
@@ -270,6 +293,7 @@ class S3OutputStream extends PositionOutputStream {
         completeUploads();
       }
     } finally {
+      writesInFlight.decrement();
       cleanUpStagingFiles();
     }
   }
@@ -324,8 +348,12 @@ class S3OutputStream extends PositionOutputStream {
               CompletableFuture<CompletedPart> future =
                   CompletableFuture.supplyAsync(
                           () -> {
+                            long start = System.nanoTime();
                             UploadPartResponse response =
                                 s3.uploadPart(uploadRequest, RequestBody.fromFile(f));
+                            FileIOMetrics.recordLatency(partLatency, start);
+                            FileIOMetrics.recordThroughput(
+                                writeThroughput, uploadRequest.contentLength(), start);
                             return CompletedPart.builder()
                                 .eTag(response.eTag())
                                 .partNumber(uploadRequest.partNumber())
@@ -441,10 +469,13 @@ class S3OutputStream extends PositionOutputStream {
       S3RequestUtil.configureEncryption(s3FileIOProperties, requestBuilder);
       S3RequestUtil.configurePermission(s3FileIOProperties, requestBuilder);
 
+      long start = System.nanoTime();
       s3.putObject(
           requestBuilder.build(),
           RequestBody.fromContentProvider(
               contentProvider, contentLength, Mimetype.MIMETYPE_OCTET_STREAM));
+      FileIOMetrics.recordLatency(putLatency, start);
+      FileIOMetrics.recordThroughput(writeThroughput, contentLength, start);
     } else {
       uploadParts();
       completeMultiPartUpload();
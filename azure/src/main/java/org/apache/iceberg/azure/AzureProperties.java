@@ -53,6 +53,19 @@ public class AzureProperties implements Serializable {
   /** Controls whether vended credentials should be refreshed or not. Defaults to true. */
   public static final String ADLS_REFRESH_CREDENTIALS_ENABLED = "adls.refresh-credentials-enabled";
 
+  /**
+   * Number of directories listed concurrently by {@link
+   * org.apache.iceberg.azure.adlsv2.ADLSFileIO#listPrefix(String)}. When greater than 1, the
+   * listing is split over the sub-directories of the prefix. Defaults to 1.
+   */
+  public static final String ADLS_LIST_PARALLELISM = "adls.list.parallelism";
+
+  /**
+   * Number of directory levels listed one at a time before sub-directories are listed recursively
+   * in parallel. Only used when {@link #ADLS_LIST_PARALLELISM} is greater than 1. Defaults to 2.
+   */
+  public static final String ADLS_LIST_FANOUT_DEPTH = "adls.list.fanout-depth";
+
   private Map<String, String> adlsSasTokens = Collections.emptyMap();
   private Map<String, String> adlsConnectionStrings = Collections.emptyMap();
   private Map.Entry<String, String> namedKeyCreds;
@@ -60,6 +73,8 @@ public class AzureProperties implements Serializable {
   private Long adlsWriteBlockSize;
   private String adlsRefreshCredentialsEndpoint;
   private boolean adlsRefreshCredentialsEnabled;
+  private int adlsListParallelism = 1;
+  private int adlsListFanoutDepth = 2;
   private Map<String, String> allProperties;
 
   public AzureProperties() {}
@@ -92,6 +107,14 @@ public class AzureProperties implements Serializable {
             properties.get(ADLS_REFRESH_CREDENTIALS_ENDPOINT));
     this.adlsRefreshCredentialsEnabled =
         PropertyUtil.propertyAsBoolean(properties, ADLS_REFRESH_CREDENTIALS_ENABLED, true);
+    this.adlsListParallelism = PropertyUtil.propertyAsInt(properties, ADLS_LIST_PARALLELISM, 1);
+    Preconditions.checkArgument(
+        adlsListParallelism > 0, "Invalid list parallelism: %s (must be > 0)", adlsListParallelism);
+    this.adlsListFanoutDepth = PropertyUtil.propertyAsInt(properties, ADLS_LIST_FANOUT_DEPTH, 2);
+    Preconditions.checkArgument(
+        adlsListFanoutDepth >= 0,
+        "Invalid list fanout depth: %s (must be >= 0)",
+        adlsListFanoutDepth);
     this.allProperties = SerializableMap.copyOf(properties);
   }
 
@@ -103,6 +126,14 @@ public class AzureProperties implements Serializable {
     return Optional.ofNullable(adlsWriteBlockSize);
   }
 
+  public int adlsListParallelism() {
+    return adlsListParallelism;
+  }
+
+  public int adlsListFanoutDepth() {
+    return adlsListFanoutDepth;
+  }
+
   public Optional<VendedAdlsCredentialProvider> vendedAdlsCredentialProvider() {
     if (adlsRefreshCredentialsEnabled && !Strings.isNullOrEmpty(adlsRefreshCredentialsEndpoint)) {
       Map<String, String> credentialProviderProperties = Maps.newHashMap(allProperties);
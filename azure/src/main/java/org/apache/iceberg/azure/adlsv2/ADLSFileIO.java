@@ -25,7 +25,11 @@ import com.azure.storage.file.datalake.DataLakeFileSystemClient;
 import com.azure.storage.file.datalake.DataLakeFileSystemClientBuilder;
 import com.azure.storage.file.datalake.models.DataLakeStorageException;
 import com.azure.storage.file.datalake.models.ListPathsOptions;
+import com.azure.storage.file.datalake.models.PathItem;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -36,8 +40,10 @@ import org.apache.iceberg.io.DelegateFileIO;
 import org.apache.iceberg.io.FileInfo;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.ParallelPrefixListing;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.util.SerializableMap;
 import org.apache.iceberg.util.Tasks;
 import org.apache.iceberg.util.ThreadPools;
@@ -178,21 +184,29 @@ public class ADLSFileIO implements DelegateFileIO {
   @Override
   public Iterable<FileInfo> listPrefix(String prefix) {
     ADLSLocation location = new ADLSLocation(prefix);
+    if (azureProperties.adlsListParallelism() > 1) {
+      return ParallelPrefixListing.builder(
+              path -> listDirectory(location, path), path -> listPaths(location, path))
+          .parallelism(azureProperties.adlsListParallelism())
+          .fanoutDepth(azureProperties.adlsListFanoutDepth())
+          .shouldRetry(ADLSFileIO::isTransientListFailure)
+          .build()
+          .list(location.path());
+    }
+
+    return listPaths(location, location.path());
+  }
 
+  private Iterable<FileInfo> listPaths(ADLSLocation location, String path) {
     ListPathsOptions options = new ListPathsOptions();
-    options.setPath(location.path());
+    options.setPath(path);
     options.setRecursive(true);
 
     return () -> {
       try {
         return client(location).listPaths(options, null).stream()
             .filter(pathItem -> !pathItem.isDirectory())
-            .map(
-                pathItem ->
-                    new FileInfo(
-                        pathItem.getName(),
-                        pathItem.getContentLength(),
-                        pathItem.getCreationTime().toInstant().toEpochMilli()))
+            .map(ADLSFileIO::toFileInfo)
             .iterator();
       } catch (DataLakeStorageException e) {
         // other FileIO implementations return an empty iterator if nothing
@@ -205,6 +219,50 @@ public class ADLSFileIO implements DelegateFileIO {
     };
   }
 
+  private ParallelPrefixListing.Level listDirectory(ADLSLocation location, String path) {
+    ListPathsOptions options = new ListPathsOptions();
+    options.setPath(path);
+    options.setRecursive(false);
+
+    List<FileInfo> files = Lists.newArrayList();
+    List<String> directories = Lists.newArrayList();
+    try {
+      client(location)
+          .listPaths(options, null)
+          .forEach(
+              pathItem -> {
+                if (pathItem.isDirectory()) {
+                  directories.add(pathItem.getName());
+                } else {
+                  files.add(toFileInfo(pathItem));
+                }
+              });
+    } catch (DataLakeStorageException e) {
+      if (e.getStatusCode() != 404) {
+        throw e;
+      }
+    }
+
+    return new ParallelPrefixListing.Level(files, directories);
+  }
+
+  /** Returns true for timeouts, throttling, server and connection errors. */
+  private static boolean isTransientListFailure(Exception e) {
+    if (e instanceof DataLakeStorageException) {
+      int statusCode = ((DataLakeStorageException) e).getStatusCode();
+      return statusCode == 408 || statusCode == 429 || statusCode >= 500;
+    }
+
+    return e instanceof UncheckedIOException || e.getCause() instanceof IOException;
+  }
+
+  private static FileInfo toFileInfo(PathItem pathItem) {
+    return new FileInfo(
+        pathItem.getName(),
+        pathItem.getContentLength(),
+        pathItem.getCreationTime().toInstant().toEpochMilli());
+  }
+
   @Override
   public void deletePrefix(String prefix) {
     ADLSLocation location = new ADLSLocation(prefix);
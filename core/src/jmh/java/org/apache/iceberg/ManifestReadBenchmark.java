@@ -41,6 +41,7 @@ import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -59,11 +60,18 @@ public class ManifestReadBenchmark {
   private static final int NUM_ROWS = 100000;
   private static final int NUM_COLS = 10;
 
+  // each value runs in a new fork, so the setting is read before any reader is created
+  @Param({"true", "false"})
+  private boolean specializedReaders;
+
   private String baseDir;
   private String manifestListFile;
 
   @Setup
   public void before() {
+    System.setProperty(
+        SystemConfigs.AVRO_SPECIALIZED_READERS_ENABLED.propertyKey(),
+        String.valueOf(specializedReaders));
     baseDir =
         Paths.get(new File(System.getProperty("java.io.tmpdir")).getAbsolutePath()).toString();
     manifestListFile = String.format("%s/%s.avro", baseDir, UUID.randomUUID());
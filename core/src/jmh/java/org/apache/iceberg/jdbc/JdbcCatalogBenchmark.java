@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.jdbc;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.iceberg.CatalogProperties;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableCommit;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.inmemory.InMemoryFileIO;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that evaluates the throughput of {@link JdbcCatalog} commits, loads, and listings
+ * against an embedded SQLite database, with and without prepared statement caching.
+ *
+ * <p>Metadata files are kept in memory so that the results reflect the catalog database.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=JdbcCatalogBenchmark
+ *       -PjmhOutputPath=benchmark/jdbc-catalog-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Timeout(time = 10, timeUnit = TimeUnit.MINUTES)
+public class JdbcCatalogBenchmark {
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()), required(2, "data", Types.StringType.get()));
+  private static final Namespace NAMESPACE = Namespace.of("db");
+  private static final int NUM_TABLES = 1_000;
+
+  @Param({"0", "64"})
+  private int statementCacheSize;
+
+  @Param({"100", "1000"})
+  private int listPageSize;
+
+  private final AtomicLong commitCounter = new AtomicLong();
+  private File dbFile;
+  private JdbcCatalog catalog;
+  private List<TableIdentifier> tables;
+
+  @Setup
+  public void setupBenchmark() throws IOException {
+    this.dbFile = Files.createTempFile("jdbc-catalog-benchmark", ".db").toFile();
+
+    Map<String, String> properties = Maps.newHashMap();
+    properties.put(CatalogProperties.URI, "jdbc:sqlite:" + dbFile.getAbsolutePath());
+    properties.put(CatalogProperties.WAREHOUSE_LOCATION, "memory://warehouse");
+    properties.put(CatalogProperties.FILE_IO_IMPL, InMemoryFileIO.class.getName());
+    properties.put(CatalogProperties.CLIENT_POOL_SIZE, "4");
+    properties.put(JdbcUtil.SCHEMA_VERSION_PROPERTY, JdbcUtil.SchemaVersion.V1.name());
+    properties.put(JdbcUtil.STATEMENT_CACHE_SIZE_PROPERTY, String.valueOf(statementCacheSize));
+    properties.put(JdbcUtil.LIST_PAGE_SIZE_PROPERTY, String.valueOf(listPageSize));
+
+    this.catalog = new JdbcCatalog();
+    catalog.initialize("benchmark", properties);
+    catalog.createNamespace(NAMESPACE);
+
+    this.tables = Lists.newArrayList();
+    for (int i = 0; i < NUM_TABLES; i += 1) {
+      TableIdentifier table = TableIdentifier.of(NAMESPACE, String.format("tbl_%05d", i));
+      catalog.createTable(table, SCHEMA);
+      tables.add(table);
+    }
+  }
+
+  @TearDown
+  public void tearDownBenchmark() {
+    catalog.close();
+    dbFile.delete();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void commit() {
+    TableIdentifier table = nextTable();
+    catalog.loadTable(table).updateProperties().set("commit", nextValue()).commit();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void multiTableCommit() {
+    List<TableCommit> commits = Lists.newArrayList();
+    for (int i = 0; i < 4; i += 1) {
+      TableIdentifier table = nextTable();
+      TableMetadata base = catalog.newTableOps(table).current();
+      TableMetadata updated =
+          TableMetadata.buildFrom(base)
+              .setProperties(ImmutableMap.of("commit", nextValue()))
+              .build();
+      commits.add(TableCommit.create(table, base, updated));
+    }
+
+    catalog.commitTransaction(commits);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void loadTable(Blackhole blackhole) {
+    blackhole.consume(catalog.loadTable(nextTable()));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void listTables(Blackhole blackhole) {
+    blackhole.consume(catalog.listTables(NAMESPACE));
+  }
+
+  private TableIdentifier nextTable() {
+    return tables.get((int) (commitCounter.getAndIncrement() % NUM_TABLES));
+  }
+
+  private String nextValue() {
+    return String.valueOf(commitCounter.get());
+  }
+}
@@ -19,21 +19,31 @@
 package org.apache.iceberg;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
+import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,10 +52,18 @@ import org.slf4j.LoggerFactory;
  *
  * <p>See {@link CatalogProperties#CACHE_EXPIRATION_INTERVAL_MS} for more details regarding special
  * values for {@code expirationIntervalMillis}.
+ *
+ * <p>When a refresh interval is set (see {@link CatalogProperties#CACHE_REFRESH_INTERVAL_MS}),
+ * cached tables are refreshed in the background once they are older than the interval, so that
+ * frequently used tables are not loaded on the query path after expiry. A refresh reuses the cached
+ * table's operations, which skip reading the metadata file when its location has not changed.
+ * Table listings are also cached with the same policy in this mode.
  */
 public class CachingCatalog implements Catalog {
   private static final Logger LOG = LoggerFactory.getLogger(CachingCatalog.class);
   private static final MetadataTableType[] METADATA_TABLE_TYPE_VALUES = MetadataTableType.values();
+  private static final ExecutorService REFRESH_EXECUTOR =
+      ThreadPools.newExitingWorkerPool("iceberg-catalog-cache-refresh", 2);
 
   public static Catalog wrap(Catalog catalog) {
     return wrap(catalog, CatalogProperties.CACHE_EXPIRATION_INTERVAL_MS_OFF);
@@ -60,15 +78,38 @@ public class CachingCatalog implements Catalog {
     return new CachingCatalog(catalog, caseSensitive, expirationIntervalMillis);
   }
 
+  public static Catalog wrap(
+      Catalog catalog,
+      boolean caseSensitive,
+      long expirationIntervalMillis,
+      long refreshIntervalMillis) {
+    return new CachingCatalog(
+        catalog,
+        caseSensitive,
+        expirationIntervalMillis,
+        refreshIntervalMillis,
+        Ticker.systemTicker(),
+        REFRESH_EXECUTOR);
+  }
+
   private final Catalog catalog;
   private final boolean caseSensitive;
 
   @SuppressWarnings("checkstyle:VisibilityModifier")
   protected final long expirationIntervalMillis;
 
+  @SuppressWarnings("checkstyle:VisibilityModifier")
+  protected final long refreshIntervalMillis;
+
   @SuppressWarnings("checkstyle:VisibilityModifier")
   protected final Cache<TableIdentifier, Table> tableCache;
 
+  // only set when background refresh is enabled
+  private final LoadingCache<Namespace, List<TableIdentifier>> tableListCache;
+  private final Executor refreshExecutor;
+  private final AtomicLong refreshes = new AtomicLong(0L);
+  private final AtomicLong unchangedRefreshes = new AtomicLong(0L);
+
   private CachingCatalog(Catalog catalog, boolean caseSensitive, long expirationIntervalMillis) {
     this(catalog, caseSensitive, expirationIntervalMillis, Ticker.systemTicker());
   }
@@ -76,14 +117,42 @@ public class CachingCatalog implements Catalog {
   @SuppressWarnings("checkstyle:VisibilityModifier")
   protected CachingCatalog(
       Catalog catalog, boolean caseSensitive, long expirationIntervalMillis, Ticker ticker) {
+    this(
+        catalog,
+        caseSensitive,
+        expirationIntervalMillis,
+        CatalogProperties.CACHE_REFRESH_INTERVAL_MS_OFF,
+        ticker,
+        REFRESH_EXECUTOR);
+  }
+
+  protected CachingCatalog(
+      Catalog catalog,
+      boolean caseSensitive,
+      long expirationIntervalMillis,
+      long refreshIntervalMillis,
+      Ticker ticker,
+      Executor refreshExecutor) {
     Preconditions.checkArgument(
         expirationIntervalMillis != 0,
         "When %s is set to 0, the catalog cache should be disabled. This indicates a bug.",
         CatalogProperties.CACHE_EXPIRATION_INTERVAL_MS);
+    Preconditions.checkArgument(
+        refreshIntervalMillis <= 0
+            || expirationIntervalMillis < 0
+            || refreshIntervalMillis < expirationIntervalMillis,
+        "Invalid %s: %s (must be less than %s: %s)",
+        CatalogProperties.CACHE_REFRESH_INTERVAL_MS,
+        refreshIntervalMillis,
+        CatalogProperties.CACHE_EXPIRATION_INTERVAL_MS,
+        expirationIntervalMillis);
     this.catalog = catalog;
     this.caseSensitive = caseSensitive;
     this.expirationIntervalMillis = expirationIntervalMillis;
+    this.refreshIntervalMillis = refreshIntervalMillis;
+    this.refreshExecutor = refreshExecutor;
     this.tableCache = createTableCache(ticker);
+    this.tableListCache = refreshIntervalMillis > 0 ? createTableListCache(ticker) : null;
   }
 
   /**
@@ -103,21 +172,110 @@ public class CachingCatalog implements Catalog {
     }
   }
 
-  private Cache<TableIdentifier, Table> createTableCache(Ticker ticker) {
-    Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder().softValues();
+  /**
+   * CacheLoader that refreshes cached tables in place, so that metadata tables sharing the same
+   * {@link TableOperations} are refreshed as well.
+   */
+  private class RefreshingTableLoader implements CacheLoader<TableIdentifier, Table> {
+    @Override
+    public Table load(TableIdentifier ident) {
+      return catalog.loadTable(ident);
+    }
+
+    @Override
+    public CompletableFuture<Table> asyncReload(
+        TableIdentifier ident, Table table, Executor executor) {
+      // the cache executor runs removal listeners synchronously, so refreshes use their own
+      return CompletableFuture.supplyAsync(() -> reload(ident, table), refreshExecutor);
+    }
+
+    @Override
+    public Table reload(TableIdentifier ident, Table table) {
+      refreshes.incrementAndGet();
+      TableMetadata current = currentMetadata(table);
+      try {
+        table.refresh();
+      } catch (NoSuchTableException e) {
+        LOG.debug("Removing {} from the table cache because it no longer exists", ident);
+        if (!MetadataTableUtils.hasMetadataTableName(ident)) {
+          tableCache.invalidateAll(metadataTableIdentifiers(ident));
+        }
+
+        return null;
+      }
+
+      if (current != null && current == currentMetadata(table)) {
+        unchangedRefreshes.incrementAndGet();
+      }
+
+      return table;
+    }
+  }
+
+  /** CacheLoader for table listings that reloads them using the refresh executor. */
+  private class TableListLoader implements CacheLoader<Namespace, List<TableIdentifier>> {
+    @Override
+    public List<TableIdentifier> load(Namespace namespace) {
+      return ImmutableList.copyOf(catalog.listTables(namespace));
+    }
+
+    @Override
+    public CompletableFuture<List<TableIdentifier>> asyncReload(
+        Namespace namespace, List<TableIdentifier> tables, Executor executor) {
+      return CompletableFuture.supplyAsync(() -> load(namespace), refreshExecutor);
+    }
+  }
+
+  private static TableMetadata currentMetadata(Table table) {
+    if (table instanceof HasTableOperations) {
+      return ((HasTableOperations) table).operations().current();
+    } else if (table instanceof BaseMetadataTable) {
+      return ((BaseMetadataTable) table).table().operations().current();
+    }
+
+    return null;
+  }
+
+  private Caffeine<Object, Object> newCacheBuilder(Ticker ticker) {
+    Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder().recordStats().ticker(ticker);
 
     if (expirationIntervalMillis > 0) {
-      return cacheBuilder
-          .removalListener(new MetadataTableInvalidatingRemovalListener())
+      cacheBuilder
           .executor(Runnable::run) // Makes the callbacks to removal listener synchronous
-          .expireAfterAccess(Duration.ofMillis(expirationIntervalMillis))
-          .ticker(ticker)
-          .build();
+          .expireAfterAccess(Duration.ofMillis(expirationIntervalMillis));
+    }
+
+    if (refreshIntervalMillis > 0) {
+      cacheBuilder.refreshAfterWrite(Duration.ofMillis(refreshIntervalMillis));
+    }
+
+    return cacheBuilder;
+  }
+
+  private Cache<TableIdentifier, Table> createTableCache(Ticker ticker) {
+    Caffeine<Object, Object> cacheBuilder = newCacheBuilder(ticker).softValues();
+
+    if (expirationIntervalMillis > 0) {
+      Caffeine<TableIdentifier, Table> expiringCacheBuilder =
+          cacheBuilder.removalListener(new MetadataTableInvalidatingRemovalListener());
+      if (refreshIntervalMillis > 0) {
+        return expiringCacheBuilder.build(new RefreshingTableLoader());
+      }
+
+      return expiringCacheBuilder.build();
+    }
+
+    if (refreshIntervalMillis > 0) {
+      return cacheBuilder.build(new RefreshingTableLoader());
     }
 
     return cacheBuilder.build();
   }
 
+  private LoadingCache<Namespace, List<TableIdentifier>> createTableListCache(Ticker ticker) {
+    return newCacheBuilder(ticker).build(new TableListLoader());
+  }
+
   private TableIdentifier canonicalizeIdentifier(TableIdentifier tableIdentifier) {
     if (caseSensitive) {
       return tableIdentifier;
@@ -126,6 +284,37 @@ public class CachingCatalog implements Catalog {
     }
   }
 
+  private Namespace canonicalizeNamespace(Namespace namespace) {
+    if (caseSensitive) {
+      return namespace;
+    } else {
+      return Namespace.of(
+          Arrays.stream(namespace.levels())
+              .map(level -> level.toLowerCase(Locale.ROOT))
+              .toArray(String[]::new));
+    }
+  }
+
+  /** Returns hit, miss, and load statistics for cached tables, including background refreshes. */
+  public CacheStats tableCacheStats() {
+    return tableCache.stats();
+  }
+
+  /** Returns hit, miss, and load statistics for cached table listings. */
+  public CacheStats tableListCacheStats() {
+    return tableListCache != null ? tableListCache.stats() : CacheStats.empty();
+  }
+
+  /** Returns the number of background table refreshes. */
+  public long refreshCount() {
+    return refreshes.get();
+  }
+
+  /** Returns the number of background table refreshes that found the table unchanged. */
+  public long unchangedRefreshCount() {
+    return unchangedRefreshes.get();
+  }
+
   @Override
   public String name() {
     return catalog.name();
@@ -133,7 +322,11 @@ public class CachingCatalog implements Catalog {
 
   @Override
   public List<TableIdentifier> listTables(Namespace namespace) {
-    return catalog.listTables(namespace);
+    if (tableListCache == null) {
+      return catalog.listTables(namespace);
+    }
+
+    return tableListCache.get(canonicalizeNamespace(namespace));
   }
 
   @Override
@@ -173,6 +366,7 @@ public class CachingCatalog implements Catalog {
   public boolean dropTable(TableIdentifier ident, boolean purge) {
     boolean dropped = catalog.dropTable(ident, purge);
     invalidateTable(ident);
+    invalidateTableList(ident.namespace());
     return dropped;
   }
 
@@ -180,6 +374,8 @@ public class CachingCatalog implements Catalog {
   public void renameTable(TableIdentifier from, TableIdentifier to) {
     catalog.renameTable(from, to);
     invalidateTable(from);
+    invalidateTableList(from.namespace());
+    invalidateTableList(to.namespace());
   }
 
   @Override
@@ -194,9 +390,16 @@ public class CachingCatalog implements Catalog {
   public Table registerTable(TableIdentifier identifier, String metadataFileLocation) {
     Table table = catalog.registerTable(identifier, metadataFileLocation);
     invalidateTable(identifier);
+    invalidateTableList(identifier.namespace());
     return table;
   }
 
+  private void invalidateTableList(Namespace namespace) {
+    if (tableListCache != null) {
+      tableListCache.invalidate(canonicalizeNamespace(namespace));
+    }
+  }
+
   private Iterable<TableIdentifier> metadataTableIdentifiers(TableIdentifier ident) {
     ImmutableList.Builder<TableIdentifier> builder = ImmutableList.builder();
 
@@ -268,6 +471,7 @@ public class CachingCatalog implements Catalog {
         throw new AlreadyExistsException("Table already exists: %s", ident);
       }
 
+      invalidateTableList(ident.namespace());
       return table;
     }
 
@@ -279,7 +483,8 @@ public class CachingCatalog implements Catalog {
       // correct and the
       // transaction create will fail. if the transaction commits before another create, then the
       // cache will be empty.
-      return innerBuilder.createTransaction();
+      return CommitCallbackTransaction.addCallback(
+          innerBuilder.createTransaction(), () -> invalidateTableList(ident.namespace()));
     }
 
     @Override
@@ -299,7 +504,11 @@ public class CachingCatalog implements Catalog {
       // committed. when the transaction commits, invalidate the table in the cache if it is
       // present.
       return CommitCallbackTransaction.addCallback(
-          innerBuilder.createOrReplaceTransaction(), () -> invalidateTable(ident));
+          innerBuilder.createOrReplaceTransaction(),
+          () -> {
+            invalidateTable(ident);
+            invalidateTableList(ident.namespace());
+          });
     }
   }
 }
@@ -65,6 +65,20 @@ public class CatalogProperties {
   public static final long CACHE_EXPIRATION_INTERVAL_MS_DEFAULT = TimeUnit.SECONDS.toMillis(30);
   public static final long CACHE_EXPIRATION_INTERVAL_MS_OFF = -1;
 
+  /**
+   * Controls how often cached tables are refreshed in the background.
+   *
+   * <p>When set to a positive value, a cached table that is accessed after this many milliseconds
+   * since it was loaded or last refreshed is refreshed asynchronously, while the cached instance
+   * continues to be returned. Table listings are also cached and refreshed in this mode. The value
+   * must be less than {@link #CACHE_EXPIRATION_INTERVAL_MS} when expiration is enabled. Zero or
+   * negative values turn off background refresh.
+   */
+  public static final String CACHE_REFRESH_INTERVAL_MS = "cache.refresh-interval-ms";
+
+  public static final long CACHE_REFRESH_INTERVAL_MS_OFF = -1;
+  public static final long CACHE_REFRESH_INTERVAL_MS_DEFAULT = CACHE_REFRESH_INTERVAL_MS_OFF;
+
   /**
    * Controls whether to use caching during manifest reads or not.
    *
@@ -119,6 +133,30 @@ public class CatalogProperties {
 
   public static final long IO_MANIFEST_CACHE_MAX_CONTENT_LENGTH_DEFAULT = 8 * 1024 * 1024;
 
+  /**
+   * Class name of the {@link org.apache.iceberg.metrics.MetricsContext} used by FileIO
+   * implementations that report per-operation metrics, for example {@link
+   * org.apache.iceberg.io.DefaultFileIOMetricsContext}.
+   */
+  public static final String IO_METRICS_IMPL = "io.metrics-impl";
+
+  /**
+   * Controls whether {@link org.apache.iceberg.io.DefaultFileIOMetricsContext} exports its metrics
+   * as a JMX MBean.
+   */
+  public static final String IO_METRICS_JMX_ENABLED = "io.metrics.jmx-enabled";
+
+  public static final boolean IO_METRICS_JMX_ENABLED_DEFAULT = false;
+
+  /**
+   * Controls how often {@link org.apache.iceberg.io.DefaultFileIOMetricsContext} logs its metrics.
+   *
+   * <p>Zero or a negative value disables logging.
+   */
+  public static final String IO_METRICS_LOG_INTERVAL_MS = "io.metrics.log-interval-ms";
+
+  public static final long IO_METRICS_LOG_INTERVAL_MS_DEFAULT = 0L;
+
   public static final String URI = "uri";
   public static final String CLIENT_POOL_SIZE = "clients";
   public static final int CLIENT_POOL_SIZE_DEFAULT = 2;
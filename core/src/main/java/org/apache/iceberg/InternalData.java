@@ -20,6 +20,7 @@ package org.apache.iceberg;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.avro.InternalReader;
@@ -163,6 +164,15 @@ public class InternalData {
     /** Set a custom class for in-memory objects at the given field ID. */
     ReadBuilder setCustomType(int fieldId, Class<? extends StructLike> structClass);
 
+    /**
+     * Read only the entries with the given keys from the map with the given field ID.
+     *
+     * <p>This is an optimization hint; formats that cannot skip map entries return all entries.
+     */
+    default ReadBuilder projectMapKeys(int mapFieldId, Set<?> keys) {
+      return this;
+    }
+
     /** Build the configured reader. */
     <D> CloseableIterable<D> build();
   }
@@ -28,6 +28,7 @@ import java.util.Set;
 import java.util.function.Function;
 import org.apache.iceberg.avro.AvroIterable;
 import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.expressions.Binder;
 import org.apache.iceberg.expressions.Evaluator;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
@@ -64,6 +65,14 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
           "upper_bounds",
           "record_count");
 
+  private static final List<Types.NestedField> STATS_MAPS =
+      ImmutableList.of(
+          DataFile.VALUE_COUNTS,
+          DataFile.NULL_VALUE_COUNTS,
+          DataFile.NAN_VALUE_COUNTS,
+          DataFile.LOWER_BOUNDS,
+          DataFile.UPPER_BOUNDS);
+
   protected enum FileType {
     DATA_FILES(GenericDataFile.class),
     DELETE_FILES(GenericDeleteFile.class);
@@ -235,8 +244,13 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
       boolean requireStatsProjection = requireStatsProjection(rowFilter, columns);
       Collection<String> projectColumns =
           requireStatsProjection ? withStatsColumns(columns) : columns;
+      // when stats are read only to evaluate the filter, skip entries for unreferenced columns
+      Set<Integer> statsFieldIds =
+          requireStatsProjection && dropStats(columns) ? filterFieldIds() : null;
       CloseableIterable<ManifestEntry<F>> entries =
-          open(projection(fileSchema, fileProjection, projectColumns, caseSensitive));
+          open(
+              projection(fileSchema, fileProjection, projectColumns, caseSensitive),
+              statsFieldIds);
 
       return CloseableIterable.filter(
           content == FileType.DATA_FILES
@@ -250,7 +264,7 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
                   && inPartitionSet(entry.file()));
     } else {
       CloseableIterable<ManifestEntry<F>> entries =
-          open(projection(fileSchema, fileProjection, columns, caseSensitive));
+          open(projection(fileSchema, fileProjection, columns, caseSensitive), null);
       return onlyLive ? filterLiveEntries(entries) : entries;
     }
   }
@@ -268,7 +282,12 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
         || partitionSet.contains(fileToCheck.specId(), fileToCheck.partition());
   }
 
-  private CloseableIterable<ManifestEntry<F>> open(Schema projection) {
+  private Set<Integer> filterFieldIds() {
+    return Binder.boundReferences(
+        spec.schema().asStruct(), ImmutableList.of(rowFilter), caseSensitive);
+  }
+
+  private CloseableIterable<ManifestEntry<F>> open(Schema projection, Set<Integer> statsFieldIds) {
     FileFormat format = FileFormat.fromFileName(file.location());
     Preconditions.checkArgument(
         format != null, "Unable to determine format of manifest: %s", file.location());
@@ -283,14 +302,21 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
     }
     fields.add(MetadataColumns.ROW_POSITION);
 
-    CloseableIterable<ManifestEntry<F>> reader =
+    InternalData.ReadBuilder builder =
         InternalData.read(format, file)
             .project(ManifestEntry.wrapFileSchema(Types.StructType.of(fields)))
             .setRootType(GenericManifestEntry.class)
             .setCustomType(ManifestEntry.DATA_FILE_ID, content.fileClass())
             .setCustomType(DataFile.PARTITION_ID, PartitionData.class)
-            .reuseContainers()
-            .build();
+            .reuseContainers();
+
+    if (statsFieldIds != null) {
+      for (Types.NestedField statsMap : STATS_MAPS) {
+        builder.projectMapKeys(statsMap.fieldId(), statsFieldIds);
+      }
+    }
+
+    CloseableIterable<ManifestEntry<F>> reader = builder.build();
 
     addCloseable(reader);
 
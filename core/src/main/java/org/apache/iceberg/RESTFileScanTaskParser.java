@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionParser;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.ResidualEvaluator;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.JsonUtil;
+
+/**
+ * Parser for the file scan tasks returned by REST scan planning.
+ *
+ * <p>Unlike {@link FileScanTaskParser}, tasks do not embed the table schema, partition spec, or
+ * delete files. Delete files are sent once per response and tasks refer to them by their position
+ * in the response's delete file list, and specs are looked up by the files' spec IDs.
+ */
+public class RESTFileScanTaskParser {
+  private static final String SPEC_ID = "spec-id";
+  private static final String DATA_FILE = "data-file";
+  private static final String DELETE_FILE_REFERENCES = "delete-file-references";
+  private static final String RESIDUAL = "residual-filter";
+
+  private RESTFileScanTaskParser() {}
+
+  public static void toJson(
+      FileScanTask fileScanTask, List<Integer> deleteFileReferences, JsonGenerator generator)
+      throws IOException {
+    Preconditions.checkArgument(fileScanTask != null, "Invalid file scan task: null");
+    Preconditions.checkArgument(generator != null, "Invalid JSON generator: null");
+
+    generator.writeStartObject();
+
+    generator.writeFieldName(DATA_FILE);
+    ContentFileParser.toJson(fileScanTask.file(), fileScanTask.spec(), generator);
+
+    if (deleteFileReferences != null && !deleteFileReferences.isEmpty()) {
+      JsonUtil.writeIntegerArray(DELETE_FILE_REFERENCES, deleteFileReferences, generator);
+    }
+
+    if (fileScanTask.residual() != null) {
+      generator.writeFieldName(RESIDUAL);
+      ExpressionParser.toJson(fileScanTask.residual(), generator);
+    }
+
+    generator.writeEndObject();
+  }
+
+  public static FileScanTask fromJson(
+      JsonNode jsonNode,
+      List<DeleteFile> deleteFiles,
+      Map<Integer, PartitionSpec> specsById,
+      boolean caseSensitive) {
+    Preconditions.checkArgument(jsonNode != null, "Invalid JSON node for file scan task: null");
+    Preconditions.checkArgument(
+        jsonNode.isObject(), "Invalid JSON node for file scan task: non-object (%s)", jsonNode);
+
+    JsonNode dataFileNode = JsonUtil.get(DATA_FILE, jsonNode);
+    PartitionSpec spec = spec(dataFileNode, specsById);
+    DataFile dataFile = (DataFile) ContentFileParser.fromJson(dataFileNode, spec);
+
+    DeleteFile[] deletes = new DeleteFile[0];
+    if (jsonNode.has(DELETE_FILE_REFERENCES)) {
+      List<Integer> references = JsonUtil.getIntegerList(DELETE_FILE_REFERENCES, jsonNode);
+      deletes = new DeleteFile[references.size()];
+      for (int pos = 0; pos < references.size(); pos += 1) {
+        int index = references.get(pos);
+        Preconditions.checkArgument(
+            deleteFiles != null && index >= 0 && index < deleteFiles.size(),
+            "Invalid delete file reference: %s",
+            index);
+        deletes[pos] = deleteFiles.get(index);
+      }
+    }
+
+    Expression residual = Expressions.alwaysTrue();
+    if (jsonNode.has(RESIDUAL)) {
+      residual = ExpressionParser.fromJson(jsonNode.get(RESIDUAL));
+    }
+
+    return new BaseFileScanTask(
+        dataFile,
+        deletes,
+        SchemaParser.toJson(spec.schema()),
+        PartitionSpecParser.toJson(spec),
+        ResidualEvaluator.of(spec, residual, caseSensitive));
+  }
+
+  public static void toJson(DeleteFile deleteFile, PartitionSpec spec, JsonGenerator generator)
+      throws IOException {
+    ContentFileParser.toJson(deleteFile, spec, generator);
+  }
+
+  public static DeleteFile deleteFileFromJson(
+      JsonNode jsonNode, Map<Integer, PartitionSpec> specsById) {
+    return (DeleteFile) ContentFileParser.fromJson(jsonNode, spec(jsonNode, specsById));
+  }
+
+  private static PartitionSpec spec(JsonNode contentFileNode, Map<Integer, PartitionSpec> specs) {
+    Preconditions.checkArgument(specs != null, "Invalid partition specs: null");
+    int specId = JsonUtil.getInt(SPEC_ID, contentFileNode);
+    PartitionSpec spec = specs.get(specId);
+    Preconditions.checkArgument(spec != null, "Cannot find partition spec: %s", specId);
+    return spec;
+  }
+}
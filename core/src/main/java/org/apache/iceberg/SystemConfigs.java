@@ -19,6 +19,7 @@
 package org.apache.iceberg;
 
 import java.util.function.Function;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +54,29 @@ public class SystemConfigs {
           Math.max(2, 4 * Runtime.getRuntime().availableProcessors()),
           Integer::parseUnsignedInt);
 
+  /**
+   * Sets the size of the prefetch worker pool. This limits the number of threads used to read data
+   * ahead of readers that prefetch, such as Parquet row groups. These threads mostly wait on I/O.
+   */
+  public static final ConfigEntry<Integer> PREFETCH_WORKER_THREAD_POOL_SIZE =
+      new ConfigEntry<>(
+          "iceberg.worker.prefetch-num-threads",
+          "ICEBERG_WORKER_PREFETCH_NUM_THREADS",
+          Math.max(2, 4 * Runtime.getRuntime().availableProcessors()),
+          Integer::parseUnsignedInt);
+
+  /**
+   * Sets the size of the compression worker pool. This limits the number of threads used to
+   * compress data for writers that compress in parallel, such as Parquet pages. These threads are
+   * CPU-bound.
+   */
+  public static final ConfigEntry<Integer> COMPRESSION_WORKER_THREAD_POOL_SIZE =
+      new ConfigEntry<>(
+          "iceberg.worker.compression-num-threads",
+          "ICEBERG_WORKER_COMPRESSION_NUM_THREADS",
+          Math.max(2, Runtime.getRuntime().availableProcessors()),
+          Integer::parseUnsignedInt);
+
   /** Whether to use the shared worker pool when planning table scans. */
   public static final ConfigEntry<Boolean> SCAN_THREAD_POOL_ENABLED =
       new ConfigEntry<>(
@@ -61,6 +85,24 @@ public class SystemConfigs {
           true,
           Boolean::parseBoolean);
 
+  /**
+   * Sets the number of AES GCM stream blocks that a single encrypted stream decrypts or encrypts
+   * concurrently. Reads decrypt blocks ahead of the reader once access is sequential and writes
+   * encrypt full blocks while the next block is filled. The default, 1, processes blocks on the
+   * calling thread.
+   */
+  public static final ConfigEntry<Integer> GCM_STREAM_PARALLELISM =
+      new ConfigEntry<>(
+          "iceberg.encryption.gcm-stream.parallelism",
+          "ICEBERG_ENCRYPTION_GCM_STREAM_PARALLELISM",
+          1,
+          value -> {
+            int parallelism = Integer.parseInt(value);
+            Preconditions.checkArgument(
+                parallelism > 0, "Invalid GCM stream parallelism: %s (must be > 0)", parallelism);
+            return parallelism;
+          });
+
   /**
    * Maximum number of distinct {@link org.apache.iceberg.io.FileIO} that is allowed to have
    * associated {@link org.apache.iceberg.io.ContentCache} in memory at a time.
@@ -72,6 +114,36 @@ public class SystemConfigs {
           8,
           Integer::parseUnsignedInt);
 
+  /**
+   * Whether Avro struct readers decode primitive and optional primitive fields inline, instead of
+   * calling the reader of each field. This speeds up reading manifests and Avro data files.
+   */
+  public static final ConfigEntry<Boolean> AVRO_SPECIALIZED_READERS_ENABLED =
+      new ConfigEntry<>(
+          "iceberg.avro.specialized-readers.enabled",
+          "ICEBERG_AVRO_SPECIALIZED_READERS_ENABLED",
+          true,
+          Boolean::parseBoolean);
+
+  /**
+   * Whether Parquet readers use the process-wide footer cache by default, so that readers of
+   * different splits of the same file parse its footer once.
+   */
+  public static final ConfigEntry<Boolean> PARQUET_FOOTER_CACHE_ENABLED =
+      new ConfigEntry<>(
+          "iceberg.parquet.footer-cache.enabled",
+          "ICEBERG_PARQUET_FOOTER_CACHE_ENABLED",
+          false,
+          Boolean::parseBoolean);
+
+  /** Sets the maximum serialized size in bytes of the footers held by the Parquet footer cache. */
+  public static final ConfigEntry<Long> PARQUET_FOOTER_CACHE_MAX_BYTES =
+      new ConfigEntry<>(
+          "iceberg.parquet.footer-cache.max-bytes",
+          "ICEBERG_PARQUET_FOOTER_CACHE_MAX_BYTES",
+          64L * 1024 * 1024, // 64 MB
+          Long::parseUnsignedLong);
+
   /**
    * @deprecated will be removed in 2.0.0; use name mapping instead
    */
@@ -19,7 +19,11 @@
 package org.apache.iceberg;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -297,8 +301,10 @@ public class TableMetadataParser {
   public static TableMetadata read(FileIO io, InputFile file) {
     Codec codec = Codec.fromFileName(file.location());
     try (InputStream is =
-        codec == Codec.GZIP ? new GZIPInputStream(file.newStream()) : file.newStream()) {
-      return fromJson(file, JsonUtil.mapper().readValue(is, JsonNode.class));
+            codec == Codec.GZIP ? new GZIPInputStream(file.newStream()) : file.newStream();
+        JsonParser parser = JsonUtil.mapper().createParser(is)) {
+      parser.nextToken();
+      return fromJson(file.location(), parser);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to read file: %s", file.location());
     }
@@ -335,8 +341,49 @@ public class TableMetadataParser {
     return fromJson((String) null, node);
   }
 
-  @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:MethodLength"})
   public static TableMetadata fromJson(String metadataLocation, JsonNode node) {
+    return fromJson(metadataLocation, node, null);
+  }
+
+  /**
+   * Read TableMetadata from a JSON parser that is positioned at the start of a metadata object.
+   *
+   * <p>Snapshots are parsed one at a time as they are read, so the snapshot list is never held in
+   * memory as a JSON tree. The parser must have a codec, like parsers created by {@link
+   * JsonUtil#mapper()}.
+   *
+   * @param metadataLocation metadata location for the returned {@link TableMetadata}
+   * @param parser a JSON parser positioned at the start of a metadata object
+   * @return a TableMetadata object
+   */
+  public static TableMetadata fromJson(String metadataLocation, JsonParser parser)
+      throws IOException {
+    Preconditions.checkArgument(
+        parser.currentToken() == JsonToken.START_OBJECT,
+        "Cannot parse metadata from a non-object: %s",
+        parser.currentToken());
+
+    ObjectNode node = JsonNodeFactory.instance.objectNode();
+    List<Snapshot> snapshots = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      if (parser.nextToken() == JsonToken.START_ARRAY && SNAPSHOTS.equals(field)) {
+        snapshots = Lists.newArrayList();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          JsonNode snapshotNode = parser.readValueAsTree();
+          snapshots.add(SnapshotParser.fromJson(snapshotNode));
+        }
+      } else {
+        node.set(field, parser.readValueAsTree());
+      }
+    }
+
+    return fromJson(metadataLocation, node, snapshots);
+  }
+
+  @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:MethodLength"})
+  private static TableMetadata fromJson(
+      String metadataLocation, JsonNode node, List<Snapshot> parsedSnapshots) {
     Preconditions.checkArgument(
         node.isObject(), "Cannot parse metadata from a non-object: %s", node);
 
@@ -502,7 +549,9 @@ public class TableMetadataParser {
     }
 
     List<Snapshot> snapshots;
-    if (node.has(SNAPSHOTS)) {
+    if (parsedSnapshots != null) {
+      snapshots = parsedSnapshots;
+    } else if (node.has(SNAPSHOTS)) {
       JsonNode snapshotArray = JsonUtil.get(SNAPSHOTS, node);
       Preconditions.checkArgument(
           snapshotArray.isArray(), "Cannot parse snapshots from non-array: %s", snapshotArray);
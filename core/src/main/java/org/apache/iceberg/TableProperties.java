@@ -151,6 +151,13 @@ public class TableProperties {
       "write.delete.parquet.compression-level";
   public static final String PARQUET_COMPRESSION_LEVEL_DEFAULT = null;
 
+  public static final String PARQUET_COMPRESSION_THREADS = "write.parquet.compression-threads";
+  public static final int PARQUET_COMPRESSION_THREADS_DEFAULT = 1;
+
+  public static final String PARQUET_COMPRESSION_BUFFER_BYTES =
+      "write.parquet.compression-buffer-bytes";
+  public static final long PARQUET_COMPRESSION_BUFFER_BYTES_DEFAULT = 64 * 1024 * 1024; // 64 MB
+
   public static final String PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT =
       "write.parquet.row-group-check-min-record-count";
   public static final String DELETE_PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT =
@@ -391,4 +398,10 @@ public class TableProperties {
   public static final int ENCRYPTION_DEK_LENGTH_DEFAULT = 16;
 
   public static final int ENCRYPTION_AAD_LENGTH_DEFAULT = 16;
+
+  public static final String ENCRYPTION_KEY_CACHE_TTL_MS = "encryption.key-cache.ttl-ms";
+  public static final long ENCRYPTION_KEY_CACHE_TTL_MS_DEFAULT = 60 * 60 * 1000; // 1 hour
+
+  public static final String ENCRYPTION_KEY_CACHE_MAX_ENTRIES = "encryption.key-cache.max-entries";
+  public static final int ENCRYPTION_KEY_CACHE_MAX_ENTRIES_DEFAULT = 10_000;
 }
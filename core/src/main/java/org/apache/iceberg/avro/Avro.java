@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -633,6 +634,7 @@ public class Avro {
     private final InputFile file;
     private final Map<String, String> renames = Maps.newLinkedHashMap();
     private final Map<Integer, Class<? extends StructLike>> typeMap = Maps.newHashMap();
+    private final Map<Integer, Set<?>> mapKeysById = Maps.newHashMap();
     private Class<? extends StructLike> rootType = null;
     private ClassLoader loader = Thread.currentThread().getContextClassLoader();
     private NameMapping nameMapping;
@@ -733,6 +735,12 @@ public class Avro {
       return this;
     }
 
+    @Override
+    public ReadBuilder projectMapKeys(int mapFieldId, Set<?> keys) {
+      mapKeysById.put(mapFieldId, keys);
+      return this;
+    }
+
     public ReadBuilder withNameMapping(NameMapping newNameMapping) {
       this.nameMapping = newNameMapping;
       return this;
@@ -774,6 +782,10 @@ public class Avro {
         ((SupportsCustomTypes) reader).setCustomTypes(rootType, typeMap);
       }
 
+      if (reader instanceof SupportsMapKeyProjection && !mapKeysById.isEmpty()) {
+        ((SupportsMapKeyProjection) reader).setMapKeyProjection(mapKeysById);
+      }
+
       return new AvroIterable<>(
           file, new NameMappingDatumReader<>(nameMapping, reader), start, length, reuseContainers);
     }
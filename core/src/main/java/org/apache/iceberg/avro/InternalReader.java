@@ -21,6 +21,7 @@ package org.apache.iceberg.avro;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 import org.apache.avro.LogicalType;
 import org.apache.avro.LogicalTypes;
@@ -42,12 +43,14 @@ import org.apache.iceberg.util.Pair;
  *
  * @param <T> Java type returned by the reader
  */
-public class InternalReader<T> implements DatumReader<T>, SupportsRowPosition, SupportsCustomTypes {
+public class InternalReader<T>
+    implements DatumReader<T>, SupportsRowPosition, SupportsCustomTypes, SupportsMapKeyProjection {
   private static final int ROOT_ID = -1;
 
   private final Types.StructType expectedType;
   private final Map<Integer, Class<? extends StructLike>> typeMap = Maps.newHashMap();
   private final Map<Integer, Object> idToConstant = ImmutableMap.of();
+  private final Map<Integer, Set<?>> mapKeysById = Maps.newHashMap();
   private Schema fileSchema = null;
   private ValueReader<T> reader = null;
 
@@ -95,6 +98,11 @@ public class InternalReader<T> implements DatumReader<T>, SupportsRowPosition, S
     return this;
   }
 
+  @Override
+  public void setMapKeyProjection(Map<Integer, Set<?>> keysByMapId) {
+    mapKeysById.putAll(keysByMapId);
+  }
+
   @Override
   public void setRowPositionSupplier(Supplier<Long> posSupplier) {
     if (reader instanceof SupportsRowPosition) {
@@ -146,6 +154,11 @@ public class InternalReader<T> implements DatumReader<T>, SupportsRowPosition, S
         Schema map,
         ValueReader<?> keyReader,
         ValueReader<?> valueReader) {
+      Set<?> projectedKeys = partner != null ? mapKeysById.get(partner.first()) : null;
+      if (projectedKeys != null) {
+        return ValueReaders.arrayMap(keyReader, valueReader, projectedKeys);
+      }
+
       return ValueReaders.arrayMap(keyReader, valueReader);
     }
 
@@ -32,6 +32,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -42,6 +43,7 @@ import org.apache.avro.io.Decoder;
 import org.apache.avro.io.ResolvingDecoder;
 import org.apache.avro.util.Utf8;
 import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.SystemConfigs;
 import org.apache.iceberg.common.DynConstructors;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
@@ -162,7 +164,16 @@ public class ValueReaders {
 
   public static <K, V> ValueReader<Map<K, V>> arrayMap(
       ValueReader<K> keyReader, ValueReader<V> valueReader) {
-    return new ArrayMapReader<>(keyReader, valueReader);
+    return new ArrayMapReader<>(keyReader, valueReader, null);
+  }
+
+  /**
+   * Returns a reader for maps stored as arrays of key/value records that keeps only the entries
+   * with keys in {@code projectedKeys}; values of other entries are skipped without decoding.
+   */
+  public static <K, V> ValueReader<Map<K, V>> arrayMap(
+      ValueReader<K> keyReader, ValueReader<V> valueReader, Set<?> projectedKeys) {
+    return new ArrayMapReader<>(keyReader, valueReader, projectedKeys);
   }
 
   public static <K, V> ValueReader<Map<K, V>> map(
@@ -849,11 +860,14 @@ public class ValueReaders {
   private static class ArrayMapReader<K, V> implements ValueReader<Map<K, V>> {
     private final ValueReader<K> keyReader;
     private final ValueReader<V> valueReader;
+    private final Set<?> projectedKeys;
     private Map lastMap = null;
 
-    private ArrayMapReader(ValueReader<K> keyReader, ValueReader<V> valueReader) {
+    private ArrayMapReader(
+        ValueReader<K> keyReader, ValueReader<V> valueReader, Set<?> projectedKeys) {
       this.keyReader = keyReader;
       this.valueReader = valueReader;
+      this.projectedKeys = projectedKeys;
     }
 
     @Override
@@ -879,17 +893,14 @@ public class ValueReaders {
 
       while (chunkLength > 0) {
         for (long i = 0; i < chunkLength; i += 1) {
-          K key;
-          V value;
-          if (kvIter.hasNext()) {
-            Map.Entry<?, ?> last = kvIter.next();
-            key = keyReader.read(decoder, last.getKey());
-            value = valueReader.read(decoder, last.getValue());
+          Map.Entry<?, ?> last = kvIter.hasNext() ? kvIter.next() : null;
+          K key = keyReader.read(decoder, last != null ? last.getKey() : null);
+          if (projectedKeys == null || projectedKeys.contains(key)) {
+            V value = valueReader.read(decoder, last != null ? last.getValue() : null);
+            resultMap.put(key, value);
           } else {
-            key = keyReader.read(decoder, null);
-            value = valueReader.read(decoder, null);
+            valueReader.skip(decoder);
           }
-          resultMap.put(key, value);
         }
 
         chunkLength = decoder.arrayNext();
@@ -995,14 +1006,83 @@ public class ValueReaders {
     }
   }
 
+  /**
+   * A struct reader that follows a read plan.
+   *
+   * <p>The plan is specialized for the file schema when the reader is created: fields that are
+   * read with one of the primitive readers of this class, directly or as the non-null branch of an
+   * optional union, are decoded inline with a switch on the field's kind. This avoids a virtual
+   * call per field and per union through the reader tree, which the JIT cannot inline because the
+   * call sites see many reader classes. Other fields are read with their {@link ValueReader}.
+   *
+   * @see SystemConfigs#AVRO_SPECIALIZED_READERS_ENABLED
+   */
   public abstract static class PlannedStructReader<S>
       implements ValueReader<S>, SupportsRowPosition {
+    private static final int READER = 0;
+    private static final int BOOLEAN = 1;
+    private static final int INT = 2;
+    private static final int INT_AS_LONG = 3;
+    private static final int LONG = 4;
+    private static final int FLOAT = 5;
+    private static final int FLOAT_AS_DOUBLE = 6;
+    private static final int DOUBLE = 7;
+    private static final int STRING = 8;
+
     private final ValueReader<?>[] readers;
     private final Integer[] positions;
+    private final int[] kinds;
+    private final int[] nullIndexes;
 
     protected PlannedStructReader(List<Pair<Integer, ValueReader<?>>> readPlan) {
       this.readers = readPlan.stream().map(Pair::second).toArray(ValueReader[]::new);
       this.positions = readPlan.stream().map(Pair::first).toArray(Integer[]::new);
+      this.kinds = new int[readers.length];
+      this.nullIndexes = new int[readers.length];
+      boolean specialize = SystemConfigs.AVRO_SPECIALIZED_READERS_ENABLED.value();
+      for (int i = 0; i < readers.length; i += 1) {
+        nullIndexes[i] = -1;
+        if (specialize) {
+          specialize(i, readers[i]);
+        }
+      }
+    }
+
+    private void specialize(int index, ValueReader<?> reader) {
+      if (reader instanceof UnionReader) {
+        ValueReader<?>[] options = ((UnionReader) reader).readers;
+        if (options.length == 2 && options[0] == NullReader.INSTANCE) {
+          kinds[index] = kind(options[1]);
+          nullIndexes[index] = kinds[index] != READER ? 0 : -1;
+        } else if (options.length == 2 && options[1] == NullReader.INSTANCE) {
+          kinds[index] = kind(options[0]);
+          nullIndexes[index] = kinds[index] != READER ? 1 : -1;
+        }
+      } else {
+        kinds[index] = kind(reader);
+      }
+    }
+
+    private static int kind(ValueReader<?> reader) {
+      if (reader == BooleanReader.INSTANCE) {
+        return BOOLEAN;
+      } else if (reader == IntegerReader.INSTANCE) {
+        return INT;
+      } else if (reader == IntegerAsLongReader.INSTANCE) {
+        return INT_AS_LONG;
+      } else if (reader == LongReader.INSTANCE) {
+        return LONG;
+      } else if (reader == FloatReader.INSTANCE) {
+        return FLOAT;
+      } else if (reader == FloatAsDoubleReader.INSTANCE) {
+        return FLOAT_AS_DOUBLE;
+      } else if (reader == DoubleReader.INSTANCE) {
+        return DOUBLE;
+      } else if (reader == StringReader.INSTANCE) {
+        return STRING;
+      }
+
+      return READER;
     }
 
     @Override
@@ -1025,7 +1105,9 @@ public class ValueReaders {
       S struct = reuseOrCreate(reuse);
 
       for (int i = 0; i < readers.length; i += 1) {
-        if (positions[i] != null) {
+        if (kinds[i] != READER) {
+          readInline(decoder, struct, i);
+        } else if (positions[i] != null) {
           Object reusedValue = get(struct, positions[i]);
           set(struct, positions[i], readers[i].read(decoder, reusedValue));
         } else {
@@ -1037,6 +1119,71 @@ public class ValueReaders {
       return struct;
     }
 
+    private void readInline(Decoder decoder, S struct, int index) throws IOException {
+      Integer pos = positions[index];
+      int nullIndex = nullIndexes[index];
+      if (nullIndex >= 0 && decoder.readIndex() == nullIndex) {
+        decoder.readNull();
+        if (pos != null) {
+          set(struct, pos, null);
+        }
+      } else if (pos != null) {
+        set(struct, pos, readPrimitive(decoder, kinds[index]));
+      } else {
+        skipPrimitive(decoder, kinds[index]);
+      }
+    }
+
+    private static Object readPrimitive(Decoder decoder, int kind) throws IOException {
+      switch (kind) {
+        case BOOLEAN:
+          return decoder.readBoolean();
+        case INT:
+          return decoder.readInt();
+        case INT_AS_LONG:
+          return (long) decoder.readInt();
+        case LONG:
+          return decoder.readLong();
+        case FLOAT:
+          return decoder.readFloat();
+        case FLOAT_AS_DOUBLE:
+          return (double) decoder.readFloat();
+        case DOUBLE:
+          return decoder.readDouble();
+        case STRING:
+          return decoder.readString();
+        default:
+          throw new IllegalStateException("Invalid primitive kind: " + kind);
+      }
+    }
+
+    private static void skipPrimitive(Decoder decoder, int kind) throws IOException {
+      switch (kind) {
+        case BOOLEAN:
+          decoder.readBoolean();
+          break;
+        case INT:
+        case INT_AS_LONG:
+          decoder.readInt();
+          break;
+        case LONG:
+          decoder.readLong();
+          break;
+        case FLOAT:
+        case FLOAT_AS_DOUBLE:
+          decoder.skipFixed(4);
+          break;
+        case DOUBLE:
+          decoder.skipFixed(8);
+          break;
+        case STRING:
+          decoder.skipString();
+          break;
+        default:
+          throw new IllegalStateException("Invalid primitive kind: " + kind);
+      }
+    }
+
     @Override
     public void skip(Decoder decoder) throws IOException {
       for (int i = 0; i < readers.length; i += 1) {
@@ -26,12 +26,27 @@ public class AesGcmInputFile implements InputFile {
   private final InputFile sourceFile;
   private final byte[] dataKey;
   private final byte[] fileAADPrefix;
+  private final int parallelism;
   private long plaintextLength;
 
   public AesGcmInputFile(InputFile sourceFile, byte[] dataKey, byte[] fileAADPrefix) {
+    this(sourceFile, dataKey, fileAADPrefix, AesGcmStreams.defaultParallelism());
+  }
+
+  /**
+   * @param sourceFile the encrypted file
+   * @param dataKey the data encryption key
+   * @param fileAADPrefix the AAD prefix of the file
+   * @param parallelism the number of blocks each stream decrypts concurrently in sequential reads
+   */
+  public AesGcmInputFile(
+      InputFile sourceFile, byte[] dataKey, byte[] fileAADPrefix, int parallelism) {
+    Preconditions.checkArgument(
+        parallelism > 0, "Invalid parallelism: %s (must be > 0)", parallelism);
     this.sourceFile = sourceFile;
     this.dataKey = dataKey;
     this.fileAADPrefix = fileAADPrefix;
+    this.parallelism = parallelism;
     this.plaintextLength = -1;
   }
 
@@ -52,7 +67,8 @@ public class AesGcmInputFile implements InputFile {
         ciphertextLength >= Ciphers.MIN_STREAM_LENGTH,
         "Invalid encrypted stream: %d is shorter than the minimum possible stream length",
         ciphertextLength);
-    return new AesGcmInputStream(sourceFile.newStream(), ciphertextLength, dataKey, fileAADPrefix);
+    return new AesGcmInputStream(
+        sourceFile.newStream(), ciphertextLength, dataKey, fileAADPrefix, parallelism);
   }
 
   @Override
@@ -20,32 +20,73 @@ package org.apache.iceberg.encryption;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 import org.apache.iceberg.io.IOUtil;
+import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 
-public class AesGcmInputStream extends SeekableInputStream {
+/**
+ * Decrypts an AES GCM stream.
+ *
+ * <p>Each block of the stream is authenticated independently, so when parallelism is greater than
+ * 1 and the stream is read sequentially, the following blocks are read and decrypted in the
+ * background while the current block is consumed. Reads from the source stream stay in block order
+ * and decryption of up to {@code parallelism} blocks runs concurrently. Random access decrypts
+ * blocks on the calling thread.
+ */
+public class AesGcmInputStream extends SeekableInputStream implements RangeReadable {
   private final SeekableInputStream sourceStream;
+  private final byte[] aesKey;
   private final byte[] fileAADPrefix;
   private final Ciphers.AesGcmDecryptor decryptor;
   private final byte[] cipherBlockBuffer;
-  private final byte[] currentPlainBlock;
   private final long numBlocks;
   private final int lastCipherBlockSize;
   private final long plainStreamSize;
   private final byte[] singleByte;
-
+  private final int parallelism;
+  private final ExecutorService workerPool;
+  // decryptors are reused by read-ahead tasks, at most one for each block in flight
+  private final Queue<Ciphers.AesGcmDecryptor> readAheadDecryptors;
+  private final Deque<Block> readAhead;
+  private final Deque<Block> freeBlocks;
+
+  private byte[] currentPlainBlock;
   private long plainStreamPosition;
   private long currentPlainBlockIndex;
   private int currentPlainBlockSize;
 
   AesGcmInputStream(
       SeekableInputStream sourceStream, long sourceLength, byte[] aesKey, byte[] fileAADPrefix) {
+    this(sourceStream, sourceLength, aesKey, fileAADPrefix, AesGcmStreams.defaultParallelism());
+  }
+
+  AesGcmInputStream(
+      SeekableInputStream sourceStream,
+      long sourceLength,
+      byte[] aesKey,
+      byte[] fileAADPrefix,
+      int parallelism) {
+    Preconditions.checkArgument(
+        parallelism > 0, "Invalid parallelism: %s (must be > 0)", parallelism);
     this.sourceStream = sourceStream;
+    this.aesKey = aesKey;
     this.fileAADPrefix = fileAADPrefix;
     this.decryptor = new Ciphers.AesGcmDecryptor(aesKey);
+    this.parallelism = parallelism;
+    this.workerPool = parallelism > 1 ? AesGcmStreams.workerPool() : null;
+    this.readAheadDecryptors = new ConcurrentLinkedQueue<>();
+    this.readAhead = new ArrayDeque<>();
+    this.freeBlocks = new ArrayDeque<>();
     this.cipherBlockBuffer = new byte[Ciphers.CIPHER_BLOCK_SIZE];
     this.currentPlainBlock = new byte[Ciphers.PLAIN_BLOCK_SIZE];
     this.plainStreamPosition = 0;
@@ -190,9 +231,38 @@ public class AesGcmInputStream extends SeekableInputStream {
     return singleByte[0] >= 0 ? singleByte[0] : 256 + singleByte[0];
   }
 
+  @Override
+  public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
+    Preconditions.checkArgument(length >= 0, "Invalid read length: %s", length);
+    if (position < 0) {
+      throw new IOException("Invalid position: " + position);
+    } else if (position + length > plainStreamSize) {
+      throw new EOFException(
+          "Invalid range: " + position + " + " + length + " > stream length, " + plainStreamSize);
+    }
+
+    long originalPosition = plainStreamPosition;
+    try {
+      this.plainStreamPosition = position;
+      IOUtil.readFully(this, buffer, offset, length);
+    } finally {
+      this.plainStreamPosition = originalPosition;
+    }
+  }
+
+  @Override
+  public int readTail(byte[] buffer, int offset, int length) throws IOException {
+    int tailLength = Math.toIntExact(Math.min(length, plainStreamSize));
+    readFully(plainStreamSize - tailLength, buffer, offset, tailLength);
+    return tailLength;
+  }
+
   @Override
   public void close() throws IOException {
-    sourceStream.close();
+    discardReadAhead();
+    synchronized (sourceStream) {
+      sourceStream.close();
+    }
   }
 
   private void decryptBlock(long blockIndex) throws IOException {
@@ -200,23 +270,140 @@ public class AesGcmInputStream extends SeekableInputStream {
       return;
     }
 
-    long blockPositionInStream = blockOffset(blockIndex);
-    if (sourceStream.getPos() != blockPositionInStream) {
-      if (sourceStream.getPos() == 0) {
-        validateHeader();
+    boolean isSequential = blockIndex == currentPlainBlockIndex + 1;
+    Block nextBlock = readAhead.peekFirst();
+    if (nextBlock != null && nextBlock.index == blockIndex) {
+      readAhead.removeFirst();
+      try {
+        AesGcmStreams.await(nextBlock.decrypted);
+      } catch (IOException | RuntimeException e) {
+        discardReadAhead();
+        throw e;
       }
 
-      sourceStream.seek(blockPositionInStream);
+      // swap the decrypted block in and keep the previous buffer for a later block
+      byte[] previousPlainBlock = currentPlainBlock;
+      this.currentPlainBlock = nextBlock.plainBlock;
+      this.currentPlainBlockSize = nextBlock.plainBlockSize;
+      this.currentPlainBlockIndex = blockIndex;
+      nextBlock.plainBlock = previousPlainBlock;
+      freeBlocks.addLast(nextBlock);
+
+    } else {
+      discardReadAhead();
+      int cipherBlockSize = readCipherBlock(blockIndex, cipherBlockBuffer);
+      this.currentPlainBlockSize =
+          decrypt(decryptor, blockIndex, cipherBlockBuffer, cipherBlockSize, currentPlainBlock);
+      this.currentPlainBlockIndex = blockIndex;
+    }
+
+    if (parallelism > 1 && isSequential) {
+      scheduleReadAhead();
+    }
+  }
+
+  /** Reads and decrypts the blocks after the current block in the background. */
+  private void scheduleReadAhead() {
+    long nextIndex =
+        readAhead.isEmpty() ? currentPlainBlockIndex + 1 : readAhead.peekLast().index + 1;
+    while (readAhead.size() < parallelism && nextIndex < numBlocks) {
+      Block block = freeBlocks.isEmpty() ? new Block() : freeBlocks.removeFirst();
+      block.index = nextIndex;
+
+      // chain reads so that the source stream is read in order, but decrypt blocks concurrently
+      CompletableFuture<Void> previousRead =
+          readAhead.isEmpty() ? CompletableFuture.completedFuture(null) : readAhead.peekLast().read;
+      block.read =
+          previousRead.thenRunAsync(
+              () -> block.cipherBlockSize = readCipherBlockUnchecked(block), workerPool);
+      block.decrypted = block.read.thenRunAsync(() -> decryptReadAhead(block), workerPool);
+
+      readAhead.addLast(block);
+      nextIndex += 1;
+    }
+  }
+
+  /**
+   * Drops blocks that are being read ahead.
+   *
+   * <p>Reads and decryptions that have not started are cancelled, so discarded blocks are not read
+   * from the source stream. Tasks that already started may still write to the blocks, so they are
+   * not reused.
+   */
+  private void discardReadAhead() {
+    for (Block block : readAhead) {
+      block.read.cancel(false);
+      block.decrypted.cancel(false);
+    }
+
+    readAhead.clear();
+  }
+
+  private int readCipherBlockUnchecked(Block block) {
+    try {
+      return readCipherBlock(block.index, block.cipherBlock);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void decryptReadAhead(Block block) {
+    Ciphers.AesGcmDecryptor blockDecryptor = readAheadDecryptors.poll();
+    if (blockDecryptor == null) {
+      blockDecryptor = new Ciphers.AesGcmDecryptor(aesKey);
+    }
+
+    try {
+      block.plainBlockSize =
+          decrypt(
+              blockDecryptor,
+              block.index,
+              block.cipherBlock,
+              block.cipherBlockSize,
+              block.plainBlock);
+    } finally {
+      readAheadDecryptors.offer(blockDecryptor);
     }
+  }
+
+  private int readCipherBlock(long blockIndex, byte[] cipherBlock) throws IOException {
+    // the source stream is shared with read-ahead tasks
+    synchronized (sourceStream) {
+      long blockPositionInStream = blockOffset(blockIndex);
+      if (sourceStream.getPos() != blockPositionInStream) {
+        if (sourceStream.getPos() == 0) {
+          validateHeader();
+        }
 
-    boolean isLastBlock = blockIndex == numBlocks - 1;
-    int cipherBlockSize = isLastBlock ? lastCipherBlockSize : Ciphers.CIPHER_BLOCK_SIZE;
-    IOUtil.readFully(sourceStream, cipherBlockBuffer, 0, cipherBlockSize);
+        sourceStream.seek(blockPositionInStream);
+      }
 
+      boolean isLastBlock = blockIndex == numBlocks - 1;
+      int cipherBlockSize = isLastBlock ? lastCipherBlockSize : Ciphers.CIPHER_BLOCK_SIZE;
+      IOUtil.readFully(sourceStream, cipherBlock, 0, cipherBlockSize);
+      return cipherBlockSize;
+    }
+  }
+
+  private int decrypt(
+      Ciphers.AesGcmDecryptor blockDecryptor,
+      long blockIndex,
+      byte[] cipherBlock,
+      int cipherBlockSize,
+      byte[] plainBlock) {
     byte[] blockAAD = Ciphers.streamBlockAAD(fileAADPrefix, Math.toIntExact(blockIndex));
-    decryptor.decrypt(cipherBlockBuffer, 0, cipherBlockSize, currentPlainBlock, 0, blockAAD);
-    this.currentPlainBlockSize = cipherBlockSize - Ciphers.NONCE_LENGTH - Ciphers.GCM_TAG_LENGTH;
-    this.currentPlainBlockIndex = blockIndex;
+    blockDecryptor.decrypt(cipherBlock, 0, cipherBlockSize, plainBlock, 0, blockAAD);
+    return cipherBlockSize - Ciphers.NONCE_LENGTH - Ciphers.GCM_TAG_LENGTH;
+  }
+
+  private static class Block {
+    private final byte[] cipherBlock = new byte[Ciphers.CIPHER_BLOCK_SIZE];
+    private byte[] plainBlock = new byte[Ciphers.PLAIN_BLOCK_SIZE];
+    private long index;
+    private int cipherBlockSize;
+    private int plainBlockSize;
+    private CompletableFuture<Void> read;
+    private CompletableFuture<Void> decrypted;
   }
 
   private static long blockIndex(long plainPosition) {
@@ -21,26 +21,43 @@ package org.apache.iceberg.encryption;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.io.PositionOutputStream;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 
 public class AesGcmOutputFile implements OutputFile {
   private final OutputFile targetFile;
   private final byte[] dataKey;
   private final byte[] fileAADPrefix;
+  private final int parallelism;
 
   public AesGcmOutputFile(OutputFile targetFile, byte[] dataKey, byte[] fileAADPrefix) {
+    this(targetFile, dataKey, fileAADPrefix, AesGcmStreams.defaultParallelism());
+  }
+
+  /**
+   * @param targetFile the file to write encrypted data to
+   * @param dataKey the data encryption key
+   * @param fileAADPrefix the AAD prefix of the file
+   * @param parallelism the number of blocks each stream encrypts concurrently
+   */
+  public AesGcmOutputFile(
+      OutputFile targetFile, byte[] dataKey, byte[] fileAADPrefix, int parallelism) {
+    Preconditions.checkArgument(
+        parallelism > 0, "Invalid parallelism: %s (must be > 0)", parallelism);
     this.targetFile = targetFile;
     this.dataKey = dataKey;
     this.fileAADPrefix = fileAADPrefix;
+    this.parallelism = parallelism;
   }
 
   @Override
   public PositionOutputStream create() {
-    return new AesGcmOutputStream(targetFile.create(), dataKey, fileAADPrefix);
+    return new AesGcmOutputStream(targetFile.create(), dataKey, fileAADPrefix, parallelism);
   }
 
   @Override
   public PositionOutputStream createOrOverwrite() {
-    return new AesGcmOutputStream(targetFile.createOrOverwrite(), dataKey, fileAADPrefix);
+    return new AesGcmOutputStream(
+        targetFile.createOrOverwrite(), dataKey, fileAADPrefix, parallelism);
   }
 
   @Override
@@ -50,6 +67,6 @@ public class AesGcmOutputFile implements OutputFile {
 
   @Override
   public InputFile toInputFile() {
-    return new AesGcmInputFile(targetFile.toInputFile(), dataKey, fileAADPrefix);
+    return new AesGcmInputFile(targetFile.toInputFile(), dataKey, fileAADPrefix, parallelism);
   }
 }
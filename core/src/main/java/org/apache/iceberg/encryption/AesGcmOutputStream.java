@@ -21,9 +21,22 @@ package org.apache.iceberg.encryption;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 import org.apache.iceberg.io.PositionOutputStream;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 
+/**
+ * Encrypts an AES GCM stream.
+ *
+ * <p>When parallelism is greater than 1, full blocks are encrypted in the background while the next
+ * block is filled, with up to {@code parallelism} blocks encrypted concurrently. Encrypted blocks
+ * are written to the target stream in order by the calling thread.
+ */
 public class AesGcmOutputStream extends PositionOutputStream {
 
   private static final byte[] HEADER_BYTES =
@@ -35,22 +48,44 @@ public class AesGcmOutputStream extends PositionOutputStream {
 
   private final Ciphers.AesGcmEncryptor gcmEncryptor;
   private final PositionOutputStream targetStream;
+  private final byte[] aesKey;
   private final byte[] fileAadPrefix;
   private final byte[] singleByte;
-  private final byte[] plainBlock;
   private final byte[] cipherBlock;
+  private final int parallelism;
+  private final ExecutorService workerPool;
+  // encryptors are reused by encryption tasks, at most one for each block in flight
+  private final Queue<Ciphers.AesGcmEncryptor> blockEncryptors;
+  private final Deque<Block> pendingBlocks;
+  private final Deque<Block> freeBlocks;
+
+  private byte[] plainBlock;
 
   private int positionInPlainBlock;
   private int currentBlockIndex;
   private boolean isHeaderWritten;
   private boolean lastBlockWritten;
   private boolean isClosed;
+  private boolean isTargetClosed;
   private long finalPosition;
 
   AesGcmOutputStream(PositionOutputStream targetStream, byte[] aesKey, byte[] fileAadPrefix) {
+    this(targetStream, aesKey, fileAadPrefix, AesGcmStreams.defaultParallelism());
+  }
+
+  AesGcmOutputStream(
+      PositionOutputStream targetStream, byte[] aesKey, byte[] fileAadPrefix, int parallelism) {
+    Preconditions.checkArgument(
+        parallelism > 0, "Invalid parallelism: %s (must be > 0)", parallelism);
     this.targetStream = targetStream;
     this.gcmEncryptor = new Ciphers.AesGcmEncryptor(aesKey);
+    this.aesKey = aesKey;
     this.fileAadPrefix = fileAadPrefix;
+    this.parallelism = parallelism;
+    this.workerPool = parallelism > 1 ? AesGcmStreams.workerPool() : null;
+    this.blockEncryptors = new ConcurrentLinkedQueue<>();
+    this.pendingBlocks = new ArrayDeque<>();
+    this.freeBlocks = new ArrayDeque<>();
     this.singleByte = new byte[1];
     this.plainBlock = new byte[Ciphers.PLAIN_BLOCK_SIZE];
     this.cipherBlock = new byte[Ciphers.CIPHER_BLOCK_SIZE];
@@ -59,6 +94,7 @@ public class AesGcmOutputStream extends PositionOutputStream {
     this.isHeaderWritten = false;
     this.lastBlockWritten = false;
     this.isClosed = false;
+    this.isTargetClosed = false;
     this.finalPosition = 0;
   }
 
@@ -112,21 +148,34 @@ public class AesGcmOutputStream extends PositionOutputStream {
 
   @Override
   public void flush() throws IOException {
+    writePendingBlocks(0);
     targetStream.flush();
   }
 
   @Override
   public void close() throws IOException {
-    if (!isHeaderWritten) {
-      writeHeader();
+    if (isTargetClosed) {
+      return;
     }
 
-    finalPosition = getPos();
-    isClosed = true;
+    try {
+      if (!isClosed) {
+        finalPosition = getPos();
+        // the last blocks are written once, even if close is retried after the target failed
+        isClosed = true;
 
-    encryptAndWriteBlock();
+        if (!isHeaderWritten) {
+          writeHeader();
+        }
 
-    targetStream.close();
+        encryptAndWriteBlock();
+        writePendingBlocks(0);
+      }
+    } finally {
+      pendingBlocks.clear();
+      targetStream.close();
+      isTargetClosed = true;
+    }
   }
 
   @Override
@@ -157,10 +206,55 @@ public class AesGcmOutputStream extends PositionOutputStream {
     }
 
     byte[] aad = Ciphers.streamBlockAAD(fileAadPrefix, currentBlockIndex);
-    int ciphertextLength =
-        gcmEncryptor.encrypt(plainBlock, 0, positionInPlainBlock, cipherBlock, 0, aad);
-    targetStream.write(cipherBlock, 0, ciphertextLength);
+    if (parallelism > 1) {
+      // hand the filled buffer to a background task and continue with a free one
+      Block block = freeBlocks.isEmpty() ? new Block() : freeBlocks.removeFirst();
+      byte[] filledPlainBlock = plainBlock;
+      this.plainBlock = block.plainBlock;
+      block.plainBlock = filledPlainBlock;
+      block.plainBlockSize = positionInPlainBlock;
+      block.encrypted = CompletableFuture.supplyAsync(() -> encrypt(block, aad), workerPool);
+      pendingBlocks.addLast(block);
+      writePendingBlocks(parallelism);
+
+    } else {
+      int ciphertextLength =
+          gcmEncryptor.encrypt(plainBlock, 0, positionInPlainBlock, cipherBlock, 0, aad);
+      targetStream.write(cipherBlock, 0, ciphertextLength);
+    }
+
     positionInPlainBlock = 0;
     currentBlockIndex++;
   }
+
+  private int encrypt(Block block, byte[] aad) {
+    Ciphers.AesGcmEncryptor blockEncryptor = blockEncryptors.poll();
+    if (blockEncryptor == null) {
+      blockEncryptor = new Ciphers.AesGcmEncryptor(aesKey);
+    }
+
+    try {
+      return blockEncryptor.encrypt(
+          block.plainBlock, 0, block.plainBlockSize, block.cipherBlock, 0, aad);
+    } finally {
+      blockEncryptors.offer(blockEncryptor);
+    }
+  }
+
+  /** Writes encrypted blocks in order until no more than {@code maxPending} are left. */
+  private void writePendingBlocks(int maxPending) throws IOException {
+    while (pendingBlocks.size() > maxPending) {
+      Block block = pendingBlocks.removeFirst();
+      int ciphertextLength = AesGcmStreams.await(block.encrypted);
+      targetStream.write(block.cipherBlock, 0, ciphertextLength);
+      freeBlocks.addLast(block);
+    }
+  }
+
+  private static class Block {
+    private final byte[] cipherBlock = new byte[Ciphers.CIPHER_BLOCK_SIZE];
+    private byte[] plainBlock = new byte[Ciphers.PLAIN_BLOCK_SIZE];
+    private int plainBlockSize;
+    private CompletableFuture<Integer> encrypted;
+  }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.encryption;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.apache.iceberg.SystemConfigs;
+import org.apache.iceberg.util.ThreadPools;
+
+/** Shared state for block-parallel AES GCM streams. */
+class AesGcmStreams {
+  private static volatile ExecutorService workerPool = null;
+
+  private AesGcmStreams() {}
+
+  static int defaultParallelism() {
+    return SystemConfigs.GCM_STREAM_PARALLELISM.value();
+  }
+
+  /**
+   * Returns the pool that encrypts and decrypts stream blocks.
+   *
+   * <p>This is separate from the shared worker pool because streams are commonly read by tasks that
+   * run in the worker pool and would otherwise wait on blocks queued behind themselves.
+   */
+  static ExecutorService workerPool() {
+    if (workerPool == null) {
+      synchronized (AesGcmStreams.class) {
+        if (workerPool == null) {
+          workerPool =
+              ThreadPools.newExitingWorkerPool(
+                  "iceberg-gcm-stream-worker", ThreadPools.WORKER_THREAD_POOL_SIZE);
+        }
+      }
+    }
+
+    return workerPool;
+  }
+
+  /** Waits for a block task and rethrows its failure as it was thrown by the task. */
+  static <T> T await(Future<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      InterruptedIOException interrupted =
+          new InterruptedIOException("Interrupted while waiting for a GCM stream block");
+      interrupted.initCause(e);
+      throw interrupted;
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) cause).getCause();
+      } else if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+
+      throw new RuntimeException("Failed to process GCM stream block", cause);
+    }
+  }
+}
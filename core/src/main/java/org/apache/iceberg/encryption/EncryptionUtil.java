@@ -18,12 +18,14 @@
  */
 package org.apache.iceberg.encryption;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.common.DynConstructors;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.util.PropertyUtil;
 
@@ -85,6 +87,24 @@ public class EncryptionUtil {
 
   static EncryptionManager createEncryptionManager(
       List<EncryptedKey> keys, Map<String, String> tableProperties, KeyManagementClient kmsClient) {
+    return createEncryptionManager(keys, tableProperties, kmsClient, MetricsContext.nullMetrics());
+  }
+
+  /**
+   * Create a standard encryption manager that reports key cache and KMS metrics.
+   *
+   * @param keys encryption keys stored in table metadata
+   * @param tableProperties table properties
+   * @param kmsClient client of the KMS used to wrap and unwrap keys
+   * @param metrics metrics context that receives key cache hits, misses and evictions and KMS
+   *     requests, such as the metrics context of the table's FileIO
+   * @return an encryption manager for the table
+   */
+  public static EncryptionManager createEncryptionManager(
+      List<EncryptedKey> keys,
+      Map<String, String> tableProperties,
+      KeyManagementClient kmsClient,
+      MetricsContext metrics) {
     Preconditions.checkArgument(kmsClient != null, "Invalid KMS client: null");
     String tableKeyId = tableProperties.get(TableProperties.ENCRYPTION_TABLE_KEY);
 
@@ -104,7 +124,24 @@ public class EncryptionUtil {
         "Invalid data key length: %s (must be 16, 24, or 32)",
         dataKeyLength);
 
-    return new StandardEncryptionManager(tableKeyId, dataKeyLength, kmsClient);
+    long keyCacheTtlMs =
+        PropertyUtil.propertyAsLong(
+            tableProperties,
+            TableProperties.ENCRYPTION_KEY_CACHE_TTL_MS,
+            TableProperties.ENCRYPTION_KEY_CACHE_TTL_MS_DEFAULT);
+    int keyCacheMaxEntries =
+        PropertyUtil.propertyAsInt(
+            tableProperties,
+            TableProperties.ENCRYPTION_KEY_CACHE_MAX_ENTRIES,
+            TableProperties.ENCRYPTION_KEY_CACHE_MAX_ENTRIES_DEFAULT);
+
+    return new StandardEncryptionManager(
+        tableKeyId,
+        dataKeyLength,
+        kmsClient,
+        Duration.ofMillis(keyCacheTtlMs),
+        keyCacheMaxEntries,
+        metrics);
   }
 
   public static EncryptedOutputFile plainAsEncryptedOutput(OutputFile encryptingOutputFile) {
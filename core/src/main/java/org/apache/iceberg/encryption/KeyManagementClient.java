@@ -21,7 +21,9 @@ package org.apache.iceberg.encryption;
 import java.io.Closeable;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 
 /** A minimum client interface to connect to a key management service (KMS). */
 public interface KeyManagementClient extends Serializable, Closeable {
@@ -72,6 +74,26 @@ public interface KeyManagementClient extends Serializable, Closeable {
    */
   ByteBuffer unwrapKey(ByteBuffer wrappedKey, String wrappingKeyId);
 
+  /**
+   * Unwrap several secret keys that were wrapped by the same wrapping/master key.
+   *
+   * <p>The default implementation unwraps each key with {@link #unwrapKey(ByteBuffer, String)}.
+   * Clients for KMS systems that support batch requests should override this method to unwrap the
+   * keys with fewer round trips.
+   *
+   * @param wrappedKeys wrapped key material, as returned by the wrapKey method
+   * @param wrappingKeyId a key ID that represents a wrapping key stored in KMS
+   * @return raw key bytes, in the order of the wrapped keys
+   */
+  default List<ByteBuffer> unwrapKeys(List<ByteBuffer> wrappedKeys, String wrappingKeyId) {
+    List<ByteBuffer> keys = Lists.newArrayListWithCapacity(wrappedKeys.size());
+    for (ByteBuffer wrappedKey : wrappedKeys) {
+      keys.add(unwrapKey(wrappedKey, wrappingKeyId));
+    }
+
+    return keys;
+  }
+
   /**
    * Initialize the KMS client with given properties.
    *
@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.encryption;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.metrics.Timer;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+
+/**
+ * A bounded cache of keys unwrapped by a {@link KeyManagementClient}.
+ *
+ * <p>Entries are keyed by the wrapping key ID and the wrapped key bytes and expire a fixed time
+ * after they were unwrapped. Cached key bytes are zeroed when an entry is evicted, expires or is
+ * invalidated, and callers always receive their own copy of a key.
+ */
+class KeyUnwrapCache {
+  static final String CACHE_HITS = "kms.unwrap-key.cache-hits";
+  static final String CACHE_MISSES = "kms.unwrap-key.cache-misses";
+  static final String CACHE_EVICTIONS = "kms.unwrap-key.cache-evictions";
+  static final String KMS_REQUESTS = "kms.unwrap-key.requests";
+  static final String KMS_DURATION = "kms.unwrap-key.duration";
+
+  private final KeyManagementClient kmsClient;
+  private final boolean enabled;
+  private final Cache<CacheKey, CachedKey> cache;
+  private final Counter cacheHits;
+  private final Counter cacheMisses;
+  private final Counter cacheEvictions;
+  private final Counter kmsRequests;
+  private final Timer kmsDuration;
+
+  KeyUnwrapCache(
+      KeyManagementClient kmsClient, Duration ttl, int maxEntries, MetricsContext metrics) {
+    this(kmsClient, ttl, maxEntries, metrics, Ticker.systemTicker());
+  }
+
+  KeyUnwrapCache(
+      KeyManagementClient kmsClient,
+      Duration ttl,
+      int maxEntries,
+      MetricsContext metrics,
+      Ticker ticker) {
+    Preconditions.checkArgument(!ttl.isNegative(), "Invalid key cache TTL: %s (must be >= 0)", ttl);
+    Preconditions.checkArgument(
+        maxEntries >= 0, "Invalid key cache size: %s (must be >= 0)", maxEntries);
+    this.kmsClient = kmsClient;
+    this.enabled = maxEntries > 0 && !ttl.isZero();
+    this.cacheHits = metrics.counter(CACHE_HITS);
+    this.cacheMisses = metrics.counter(CACHE_MISSES);
+    this.cacheEvictions = metrics.counter(CACHE_EVICTIONS);
+    this.kmsRequests = metrics.counter(KMS_REQUESTS);
+    this.kmsDuration = metrics.timer(KMS_DURATION, TimeUnit.NANOSECONDS);
+    this.cache =
+        Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxEntries)
+            .ticker(ticker)
+            // zero keys on the thread that removes them rather than in a background task
+            .executor(Runnable::run)
+            .removalListener(
+                (CacheKey key, CachedKey cached, RemovalCause cause) -> {
+                  if (cached != null) {
+                    cached.destroy();
+                  }
+
+                  if (cause.wasEvicted()) {
+                    cacheEvictions.increment();
+                  }
+                })
+            .build();
+  }
+
+  /**
+   * Returns the unwrapped key, calling the KMS only if the key is not cached.
+   *
+   * @param wrappedKey wrapped key material
+   * @param wrappingKeyId the ID of the key that wrapped the key
+   * @return a copy of the unwrapped key
+   */
+  ByteBuffer unwrap(ByteBuffer wrappedKey, String wrappingKeyId) {
+    CacheKey key = new CacheKey(wrappingKeyId, toBytes(wrappedKey));
+    byte[] unwrapped = enabled ? copyIfPresent(cache.getIfPresent(key)) : null;
+    if (unwrapped != null) {
+      cacheHits.increment();
+      return ByteBuffer.wrap(unwrapped);
+    }
+
+    cacheMisses.increment();
+    if (enabled) {
+      unwrapped = copyIfPresent(cache.get(key, this::unwrapFromKms));
+    }
+
+    if (unwrapped == null) {
+      // the cache is disabled or the entry was evicted before it could be copied
+      CachedKey uncached = unwrapFromKms(key);
+      unwrapped = uncached.copy();
+      uncached.destroy();
+    }
+
+    return ByteBuffer.wrap(unwrapped);
+  }
+
+  /**
+   * Returns the unwrapped keys, unwrapping all keys that are not cached with one batch call to the
+   * KMS.
+   *
+   * @param wrappedKeys wrapped key material
+   * @param wrappingKeyId the ID of the key that wrapped all of the keys
+   * @return copies of the unwrapped keys, in the order of the wrapped keys
+   */
+  List<ByteBuffer> unwrapAll(List<ByteBuffer> wrappedKeys, String wrappingKeyId) {
+    List<CacheKey> keys = Lists.newArrayListWithCapacity(wrappedKeys.size());
+    Map<CacheKey, byte[]> unwrappedKeys = Maps.newHashMap();
+    Map<CacheKey, ByteBuffer> missing = Maps.newLinkedHashMap();
+    for (ByteBuffer wrappedKey : wrappedKeys) {
+      CacheKey key = new CacheKey(wrappingKeyId, toBytes(wrappedKey));
+      keys.add(key);
+      if (!unwrappedKeys.containsKey(key) && !missing.containsKey(key)) {
+        byte[] cached = enabled ? copyIfPresent(cache.getIfPresent(key)) : null;
+        if (cached != null) {
+          cacheHits.increment();
+          unwrappedKeys.put(key, cached);
+        } else {
+          cacheMisses.increment();
+          missing.put(key, ByteBuffer.wrap(key.wrappedKey));
+        }
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      List<ByteBuffer> results =
+          kmsDuration.time(
+              () -> kmsClient.unwrapKeys(Lists.newArrayList(missing.values()), wrappingKeyId));
+      kmsRequests.increment();
+      Preconditions.checkState(
+          results.size() == missing.size(),
+          "Invalid KMS response: unwrapped %s keys but %s were requested",
+          results.size(),
+          missing.size());
+
+      int index = 0;
+      for (CacheKey key : missing.keySet()) {
+        CachedKey unwrapped = new CachedKey(ownedBytes(results.get(index)));
+        unwrappedKeys.put(key, unwrapped.copy());
+        if (enabled) {
+          cache.put(key, unwrapped);
+        } else {
+          unwrapped.destroy();
+        }
+
+        index += 1;
+      }
+    }
+
+    List<ByteBuffer> result = Lists.newArrayListWithCapacity(keys.size());
+    for (CacheKey key : keys) {
+      byte[] unwrapped = unwrappedKeys.get(key);
+      result.add(ByteBuffer.wrap(Arrays.copyOf(unwrapped, unwrapped.length)));
+    }
+
+    unwrappedKeys.values().forEach(unwrapped -> Arrays.fill(unwrapped, (byte) 0));
+
+    return result;
+  }
+
+  /** Removes all keys from the cache and zeroes them. */
+  void invalidateAll() {
+    cache.invalidateAll();
+    cache.cleanUp();
+  }
+
+  long size() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  private CachedKey unwrapFromKms(CacheKey key) {
+    ByteBuffer unwrapped =
+        kmsDuration.time(() -> kmsClient.unwrapKey(ByteBuffer.wrap(key.wrappedKey), key.keyId));
+    kmsRequests.increment();
+    return new CachedKey(ownedBytes(unwrapped));
+  }
+
+  private static byte[] copyIfPresent(CachedKey cached) {
+    return cached != null ? cached.copy() : null;
+  }
+
+  /** Returns the bytes of a key returned by the KMS, without a copy if it owns a whole array. */
+  private static byte[] ownedBytes(ByteBuffer buffer) {
+    if (buffer.hasArray()
+        && buffer.arrayOffset() == 0
+        && buffer.position() == 0
+        && buffer.remaining() == buffer.array().length) {
+      return buffer.array();
+    }
+
+    return toBytes(buffer);
+  }
+
+  private static byte[] toBytes(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return bytes;
+  }
+
+  private static class CacheKey {
+    private final String keyId;
+    private final byte[] wrappedKey;
+    private final int hashCode;
+
+    private CacheKey(String keyId, byte[] wrappedKey) {
+      this.keyId = keyId;
+      this.wrappedKey = wrappedKey;
+      this.hashCode = 31 * keyId.hashCode() + Arrays.hashCode(wrappedKey);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (!(other instanceof CacheKey)) {
+        return false;
+      }
+
+      CacheKey that = (CacheKey) other;
+      return keyId.equals(that.keyId) && Arrays.equals(wrappedKey, that.wrappedKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  /** Unwrapped key bytes that are zeroed once the entry leaves the cache. */
+  private static class CachedKey {
+    private byte[] key;
+
+    private CachedKey(byte[] key) {
+      this.key = key;
+    }
+
+    private synchronized byte[] copy() {
+      return key != null ? Arrays.copyOf(key, key.length) : null;
+    }
+
+    private synchronized void destroy() {
+      if (key != null) {
+        Arrays.fill(key, (byte) 0);
+        this.key = null;
+      }
+    }
+  }
+}
@@ -20,10 +20,14 @@ package org.apache.iceberg.encryption;
 
 import java.nio.ByteBuffer;
 import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.List;
 import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.util.ByteBuffers;
@@ -32,8 +36,12 @@ public class StandardEncryptionManager implements EncryptionManager {
   private final transient KeyManagementClient kmsClient;
   private final String tableKeyId;
   private final int dataKeyLength;
+  private final Duration keyCacheTtl;
+  private final int keyCacheMaxEntries;
+  private final MetricsContext metrics;
 
   private transient volatile SecureRandom lazyRNG = null;
+  private transient volatile KeyUnwrapCache lazyKeyCache = null;
 
   /**
    * @param tableKeyId table encryption key id
@@ -42,15 +50,49 @@ public class StandardEncryptionManager implements EncryptionManager {
    */
   public StandardEncryptionManager(
       String tableKeyId, int dataKeyLength, KeyManagementClient kmsClient) {
+    this(
+        tableKeyId,
+        dataKeyLength,
+        kmsClient,
+        Duration.ofMillis(TableProperties.ENCRYPTION_KEY_CACHE_TTL_MS_DEFAULT),
+        TableProperties.ENCRYPTION_KEY_CACHE_MAX_ENTRIES_DEFAULT,
+        MetricsContext.nullMetrics());
+  }
+
+  /**
+   * @param tableKeyId table encryption key id
+   * @param dataKeyLength length of data encryption key (16/24/32 bytes)
+   * @param kmsClient Client of KMS used to wrap/unwrap keys in envelope encryption
+   * @param keyCacheTtl how long unwrapped keys are cached after they are returned by the KMS
+   * @param keyCacheMaxEntries maximum number of cached unwrapped keys, 0 disables the cache
+   * @param metrics metrics context for key cache hits, misses and evictions and KMS requests
+   */
+  public StandardEncryptionManager(
+      String tableKeyId,
+      int dataKeyLength,
+      KeyManagementClient kmsClient,
+      Duration keyCacheTtl,
+      int keyCacheMaxEntries,
+      MetricsContext metrics) {
     Preconditions.checkNotNull(tableKeyId, "Invalid encryption key ID: null");
     Preconditions.checkArgument(
         dataKeyLength == 16 || dataKeyLength == 24 || dataKeyLength == 32,
         "Invalid data key length: %s (must be 16, 24, or 32)",
         dataKeyLength);
     Preconditions.checkNotNull(kmsClient, "Invalid KMS client: null");
+    Preconditions.checkArgument(
+        keyCacheTtl != null && !keyCacheTtl.isNegative(),
+        "Invalid key cache TTL: %s (must be >= 0)",
+        keyCacheTtl);
+    Preconditions.checkArgument(
+        keyCacheMaxEntries >= 0, "Invalid key cache size: %s (must be >= 0)", keyCacheMaxEntries);
+    Preconditions.checkNotNull(metrics, "Invalid metrics context: null");
     this.tableKeyId = tableKeyId;
     this.kmsClient = kmsClient;
     this.dataKeyLength = dataKeyLength;
+    this.keyCacheTtl = keyCacheTtl;
+    this.keyCacheMaxEntries = keyCacheMaxEntries;
+    this.metrics = metrics;
   }
 
   @Override
@@ -90,13 +132,54 @@ public class StandardEncryptionManager implements EncryptionManager {
     return kmsClient.wrapKey(secretKey, tableKeyId);
   }
 
+  /**
+   * Unwraps a key with the table key.
+   *
+   * <p>Unwrapped keys are cached, so a key is only sent to the KMS once until it expires from the
+   * cache.
+   *
+   * @param wrappedSecretKey wrapped key material
+   * @return the unwrapped key
+   */
   public ByteBuffer unwrapKey(ByteBuffer wrappedSecretKey) {
     if (kmsClient == null) {
       throw new IllegalStateException(
           "Cannot wrap key after called after serialization (missing KMS client)");
     }
 
-    return kmsClient.unwrapKey(wrappedSecretKey, tableKeyId);
+    return keyCache().unwrap(wrappedSecretKey, tableKeyId);
+  }
+
+  /**
+   * Unwraps a group of keys with the table key, such as the keys needed by a scan task group.
+   *
+   * <p>Keys that are not cached are sent to the KMS in one batch request and added to the cache,
+   * so that later calls to {@link #unwrapKey(ByteBuffer)} for any of the keys do not call the KMS.
+   *
+   * @param wrappedSecretKeys wrapped key material
+   * @return the unwrapped keys, in the order of the wrapped keys
+   */
+  public List<ByteBuffer> unwrapKeys(List<ByteBuffer> wrappedSecretKeys) {
+    if (kmsClient == null) {
+      throw new IllegalStateException(
+          "Cannot unwrap keys after serialization (missing KMS client)");
+    }
+
+    return keyCache().unwrapAll(wrappedSecretKeys, tableKeyId);
+  }
+
+  @VisibleForTesting
+  KeyUnwrapCache keyCache() {
+    if (lazyKeyCache == null) {
+      synchronized (this) {
+        if (lazyKeyCache == null) {
+          this.lazyKeyCache =
+              new KeyUnwrapCache(kmsClient, keyCacheTtl, keyCacheMaxEntries, metrics);
+        }
+      }
+    }
+
+    return lazyKeyCache;
   }
 
   private class StandardEncryptedOutputFile implements NativeEncryptionOutputFile {
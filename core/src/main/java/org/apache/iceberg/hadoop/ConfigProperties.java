@@ -25,4 +25,6 @@ public class ConfigProperties {
   public static final String ENGINE_HIVE_ENABLED = "iceberg.engine.hive.enabled";
   public static final String LOCK_HIVE_ENABLED = "iceberg.engine.hive.lock-enabled";
   public static final String KEEP_HIVE_STATS = "iceberg.hive.keep.stats";
+  public static final String HADOOP_METADATA_LOCATION_CACHE_ENABLED =
+      "iceberg.hadoop.metadata-location-cache.enabled";
 }
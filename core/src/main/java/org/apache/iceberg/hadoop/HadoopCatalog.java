@@ -26,6 +26,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import org.apache.hadoop.conf.Configurable;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
@@ -56,9 +58,11 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.base.Strings;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
-import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.util.LocationUtil;
 import org.apache.iceberg.util.LockManagers;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -86,6 +90,8 @@ public class HadoopCatalog extends BaseMetastoreCatalog
   private static final PathFilter TABLE_FILTER =
       path -> path.getName().endsWith(TABLE_METADATA_FILE_EXTENSION);
   private static final String HADOOP_SUPPRESS_PERMISSION_ERROR = "suppress-permission-error";
+  static final String LIST_TABLES_PARALLELISM = "list-tables-parallelism";
+  static final int LIST_TABLES_PARALLELISM_DEFAULT = 8;
 
   private String catalogName;
   private Configuration conf;
@@ -96,6 +102,7 @@ public class HadoopCatalog extends BaseMetastoreCatalog
   private LockManager lockManager;
   private boolean suppressPermissionError = false;
   private Map<String, String> catalogProperties;
+  private ExecutorService listTablesExecutor = null;
 
   public HadoopCatalog() {}
 
@@ -126,6 +133,22 @@ public class HadoopCatalog extends BaseMetastoreCatalog
 
     this.suppressPermissionError =
         Boolean.parseBoolean(properties.get(HADOOP_SUPPRESS_PERMISSION_ERROR));
+
+    int listTablesParallelism =
+        PropertyUtil.propertyAsInt(
+            properties, LIST_TABLES_PARALLELISM, LIST_TABLES_PARALLELISM_DEFAULT);
+    Preconditions.checkArgument(
+        listTablesParallelism > 0,
+        "Invalid %s: %s (must be positive)",
+        LIST_TABLES_PARALLELISM,
+        listTablesParallelism);
+    if (listTablesParallelism > 1) {
+      ExecutorService executor =
+          ThreadPools.newFixedThreadPool("hadoop-catalog-" + name + "-list", listTablesParallelism);
+      AutoCloseable shutdownExecutor = executor::shutdown;
+      closeableGroup.addCloseable(shutdownExecutor);
+      this.listTablesExecutor = executor;
+    }
   }
 
   /**
@@ -158,6 +181,11 @@ public class HadoopCatalog extends BaseMetastoreCatalog
     // Only the path which contains metadata is the path for table, otherwise it could be
     // still a namespace.
     try {
+      // every commit writes the version hint, so finding it avoids listing all metadata files
+      if (fs.exists(new Path(metadataPath, Util.VERSION_HINT_FILENAME))) {
+        return true;
+      }
+
       return fs.listStatus(metadataPath, TABLE_FILTER).length >= 1;
     } catch (FileNotFoundException e) {
       return false;
@@ -192,7 +220,7 @@ public class HadoopCatalog extends BaseMetastoreCatalog
         namespace.levels().length >= 1, "Missing database in table identifier: %s", namespace);
 
     Path nsPath = new Path(warehouseLocation, SLASH.join(namespace.levels()));
-    Set<TableIdentifier> tblIdents = Sets.newHashSet();
+    List<Path> dirs = Lists.newArrayList();
 
     try {
       if (!isDirectory(nsPath)) {
@@ -201,21 +229,28 @@ public class HadoopCatalog extends BaseMetastoreCatalog
       RemoteIterator<FileStatus> it = fs.listStatusIterator(nsPath);
       while (it.hasNext()) {
         FileStatus status = it.next();
-        if (!status.isDirectory()) {
-          // Ignore the path which is not a directory.
-          continue;
-        }
-
-        Path path = status.getPath();
-        if (isTableDir(path)) {
-          TableIdentifier tblIdent = TableIdentifier.of(namespace, path.getName());
-          tblIdents.add(tblIdent);
+        if (status.isDirectory()) {
+          dirs.add(status.getPath());
         }
       }
     } catch (IOException ioe) {
       throw new RuntimeIOException(ioe, "Failed to list tables under: %s", namespace);
     }
 
+    // checking whether a directory is a table needs a call per directory, so the checks run in
+    // parallel on the catalog's bounded pool
+    Set<TableIdentifier> tblIdents = ConcurrentHashMap.newKeySet();
+    Tasks.foreach(dirs)
+        .executeWith(listTablesExecutor)
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .run(
+            path -> {
+              if (isTableDir(path)) {
+                tblIdents.add(TableIdentifier.of(namespace, path.getName()));
+              }
+            });
+
     return Lists.newArrayList(tblIdents);
   }
 
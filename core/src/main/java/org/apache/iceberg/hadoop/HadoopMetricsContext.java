@@ -25,6 +25,8 @@ import java.util.function.LongSupplier;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.io.FileIOMetricsContext;
+import org.apache.iceberg.metrics.DefaultCounter;
+import org.apache.iceberg.metrics.Histogram;
 
 /**
  * FileIO Metrics implementation that delegates to Hadoop FileSystem statistics implementation using
@@ -134,11 +136,26 @@ public class HadoopMetricsContext implements FileIOMetricsContext {
       case WRITE_OPERATIONS:
         return counter(
             (long x) -> statistics.incrementWriteOps((int) x), statistics()::getWriteOps);
+      case RETRIES:
+        // FileSystem statistics do not track retries
+        return DefaultCounter.NOOP;
       default:
         throw new IllegalArgumentException(String.format("Unsupported counter: '%s'", name));
     }
   }
 
+  /**
+   * FileSystem statistics do not track latency or throughput distributions, so histograms are not
+   * recorded.
+   *
+   * @param name ignored
+   * @return a histogram that records nothing
+   */
+  @Override
+  public Histogram histogram(String name) {
+    return Histogram.NOOP;
+  }
+
   private org.apache.iceberg.metrics.Counter counter(LongConsumer consumer, LongSupplier supplier) {
     return new org.apache.iceberg.metrics.Counter() {
       @Override
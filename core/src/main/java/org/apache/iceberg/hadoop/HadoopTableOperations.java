@@ -18,7 +18,10 @@
  */
 package org.apache.iceberg.hadoop;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.io.BufferedReader;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
@@ -59,11 +62,18 @@ public class HadoopTableOperations implements TableOperations {
   private static final Pattern VERSION_PATTERN = Pattern.compile("v([^\\.]*)\\..*");
   private static final TableMetadataParser.Codec[] TABLE_METADATA_PARSER_CODEC_VALUES =
       TableMetadataParser.Codec.values();
+  // latest metadata file of each table, valid while its metadata directory is not modified
+  private static final Cache<String, MetadataFileLocation> METADATA_FILE_LOCATIONS =
+      Caffeine.newBuilder().maximumSize(10_000).build();
+  // file systems may only track modification times to the second, so a directory modified more
+  // recently than this could change again without its modification time changing
+  private static final long MIN_CACHEABLE_AGE_MS = 1_000L;
 
   private final Configuration conf;
   private final Path location;
   private final FileIO fileIO;
   private final LockManager lockManager;
+  private final boolean metadataLocationCacheEnabled;
 
   private volatile TableMetadata currentMetadata = null;
   private volatile Integer version = null;
@@ -75,6 +85,9 @@ public class HadoopTableOperations implements TableOperations {
     this.location = location;
     this.fileIO = fileIO;
     this.lockManager = lockManager;
+    this.metadataLocationCacheEnabled =
+        conf != null
+            && conf.getBoolean(ConfigProperties.HADOOP_METADATA_LOCATION_CACHE_ENABLED, false);
   }
 
   @Override
@@ -100,6 +113,17 @@ public class HadoopTableOperations implements TableOperations {
 
   @Override
   public TableMetadata refresh() {
+    long metadataModifiedTime = metadataLocationCacheEnabled ? metadataModificationTime() : -1L;
+    MetadataFileLocation cached =
+        metadataModifiedTime > 0
+            ? METADATA_FILE_LOCATIONS.getIfPresent(metadataRoot().toString())
+            : null;
+    if (cached != null && cached.modifiedTime == metadataModifiedTime) {
+      updateVersionAndMetadata(cached.version, cached.location);
+      this.shouldRefresh = false;
+      return currentMetadata;
+    }
+
     int ver = version != null ? version : findVersion();
     try {
       Path metadataFile = getMetadataFile(ver);
@@ -111,14 +135,9 @@ public class HadoopTableOperations implements TableOperations {
             "Metadata file for version %d is missing under %s", ver, metadataRoot());
       }
 
-      Path nextMetadataFile = getMetadataFile(ver + 1);
-      while (nextMetadataFile != null) {
-        ver += 1;
-        metadataFile = nextMetadataFile;
-        nextMetadataFile = getMetadataFile(ver + 1);
-      }
-
-      updateVersionAndMetadata(ver, metadataFile.toString());
+      Pair<Integer, Path> latest = findLatestMetadataFile(ver, metadataFile);
+      updateVersionAndMetadata(latest.first(), latest.second().toString());
+      cacheMetadataFile(metadataModifiedTime, latest.first(), latest.second());
 
       this.shouldRefresh = false;
       return currentMetadata;
@@ -127,6 +146,72 @@ public class HadoopTableOperations implements TableOperations {
     }
   }
 
+  /**
+   * Finds the latest metadata version, starting from a version that is known to exist.
+   *
+   * <p>Versions are committed in sequence and only the oldest metadata files are removed, so every
+   * version from the known one up to the latest exists. This probes ahead in exponentially growing
+   * steps until a version is missing and then binary searches between the last version found and
+   * the missing one, which takes a logarithmic number of calls when many commits happened since
+   * the known version.
+   */
+  private Pair<Integer, Path> findLatestMetadataFile(int knownVersion, Path knownFile)
+      throws IOException {
+    int latestVersion = knownVersion;
+    Path latestFile = knownFile;
+    int missingVersion = -1;
+    int step = 1;
+    while (missingVersion < 0) {
+      int nextVersion = latestVersion + step;
+      Path nextFile = getMetadataFile(nextVersion);
+      if (nextFile != null) {
+        latestVersion = nextVersion;
+        latestFile = nextFile;
+        step *= 2;
+      } else {
+        missingVersion = nextVersion;
+      }
+    }
+
+    while (missingVersion - latestVersion > 1) {
+      int midVersion = latestVersion + (missingVersion - latestVersion) / 2;
+      Path midFile = getMetadataFile(midVersion);
+      if (midFile != null) {
+        latestVersion = midVersion;
+        latestFile = midFile;
+      } else {
+        missingVersion = midVersion;
+      }
+    }
+
+    return Pair.of(latestVersion, latestFile);
+  }
+
+  private long metadataModificationTime() {
+    Path metadataRoot = metadataRoot();
+    try {
+      return getFileSystem(metadataRoot, conf).getFileStatus(metadataRoot).getModificationTime();
+    } catch (FileNotFoundException e) {
+      return -1L;
+    } catch (IOException e) {
+      LOG.debug("Failed to read the modification time of {}", metadataRoot, e);
+      return -1L;
+    }
+  }
+
+  private void cacheMetadataFile(long modifiedTime, int metadataVersion, Path metadataFile) {
+    if (modifiedTime > 0 && System.currentTimeMillis() - modifiedTime >= MIN_CACHEABLE_AGE_MS) {
+      METADATA_FILE_LOCATIONS.put(
+          metadataRoot().toString(),
+          new MetadataFileLocation(modifiedTime, metadataVersion, metadataFile.toString()));
+    }
+  }
+
+  @VisibleForTesting
+  static void clearMetadataLocationCache() {
+    METADATA_FILE_LOCATIONS.invalidateAll();
+  }
+
   @Override
   public void commit(TableMetadata base, TableMetadata metadata) {
     Pair<Integer, TableMetadata> current = versionAndMetadata();
@@ -165,6 +250,7 @@ public class HadoopTableOperations implements TableOperations {
 
     // update the best-effort version pointer
     writeVersionHint(nextVersion);
+    METADATA_FILE_LOCATIONS.invalidate(metadataRoot().toString());
 
     CatalogUtil.deleteRemovedMetadataFiles(io(), base, metadata);
 
@@ -271,6 +357,21 @@ public class HadoopTableOperations implements TableOperations {
     return new Path(location, "metadata");
   }
 
+  private boolean isMetadataFileName(String fileName, int metadataVersion) {
+    for (TableMetadataParser.Codec codec : TABLE_METADATA_PARSER_CODEC_VALUES) {
+      if (fileName.equals(metadataFilePath(metadataVersion, codec).getName())) {
+        return true;
+      }
+
+      if (codec.equals(TableMetadataParser.Codec.GZIP)
+          && fileName.equals(oldMetadataFilePath(metadataVersion, codec).getName())) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
   private int version(String fileName) {
     Matcher matcher = VERSION_PATTERN.matcher(fileName);
     if (!matcher.matches()) {
@@ -329,15 +430,17 @@ public class HadoopTableOperations implements TableOperations {
         }
 
         // List the metadata directory to find the version files, and try to recover the max
-        // available version
+        // available version. The listing already shows which files exist, so the names are only
+        // checked against the metadata file names rather than probing the file system again.
         FileStatus[] files =
             fs.listStatus(
                 metadataRoot(), name -> VERSION_PATTERN.matcher(name.getName()).matches());
         int maxVersion = 0;
 
         for (FileStatus file : files) {
-          int currentVersion = version(file.getPath().getName());
-          if (currentVersion > maxVersion && getMetadataFile(currentVersion) != null) {
+          String fileName = file.getPath().getName();
+          int currentVersion = version(fileName);
+          if (currentVersion > maxVersion && isMetadataFileName(fileName, currentVersion)) {
             maxVersion = currentVersion;
           }
         }
@@ -430,4 +533,16 @@ public class HadoopTableOperations implements TableOperations {
     }
     return newMetadata;
   }
+
+  private static class MetadataFileLocation {
+    private final long modifiedTime;
+    private final int version;
+    private final String location;
+
+    private MetadataFileLocation(long modifiedTime, int version, String location) {
+      this.modifiedTime = modifiedTime;
+      this.version = version;
+      this.location = location;
+    }
+  }
 }
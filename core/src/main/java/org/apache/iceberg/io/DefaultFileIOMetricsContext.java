@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.iceberg.CatalogProperties;
+import org.apache.iceberg.metrics.DefaultGauge;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.DefaultTimer;
+import org.apache.iceberg.metrics.Gauge;
+import org.apache.iceberg.metrics.Histogram;
+import org.apache.iceberg.metrics.LogLinearHistogram;
+import org.apache.iceberg.metrics.Timer;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link FileIOMetricsContext} that keeps its metrics in process so that they can be reported.
+ *
+ * <p>Metrics are registered once per name and shared by every context with the same scope, so all
+ * FileIO instances of a scheme report into the same counters, gauges and lock-free {@link
+ * LogLinearHistogram histograms}. The current values are available from {@link #values()}, can be
+ * exported as a JMX MBean named {@code org.apache.iceberg:type=FileIO,name=<scope>} by setting
+ * {@link CatalogProperties#IO_METRICS_JMX_ENABLED}, and can be logged periodically by setting
+ * {@link CatalogProperties#IO_METRICS_LOG_INTERVAL_MS}.
+ */
+public class DefaultFileIOMetricsContext implements FileIOMetricsContext {
+  private static final Logger LOG = LoggerFactory.getLogger(DefaultFileIOMetricsContext.class);
+  private static final Map<String, Map<String, Object>> REGISTRIES = Maps.newConcurrentMap();
+  private static final Set<String> JMX_SCOPES = Sets.newConcurrentHashSet();
+  private static final Set<String> LOGGED_SCOPES = Sets.newConcurrentHashSet();
+  private static final double[] PERCENTILES = {0.5, 0.9, 0.99};
+  private static volatile ScheduledExecutorService reportingPool;
+
+  private final String scope;
+
+  public DefaultFileIOMetricsContext(String scope) {
+    Preconditions.checkArgument(scope != null, "Invalid metrics scope: null");
+    this.scope = scope;
+  }
+
+  @Override
+  public void initialize(Map<String, String> properties) {
+    if (PropertyUtil.propertyAsBoolean(
+            properties,
+            CatalogProperties.IO_METRICS_JMX_ENABLED,
+            CatalogProperties.IO_METRICS_JMX_ENABLED_DEFAULT)
+        && JMX_SCOPES.add(scope)) {
+      FileIOMetricsMBean.register(scope, this);
+    }
+
+    long logIntervalMs =
+        PropertyUtil.propertyAsLong(
+            properties,
+            CatalogProperties.IO_METRICS_LOG_INTERVAL_MS,
+            CatalogProperties.IO_METRICS_LOG_INTERVAL_MS_DEFAULT);
+    if (logIntervalMs > 0 && LOGGED_SCOPES.add(scope)) {
+      reportingPool()
+          .scheduleAtFixedRate(
+              () -> LOG.info("FileIO metrics for {}: {}", scope, values()),
+              logIntervalMs,
+              logIntervalMs,
+              TimeUnit.MILLISECONDS);
+    }
+  }
+
+  public String scope() {
+    return scope;
+  }
+
+  @Override
+  public org.apache.iceberg.metrics.Counter counter(String name, Unit unit) {
+    return metric(
+        name,
+        org.apache.iceberg.metrics.Counter.class,
+        () -> new DefaultMetricsContext().counter(name, unit));
+  }
+
+  @Override
+  public Timer timer(String name, TimeUnit unit) {
+    return metric(name, Timer.class, () -> new DefaultTimer(unit));
+  }
+
+  @Override
+  public Histogram histogram(String name) {
+    return metric(name, Histogram.class, LogLinearHistogram::new);
+  }
+
+  @Override
+  public Gauge gauge(String name) {
+    return metric(name, Gauge.class, DefaultGauge::new);
+  }
+
+  /**
+   * Returns the current value of every registered metric, sorted by name.
+   *
+   * <p>Counters and gauges are reported under their own name. Timers report {@code <name>.count}
+   * and {@code <name>.total-ms}, and histograms report {@code <name>.count}, {@code <name>.mean},
+   * {@code <name>.max} and the {@code p50}, {@code p90} and {@code p99} percentiles.
+   *
+   * @return a map from metric name to value
+   */
+  public SortedMap<String, Number> values() {
+    SortedMap<String, Number> values = Maps.newTreeMap();
+    for (Map.Entry<String, Object> entry : metrics().entrySet()) {
+      String name = entry.getKey();
+      Object metric = entry.getValue();
+      if (metric instanceof org.apache.iceberg.metrics.Counter) {
+        values.put(name, ((org.apache.iceberg.metrics.Counter) metric).value());
+      } else if (metric instanceof Gauge) {
+        values.put(name, ((Gauge) metric).value());
+      } else if (metric instanceof Timer) {
+        Timer timer = (Timer) metric;
+        values.put(name + ".count", timer.count());
+        values.put(name + ".total-ms", timer.totalDuration().toMillis());
+      } else if (metric instanceof Histogram) {
+        Histogram.Statistics stats = ((Histogram) metric).statistics();
+        values.put(name + ".count", stats.size());
+        values.put(name + ".mean", stats.mean());
+        values.put(name + ".max", stats.max());
+        for (double percentile : PERCENTILES) {
+          values.put(
+              String.format("%s.p%d", name, Math.round(percentile * 100)),
+              stats.percentile(percentile));
+        }
+      }
+    }
+
+    return values;
+  }
+
+  private <T> T metric(String name, Class<T> type, Supplier<T> newMetric) {
+    Object metric = metrics().computeIfAbsent(name, ignored -> newMetric.get());
+    Preconditions.checkArgument(
+        type.isInstance(metric),
+        "Cannot use metric %s as a %s: already registered as %s",
+        name,
+        type.getSimpleName(),
+        metric.getClass().getSimpleName());
+    return type.cast(metric);
+  }
+
+  private Map<String, Object> metrics() {
+    return REGISTRIES.computeIfAbsent(scope, ignored -> Maps.newConcurrentMap());
+  }
+
+  @VisibleForTesting
+  static void clear(String scope) {
+    REGISTRIES.remove(scope);
+  }
+
+  private static ScheduledExecutorService reportingPool() {
+    if (reportingPool == null) {
+      synchronized (DefaultFileIOMetricsContext.class) {
+        if (reportingPool == null) {
+          reportingPool = ThreadPools.newScheduledPool("iceberg-fileio-metrics", 1);
+        }
+      }
+    }
+
+    return reportingPool;
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.DefaultCounter;
+import org.apache.iceberg.metrics.Gauge;
+import org.apache.iceberg.metrics.Histogram;
+import org.apache.iceberg.metrics.MetricsContext;
+
+/**
+ * The per-operation {@link FileIOMetricsContext} metrics of a FileIO, resolved once from its {@link
+ * MetricsContext} so that streams and operations can record them without looking them up.
+ *
+ * <p>Metrics that the underlying {@link MetricsContext} does not support are replaced by no-op
+ * implementations so that callers can record unconditionally. FileIO implementations should create
+ * this once, when their metrics context is initialized, and pass it to the streams they open.
+ */
+public class FileIOMetrics {
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final Histogram openLatency;
+  private final Histogram getLatency;
+  private final Histogram rangedReadLatency;
+  private final Histogram putLatency;
+  private final Histogram multipartPartLatency;
+  private final Histogram deleteLatency;
+  private final Histogram listLatency;
+  private final Histogram readThroughput;
+  private final Histogram writeThroughput;
+  private final Gauge readsInFlight;
+  private final Gauge writesInFlight;
+  private final Counter retries;
+
+  private FileIOMetrics(MetricsContext context) {
+    this.openLatency = histogram(context, FileIOMetricsContext.OPEN_LATENCY);
+    this.getLatency = histogram(context, FileIOMetricsContext.GET_LATENCY);
+    this.rangedReadLatency = histogram(context, FileIOMetricsContext.RANGED_READ_LATENCY);
+    this.putLatency = histogram(context, FileIOMetricsContext.PUT_LATENCY);
+    this.multipartPartLatency = histogram(context, FileIOMetricsContext.MULTIPART_PART_LATENCY);
+    this.deleteLatency = histogram(context, FileIOMetricsContext.DELETE_LATENCY);
+    this.listLatency = histogram(context, FileIOMetricsContext.LIST_LATENCY);
+    this.readThroughput = histogram(context, FileIOMetricsContext.READ_THROUGHPUT);
+    this.writeThroughput = histogram(context, FileIOMetricsContext.WRITE_THROUGHPUT);
+    this.readsInFlight = gauge(context, FileIOMetricsContext.READS_IN_FLIGHT);
+    this.writesInFlight = gauge(context, FileIOMetricsContext.WRITES_IN_FLIGHT);
+    this.retries = counter(context, FileIOMetricsContext.RETRIES);
+  }
+
+  public static FileIOMetrics of(MetricsContext context) {
+    return new FileIOMetrics(context != null ? context : MetricsContext.nullMetrics());
+  }
+
+  public Histogram openLatency() {
+    return openLatency;
+  }
+
+  public Histogram getLatency() {
+    return getLatency;
+  }
+
+  public Histogram rangedReadLatency() {
+    return rangedReadLatency;
+  }
+
+  public Histogram putLatency() {
+    return putLatency;
+  }
+
+  public Histogram multipartPartLatency() {
+    return multipartPartLatency;
+  }
+
+  public Histogram deleteLatency() {
+    return deleteLatency;
+  }
+
+  public Histogram listLatency() {
+    return listLatency;
+  }
+
+  public Histogram readThroughput() {
+    return readThroughput;
+  }
+
+  public Histogram writeThroughput() {
+    return writeThroughput;
+  }
+
+  public Gauge readsInFlight() {
+    return readsInFlight;
+  }
+
+  public Gauge writesInFlight() {
+    return writesInFlight;
+  }
+
+  public Counter retries() {
+    return retries;
+  }
+
+  // contexts outside of Iceberg may not support every metric type; this only runs once per context
+  private static Histogram histogram(MetricsContext context, String name) {
+    try {
+      return context.histogram(name);
+    } catch (UnsupportedOperationException | IllegalArgumentException e) {
+      return Histogram.NOOP;
+    }
+  }
+
+  private static Gauge gauge(MetricsContext context, String name) {
+    try {
+      return context.gauge(name);
+    } catch (UnsupportedOperationException | IllegalArgumentException e) {
+      return Gauge.NOOP;
+    }
+  }
+
+  private static Counter counter(MetricsContext context, String name) {
+    try {
+      return context.counter(name);
+    } catch (UnsupportedOperationException | IllegalArgumentException e) {
+      return DefaultCounter.NOOP;
+    }
+  }
+
+  /**
+   * Records the time elapsed since the given {@link System#nanoTime()} in microseconds.
+   *
+   * @param latency a latency histogram
+   * @param startNanos the value of {@link System#nanoTime()} when the operation started
+   */
+  public static void recordLatency(Histogram latency, long startNanos) {
+    latency.update(TimeUnit.NANOSECONDS.toMicros(Math.max(0L, System.nanoTime() - startNanos)));
+  }
+
+  /**
+   * Records the throughput of a completed transfer in bytes per second.
+   *
+   * @param throughput a throughput histogram
+   * @param bytes the number of bytes transferred
+   * @param startNanos the value of {@link System#nanoTime()} when the transfer started
+   */
+  public static void recordThroughput(Histogram throughput, long bytes, long startNanos) {
+    long elapsedNanos = System.nanoTime() - startNanos;
+    if (bytes > 0 && elapsedNanos > 0) {
+      throughput.update((long) ((double) bytes * NANOS_PER_SECOND / elapsedNanos));
+    }
+  }
+
+  /**
+   * Wraps an iterator of lazily fetched pages, such as a paginated list response, and records how
+   * long it takes to produce each page.
+   *
+   * @param pages an iterator that fetches a page when hasNext is called
+   * @param latency a latency histogram
+   * @return an iterator that records the latency of each page fetch
+   */
+  public static <T> Iterator<T> timedPages(Iterator<T> pages, Histogram latency) {
+    return new TimedIterator<>(pages, latency);
+  }
+
+  private static class TimedIterator<T> implements Iterator<T> {
+    private final Iterator<T> delegate;
+    private final Histogram latency;
+    private Boolean hasNext = null;
+
+    private TimedIterator(Iterator<T> delegate, Histogram latency) {
+      this.delegate = delegate;
+      this.latency = latency;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (hasNext == null) {
+        long start = System.nanoTime();
+        this.hasNext = delegate.hasNext();
+        if (hasNext) {
+          recordLatency(latency, start);
+        }
+      }
+
+      return hasNext;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      this.hasNext = null;
+      return delegate.next();
+    }
+  }
+}
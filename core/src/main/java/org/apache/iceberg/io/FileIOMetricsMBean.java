@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Read-only JMX view of the metrics of a {@link DefaultFileIOMetricsContext}. */
+class FileIOMetricsMBean implements DynamicMBean {
+  private static final Logger LOG = LoggerFactory.getLogger(FileIOMetricsMBean.class);
+  private static final String DOMAIN = "org.apache.iceberg";
+
+  private final DefaultFileIOMetricsContext context;
+
+  private FileIOMetricsMBean(DefaultFileIOMetricsContext context) {
+    this.context = context;
+  }
+
+  static void register(String scope, DefaultFileIOMetricsContext context) {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      server.registerMBean(new FileIOMetricsMBean(context), objectName(scope));
+    } catch (JMException e) {
+      LOG.warn("Failed to register FileIO metrics MBean for scope {}", scope, e);
+    }
+  }
+
+  static ObjectName objectName(String scope) throws JMException {
+    return new ObjectName(String.format("%s:type=FileIO,name=%s", DOMAIN, ObjectName.quote(scope)));
+  }
+
+  @Override
+  public Object getAttribute(String attribute) throws AttributeNotFoundException {
+    Number value = context.values().get(attribute);
+    if (value == null) {
+      throw new AttributeNotFoundException("Unknown FileIO metric: " + attribute);
+    }
+
+    return value;
+  }
+
+  @Override
+  public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+    throw new AttributeNotFoundException("Cannot set read-only metric: " + attribute.getName());
+  }
+
+  @Override
+  public AttributeList getAttributes(String[] attributes) {
+    Map<String, Number> values = context.values();
+    AttributeList list = new AttributeList();
+    for (String attribute : attributes) {
+      Number value = values.get(attribute);
+      if (value != null) {
+        list.add(new Attribute(attribute, value));
+      }
+    }
+
+    return list;
+  }
+
+  @Override
+  public AttributeList setAttributes(AttributeList attributes) {
+    return new AttributeList();
+  }
+
+  @Override
+  public Object invoke(String actionName, Object[] params, String[] signature)
+      throws ReflectionException {
+    throw new ReflectionException(new NoSuchMethodException(actionName));
+  }
+
+  @Override
+  public MBeanInfo getMBeanInfo() {
+    Map<String, Number> values = context.values();
+    MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[values.size()];
+    int index = 0;
+    for (Map.Entry<String, Number> entry : values.entrySet()) {
+      attributes[index] =
+          new MBeanAttributeInfo(
+              entry.getKey(),
+              entry.getValue().getClass().getName(),
+              entry.getKey(),
+              true,
+              false,
+              false);
+      index += 1;
+    }
+
+    return new MBeanInfo(
+        FileIOMetricsMBean.class.getName(),
+        "FileIO metrics for " + context.scope(),
+        attributes,
+        null,
+        null,
+        null);
+  }
+}
@@ -0,0 +1,465 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.apache.iceberg.exceptions.ForbiddenException;
+import org.apache.iceberg.exceptions.NotAuthorizedException;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
+
+/**
+ * Lists all files under a prefix by fanning out over the sub-prefixes found by a delimited listing.
+ *
+ * <p>Object stores list a prefix one page at a time, so a single listing of a large table is bound
+ * by the latency of each page request. This class lists the first {@code fanoutDepth} levels of
+ * the prefix with a delimiter and then lists every sub-prefix found at that depth recursively, with
+ * up to {@code parallelism} listings running at once. Results are handed to the caller through a
+ * bounded queue, so memory use does not grow with the size of the listing.
+ *
+ * <p>Each prefix is retried independently when the failure is transient. When a recursive listing
+ * fails part way through, the retry skips the entries that were already returned, so listers must
+ * return entries in a deterministic order, which is the case for S3, GCS and ADLS.
+ *
+ * <p>Iterables returned by {@link #list(String)} should be closed, or their iterators exhausted, to
+ * release the worker threads. Callers that only see an {@link Iterable} may stop iterating without
+ * closing it, so workers also give up once the queue has been full and the caller has not taken an
+ * entry for the idle timeout. Iterating a listing after it was abandoned this way fails instead of
+ * returning a partial result.
+ */
+public class ParallelPrefixListing {
+  private static final int DEFAULT_FANOUT_DEPTH = 2;
+  private static final int DEFAULT_RETRIES = 3;
+  private static final int DEFAULT_QUEUE_SIZE = 10_000;
+  private static final int LISTING_POOL_SIZE =
+      Math.max(16, 2 * ThreadPools.WORKER_THREAD_POOL_SIZE);
+  private static final long DEFAULT_IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(5);
+  private static final long OFFER_TIMEOUT_MS = 100;
+  private static final Object END = new Object();
+
+  private static volatile ExecutorService listingPool;
+
+  private final Function<String, Level> levelLister;
+  private final Function<String, Iterable<FileInfo>> recursiveLister;
+  private final int parallelism;
+  private final int fanoutDepth;
+  private final int retries;
+  private final int queueSize;
+  private final long idleTimeoutNanos;
+  private final Predicate<Exception> shouldRetry;
+  private final ExecutorService executor;
+
+  private ParallelPrefixListing(Builder builder) {
+    this.levelLister = builder.levelLister;
+    this.recursiveLister = builder.recursiveLister;
+    this.parallelism = builder.parallelism;
+    this.fanoutDepth = builder.fanoutDepth;
+    this.retries = builder.retries;
+    this.queueSize = builder.queueSize;
+    this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(builder.idleTimeoutMs);
+    this.shouldRetry = builder.shouldRetry;
+    this.executor = builder.executor != null ? builder.executor : listingPool();
+  }
+
+  /**
+   * Creates a builder for a parallel listing.
+   *
+   * @param levelLister lists the files and sub-prefixes directly under a prefix using a delimiter
+   * @param recursiveLister lists all files under a prefix
+   * @return a builder
+   */
+  public static Builder builder(
+      Function<String, Level> levelLister, Function<String, Iterable<FileInfo>> recursiveLister) {
+    return new Builder(levelLister, recursiveLister);
+  }
+
+  /**
+   * Lists all files under a prefix.
+   *
+   * @param prefix a prefix in the form accepted by the listers
+   * @return a streaming iterable of all files under the prefix
+   */
+  public CloseableIterable<FileInfo> list(String prefix) {
+    return new Listing(prefix);
+  }
+
+  private static ExecutorService listingPool() {
+    if (listingPool == null) {
+      synchronized (ParallelPrefixListing.class) {
+        if (listingPool == null) {
+          listingPool =
+              ThreadPools.newExitingWorkerPool("iceberg-prefix-listing", LISTING_POOL_SIZE);
+        }
+      }
+    }
+
+    return listingPool;
+  }
+
+  /** Returns false for failures that will not succeed on a retry, such as missing permissions. */
+  private static boolean isRetryable(Exception e) {
+    return !(e instanceof NotFoundException
+        || e instanceof ForbiddenException
+        || e instanceof NotAuthorizedException
+        || e instanceof IllegalArgumentException
+        || e instanceof UnsupportedOperationException);
+  }
+
+  /** The files and sub-prefixes directly under a prefix, as returned by a delimited listing. */
+  public static class Level {
+    private final List<FileInfo> files;
+    private final List<String> prefixes;
+
+    public Level(List<FileInfo> files, List<String> prefixes) {
+      this.files = ImmutableList.copyOf(files);
+      this.prefixes = ImmutableList.copyOf(prefixes);
+    }
+
+    public List<FileInfo> files() {
+      return files;
+    }
+
+    public List<String> prefixes() {
+      return prefixes;
+    }
+  }
+
+  public static class Builder {
+    private final Function<String, Level> levelLister;
+    private final Function<String, Iterable<FileInfo>> recursiveLister;
+    private int parallelism = ThreadPools.WORKER_THREAD_POOL_SIZE;
+    private int fanoutDepth = DEFAULT_FANOUT_DEPTH;
+    private int retries = DEFAULT_RETRIES;
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+    private long idleTimeoutMs = DEFAULT_IDLE_TIMEOUT_MS;
+    private Predicate<Exception> shouldRetry = ParallelPrefixListing::isRetryable;
+    private ExecutorService executor = null;
+
+    private Builder(
+        Function<String, Level> levelLister, Function<String, Iterable<FileInfo>> recursiveLister) {
+      this.levelLister = Preconditions.checkNotNull(levelLister, "Invalid level lister: null");
+      this.recursiveLister =
+          Preconditions.checkNotNull(recursiveLister, "Invalid recursive lister: null");
+    }
+
+    /** Sets the maximum number of prefixes listed concurrently by one listing. */
+    public Builder parallelism(int newParallelism) {
+      Preconditions.checkArgument(
+          newParallelism > 0, "Invalid parallelism: %s (must be > 0)", newParallelism);
+      this.parallelism = newParallelism;
+      return this;
+    }
+
+    /** Sets the number of levels listed with a delimiter before sub-prefixes are listed fully. */
+    public Builder fanoutDepth(int newFanoutDepth) {
+      Preconditions.checkArgument(
+          newFanoutDepth >= 0, "Invalid fanout depth: %s (must be >= 0)", newFanoutDepth);
+      this.fanoutDepth = newFanoutDepth;
+      return this;
+    }
+
+    /** Sets the number of times listing a single prefix is retried. */
+    public Builder retries(int newRetries) {
+      Preconditions.checkArgument(
+          newRetries >= 0, "Invalid retries: %s (must be >= 0)", newRetries);
+      this.retries = newRetries;
+      return this;
+    }
+
+    /** Sets the number of listed files buffered ahead of the caller. */
+    public Builder queueSize(int newQueueSize) {
+      Preconditions.checkArgument(
+          newQueueSize > 0, "Invalid queue size: %s (must be > 0)", newQueueSize);
+      this.queueSize = newQueueSize;
+      return this;
+    }
+
+    /**
+     * Sets how long workers wait for a caller that stopped taking entries before the listing is
+     * abandoned.
+     */
+    public Builder idleTimeoutMs(long newIdleTimeoutMs) {
+      Preconditions.checkArgument(
+          newIdleTimeoutMs > 0, "Invalid idle timeout: %s (must be > 0)", newIdleTimeoutMs);
+      this.idleTimeoutMs = newIdleTimeoutMs;
+      return this;
+    }
+
+    /**
+     * Sets the test for failures that are retried, defaults to all failures other than missing
+     * files, missing permissions and invalid arguments.
+     */
+    public Builder shouldRetry(Predicate<Exception> newShouldRetry) {
+      this.shouldRetry = Preconditions.checkNotNull(newShouldRetry, "Invalid retry test: null");
+      return this;
+    }
+
+    /** Sets the executor used to run listings, defaults to a shared listing pool. */
+    public Builder executeWith(ExecutorService newExecutor) {
+      this.executor = newExecutor;
+      return this;
+    }
+
+    public ParallelPrefixListing build() {
+      return new ParallelPrefixListing(this);
+    }
+  }
+
+  private class Listing extends CloseableGroup implements CloseableIterable<FileInfo> {
+    private final String prefix;
+
+    private Listing(String prefix) {
+      this.prefix = prefix;
+    }
+
+    @Override
+    public CloseableIterator<FileInfo> iterator() {
+      ListingIterator iter = new ListingIterator(prefix);
+      addCloseable(iter);
+      return iter;
+    }
+  }
+
+  private static class PrefixTask {
+    private final String prefix;
+    private final int depth;
+    // number of files already returned, used to skip them when the listing is retried
+    private long produced = 0L;
+
+    private PrefixTask(String prefix, int depth) {
+      this.prefix = prefix;
+      this.depth = depth;
+    }
+  }
+
+  private static class Failure {
+    private final RuntimeException cause;
+
+    private Failure(RuntimeException cause) {
+      this.cause = cause;
+    }
+  }
+
+  private class ListingIterator implements CloseableIterator<FileInfo> {
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(queueSize);
+    private final Deque<PrefixTask> pending = new ArrayDeque<>();
+    private final List<Future<?>> futures = Lists.newArrayList();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private volatile boolean abandoned = false;
+    private volatile long lastTakeNanos = System.nanoTime();
+    private int running = 0;
+    private boolean started = false;
+    private FileInfo next = null;
+    private boolean done = false;
+
+    private ListingIterator(String prefix) {
+      pending.add(new PrefixTask(prefix, 0));
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (next != null) {
+        return true;
+      } else if (done) {
+        return false;
+      }
+
+      if (!started) {
+        this.started = true;
+        this.lastTakeNanos = System.nanoTime();
+        synchronized (this) {
+          submitPending();
+        }
+      }
+
+      Object item;
+      try {
+        item = take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        close();
+        throw new RuntimeException("Interrupted while listing files", e);
+      }
+
+      if (item == END) {
+        this.done = true;
+        return false;
+      } else if (item instanceof Failure) {
+        close();
+        throw ((Failure) item).cause;
+      }
+
+      this.next = (FileInfo) item;
+      return true;
+    }
+
+    private Object take() throws InterruptedException {
+      Object item;
+      while ((item = queue.poll(OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) == null) {
+        if (abandoned) {
+          throw new IllegalStateException(
+              String.format(
+                  "Listing was abandoned after %s ms without the caller taking an entry",
+                  TimeUnit.NANOSECONDS.toMillis(idleTimeoutNanos)));
+        }
+      }
+
+      this.lastTakeNanos = System.nanoTime();
+      return item;
+    }
+
+    @Override
+    public FileInfo next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      FileInfo result = next;
+      this.next = null;
+      return result;
+    }
+
+    @Override
+    public void close() {
+      closed.set(true);
+      this.done = true;
+
+      synchronized (this) {
+        pending.clear();
+        // running tasks stop at the next file once they see the closed flag
+        futures.forEach(future -> future.cancel(false));
+        futures.clear();
+      }
+
+      queue.clear();
+    }
+
+    // must be called while holding the lock on this iterator
+    private void submitPending() {
+      while (!closed.get() && running < parallelism && !pending.isEmpty()) {
+        PrefixTask task = pending.removeFirst();
+        running += 1;
+        futures.add(executor.submit(() -> run(task)));
+      }
+
+      if (running == 0 && pending.isEmpty()) {
+        offer(END);
+      }
+    }
+
+    private void run(PrefixTask task) {
+      try {
+        Tasks.foreach(task)
+            .retry(retries)
+            .shouldRetryTest(shouldRetry)
+            .exponentialBackoff(100, 5_000, 60_000, 2.0 /* exponential */)
+            .throwFailureWhenFinished()
+            .run(this::list);
+      } catch (RuntimeException e) {
+        offer(new Failure(e));
+        synchronized (this) {
+          pending.clear();
+        }
+      } finally {
+        synchronized (this) {
+          running -= 1;
+          submitPending();
+        }
+      }
+    }
+
+    private void list(PrefixTask task) {
+      if (closed.get()) {
+        return;
+      }
+
+      if (task.depth < fanoutDepth) {
+        Level level = levelLister.apply(task.prefix);
+        for (FileInfo file : level.files()) {
+          if (!offer(file)) {
+            return;
+          }
+        }
+
+        synchronized (this) {
+          for (String subPrefix : level.prefixes()) {
+            pending.addLast(new PrefixTask(subPrefix, task.depth + 1));
+          }
+        }
+
+      } else {
+        long index = 0L;
+        for (FileInfo file : recursiveLister.apply(task.prefix)) {
+          if (index >= task.produced) {
+            if (!offer(file)) {
+              return;
+            }
+
+            task.produced += 1;
+          }
+
+          index += 1;
+        }
+      }
+    }
+
+    /**
+     * Adds an item to the queue, waiting for space. Returns false if the listing was closed or the
+     * caller stopped taking entries.
+     */
+    private boolean offer(Object item) {
+      try {
+        while (!closed.get()) {
+          if (queue.offer(item, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+            return true;
+          } else if (System.nanoTime() - lastTakeNanos > idleTimeoutNanos) {
+            abandon();
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      return false;
+    }
+
+    private void abandon() {
+      this.abandoned = true;
+      closed.set(true);
+      synchronized (this) {
+        pending.clear();
+      }
+    }
+  }
+}
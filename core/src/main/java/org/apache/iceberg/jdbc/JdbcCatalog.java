@@ -21,7 +21,6 @@ package org.apache.iceberg.jdbc;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.sql.DatabaseMetaData;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
@@ -47,8 +46,11 @@ import org.apache.iceberg.TableOperations;
 import org.apache.iceberg.Transaction;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.SupportsNamespaces;
+import org.apache.iceberg.catalog.TableCommit;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.exceptions.CommitStateUnknownException;
 import org.apache.iceberg.exceptions.NamespaceNotEmptyException;
 import org.apache.iceberg.exceptions.NoSuchNamespaceException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
@@ -65,6 +67,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.util.LocationUtil;
+import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.view.BaseMetastoreViewCatalog;
 import org.apache.iceberg.view.ViewMetadata;
@@ -93,6 +96,7 @@ public class JdbcCatalog extends BaseMetastoreViewCatalog
   private boolean initializeCatalogTables;
   private CloseableGroup closeableGroup;
   private JdbcUtil.SchemaVersion schemaVersion = JdbcUtil.SchemaVersion.V0;
+  private int listPageSize = JdbcUtil.LIST_PAGE_SIZE_DEFAULT;
 
   public JdbcCatalog() {
     this(null, null, true);
@@ -141,6 +145,15 @@ public class JdbcCatalog extends BaseMetastoreViewCatalog
       this.connections = new JdbcClientPool(uri, properties);
     }
 
+    this.listPageSize =
+        PropertyUtil.propertyAsInt(
+            properties, JdbcUtil.LIST_PAGE_SIZE_PROPERTY, JdbcUtil.LIST_PAGE_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        listPageSize > 0,
+        "Invalid %s: %s (must be positive)",
+        JdbcUtil.LIST_PAGE_SIZE_PROPERTY,
+        listPageSize);
+
     this.initializeCatalogTables =
         PropertyUtil.propertyAsBoolean(
             properties, JdbcUtil.INIT_CATALOG_TABLES_PROPERTY, initializeCatalogTables);
@@ -326,10 +339,11 @@ public class JdbcCatalog extends BaseMetastoreViewCatalog
       throw new NoSuchNamespaceException("Namespace does not exist: %s", namespace);
     }
 
-    return fetch(
+    return fetchPaged(
         row ->
             JdbcUtil.stringToTableIdentifier(
                 row.getString(JdbcUtil.TABLE_NAMESPACE), row.getString(JdbcUtil.TABLE_NAME)),
+        JdbcUtil.TABLE_NAME,
         (schemaVersion == JdbcUtil.SchemaVersion.V1)
             ? JdbcUtil.V1_LIST_TABLE_SQL
             : JdbcUtil.V0_LIST_TABLE_SQL,
@@ -337,6 +351,84 @@ public class JdbcCatalog extends BaseMetastoreViewCatalog
         JdbcUtil.namespaceToString(namespace));
   }
 
+  /**
+   * Commits changes to several tables atomically.
+   *
+   * <p>Requirements are validated and a new metadata file is written for every table, then the
+   * metadata locations of all tables are swapped in a single database transaction. If any table
+   * was concurrently modified, no table is changed and a {@link CommitFailedException} is thrown.
+   *
+   * @param commits the changes to commit, at most one per table
+   */
+  public void commitTransaction(List<TableCommit> commits) {
+    Preconditions.checkArgument(
+        commits != null && !commits.isEmpty(), "Invalid table commits: null or empty");
+
+    Map<TableIdentifier, Pair<String, String>> locations = Maps.newLinkedHashMap();
+    boolean cleanupMetadata = true;
+    try {
+      for (TableCommit commit : commits) {
+        TableIdentifier identifier = commit.identifier();
+        Preconditions.checkArgument(
+            !locations.containsKey(identifier), "Invalid table commits: duplicate %s", identifier);
+
+        JdbcTableOperations ops = (JdbcTableOperations) newTableOps(identifier);
+        TableMetadata base = ops.current();
+        if (base == null) {
+          throw new NoSuchTableException("Table does not exist: %s", identifier);
+        }
+
+        commit.requirements().forEach(requirement -> requirement.validate(base));
+        TableMetadata.Builder builder = TableMetadata.buildFrom(base);
+        commit.updates().forEach(update -> update.applyTo(builder));
+        TableMetadata updated = builder.build();
+        if (!updated.changes().isEmpty()) {
+          String newMetadataLocation = ops.writeUpdatedMetadata(updated);
+          locations.put(identifier, Pair.of(newMetadataLocation, base.metadataFileLocation()));
+        }
+      }
+
+      if (locations.isEmpty()) {
+        return;
+      }
+
+      boolean committed = JdbcUtil.updateTables(schemaVersion, connections, catalogName, locations);
+      if (!committed) {
+        throw new CommitFailedException(
+            "Cannot commit tables %s: metadata location of at least one table has changed",
+            locations.keySet());
+      }
+
+      cleanupMetadata = false;
+      LOG.info("Committed transaction on tables: {}", locations.keySet());
+
+    } catch (CommitStateUnknownException e) {
+      // the new metadata files may be referenced by the catalog, so they must be kept
+      cleanupMetadata = false;
+      throw e;
+
+    } catch (SQLException e) {
+      throw new UncheckedSQLException(e, "Failed to commit tables: %s", locations.keySet());
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UncheckedInterruptedException(e, "Interrupted during commit");
+
+    } finally {
+      if (cleanupMetadata) {
+        locations.values().forEach(newAndOld -> deleteQuietly(newAndOld.first()));
+      }
+    }
+  }
+
+  private void deleteQuietly(String location) {
+    try {
+      io.deleteFile(location);
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to clean up uncommitted metadata file: {}", location, e);
+    }
+  }
+
   @SuppressWarnings("checkstyle:CyclomaticComplexity")
   @Override
   public void renameTable(TableIdentifier from, TableIdentifier to) {
@@ -423,13 +515,15 @@ public class JdbcCatalog extends BaseMetastoreViewCatalog
   public List<Namespace> listNamespaces() {
     List<Namespace> namespaces = Lists.newArrayList();
     namespaces.addAll(
-        fetch(
+        fetchPaged(
             row -> JdbcUtil.stringToNamespace(row.getString(JdbcUtil.TABLE_NAMESPACE)),
+            JdbcUtil.TABLE_NAMESPACE,
             JdbcUtil.LIST_ALL_NAMESPACES_SQL,
             catalogName));
     namespaces.addAll(
-        fetch(
+        fetchPaged(
             row -> JdbcUtil.stringToNamespace(row.getString(JdbcUtil.NAMESPACE_NAME)),
+            JdbcUtil.NAMESPACE_NAME,
             JdbcUtil.LIST_ALL_PROPERTY_NAMESPACES_SQL,
             catalogName));
 
@@ -458,14 +552,16 @@ public class JdbcCatalog extends BaseMetastoreViewCatalog
 
     List<Namespace> namespaces = Lists.newArrayList();
     namespaces.addAll(
-        fetch(
+        fetchPaged(
             row -> JdbcUtil.stringToNamespace(row.getString(JdbcUtil.TABLE_NAMESPACE)),
+            JdbcUtil.TABLE_NAMESPACE,
             JdbcUtil.LIST_NAMESPACES_SQL,
             catalogName,
             JdbcUtil.namespaceToString(namespace) + "%"));
     namespaces.addAll(
-        fetch(
+        fetchPaged(
             row -> JdbcUtil.stringToNamespace(row.getString(JdbcUtil.NAMESPACE_NAME)),
+            JdbcUtil.NAMESPACE_NAME,
             JdbcUtil.LIST_PROPERTY_NAMESPACES_SQL,
             catalogName,
             JdbcUtil.namespaceToString(namespace) + "%"));
@@ -667,10 +763,11 @@ public class JdbcCatalog extends BaseMetastoreViewCatalog
       throw new NoSuchNamespaceException("Namespace does not exist: %s", namespace);
     }
 
-    return fetch(
+    return fetchPaged(
         row ->
             JdbcUtil.stringToTableIdentifier(
                 row.getString(JdbcUtil.TABLE_NAMESPACE), row.getString(JdbcUtil.TABLE_NAME)),
+        JdbcUtil.TABLE_NAME,
         JdbcUtil.LIST_VIEW_SQL,
         catalogName,
         JdbcUtil.namespaceToString(namespace));
@@ -741,15 +838,14 @@ public class JdbcCatalog extends BaseMetastoreViewCatalog
 
   private int execute(Consumer<SQLException> sqlErrorHandler, String sql, String... args) {
     try {
-      return connections.run(
-          conn -> {
-            try (PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
-              for (int pos = 0; pos < args.length; pos += 1) {
-                preparedStatement.setString(pos + 1, args[pos]);
-              }
-
-              return preparedStatement.executeUpdate();
+      return connections.withStatement(
+          sql,
+          preparedStatement -> {
+            for (int pos = 0; pos < args.length; pos += 1) {
+              preparedStatement.setString(pos + 1, args[pos]);
             }
+
+            return preparedStatement.executeUpdate();
           });
     } catch (SQLException e) {
       sqlErrorHandler.accept(e);
@@ -764,35 +860,72 @@ public class JdbcCatalog extends BaseMetastoreViewCatalog
     R apply(ResultSet result) throws SQLException;
   }
 
-  @SuppressWarnings("checkstyle:NestedTryDepth")
   private <R> List<R> fetch(RowProducer<R> toRow, String sql, String... args) {
+    return fetch(toRow, sql, sql, args);
+  }
+
+  /**
+   * Runs a query, reporting failures with {@code listingSql} so that errors from paged queries name
+   * the listing that failed rather than one of its pages.
+   */
+  private <R> List<R> fetch(
+      RowProducer<R> toRow, String listingSql, String querySql, String[] args) {
     try {
-      return connections.run(
-          conn -> {
+      return connections.withStatement(
+          querySql,
+          preparedStatement -> {
             List<R> result = Lists.newArrayList();
+            for (int pos = 0; pos < args.length; pos += 1) {
+              preparedStatement.setString(pos + 1, args[pos]);
+            }
 
-            try (PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
-              for (int pos = 0; pos < args.length; pos += 1) {
-                preparedStatement.setString(pos + 1, args[pos]);
-              }
-
-              try (ResultSet rs = preparedStatement.executeQuery()) {
-                while (rs.next()) {
-                  result.add(toRow.apply(rs));
-                }
+            try (ResultSet rs = preparedStatement.executeQuery()) {
+              while (rs.next()) {
+                result.add(toRow.apply(rs));
               }
             }
 
             return result;
           });
     } catch (SQLException e) {
-      throw new UncheckedSQLException(e, "Failed to execute query: %s", sql);
+      throw new UncheckedSQLException(e, "Failed to execute query: %s", listingSql);
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       throw new UncheckedInterruptedException(e, "Interrupted in SQL query");
     }
   }
 
+  /**
+   * Runs a listing query in pages of {@link JdbcUtil#LIST_PAGE_SIZE_PROPERTY} rows, using the last
+   * key of each page to seek to the next one. Each page is read with a separate connection checkout
+   * so that large listings do not hold a connection or an open result set for their whole run.
+   *
+   * @param keyColumn a column that is unique within the query results, used to order and seek
+   * @param sql a query that ends with a WHERE clause
+   */
+  private <R> List<R> fetchPaged(
+      RowProducer<R> toRow, String keyColumn, String sql, String... args) {
+    String firstPageSql = sql + " ORDER BY " + keyColumn + " LIMIT " + listPageSize;
+    String nextPageSql =
+        sql + " AND " + keyColumn + " > ? ORDER BY " + keyColumn + " LIMIT " + listPageSize;
+    String[] nextPageArgs = Arrays.copyOf(args, args.length + 1);
+
+    RowProducer<Pair<String, R>> toKeyedRow =
+        row -> Pair.of(row.getString(keyColumn), toRow.apply(row));
+
+    List<R> result = Lists.newArrayList();
+    List<Pair<String, R>> page = fetch(toKeyedRow, sql, firstPageSql, args);
+    while (true) {
+      page.forEach(keyedRow -> result.add(keyedRow.second()));
+      if (page.size() < listPageSize) {
+        return result;
+      }
+
+      nextPageArgs[args.length] = page.get(page.size() - 1).first();
+      page = fetch(toKeyedRow, sql, nextPageSql, nextPageArgs);
+    }
+  }
+
   private Map<String, String> fetchProperties(Namespace namespace) {
     if (!namespaceExists(namespace)) {
       throw new NoSuchNamespaceException("Namespace does not exist: %s", namespace);
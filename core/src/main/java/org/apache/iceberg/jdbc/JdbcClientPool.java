@@ -20,19 +20,27 @@ package org.apache.iceberg.jdbc;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.SQLTransientException;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.ClientPoolImpl;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.PropertyUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class JdbcClientPool extends ClientPoolImpl<Connection, SQLException> {
+  private static final Logger LOG = LoggerFactory.getLogger(JdbcClientPool.class);
 
   /**
    * The following are common retryable SQLSTATEs error codes which are generic across vendors.
@@ -54,6 +62,9 @@ public class JdbcClientPool extends ClientPoolImpl<Connection, SQLException> {
   private final Map<String, String> properties;
 
   private final Set<String> retryableStatusCodes;
+  private final int statementCacheSize;
+  private final Map<Connection, Map<String, PreparedStatement>> statementCache =
+      Maps.newConcurrentMap();
 
   public JdbcClientPool(String dbUrl, Map<String, String> props) {
     this(
@@ -79,6 +90,99 @@ public class JdbcClientPool extends ClientPoolImpl<Connection, SQLException> {
     }
 
     this.dbUrl = dbUrl;
+    this.statementCacheSize =
+        PropertyUtil.propertyAsInt(
+            props,
+            JdbcUtil.STATEMENT_CACHE_SIZE_PROPERTY,
+            JdbcUtil.STATEMENT_CACHE_SIZE_DEFAULT);
+  }
+
+  @FunctionalInterface
+  interface StatementAction<R> {
+    R run(PreparedStatement statement) throws SQLException;
+  }
+
+  /**
+   * Runs an action with a prepared statement for the given SQL on a pooled connection.
+   *
+   * <p>When statement caching is enabled, the statement is kept open and reused by later calls
+   * that run the same SQL on the same connection. Actions must close any result sets they open.
+   */
+  <R> R withStatement(String sql, StatementAction<R> action)
+      throws SQLException, InterruptedException {
+    return run(
+        conn -> {
+          PreparedStatement statement = prepareStatement(conn, sql);
+          try {
+            return action.run(statement);
+          } finally {
+            releaseStatement(statement);
+          }
+        });
+  }
+
+  /**
+   * Returns a prepared statement for the SQL, from the connection's statement cache when caching
+   * is enabled. The statement must be passed to {@link #releaseStatement(PreparedStatement)} after
+   * use.
+   */
+  PreparedStatement prepareStatement(Connection conn, String sql) throws SQLException {
+    if (statementCacheSize <= 0) {
+      return conn.prepareStatement(sql);
+    }
+
+    Map<String, PreparedStatement> statements =
+        statementCache.computeIfAbsent(conn, ignored -> newStatementCache());
+    PreparedStatement statement = statements.get(sql);
+    if (statement == null || statement.isClosed()) {
+      statement = conn.prepareStatement(sql);
+      statements.put(sql, statement);
+    } else {
+      statement.clearParameters();
+    }
+
+    return statement;
+  }
+
+  void releaseStatement(PreparedStatement statement) throws SQLException {
+    if (statementCacheSize <= 0) {
+      statement.close();
+    }
+  }
+
+  @VisibleForTesting
+  int cachedStatementCount() {
+    return statementCache.values().stream().mapToInt(Map::size).sum();
+  }
+
+  private Map<String, PreparedStatement> newStatementCache() {
+    // only the thread that holds the connection uses its cache, so access needs no locking
+    return new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+        if (size() > statementCacheSize) {
+          closeQuietly(eldest.getValue());
+          return true;
+        }
+
+        return false;
+      }
+    };
+  }
+
+  private void closeCachedStatements(Connection client) {
+    Map<String, PreparedStatement> statements = statementCache.remove(client);
+    if (statements != null) {
+      statements.values().forEach(JdbcClientPool::closeQuietly);
+    }
+  }
+
+  private static void closeQuietly(PreparedStatement statement) {
+    try {
+      statement.close();
+    } catch (SQLException e) {
+      LOG.warn("Failed to close cached statement", e);
+    }
   }
 
   @Override
@@ -99,6 +203,7 @@ public class JdbcClientPool extends ClientPoolImpl<Connection, SQLException> {
 
   @Override
   protected void close(Connection client) {
+    closeCachedStatements(client);
     try {
       client.close();
     } catch (SQLException e) {
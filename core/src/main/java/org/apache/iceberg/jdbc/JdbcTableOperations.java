@@ -149,6 +149,14 @@ class JdbcTableOperations extends BaseMetastoreTableOperations {
     }
   }
 
+  /**
+   * Writes a new metadata file for an update that is committed outside of this operations object,
+   * such as a multi-table transaction.
+   */
+  String writeUpdatedMetadata(TableMetadata metadata) {
+    return writeNewMetadataIfRequired(false, metadata);
+  }
+
   private void updateTable(String newMetadataLocation, String oldMetadataLocation)
       throws SQLException, InterruptedException {
     int updatedRecords =
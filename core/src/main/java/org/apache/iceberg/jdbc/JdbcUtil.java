@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.jdbc;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -28,11 +29,13 @@ import java.util.Set;
 import org.apache.iceberg.BaseMetastoreTableOperations;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.CommitStateUnknownException;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.base.Splitter;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.Pair;
 
 final class JdbcUtil {
   // property to control strict-mode (aka check if namespace exists when creating a table)
@@ -45,6 +48,14 @@ final class JdbcUtil {
 
   static final String RETRYABLE_STATUS_CODES = "retryable_status_codes";
 
+  // property to control how many prepared statements are kept open per pooled connection
+  static final String STATEMENT_CACHE_SIZE_PROPERTY =
+      JdbcCatalog.PROPERTY_PREFIX + "statement-cache-size";
+  static final int STATEMENT_CACHE_SIZE_DEFAULT = 0;
+  // property to control how many rows each listing query returns
+  static final String LIST_PAGE_SIZE_PROPERTY = JdbcCatalog.PROPERTY_PREFIX + "list-page-size";
+  static final int LIST_PAGE_SIZE_DEFAULT = 1000;
+
   enum SchemaVersion {
     V0,
     V1
@@ -536,27 +547,38 @@ final class JdbcUtil {
       String newMetadataLocation,
       String oldMetadataLocation)
       throws SQLException, InterruptedException {
-    return connections.run(
-        conn -> {
-          try (PreparedStatement sql =
-              conn.prepareStatement(
-                  (schemaVersion == SchemaVersion.V1)
-                      ? (isTable ? V1_DO_COMMIT_TABLE_SQL : V1_DO_COMMIT_VIEW_SQL)
-                      : V0_DO_COMMIT_SQL)) {
-            // UPDATE
-            sql.setString(1, newMetadataLocation);
-            sql.setString(2, oldMetadataLocation);
-            // WHERE
-            sql.setString(3, catalogName);
-            sql.setString(4, namespaceToString(identifier.namespace()));
-            sql.setString(5, identifier.name());
-            sql.setString(6, oldMetadataLocation);
-
-            return sql.executeUpdate();
-          }
+    return connections.withStatement(
+        updateSql(isTable, schemaVersion),
+        sql -> {
+          setUpdateParameters(
+              sql, catalogName, identifier, newMetadataLocation, oldMetadataLocation);
+          return sql.executeUpdate();
         });
   }
 
+  private static String updateSql(boolean isTable, SchemaVersion schemaVersion) {
+    return (schemaVersion == SchemaVersion.V1)
+        ? (isTable ? V1_DO_COMMIT_TABLE_SQL : V1_DO_COMMIT_VIEW_SQL)
+        : V0_DO_COMMIT_SQL;
+  }
+
+  private static void setUpdateParameters(
+      PreparedStatement sql,
+      String catalogName,
+      TableIdentifier identifier,
+      String newMetadataLocation,
+      String oldMetadataLocation)
+      throws SQLException {
+    // UPDATE
+    sql.setString(1, newMetadataLocation);
+    sql.setString(2, oldMetadataLocation);
+    // WHERE
+    sql.setString(3, catalogName);
+    sql.setString(4, namespaceToString(identifier.namespace()));
+    sql.setString(5, identifier.name());
+    sql.setString(6, oldMetadataLocation);
+  }
+
   static int updateTable(
       SchemaVersion schemaVersion,
       JdbcClientPool connections,
@@ -575,6 +597,80 @@ final class JdbcUtil {
         oldMetadataLocation);
   }
 
+  /**
+   * Swaps the metadata locations of several tables in a single database transaction.
+   *
+   * <p>Either every table is updated or, when the current metadata location of any table no longer
+   * matches its expected old location, the transaction is rolled back and no table is changed.
+   *
+   * @param locations pairs of new and old metadata locations, by table identifier
+   * @return true if all tables were updated, false if the transaction was rolled back
+   * @throws CommitStateUnknownException if the database fails while committing the transaction
+   */
+  static boolean updateTables(
+      SchemaVersion schemaVersion,
+      JdbcClientPool connections,
+      String catalogName,
+      Map<TableIdentifier, Pair<String, String>> locations)
+      throws SQLException, InterruptedException {
+    // a connection failure may hide a successful commit, so the transaction is never retried
+    return connections.run(
+        conn -> {
+          boolean autoCommit = conn.getAutoCommit();
+          conn.setAutoCommit(false);
+          try {
+            return updateInTransaction(conn, schemaVersion, connections, catalogName, locations);
+          } finally {
+            conn.setAutoCommit(autoCommit);
+          }
+        },
+        false);
+  }
+
+  private static boolean updateInTransaction(
+      Connection conn,
+      SchemaVersion schemaVersion,
+      JdbcClientPool connections,
+      String catalogName,
+      Map<TableIdentifier, Pair<String, String>> locations)
+      throws SQLException {
+    try {
+      for (Map.Entry<TableIdentifier, Pair<String, String>> entry : locations.entrySet()) {
+        PreparedStatement sql = connections.prepareStatement(conn, updateSql(true, schemaVersion));
+        try {
+          Pair<String, String> newAndOldLocation = entry.getValue();
+          setUpdateParameters(
+              sql,
+              catalogName,
+              entry.getKey(),
+              newAndOldLocation.first(),
+              newAndOldLocation.second());
+          if (sql.executeUpdate() != 1) {
+            conn.rollback();
+            return false;
+          }
+        } finally {
+          connections.releaseStatement(sql);
+        }
+      }
+    } catch (SQLException e) {
+      try {
+        conn.rollback();
+      } catch (SQLException rollbackFailure) {
+        e.addSuppressed(rollbackFailure);
+      }
+
+      throw e;
+    }
+
+    try {
+      conn.commit();
+      return true;
+    } catch (SQLException e) {
+      throw new CommitStateUnknownException(e);
+    }
+  }
+
   static int updateView(
       JdbcClientPool connections,
       String catalogName,
@@ -599,20 +695,17 @@ final class JdbcUtil {
       String catalogName,
       TableIdentifier identifier)
       throws SQLException, InterruptedException {
-    return connections.run(
-        conn -> {
+    return connections.withStatement(
+        isTable
+            ? ((schemaVersion == SchemaVersion.V1) ? V1_GET_TABLE_SQL : V0_GET_TABLE_SQL)
+            : GET_VIEW_SQL,
+        sql -> {
           Map<String, String> tableOrView = Maps.newHashMap();
+          sql.setString(1, catalogName);
+          sql.setString(2, namespaceToString(identifier.namespace()));
+          sql.setString(3, identifier.name());
 
-          try (PreparedStatement sql =
-              conn.prepareStatement(
-                  isTable
-                      ? ((schemaVersion == SchemaVersion.V1) ? V1_GET_TABLE_SQL : V0_GET_TABLE_SQL)
-                      : GET_VIEW_SQL)) {
-            sql.setString(1, catalogName);
-            sql.setString(2, namespaceToString(identifier.namespace()));
-            sql.setString(3, identifier.name());
-            ResultSet rs = sql.executeQuery();
-
+          try (ResultSet rs = sql.executeQuery()) {
             if (rs.next()) {
               tableOrView.put(CATALOG_NAME, rs.getString(CATALOG_NAME));
               tableOrView.put(TABLE_NAMESPACE, rs.getString(TABLE_NAMESPACE));
@@ -624,8 +717,6 @@ final class JdbcUtil {
                   BaseMetastoreTableOperations.PREVIOUS_METADATA_LOCATION_PROP,
                   rs.getString(BaseMetastoreTableOperations.PREVIOUS_METADATA_LOCATION_PROP));
             }
-
-            rs.close();
           }
 
           return tableOrView;
@@ -659,23 +750,18 @@ final class JdbcUtil {
       TableIdentifier identifier,
       String newMetadataLocation)
       throws SQLException, InterruptedException {
-    return connections.run(
-        conn -> {
-          try (PreparedStatement sql =
-              conn.prepareStatement(
-                  (schemaVersion == SchemaVersion.V1)
-                      ? V1_DO_COMMIT_CREATE_SQL
-                      : V0_DO_COMMIT_CREATE_SQL)) {
-            sql.setString(1, catalogName);
-            sql.setString(2, namespaceToString(namespace));
-            sql.setString(3, identifier.name());
-            sql.setString(4, newMetadataLocation);
-            if (schemaVersion == SchemaVersion.V1) {
-              sql.setString(5, isTable ? TABLE_RECORD_TYPE : VIEW_RECORD_TYPE);
-            }
-
-            return sql.executeUpdate();
+    return connections.withStatement(
+        (schemaVersion == SchemaVersion.V1) ? V1_DO_COMMIT_CREATE_SQL : V0_DO_COMMIT_CREATE_SQL,
+        sql -> {
+          sql.setString(1, catalogName);
+          sql.setString(2, namespaceToString(namespace));
+          sql.setString(3, identifier.name());
+          sql.setString(4, newMetadataLocation);
+          if (schemaVersion == SchemaVersion.V1) {
+            sql.setString(5, isTable ? TABLE_RECORD_TYPE : VIEW_RECORD_TYPE);
           }
+
+          return sql.executeUpdate();
         });
   }
 
@@ -805,24 +891,18 @@ final class JdbcUtil {
         namespaceStartsWith);
   }
 
-  @SuppressWarnings("checkstyle:NestedTryDepth")
   private static boolean exists(JdbcClientPool connections, String sql, String... args) {
     try {
-      return connections.run(
-          conn -> {
-            try (PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
-              for (int pos = 0; pos < args.length; pos += 1) {
-                preparedStatement.setString(pos + 1, args[pos]);
-              }
-
-              try (ResultSet rs = preparedStatement.executeQuery()) {
-                if (rs.next()) {
-                  return true;
-                }
-              }
+      return connections.withStatement(
+          sql,
+          preparedStatement -> {
+            for (int pos = 0; pos < args.length; pos += 1) {
+              preparedStatement.setString(pos + 1, args[pos]);
             }
 
-            return false;
+            try (ResultSet rs = preparedStatement.executeQuery()) {
+              return rs.next();
+            }
           });
     } catch (SQLException e) {
       throw new UncheckedSQLException(e, "Failed to execute exists query: %s", sql);
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.local;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.BulkDeletionFailureException;
+import org.apache.iceberg.io.DelegateFileIO;
+import org.apache.iceberg.io.FileInfo;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.SerializableMap;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DelegateFileIO} for files on a local file system that uses NIO channels directly instead
+ * of going through the Hadoop local file system.
+ *
+ * <p>Input streams for files of at least {@link #MMAP_MIN_FILE_SIZE} bytes are served from a
+ * read-only {@link java.nio.MappedByteBuffer}, and smaller files use positional {@link
+ * java.nio.channels.FileChannel} reads. Streams implement {@link
+ * org.apache.iceberg.io.RangeReadable} and {@link org.apache.iceberg.io.ByteBufferReadable}, so
+ * readers can fetch ranges into their own buffers without intermediate copies. Output streams write
+ * through a {@link java.nio.channels.FileChannel} and no checksum files are created.
+ *
+ * <p>Locations may be plain paths or {@code file:} URIs.
+ */
+public class LocalFileIO implements DelegateFileIO {
+  private static final Logger LOG = LoggerFactory.getLogger(LocalFileIO.class);
+  private static final String FILE_SCHEME = "file:";
+  private static final String DELETE_FILE_POOL_NAME = "iceberg-localfileio-delete";
+  private static volatile ExecutorService executorService;
+
+  /**
+   * Minimum file size in bytes for input streams to memory-map the file. A negative value disables
+   * memory-mapping.
+   */
+  public static final String MMAP_MIN_FILE_SIZE = "local.mmap.min-file-size";
+
+  public static final long MMAP_MIN_FILE_SIZE_DEFAULT = 1024 * 1024;
+
+  /** Whether output streams force file contents to the storage device when closed. */
+  public static final String SYNC_ON_CLOSE = "local.sync-on-close";
+
+  public static final boolean SYNC_ON_CLOSE_DEFAULT = false;
+
+  private SerializableMap<String, String> properties = SerializableMap.copyOf(ImmutableMap.of());
+  private long mmapMinSize = MMAP_MIN_FILE_SIZE_DEFAULT;
+  private boolean syncOnClose = SYNC_ON_CLOSE_DEFAULT;
+
+  /**
+   * No-arg constructor to load the FileIO dynamically.
+   *
+   * <p>All fields are initialized by calling {@link LocalFileIO#initialize(Map)} later.
+   */
+  public LocalFileIO() {}
+
+  @Override
+  public void initialize(Map<String, String> props) {
+    this.properties = SerializableMap.copyOf(props);
+    this.mmapMinSize =
+        PropertyUtil.propertyAsLong(props, MMAP_MIN_FILE_SIZE, MMAP_MIN_FILE_SIZE_DEFAULT);
+    this.syncOnClose = PropertyUtil.propertyAsBoolean(props, SYNC_ON_CLOSE, SYNC_ON_CLOSE_DEFAULT);
+  }
+
+  @Override
+  public Map<String, String> properties() {
+    return properties.immutableMap();
+  }
+
+  @Override
+  public InputFile newInputFile(String location) {
+    return new LocalInputFile(location, toPath(location), null, mmapMinSize);
+  }
+
+  @Override
+  public InputFile newInputFile(String location, long length) {
+    return new LocalInputFile(location, toPath(location), length, mmapMinSize);
+  }
+
+  @Override
+  public OutputFile newOutputFile(String location) {
+    return new LocalOutputFile(location, toPath(location), mmapMinSize, syncOnClose);
+  }
+
+  @Override
+  public void deleteFile(String location) {
+    try {
+      Files.deleteIfExists(toPath(location));
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to delete file: %s", location);
+    }
+  }
+
+  @Override
+  public void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException {
+    AtomicInteger failureCount = new AtomicInteger(0);
+    Tasks.foreach(pathsToDelete)
+        .executeWith(executorService())
+        .suppressFailureWhenFinished()
+        .onFailure(
+            (f, e) -> {
+              LOG.error("Failure during bulk delete on file: {} ", f, e);
+              failureCount.incrementAndGet();
+            })
+        .run(this::deleteFile);
+
+    if (failureCount.get() != 0) {
+      throw new BulkDeletionFailureException(failureCount.get());
+    }
+  }
+
+  @Override
+  public Iterable<FileInfo> listPrefix(String prefix) {
+    Path root = toPath(prefix);
+    boolean asUri = prefix.startsWith(FILE_SCHEME);
+
+    return () -> {
+      if (!Files.exists(root)) {
+        return ImmutableList.<FileInfo>of().iterator();
+      }
+
+      // the walk is consumed eagerly so that its directory handles are always closed
+      try (Stream<Path> paths = Files.walk(root)) {
+        List<FileInfo> files =
+            paths
+                .filter(Files::isRegularFile)
+                .map(path -> fileInfo(path, asUri))
+                .collect(Collectors.toList());
+        return files.iterator();
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to list prefix: %s", prefix);
+      }
+    };
+  }
+
+  @Override
+  public void deletePrefix(String prefix) {
+    Path root = toPath(prefix);
+    if (!Files.exists(root)) {
+      return;
+    }
+
+    try (Stream<Path> paths = Files.walk(root)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(LocalFileIO::deletePath);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to delete prefix: %s", prefix);
+    }
+  }
+
+  private static void deletePath(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to delete: %s", path);
+    }
+  }
+
+  private static FileInfo fileInfo(Path path, boolean asUri) {
+    String location = asUri ? path.toUri().toString() : path.toString();
+    try {
+      BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+      return new FileInfo(location, attrs.size(), attrs.lastModifiedTime().toMillis());
+    } catch (NoSuchFileException e) {
+      // the file was removed while listing
+      return new FileInfo(location, 0L, 0L);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to read attributes of file: %s", path);
+    }
+  }
+
+  static Path toPath(String location) {
+    if (location.startsWith(FILE_SCHEME + "//")) {
+      // file:///path or file://localhost/path
+      String withoutScheme = location.substring(FILE_SCHEME.length() + 2);
+      int pathStart = withoutScheme.indexOf('/');
+      return Paths.get(pathStart < 0 ? "/" : withoutScheme.substring(pathStart));
+    } else if (location.startsWith(FILE_SCHEME)) {
+      return Paths.get(location.substring(FILE_SCHEME.length()));
+    }
+
+    return Paths.get(location);
+  }
+
+  private static ExecutorService executorService() {
+    if (executorService == null) {
+      synchronized (LocalFileIO.class) {
+        if (executorService == null) {
+          executorService =
+              ThreadPools.newExitingWorkerPool(
+                  DELETE_FILE_POOL_NAME, ThreadPools.DELETE_WORKER_THREAD_POOL_SIZE);
+        }
+      }
+    }
+
+    return executorService;
+  }
+}
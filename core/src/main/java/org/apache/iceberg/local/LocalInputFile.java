@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.local;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.SeekableInputStream;
+
+/** An {@link InputFile} for a file on a local file system. */
+public class LocalInputFile implements InputFile {
+  private final String location;
+  private final Path path;
+  private final long mmapMinSize;
+  private Long length;
+
+  LocalInputFile(String location, Path path, Long length, long mmapMinSize) {
+    this.location = location;
+    this.path = path;
+    this.length = length;
+    this.mmapMinSize = mmapMinSize;
+  }
+
+  @Override
+  public long getLength() {
+    if (length == null) {
+      try {
+        this.length = Files.size(path);
+      } catch (NoSuchFileException e) {
+        throw new NotFoundException(e, "File does not exist: %s", location);
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to get length of file: %s", location);
+      }
+    }
+
+    return length;
+  }
+
+  @Override
+  public SeekableInputStream newStream() {
+    FileChannel channel;
+    try {
+      channel = FileChannel.open(path, StandardOpenOption.READ);
+    } catch (NoSuchFileException e) {
+      throw new NotFoundException(e, "File does not exist: %s", location);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to open file: %s", location);
+    }
+
+    try {
+      long fileLength = getLength();
+      MappedByteBuffer mapped = null;
+      if (mmapMinSize >= 0 && fileLength >= mmapMinSize && fileLength <= Integer.MAX_VALUE) {
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileLength);
+      }
+
+      return new LocalInputStream(location, channel, mapped, fileLength);
+    } catch (IOException e) {
+      closeQuietly(channel, e);
+      throw new RuntimeIOException(e, "Failed to map file: %s", location);
+    } catch (RuntimeException e) {
+      closeQuietly(channel, e);
+      throw e;
+    }
+  }
+
+  private static void closeQuietly(FileChannel channel, Exception failure) {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      failure.addSuppressed(e);
+    }
+  }
+
+  @Override
+  public String location() {
+    return location;
+  }
+
+  @Override
+  public boolean exists() {
+    return Files.isRegularFile(path);
+  }
+
+  @Override
+  public String toString() {
+    return location;
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.local;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import org.apache.iceberg.io.ByteBufferReadable;
+import org.apache.iceberg.io.RangeReadable;
+import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.relocated.com.google.common.base.Joiner;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SeekableInputStream} that reads a local file through a {@link FileChannel}.
+ *
+ * <p>When a {@link MappedByteBuffer} of the file is provided, all reads are served from the mapping
+ * and never issue a system call. Otherwise reads use positional {@link FileChannel} reads, so the
+ * stream position is tracked here and the channel is never repositioned.
+ */
+class LocalInputStream extends SeekableInputStream implements RangeReadable, ByteBufferReadable {
+  private static final Logger LOG = LoggerFactory.getLogger(LocalInputStream.class);
+
+  private final StackTraceElement[] createStack;
+  private final String location;
+  private final FileChannel channel;
+  private final MappedByteBuffer mapped;
+  private final long length;
+  private final ByteBuffer singleByte = ByteBuffer.allocate(1);
+
+  private long pos = 0L;
+  private boolean closed = false;
+
+  LocalInputStream(String location, FileChannel channel, MappedByteBuffer mapped, long length) {
+    this.location = location;
+    this.channel = channel;
+    this.mapped = mapped;
+    this.length = length;
+    this.createStack = Thread.currentThread().getStackTrace();
+  }
+
+  @Override
+  public long getPos() {
+    return pos;
+  }
+
+  @Override
+  public void seek(long newPos) {
+    Preconditions.checkState(!closed, "Cannot seek: already closed");
+    Preconditions.checkArgument(newPos >= 0, "Cannot seek: position %s is negative", newPos);
+
+    // this allows a seek beyond the end of the stream but the next read will return -1
+    this.pos = newPos;
+  }
+
+  @Override
+  public long skip(long n) {
+    Preconditions.checkState(!closed, "Cannot skip: already closed");
+    if (n <= 0) {
+      return 0L;
+    }
+
+    long skipped = Math.max(0L, Math.min(n, length - pos));
+    this.pos += skipped;
+    return skipped;
+  }
+
+  @Override
+  public int available() {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    return (int) Math.min(Integer.MAX_VALUE, Math.max(0L, length - pos));
+  }
+
+  @Override
+  public int read() throws IOException {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    if (pos >= length) {
+      return -1;
+    }
+
+    if (mapped != null) {
+      int value = mapped.get((int) pos) & 0xFF;
+      this.pos += 1;
+      return value;
+    }
+
+    singleByte.clear();
+    if (read(singleByte) < 0) {
+      return -1;
+    }
+
+    return singleByte.get(0) & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] bytes, int off, int len) throws IOException {
+    Preconditions.checkPositionIndexes(off, off + len, bytes.length);
+    if (len == 0) {
+      return 0;
+    }
+
+    return read(ByteBuffer.wrap(bytes, off, len));
+  }
+
+  @Override
+  public int read(ByteBuffer buffer) throws IOException {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    if (!buffer.hasRemaining()) {
+      return 0;
+    }
+
+    if (pos >= length) {
+      return -1;
+    }
+
+    int bytesRead = readAt(pos, buffer);
+    if (bytesRead > 0) {
+      this.pos += bytesRead;
+    }
+
+    return bytesRead;
+  }
+
+  @Override
+  public void readFully(long position, byte[] buffer, int offset, int len) throws IOException {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    Preconditions.checkPositionIndexes(offset, offset + len, buffer.length);
+
+    ByteBuffer target = ByteBuffer.wrap(buffer, offset, len);
+    long readPos = position;
+    while (target.hasRemaining()) {
+      int bytesRead = readAt(readPos, target);
+      if (bytesRead < 0) {
+        throw new EOFException(
+            "Reached the end of stream with " + target.remaining() + " bytes left to read");
+      }
+
+      readPos += bytesRead;
+    }
+  }
+
+  @Override
+  public int readTail(byte[] buffer, int offset, int len) throws IOException {
+    Preconditions.checkPositionIndexes(offset, offset + len, buffer.length);
+    int tailLength = (int) Math.min(len, length);
+    readFully(length - tailLength, buffer, offset, tailLength);
+    return tailLength;
+  }
+
+  private int readAt(long position, ByteBuffer target) throws IOException {
+    if (position >= length) {
+      return -1;
+    }
+
+    if (mapped != null) {
+      int toRead = (int) Math.min(target.remaining(), length - position);
+      ByteBuffer source = mapped.duplicate();
+      source.position((int) position);
+      source.limit((int) position + toRead);
+      target.put(source);
+      return toRead;
+    }
+
+    return channel.read(target, position);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!closed) {
+      this.closed = true;
+      super.close();
+      channel.close();
+    }
+  }
+
+  @SuppressWarnings({"checkstyle:NoFinalizer", "Finalize"})
+  @Override
+  protected void finalize() throws Throwable {
+    super.finalize();
+    if (!closed) {
+      close(); // releasing resources is more important than printing the warning
+      String trace = Joiner.on("\n\t").join(Arrays.copyOfRange(createStack, 1, createStack.length));
+      LOG.warn("Unclosed input stream for {} created by:\n\t{}", location, trace);
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.local;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.apache.iceberg.exceptions.AlreadyExistsException;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.PositionOutputStream;
+
+/** An {@link OutputFile} for a file on a local file system. */
+public class LocalOutputFile implements OutputFile {
+  private final String location;
+  private final Path path;
+  private final long mmapMinSize;
+  private final boolean syncOnClose;
+
+  LocalOutputFile(String location, Path path, long mmapMinSize, boolean syncOnClose) {
+    this.location = location;
+    this.path = path;
+    this.mmapMinSize = mmapMinSize;
+    this.syncOnClose = syncOnClose;
+  }
+
+  @Override
+  public PositionOutputStream create() {
+    return open(StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+  }
+
+  @Override
+  public PositionOutputStream createOrOverwrite() {
+    return open(
+        StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  private PositionOutputStream open(OpenOption... options) {
+    try {
+      Path parent = path.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+
+      return new LocalOutputStream(FileChannel.open(path, options), syncOnClose);
+    } catch (FileAlreadyExistsException e) {
+      throw new AlreadyExistsException(e, "File already exists: %s", location);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to create file: %s", location);
+    }
+  }
+
+  @Override
+  public String location() {
+    return location;
+  }
+
+  @Override
+  public InputFile toInputFile() {
+    return new LocalInputFile(location, path, null, mmapMinSize);
+  }
+
+  @Override
+  public String toString() {
+    return location;
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.local;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import org.apache.iceberg.io.PositionOutputStream;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A {@link PositionOutputStream} that writes a local file through a {@link FileChannel}.
+ *
+ * <p>Small writes are collected in a direct buffer so that the channel never has to copy heap
+ * arrays into a temporary direct buffer. Writes that are larger than the buffer go to the channel
+ * directly.
+ */
+class LocalOutputStream extends PositionOutputStream {
+  private static final int BUFFER_SIZE = 256 * 1024;
+
+  private final FileChannel channel;
+  private final boolean syncOnClose;
+  private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+  private long pos = 0L;
+  private boolean closed = false;
+
+  LocalOutputStream(FileChannel channel, boolean syncOnClose) {
+    this.channel = channel;
+    this.syncOnClose = syncOnClose;
+  }
+
+  @Override
+  public long getPos() {
+    return pos;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    Preconditions.checkState(!closed, "Cannot write: already closed");
+    if (!buffer.hasRemaining()) {
+      flushBuffer();
+    }
+
+    buffer.put((byte) b);
+    this.pos += 1;
+  }
+
+  @Override
+  public void write(byte[] bytes, int off, int len) throws IOException {
+    Preconditions.checkState(!closed, "Cannot write: already closed");
+    Preconditions.checkPositionIndexes(off, off + len, bytes.length);
+    if (len > buffer.remaining()) {
+      flushBuffer();
+    }
+
+    if (len >= buffer.capacity()) {
+      writeFully(ByteBuffer.wrap(bytes, off, len));
+    } else {
+      buffer.put(bytes, off, len);
+    }
+
+    this.pos += len;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if (!closed) {
+      flushBuffer();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
+    try {
+      flushBuffer();
+      if (syncOnClose) {
+        channel.force(true);
+      }
+    } finally {
+      this.closed = true;
+      channel.close();
+    }
+  }
+
+  private void flushBuffer() throws IOException {
+    buffer.flip();
+    writeFully(buffer);
+    buffer.clear();
+  }
+
+  private void writeFully(ByteBuffer source) throws IOException {
+    while (source.hasRemaining()) {
+      channel.write(source);
+    }
+  }
+}
@@ -19,6 +19,7 @@
 package org.apache.iceberg.rest;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import org.apache.iceberg.rest.HTTPRequest.HTTPMethod;
 import org.apache.iceberg.rest.auth.AuthSession;
@@ -32,7 +33,8 @@ import org.apache.iceberg.rest.responses.ErrorResponse;
  * method arguments}, then {@linkplain #execute(HTTPRequest, Class, Consumer, Consumer) executed}.
  *
  * <p>This allows subclasses to provide a consistent way to execute all requests, regardless of the
- * method or arguments.
+ * method or arguments. Asynchronous requests are sent synchronously by {@link #executeAsync} unless
+ * a subclass overrides it.
  */
 public abstract class BaseHTTPClient implements RESTClient {
 
@@ -89,6 +91,18 @@ public abstract class BaseHTTPClient implements RESTClient {
     return execute(request, responseType, errorHandler, h -> {}, parserContext);
   }
 
+  @Override
+  public <T extends RESTResponse> T get(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    HTTPRequest request = buildRequest(HTTPMethod.GET, path, queryParams, headers, null);
+    return execute(request, responseType, errorHandler, responseHeaders);
+  }
+
   @Override
   public <T extends RESTResponse> T post(
       String path,
@@ -125,6 +139,29 @@ public abstract class BaseHTTPClient implements RESTClient {
     return execute(request, responseType, errorHandler, responseHeaders, parserContext);
   }
 
+  @Override
+  public <T extends RESTResponse> CompletableFuture<T> getAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    HTTPRequest request = buildRequest(HTTPMethod.GET, path, queryParams, headers, null);
+    return executeAsync(request, responseType, errorHandler, responseHeaders);
+  }
+
+  @Override
+  public <T extends RESTResponse> CompletableFuture<T> postAsync(
+      String path,
+      RESTRequest body,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    HTTPRequest request = buildRequest(HTTPMethod.POST, path, null, headers, body);
+    return executeAsync(request, responseType, errorHandler, h -> {});
+  }
+
   @Override
   public <T extends RESTResponse> T postForm(
       String path,
@@ -161,4 +198,17 @@ public abstract class BaseHTTPClient implements RESTClient {
 
     return execute(request, responseType, errorHandler, responseHeaders);
   }
+
+  protected <T extends RESTResponse> CompletableFuture<T> executeAsync(
+      HTTPRequest request,
+      Class<T> responseType,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    try {
+      return CompletableFuture.completedFuture(
+          execute(request, responseType, errorHandler, responseHeaders));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
 }
@@ -23,6 +23,8 @@ import static org.apache.iceberg.TableProperties.COMMIT_MIN_RETRY_WAIT_MS_DEFAUL
 import static org.apache.iceberg.TableProperties.COMMIT_NUM_RETRIES_DEFAULT;
 import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS_DEFAULT;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.Collections;
@@ -30,15 +32,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import org.apache.iceberg.BaseMetadataTable;
 import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.BaseTransaction;
+import org.apache.iceberg.CombinedScanTask;
+import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.MetadataUpdate.UpgradeFormatVersion;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.SortOrder;
+import org.apache.iceberg.Scan;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.TableOperations;
@@ -52,25 +58,34 @@ import org.apache.iceberg.catalog.ViewCatalog;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
 import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.NoSuchNamespaceException;
+import org.apache.iceberg.exceptions.NoSuchPlanIdException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.exceptions.NoSuchViewException;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
 import org.apache.iceberg.rest.requests.CreateViewRequest;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
 import org.apache.iceberg.rest.requests.RegisterTableRequest;
 import org.apache.iceberg.rest.requests.RenameTableRequest;
 import org.apache.iceberg.rest.requests.UpdateNamespacePropertiesRequest;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
 import org.apache.iceberg.rest.responses.CreateNamespaceResponse;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
 import org.apache.iceberg.rest.responses.GetNamespaceResponse;
 import org.apache.iceberg.rest.responses.ImmutableLoadViewResponse;
 import org.apache.iceberg.rest.responses.ListNamespacesResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
 import org.apache.iceberg.rest.responses.LoadViewResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
 import org.apache.iceberg.rest.responses.UpdateNamespacePropertiesResponse;
 import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.Tasks;
@@ -85,6 +100,11 @@ import org.apache.iceberg.view.ViewRepresentation;
 public class CatalogHandlers {
   private static final Schema EMPTY_SCHEMA = new Schema();
   private static final String INITIAL_PAGE_TOKEN = "";
+  private static final int DEFAULT_TASKS_PER_PLAN_TASK = 100;
+  // plan tasks and their scan tasks that have not been fetched, removed as they are served
+  private static final Map<String, List<String>> PLAN_TASKS_BY_PLAN_ID = Maps.newConcurrentMap();
+  private static final Map<String, List<FileScanTask>> SCAN_TASKS_BY_PLAN_TASK =
+      Maps.newConcurrentMap();
 
   private CatalogHandlers() {}
 
@@ -340,6 +360,154 @@ public class CatalogHandlers {
     throw new IllegalStateException("Cannot wrap catalog that does not produce BaseTable");
   }
 
+  public static PlanTableScanResponse planTableScan(
+      Catalog catalog, TableIdentifier ident, PlanTableScanRequest request) {
+    return planTableScan(catalog, ident, request, DEFAULT_TASKS_PER_PLAN_TASK);
+  }
+
+  /**
+   * Plans a table scan and returns the first batch of file scan tasks.
+   *
+   * <p>Planning is done synchronously, so the response is always completed. Tasks after the first
+   * batch are returned as plan tasks of {@code tasksPerPlanTask} file scan tasks each, which are
+   * kept in memory until they are fetched or the plan is cancelled.
+   */
+  public static PlanTableScanResponse planTableScan(
+      Catalog catalog,
+      TableIdentifier ident,
+      PlanTableScanRequest request,
+      int tasksPerPlanTask) {
+    Preconditions.checkArgument(
+        tasksPerPlanTask > 0, "Invalid tasks per plan task: %s (must be > 0)", tasksPerPlanTask);
+    request.validate();
+
+    Table table = catalog.loadTable(ident);
+    List<FileScanTask> tasks;
+    try (CloseableIterable<FileScanTask> planned = planFiles(table, request)) {
+      tasks = Lists.newArrayList(planned);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    PlanTableScanResponse.Builder response =
+        PlanTableScanResponse.builder()
+            .withPlanStatus(PlanStatus.COMPLETED)
+            .withSpecsById(table.specs())
+            .withFileScanTasks(tasks.subList(0, Math.min(tasksPerPlanTask, tasks.size())));
+
+    if (tasks.size() > tasksPerPlanTask) {
+      String planId = UUID.randomUUID().toString();
+      List<String> planTasks = Lists.newArrayList();
+      for (int start = tasksPerPlanTask; start < tasks.size(); start += tasksPerPlanTask) {
+        String planTask = planId + "-" + planTasks.size();
+        int end = Math.min(start + tasksPerPlanTask, tasks.size());
+        SCAN_TASKS_BY_PLAN_TASK.put(planTask, ImmutableList.copyOf(tasks.subList(start, end)));
+        planTasks.add(planTask);
+      }
+
+      PLAN_TASKS_BY_PLAN_ID.put(planId, ImmutableList.copyOf(planTasks));
+      response.withPlanId(planId).withPlanTasks(planTasks);
+    }
+
+    return response.build();
+  }
+
+  private static CloseableIterable<FileScanTask> planFiles(
+      Table table, PlanTableScanRequest request) {
+    if (request.startSnapshotId() != null) {
+      return configureScan(
+              table
+                  .newIncrementalAppendScan()
+                  .fromSnapshotExclusive(request.startSnapshotId())
+                  .toSnapshot(request.endSnapshotId()),
+              request)
+          .planFiles();
+    } else if (request.snapshotId() != null) {
+      return configureScan(table.newScan().useSnapshot(request.snapshotId()), request).planFiles();
+    } else {
+      return configureScan(table.newScan(), request).planFiles();
+    }
+  }
+
+  private static <T extends Scan<T, FileScanTask, CombinedScanTask>> T configureScan(
+      T scan, PlanTableScanRequest request) {
+    T configured = scan.caseSensitive(request.caseSensitive());
+
+    if (request.select() != null) {
+      configured = configured.select(request.select());
+    }
+
+    if (request.filter() != null) {
+      configured = configured.filter(request.filter());
+    }
+
+    if (request.statsFields() != null) {
+      configured = configured.includeColumnStats(request.statsFields());
+    }
+
+    return configured;
+  }
+
+  /**
+   * Returns the result of a submitted plan.
+   *
+   * <p>Plans are never left in the submitted state, so a known plan is completed and its remaining
+   * plan tasks are returned.
+   *
+   * @throws NoSuchPlanIdException if the plan is unknown, was cancelled, or all of its plan tasks
+   *     have been fetched
+   */
+  public static FetchPlanningResultResponse fetchPlanningResult(
+      Catalog catalog, TableIdentifier ident, String planId) {
+    List<String> planTasks = PLAN_TASKS_BY_PLAN_ID.get(planId);
+    if (planTasks == null) {
+      throw new NoSuchPlanIdException("Plan does not exist: %s", planId);
+    }
+
+    return FetchPlanningResultResponse.builder()
+        .withPlanStatus(PlanStatus.COMPLETED)
+        .withSpecsById(catalog.loadTable(ident).specs())
+        .withPlanTasks(planTasks)
+        .build();
+  }
+
+  /**
+   * Returns the file scan tasks for a plan task.
+   *
+   * <p>Each plan task can be fetched once. The plan is dropped after its last plan task is fetched.
+   */
+  public static FetchScanTasksResponse fetchScanTasks(
+      Catalog catalog, TableIdentifier ident, FetchScanTasksRequest request) {
+    request.validate();
+    String planTask = request.planTask();
+    List<FileScanTask> tasks = SCAN_TASKS_BY_PLAN_TASK.remove(planTask);
+    Preconditions.checkArgument(tasks != null, "Invalid plan task: %s", planTask);
+
+    // plan tasks are named using the plan ID and the task's position in the plan
+    String planId = planTask.substring(0, planTask.lastIndexOf('-'));
+    PLAN_TASKS_BY_PLAN_ID.computeIfPresent(
+        planId,
+        (id, planTasks) -> {
+          List<String> remaining =
+              planTasks.stream()
+                  .filter(task -> !task.equals(planTask))
+                  .collect(ImmutableList.toImmutableList());
+          return remaining.isEmpty() ? null : remaining;
+        });
+
+    return FetchScanTasksResponse.builder()
+        .withSpecsById(catalog.loadTable(ident).specs())
+        .withFileScanTasks(tasks)
+        .build();
+  }
+
+  public static void cancelPlanning(String planId) {
+    List<String> planTasks = PLAN_TASKS_BY_PLAN_ID.remove(planId);
+    if (planTasks != null) {
+      planTasks.forEach(SCAN_TASKS_BY_PLAN_TASK::remove);
+    }
+  }
+
   public static LoadTableResponse updateTable(
       Catalog catalog, TableIdentifier ident, UpdateTableRequest request) {
     TableMetadata finalMetadata;
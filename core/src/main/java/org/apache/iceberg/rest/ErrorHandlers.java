@@ -26,6 +26,7 @@ import org.apache.iceberg.exceptions.CommitStateUnknownException;
 import org.apache.iceberg.exceptions.ForbiddenException;
 import org.apache.iceberg.exceptions.NamespaceNotEmptyException;
 import org.apache.iceberg.exceptions.NoSuchNamespaceException;
+import org.apache.iceberg.exceptions.NoSuchPlanIdException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.exceptions.NoSuchViewException;
 import org.apache.iceberg.exceptions.NotAuthorizedException;
@@ -61,6 +62,10 @@ public class ErrorHandlers {
     return TableErrorHandler.INSTANCE;
   }
 
+  public static Consumer<ErrorResponse> planErrorHandler() {
+    return PlanErrorHandler.INSTANCE;
+  }
+
   public static Consumer<ErrorResponse> viewErrorHandler() {
     return ViewErrorHandler.INSTANCE;
   }
@@ -124,6 +129,20 @@ public class ErrorHandlers {
     }
   }
 
+  /** Scan plan error handler. */
+  private static class PlanErrorHandler extends TableErrorHandler {
+    private static final ErrorHandler INSTANCE = new PlanErrorHandler();
+
+    @Override
+    public void accept(ErrorResponse error) {
+      if (error.code() == 404 && NoSuchPlanIdException.class.getSimpleName().equals(error.type())) {
+        throw new NoSuchPlanIdException("%s", error.message());
+      }
+
+      super.accept(error);
+    }
+  }
+
   /** View commit error handler. */
   private static class ViewCommitErrorHandler extends DefaultErrorHandler {
     private static final ErrorHandler INSTANCE = new ViewCommitErrorHandler();
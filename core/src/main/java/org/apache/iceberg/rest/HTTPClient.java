@@ -21,36 +21,65 @@ package org.apache.iceberg.rest;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.CredentialsProvider;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
 import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
 import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpException;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.ParseException;
 import org.apache.hc.core5.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.nio.AsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.support.classic.AbstractClassicEntityConsumer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
 import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.reactor.ssl.SSLBufferMode;
 import org.apache.iceberg.IcebergBuild;
@@ -65,6 +94,7 @@ import org.apache.iceberg.rest.auth.AuthSession;
 import org.apache.iceberg.rest.auth.TLSConfigurer;
 import org.apache.iceberg.rest.responses.ErrorResponse;
 import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -95,8 +125,18 @@ public class HTTPClient extends BaseHTTPClient {
 
   static final String REST_TLS_CONFIGURER = "rest.client.tls.configurer-impl";
 
+  // when enabled, requests are sent using non-blocking I/O and HTTP/2 is negotiated over TLS
+  static final String REST_ASYNC_ENABLED = "rest.client.async-enabled";
+
+  // bytes of an async response body that are buffered before the parser consumes them
+  private static final int ASYNC_RESPONSE_BUFFER_SIZE = 64 * 1024;
+
   private final URI baseUri;
+  // exactly one of the clients is set, depending on whether async requests are enabled
   private final CloseableHttpClient httpClient;
+  private final CloseableHttpAsyncClient asyncClient;
+  // parses async response bodies, so that parsing does not run on the I/O reactor threads
+  private final ExecutorService responseExecutor;
   private final Map<String, String> baseHeaders;
   private final ObjectMapper mapper;
   private final AuthSession authSession;
@@ -105,39 +145,22 @@ public class HTTPClient extends BaseHTTPClient {
 
   private HTTPClient(
       URI baseUri,
-      HttpHost proxy,
-      CredentialsProvider proxyCredsProvider,
       Map<String, String> baseHeaders,
       ObjectMapper objectMapper,
-      Map<String, String> properties,
-      HttpClientConnectionManager connectionManager,
+      CloseableHttpClient httpClient,
+      CloseableHttpAsyncClient asyncClient,
       AuthSession session) {
     this.baseUri = baseUri;
     this.baseHeaders = baseHeaders;
     this.mapper = objectMapper;
+    this.httpClient = httpClient;
+    this.asyncClient = asyncClient;
+    this.responseExecutor =
+        asyncClient != null
+            ? ThreadPools.newFixedThreadPool(
+                "rest-client-response", ThreadPools.WORKER_THREAD_POOL_SIZE)
+            : null;
     this.authSession = session;
-
-    HttpClientBuilder clientBuilder = HttpClients.custom();
-
-    clientBuilder.setConnectionManager(connectionManager);
-
-    int maxRetries = PropertyUtil.propertyAsInt(properties, REST_MAX_RETRIES, 5);
-    clientBuilder.setRetryStrategy(new ExponentialHttpRequestRetryStrategy(maxRetries));
-
-    String userAgent = PropertyUtil.propertyAsString(properties, REST_USER_AGENT, null);
-    if (userAgent != null) {
-      clientBuilder.setUserAgent(userAgent);
-    }
-
-    if (proxy != null) {
-      if (proxyCredsProvider != null) {
-        clientBuilder.setDefaultCredentialsProvider(proxyCredsProvider);
-      }
-
-      clientBuilder.setProxy(proxy);
-    }
-
-    this.httpClient = clientBuilder.build();
     this.isRootClient = true;
   }
 
@@ -149,6 +172,8 @@ public class HTTPClient extends BaseHTTPClient {
   private HTTPClient(HTTPClient parent, AuthSession authSession) {
     this.baseUri = parent.baseUri;
     this.httpClient = parent.httpClient;
+    this.asyncClient = parent.asyncClient;
+    this.responseExecutor = parent.responseExecutor;
     this.mapper = parent.mapper;
     this.baseHeaders = parent.baseHeaders;
     this.authSession = authSession;
@@ -174,14 +199,27 @@ public class HTTPClient extends BaseHTTPClient {
     }
   }
 
-  private static boolean isSuccessful(CloseableHttpResponse response) {
+  private static String extractResponseBodyAsString(InputStream body, ContentType contentType) {
+    // use the same default charset as EntityUtils.toString for the classic client
+    Charset charset =
+        contentType != null
+            ? contentType.getCharset(StandardCharsets.UTF_8)
+            : StandardCharsets.UTF_8;
+    try {
+      return new String(body.readAllBytes(), charset);
+    } catch (IOException e) {
+      throw new RESTException(e, "Failed to convert HTTP response body to string");
+    }
+  }
+
+  private static boolean isSuccessful(HttpResponse response) {
     int code = response.getCode();
     return code == HttpStatus.SC_OK
         || code == HttpStatus.SC_ACCEPTED
         || code == HttpStatus.SC_NO_CONTENT;
   }
 
-  private static ErrorResponse buildDefaultErrorResponse(CloseableHttpResponse response) {
+  private static ErrorResponse buildDefaultErrorResponse(HttpResponse response) {
     String responseReason = response.getReasonPhrase();
     String message =
         responseReason != null && !responseReason.isEmpty()
@@ -198,7 +236,7 @@ public class HTTPClient extends BaseHTTPClient {
   // Process a failed response through the provided errorHandler, and throw a RESTException if the
   // provided error handler doesn't already throw.
   private static void throwFailure(
-      CloseableHttpResponse response, String responseBody, Consumer<ErrorResponse> errorHandler) {
+      HttpResponse response, String responseBody, Consumer<ErrorResponse> errorHandler) {
     ErrorResponse errorResponse = null;
 
     if (responseBody != null) {
@@ -286,6 +324,26 @@ public class HTTPClient extends BaseHTTPClient {
     return authSession.authenticate(builder.headers(HTTPHeaders.of(allHeaders)).build());
   }
 
+  /**
+   * Returns whether the request body must be sent compressed, which callers request by setting a
+   * {@code Content-Encoding: gzip} header.
+   */
+  private static boolean isGzipEncoded(HTTPRequest req) {
+    return req.headers().entries(HttpHeaders.CONTENT_ENCODING).stream()
+        .anyMatch(header -> "gzip".equalsIgnoreCase(header.value()));
+  }
+
+  private static byte[] gzip(String body) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(body.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to compress request body", e);
+    }
+
+    return bytes.toByteArray();
+  }
+
   @Override
   protected <T extends RESTResponse> T execute(
       HTTPRequest req,
@@ -303,67 +361,375 @@ public class HTTPClient extends BaseHTTPClient {
       Consumer<ErrorResponse> errorHandler,
       Consumer<Map<String, String>> responseHeaders,
       ParserContext parserContext) {
+    if (asyncClient != null) {
+      return RESTUtil.join(
+          executeAsync(req, responseType, errorHandler, responseHeaders, parserContext));
+    }
+
     HttpUriRequestBase request = new HttpUriRequestBase(req.method().name(), req.requestUri());
 
     req.headers().entries().forEach(e -> request.addHeader(e.name(), e.value()));
 
     String encodedBody = req.encodedBody();
-    if (encodedBody != null) {
+    if (encodedBody != null && isGzipEncoded(req)) {
+      request.setEntity(new ByteArrayEntity(gzip(encodedBody), null));
+    } else if (encodedBody != null) {
       request.setEntity(new StringEntity(encodedBody));
     }
 
     try (CloseableHttpResponse response = httpClient.execute(request)) {
-      Map<String, String> respHeaders = Maps.newHashMap();
-      for (Header header : response.getHeaders()) {
-        respHeaders.put(header.getName(), header.getValue());
-      }
+      return handleResponse(
+          req,
+          response,
+          () -> extractResponseBodyAsString(response),
+          () -> response.getEntity() != null ? response.getEntity().getContent() : null,
+          responseType,
+          errorHandler,
+          responseHeaders,
+          parserContext);
+    } catch (IOException e) {
+      throw new RESTException(e, "Error occurred while processing %s request", req.method());
+    }
+  }
 
-      responseHeaders.accept(respHeaders);
+  @Override
+  protected <T extends RESTResponse> CompletableFuture<T> executeAsync(
+      HTTPRequest req,
+      Class<T> responseType,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    if (asyncClient == null) {
+      return super.executeAsync(req, responseType, errorHandler, responseHeaders);
+    }
 
-      // Skip parsing the response stream for any successful request not expecting a response body
-      if (response.getCode() == HttpStatus.SC_NO_CONTENT
-          || (responseType == null && isSuccessful(response))) {
-        return null;
-      }
+    return executeAsync(
+        req, responseType, errorHandler, responseHeaders, ParserContext.builder().build());
+  }
 
-      String responseBody = extractResponseBodyAsString(response);
+  private <T extends RESTResponse> CompletableFuture<T> executeAsync(
+      HTTPRequest req,
+      Class<T> responseType,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders,
+      ParserContext parserContext) {
+    SimpleHttpRequest request = SimpleHttpRequest.create(req.method().name(), req.requestUri());
+
+    req.headers().entries().forEach(e -> request.addHeader(e.name(), e.value()));
+
+    String encodedBody = req.encodedBody();
+    if (encodedBody != null) {
+      Header contentType = request.getFirstHeader(HttpHeaders.CONTENT_TYPE);
+      request.setBody(
+          isGzipEncoded(req) ? gzip(encodedBody) : encodedBody.getBytes(StandardCharsets.UTF_8),
+          contentType != null ? ContentType.parse(contentType.getValue()) : null);
+    }
+
+    CompletableFuture<T> future = new CompletableFuture<>();
+    Future<T> exchange =
+        asyncClient.execute(
+            SimpleRequestProducer.create(request),
+            new ResponseParser<>(req, responseType, errorHandler, responseHeaders, parserContext),
+            new FutureCallback<>() {
+              @Override
+              public void completed(T result) {
+                future.complete(result);
+              }
+
+              @Override
+              public void failed(Exception e) {
+                if (e instanceof RuntimeException) {
+                  // the response was received, but the error handler or the parser failed
+                  future.completeExceptionally(e);
+                } else {
+                  future.completeExceptionally(
+                      new RESTException(
+                          e, "Error occurred while processing %s request", req.method()));
+                }
+              }
+
+              @Override
+              public void cancelled() {
+                future.cancel(false);
+              }
+            });
+
+    // cancelling the returned future aborts the request
+    future.whenComplete(
+        (result, error) -> {
+          if (future.isCancelled()) {
+            exchange.cancel(true);
+          }
+        });
+
+    return future;
+  }
 
-      if (!isSuccessful(response)) {
-        // The provided error handler is expected to throw, but a RESTException is thrown if not.
-        throwFailure(response, responseBody, errorHandler);
+  /**
+   * Handles an async response on the response executor.
+   *
+   * <p>The body is parsed while it is received, so it is not buffered in memory first. The buffer
+   * between the I/O reactor and the parser is bounded and reading pauses when it is full.
+   */
+  private class ResponseParser<T extends RESTResponse> implements AsyncResponseConsumer<T> {
+    private final HTTPRequest req;
+    private final Class<T> responseType;
+    private final Consumer<ErrorResponse> errorHandler;
+    private final Consumer<Map<String, String>> responseHeaders;
+    private final ParserContext parserContext;
+    private final AsyncEntityConsumer<T> bodyConsumer;
+    private volatile HttpResponse response = null;
+
+    private ResponseParser(
+        HTTPRequest req,
+        Class<T> responseType,
+        Consumer<ErrorResponse> errorHandler,
+        Consumer<Map<String, String>> responseHeaders,
+        ParserContext parserContext) {
+      this.req = req;
+      this.responseType = responseType;
+      this.errorHandler = errorHandler;
+      this.responseHeaders = responseHeaders;
+      this.parserContext = parserContext;
+      this.bodyConsumer =
+          new AbstractClassicEntityConsumer<T>(ASYNC_RESPONSE_BUFFER_SIZE, responseExecutor) {
+            @Override
+            protected T consumeData(ContentType contentType, InputStream body) throws IOException {
+              // closing the stream discards the part of the body that was not parsed
+              try (InputStream stream = body) {
+                return handle(
+                    response, () -> extractResponseBodyAsString(stream, contentType), () -> stream);
+              }
+            }
+          };
+    }
+
+    private T handle(HttpResponse httpResponse, Supplier<String> errorBody, ResponseStream body) {
+      return handleResponse(
+          req,
+          httpResponse,
+          errorBody,
+          body,
+          responseType,
+          errorHandler,
+          responseHeaders,
+          parserContext);
+    }
+
+    @Override
+    public void consumeResponse(
+        HttpResponse httpResponse,
+        EntityDetails entityDetails,
+        HttpContext context,
+        FutureCallback<T> resultCallback)
+        throws HttpException, IOException {
+      this.response = httpResponse;
+      if (entityDetails != null) {
+        bodyConsumer.streamStart(entityDetails, resultCallback);
+      } else {
+        responseExecutor.execute(
+            () -> {
+              try {
+                resultCallback.completed(handle(httpResponse, () -> null, () -> null));
+              } catch (RuntimeException e) {
+                resultCallback.failed(e);
+              }
+            });
       }
+    }
+
+    @Override
+    public void informationResponse(HttpResponse httpResponse, HttpContext context) {
+      // informational responses are followed by the final response
+    }
+
+    @Override
+    public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+      bodyConsumer.updateCapacity(capacityChannel);
+    }
+
+    @Override
+    public void consume(ByteBuffer src) throws IOException {
+      bodyConsumer.consume(src);
+    }
+
+    @Override
+    public void streamEnd(List<? extends Header> trailers) throws HttpException, IOException {
+      bodyConsumer.streamEnd(trailers);
+    }
+
+    @Override
+    public void failed(Exception cause) {
+      bodyConsumer.failed(cause);
+    }
+
+    @Override
+    public void releaseResources() {
+      bodyConsumer.releaseResources();
+    }
+  }
+
+  private <T extends RESTResponse> T handleResponse(
+      HTTPRequest req,
+      HttpResponse response,
+      Supplier<String> errorBody,
+      ResponseStream body,
+      Class<T> responseType,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders,
+      ParserContext parserContext) {
+    Map<String, String> respHeaders = Maps.newHashMap();
+    for (Header header : response.getHeaders()) {
+      respHeaders.put(header.getName(), header.getValue());
+    }
+
+    responseHeaders.accept(respHeaders);
 
+    // Skip parsing the response stream for any successful request not expecting a response body
+    // and for conditional requests that the server answered with 304 Not Modified
+    if (response.getCode() == HttpStatus.SC_NO_CONTENT
+        || response.getCode() == HttpStatus.SC_NOT_MODIFIED
+        || (responseType == null && isSuccessful(response))) {
+      return null;
+    }
+
+    if (!isSuccessful(response)) {
+      // The provided error handler is expected to throw, but a RESTException is thrown if not.
+      throwFailure(response, errorBody.get(), errorHandler);
+    }
+
+    // decode directly from the response stream to avoid copying the body into a string
+    try (InputStream responseBody = body.open()) {
       if (responseBody == null) {
         throw new RESTException(
             "Invalid (null) response body for request (expected %s): method=%s, path=%s, status=%d",
             responseType.getSimpleName(), req.method(), req.path(), response.getCode());
       }
 
-      try {
-        ObjectReader reader = objectReaderCache.computeIfAbsent(responseType, mapper::readerFor);
-        if (parserContext != null && !parserContext.isEmpty()) {
-          reader = reader.with(parserContext.toInjectableValues());
-        }
-        return reader.readValue(responseBody);
-      } catch (JsonProcessingException e) {
-        throw new RESTException(
-            e,
-            "Received a success response code of %d, but failed to parse response body into %s",
-            response.getCode(),
-            responseType.getSimpleName());
+      ObjectReader reader = objectReaderCache.computeIfAbsent(responseType, mapper::readerFor);
+      if (parserContext != null && !parserContext.isEmpty()) {
+        reader = reader.with(parserContext.toInjectableValues());
       }
+      return reader.readValue(responseBody);
+    } catch (JsonProcessingException e) {
+      throw new RESTException(
+          e,
+          "Received a success response code of %d, but failed to parse response body into %s",
+          response.getCode(),
+          responseType.getSimpleName());
     } catch (IOException e) {
       throw new RESTException(e, "Error occurred while processing %s request", req.method());
     }
   }
 
+  /** Opens a response body as a stream, or returns null if the response has no body. */
+  @FunctionalInterface
+  private interface ResponseStream {
+    InputStream open() throws IOException;
+  }
+
   @Override
   public void close() throws IOException {
     // Do not close the AuthSession as it's managed by the owner of this HTTPClient.
     // Only close the underlying Apache HTTP client if this is a root HTTPClient.
     if (isRootClient) {
-      httpClient.close(CloseMode.GRACEFUL);
+      if (asyncClient != null) {
+        asyncClient.close(CloseMode.GRACEFUL);
+        responseExecutor.shutdown();
+      } else {
+        httpClient.close(CloseMode.GRACEFUL);
+      }
+    }
+  }
+
+  private static CloseableHttpClient configureHttpClient(
+      Map<String, String> properties, HttpHost proxy, CredentialsProvider proxyCredsProvider) {
+    HttpClientBuilder clientBuilder = HttpClients.custom();
+
+    clientBuilder.setConnectionManager(configureConnectionManager(properties));
+
+    int maxRetries = PropertyUtil.propertyAsInt(properties, REST_MAX_RETRIES, 5);
+    clientBuilder.setRetryStrategy(new ExponentialHttpRequestRetryStrategy(maxRetries));
+
+    String userAgent = PropertyUtil.propertyAsString(properties, REST_USER_AGENT, null);
+    if (userAgent != null) {
+      clientBuilder.setUserAgent(userAgent);
+    }
+
+    if (proxy != null) {
+      if (proxyCredsProvider != null) {
+        clientBuilder.setDefaultCredentialsProvider(proxyCredsProvider);
+      }
+
+      clientBuilder.setProxy(proxy);
+    }
+
+    return clientBuilder.build();
+  }
+
+  private static CloseableHttpAsyncClient configureAsyncHttpClient(
+      Map<String, String> properties, HttpHost proxy, CredentialsProvider proxyCredsProvider) {
+    HttpAsyncClientBuilder clientBuilder = HttpAsyncClients.custom();
+
+    clientBuilder.setConnectionManager(configureAsyncConnectionManager(properties));
+
+    int maxRetries = PropertyUtil.propertyAsInt(properties, REST_MAX_RETRIES, 5);
+    clientBuilder.setRetryStrategy(new ExponentialHttpRequestRetryStrategy(maxRetries));
+
+    String userAgent = PropertyUtil.propertyAsString(properties, REST_USER_AGENT, null);
+    if (userAgent != null) {
+      clientBuilder.setUserAgent(userAgent);
+    }
+
+    if (proxy != null) {
+      if (proxyCredsProvider != null) {
+        clientBuilder.setDefaultCredentialsProvider(proxyCredsProvider);
+      }
+
+      clientBuilder.setProxy(proxy);
     }
+
+    CloseableHttpAsyncClient client = clientBuilder.build();
+    client.start();
+    return client;
+  }
+
+  static AsyncClientConnectionManager configureAsyncConnectionManager(
+      Map<String, String> properties) {
+    PoolingAsyncClientConnectionManagerBuilder connectionManagerBuilder =
+        PoolingAsyncClientConnectionManagerBuilder.create();
+    ConnectionConfig connectionConfig = configureConnectionConfig(properties);
+    if (connectionConfig != null) {
+      connectionManagerBuilder.setDefaultConnectionConfig(connectionConfig);
+    }
+
+    connectionManagerBuilder
+        .useSystemProperties()
+        .setMaxConnTotal(
+            Integer.getInteger(
+                REST_MAX_CONNECTIONS,
+                PropertyUtil.propertyAsInt(
+                    properties, REST_MAX_CONNECTIONS, REST_MAX_CONNECTIONS_DEFAULT)))
+        .setMaxConnPerRoute(
+            PropertyUtil.propertyAsInt(
+                properties,
+                REST_MAX_CONNECTIONS_PER_ROUTE,
+                REST_MAX_CONNECTIONS_PER_ROUTE_DEFAULT))
+        // concurrent requests to servers that support HTTP/2 are multiplexed over one connection
+        .setDefaultTlsConfig(
+            TlsConfig.custom().setVersionPolicy(HttpVersionPolicy.NEGOTIATE).build());
+
+    TLSConfigurer tlsConfigurer = loadTlsConfigurer(properties);
+    if (tlsConfigurer != null) {
+      connectionManagerBuilder.setTlsStrategy(
+          new DefaultClientTlsStrategy(
+              tlsConfigurer.sslContext(),
+              tlsConfigurer.supportedProtocols(),
+              tlsConfigurer.supportedCipherSuites(),
+              SSLBufferMode.STATIC,
+              tlsConfigurer.hostnameVerifier()));
+    }
+
+    return connectionManagerBuilder.build();
   }
 
   static HttpClientConnectionManager configureConnectionManager(Map<String, String> properties) {
@@ -561,14 +927,22 @@ public class HTTPClient extends BaseHTTPClient {
             proxy, "Invalid http client proxy for proxy credentials provider: null");
       }
 
+      if (PropertyUtil.propertyAsBoolean(properties, REST_ASYNC_ENABLED, false)) {
+        return new HTTPClient(
+            uri,
+            baseHeaders,
+            mapper,
+            null,
+            configureAsyncHttpClient(properties, proxy, proxyCredentialsProvider),
+            authSession);
+      }
+
       return new HTTPClient(
           uri,
-          proxy,
-          proxyCredentialsProvider,
           baseHeaders,
           mapper,
-          properties,
-          configureConnectionManager(properties),
+          configureHttpClient(properties, proxy, proxyCredentialsProvider),
+          null,
           authSession);
     }
   }
@@ -106,6 +106,10 @@ public class RESTCatalog
     return delegate.loadTable(ident);
   }
 
+  public List<Table> loadTables(List<TableIdentifier> identifiers) {
+    return sessionCatalog.loadTables(context, identifiers);
+  }
+
   @Override
   public void invalidateTable(TableIdentifier ident) {
     delegate.invalidateTable(ident);
@@ -20,6 +20,7 @@ package org.apache.iceberg.rest;
 
 import java.io.Closeable;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
@@ -117,6 +118,46 @@ public interface RESTClient extends Closeable {
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler);
 
+  /**
+   * Sends a GET request and passes the response headers to the given consumer.
+   *
+   * <p>This is used for conditional requests: when the request has an {@code If-None-Match} header
+   * and the server responds with 304 Not Modified, this method returns null. Clients that cannot
+   * return response headers ignore the consumer, so callers never see an ETag and never send a
+   * conditional request.
+   */
+  default <T extends RESTResponse> T get(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    return get(path, queryParams, responseType, headers, errorHandler);
+  }
+
+  /**
+   * Sends a GET request asynchronously and passes the response headers to the given consumer.
+   *
+   * <p>Errors, including those thrown by the error handler, complete the returned future
+   * exceptionally. Clients that cannot send requests asynchronously send the request before this
+   * method returns.
+   */
+  default <T extends RESTResponse> CompletableFuture<T> getAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    try {
+      return CompletableFuture.completedFuture(
+          get(path, queryParams, responseType, headers, errorHandler, responseHeaders));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   default <T extends RESTResponse> T post(
       String path,
       RESTRequest body,
@@ -171,6 +212,27 @@ public interface RESTClient extends Closeable {
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler);
 
+  /**
+   * Sends a POST request asynchronously.
+   *
+   * <p>Errors, including those thrown by the error handler, complete the returned future
+   * exceptionally. Clients that cannot send requests asynchronously send the request before this
+   * method returns.
+   */
+  default <T extends RESTResponse> CompletableFuture<T> postAsync(
+      String path,
+      RESTRequest body,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    try {
+      return CompletableFuture.completedFuture(
+          post(path, body, responseType, headers, errorHandler));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   default <T extends RESTResponse> T postForm(
       String path,
       Map<String, String> formData,
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects {@link MetricsReport metrics reports} from all {@link RESTMetricsReporter reporters} of
+ * a catalog and sends them in batches from a single background thread.
+ *
+ * <p>Reports are buffered in a bounded queue and sent when the queue holds a full batch or when the
+ * flush interval elapses, whichever comes first. Reporting never blocks the caller: when the queue
+ * is full, the report is dropped and counted in {@link #droppedReports()}.
+ */
+class RESTMetricsBatcher implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(RESTMetricsBatcher.class);
+  private static final long CLOSE_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+
+  private final int batchSize;
+  private final BlockingQueue<PendingReport> queue;
+  private final ScheduledExecutorService executor;
+  private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+  private final AtomicLong droppedReports = new AtomicLong(0L);
+
+  RESTMetricsBatcher(int batchSize, long flushIntervalMs, int queueSize) {
+    Preconditions.checkArgument(batchSize > 0, "Invalid batch size: %s (must be > 0)", batchSize);
+    Preconditions.checkArgument(
+        flushIntervalMs > 0, "Invalid flush interval: %s (must be > 0)", flushIntervalMs);
+    Preconditions.checkArgument(queueSize > 0, "Invalid queue size: %s (must be > 0)", queueSize);
+    this.batchSize = batchSize;
+    this.queue = new ArrayBlockingQueue<>(queueSize);
+    this.executor = ThreadPools.newScheduledPool("rest-metrics-reporter", 1);
+    executor.scheduleWithFixedDelay(
+        this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Adds a report to be sent by the given reporter.
+   *
+   * @return true if the report was queued, false if it was dropped
+   */
+  boolean add(RESTMetricsReporter reporter, MetricsReport report) {
+    if (closed.get() || !queue.offer(new PendingReport(reporter, report))) {
+      long dropped = droppedReports.incrementAndGet();
+      if (dropped == 1 || dropped % 1000 == 0) {
+        LOG.warn(
+            "Dropped {} metrics reports because the reporting queue is full or closed", dropped);
+      }
+
+      return false;
+    }
+
+    if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+      try {
+        executor.execute(this::flush);
+      } catch (RejectedExecutionException e) {
+        // the batcher is closing and will flush the remaining reports itself
+        flushRequested.set(false);
+      }
+    }
+
+    return true;
+  }
+
+  /** Returns the number of reports that were dropped because the queue was full. */
+  long droppedReports() {
+    return droppedReports.get();
+  }
+
+  @VisibleForTesting
+  synchronized void flush() {
+    flushRequested.set(false);
+    List<PendingReport> batch = Lists.newArrayListWithCapacity(batchSize);
+    while (queue.drainTo(batch, batchSize) > 0) {
+      send(batch);
+      batch.clear();
+    }
+  }
+
+  private static void send(List<PendingReport> batch) {
+    Map<RESTMetricsReporter, List<MetricsReport>> reportsByReporter = Maps.newLinkedHashMap();
+    for (PendingReport pending : batch) {
+      reportsByReporter
+          .computeIfAbsent(pending.reporter, reporter -> Lists.newArrayList())
+          .add(pending.report);
+    }
+
+    reportsByReporter.forEach(RESTMetricsReporter::send);
+  }
+
+  @Override
+  public void close() {
+    if (closed.compareAndSet(false, true)) {
+      executor.shutdown();
+      try {
+        if (!executor.awaitTermination(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+          LOG.warn("Timed out waiting for metrics reports to be sent");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      // send anything that was queued after the last scheduled flush
+      flush();
+    }
+  }
+
+  private static class PendingReport {
+    private final RESTMetricsReporter reporter;
+    private final MetricsReport report;
+
+    private PendingReport(RESTMetricsReporter reporter, MetricsReport report) {
+      this.reporter = reporter;
+      this.report = report;
+    }
+  }
+}
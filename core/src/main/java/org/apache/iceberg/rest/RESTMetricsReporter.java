@@ -18,36 +18,50 @@
  */
 package org.apache.iceberg.rest;
 
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 import org.apache.iceberg.metrics.MetricsReport;
 import org.apache.iceberg.metrics.MetricsReporter;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.rest.requests.ReportMetricsBatchRequest;
 import org.apache.iceberg.rest.requests.ReportMetricsRequest;
-import org.apache.iceberg.util.Tasks;
-import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A {@link MetricsReporter} implementation that reports the {@link MetricsReport} to a REST
  * endpoint. This is the default metrics reporter when using {@link RESTCatalog}.
+ *
+ * <p>Reports are queued in the catalog's {@link RESTMetricsBatcher} and sent asynchronously. When
+ * the server supports the batch endpoint, all queued reports for a table are sent in one request.
  */
 class RESTMetricsReporter implements MetricsReporter {
   private static final Logger LOG = LoggerFactory.getLogger(RESTMetricsReporter.class);
-
-  private static final ExecutorService METRICS_EXECUTOR =
-      ThreadPools.newExitingWorkerPool("rest-metrics-reporter", 1);
+  private static final Map<String, String> GZIP_HEADERS =
+      ImmutableMap.of("Content-Encoding", "gzip");
 
   private final RESTClient client;
   private final String metricsEndpoint;
+  private final String batchEndpoint;
   private final Supplier<Map<String, String>> headers;
+  private final RESTMetricsBatcher batcher;
 
+  /**
+   * @param batchEndpoint the batch endpoint for the table, or null if it is not supported
+   * @param compress whether to gzip request bodies
+   */
   RESTMetricsReporter(
-      RESTClient client, String metricsEndpoint, Supplier<Map<String, String>> headers) {
+      RESTClient client,
+      String metricsEndpoint,
+      String batchEndpoint,
+      boolean compress,
+      RESTMetricsBatcher batcher) {
     this.client = client;
     this.metricsEndpoint = metricsEndpoint;
-    this.headers = headers;
+    this.batchEndpoint = batchEndpoint;
+    this.headers = compress ? () -> GZIP_HEADERS : Map::of;
+    this.batcher = batcher;
   }
 
   @Override
@@ -57,21 +71,34 @@ class RESTMetricsReporter implements MetricsReporter {
       return;
     }
 
-    Tasks.range(1)
-        .executeWith(METRICS_EXECUTOR)
-        .suppressFailureWhenFinished()
-        .onFailure(
-            (item, exception) ->
-                LOG.warn(
-                    "Failed to report metrics to REST endpoint {}", metricsEndpoint, exception))
-        .run(
-            item -> {
-              client.post(
-                  metricsEndpoint,
-                  ReportMetricsRequest.of(report),
-                  null,
-                  headers,
-                  ErrorHandlers.defaultErrorHandler());
-            });
+    batcher.add(this, report);
+  }
+
+  void send(List<MetricsReport> reports) {
+    try {
+      if (batchEndpoint != null) {
+        client.post(
+            batchEndpoint,
+            ReportMetricsBatchRequest.of(reports),
+            null,
+            headers,
+            ErrorHandlers.defaultErrorHandler());
+      } else {
+        for (MetricsReport report : reports) {
+          client.post(
+              metricsEndpoint,
+              ReportMetricsRequest.of(report),
+              null,
+              headers,
+              ErrorHandlers.defaultErrorHandler());
+        }
+      }
+    } catch (RuntimeException e) {
+      LOG.warn(
+          "Failed to report {} metrics to REST endpoint {}",
+          reports.size(),
+          batchEndpoint != null ? batchEndpoint : metricsEndpoint,
+          e);
+    }
   }
 }
@@ -28,8 +28,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import java.io.IOException;
+import java.util.Map;
 import org.apache.iceberg.MetadataUpdate;
 import org.apache.iceberg.MetadataUpdateParser;
+import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.PartitionSpecParser;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.SchemaParser;
@@ -46,11 +48,18 @@ import org.apache.iceberg.rest.requests.CommitTransactionRequest;
 import org.apache.iceberg.rest.requests.CommitTransactionRequestParser;
 import org.apache.iceberg.rest.requests.CreateViewRequest;
 import org.apache.iceberg.rest.requests.CreateViewRequestParser;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequestParser;
 import org.apache.iceberg.rest.requests.ImmutableCreateViewRequest;
 import org.apache.iceberg.rest.requests.ImmutableRegisterTableRequest;
+import org.apache.iceberg.rest.requests.ImmutableReportMetricsBatchRequest;
 import org.apache.iceberg.rest.requests.ImmutableReportMetricsRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequestParser;
 import org.apache.iceberg.rest.requests.RegisterTableRequest;
 import org.apache.iceberg.rest.requests.RegisterTableRequestParser;
+import org.apache.iceberg.rest.requests.ReportMetricsBatchRequest;
+import org.apache.iceberg.rest.requests.ReportMetricsBatchRequestParser;
 import org.apache.iceberg.rest.requests.ReportMetricsRequest;
 import org.apache.iceberg.rest.requests.ReportMetricsRequestParser;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
@@ -59,6 +68,10 @@ import org.apache.iceberg.rest.responses.ConfigResponse;
 import org.apache.iceberg.rest.responses.ConfigResponseParser;
 import org.apache.iceberg.rest.responses.ErrorResponse;
 import org.apache.iceberg.rest.responses.ErrorResponseParser;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponseParser;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponseParser;
 import org.apache.iceberg.rest.responses.ImmutableLoadCredentialsResponse;
 import org.apache.iceberg.rest.responses.ImmutableLoadViewResponse;
 import org.apache.iceberg.rest.responses.LoadCredentialsResponse;
@@ -68,9 +81,14 @@ import org.apache.iceberg.rest.responses.LoadTableResponseParser;
 import org.apache.iceberg.rest.responses.LoadViewResponse;
 import org.apache.iceberg.rest.responses.LoadViewResponseParser;
 import org.apache.iceberg.rest.responses.OAuthTokenResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponseParser;
 import org.apache.iceberg.util.JsonUtil;
 
 public class RESTSerializers {
+  // injectable values that are required to parse scan planning responses
+  static final String SPECS_BY_ID = "specsById";
+  static final String CASE_SENSITIVE = "caseSensitive";
 
   private RESTSerializers() {}
 
@@ -102,6 +120,14 @@ public class RESTSerializers {
         .addSerializer(ImmutableReportMetricsRequest.class, new ReportMetricsRequestSerializer<>())
         .addDeserializer(
             ImmutableReportMetricsRequest.class, new ReportMetricsRequestDeserializer<>())
+        .addSerializer(ReportMetricsBatchRequest.class, new ReportMetricsBatchRequestSerializer<>())
+        .addDeserializer(
+            ReportMetricsBatchRequest.class, new ReportMetricsBatchRequestDeserializer<>())
+        .addSerializer(
+            ImmutableReportMetricsBatchRequest.class, new ReportMetricsBatchRequestSerializer<>())
+        .addDeserializer(
+            ImmutableReportMetricsBatchRequest.class,
+            new ReportMetricsBatchRequestDeserializer<>())
         .addSerializer(CommitTransactionRequest.class, new CommitTransactionRequestSerializer())
         .addDeserializer(CommitTransactionRequest.class, new CommitTransactionRequestDeserializer())
         .addSerializer(UpdateTableRequest.class, new UpdateTableRequestSerializer())
@@ -128,7 +154,19 @@ public class RESTSerializers {
             ImmutableLoadCredentialsResponse.class, new LoadCredentialsResponseSerializer<>())
         .addDeserializer(LoadCredentialsResponse.class, new LoadCredentialsResponseDeserializer<>())
         .addDeserializer(
-            ImmutableLoadCredentialsResponse.class, new LoadCredentialsResponseDeserializer<>());
+            ImmutableLoadCredentialsResponse.class, new LoadCredentialsResponseDeserializer<>())
+        .addSerializer(PlanTableScanRequest.class, new PlanTableScanRequestSerializer())
+        .addDeserializer(PlanTableScanRequest.class, new PlanTableScanRequestDeserializer())
+        .addSerializer(FetchScanTasksRequest.class, new FetchScanTasksRequestSerializer())
+        .addDeserializer(FetchScanTasksRequest.class, new FetchScanTasksRequestDeserializer())
+        .addSerializer(PlanTableScanResponse.class, new PlanTableScanResponseSerializer())
+        .addDeserializer(PlanTableScanResponse.class, new PlanTableScanResponseDeserializer())
+        .addSerializer(
+            FetchPlanningResultResponse.class, new FetchPlanningResultResponseSerializer())
+        .addDeserializer(
+            FetchPlanningResultResponse.class, new FetchPlanningResultResponseDeserializer())
+        .addSerializer(FetchScanTasksResponse.class, new FetchScanTasksResponseSerializer())
+        .addDeserializer(FetchScanTasksResponse.class, new FetchScanTasksResponseDeserializer());
 
     mapper.registerModule(module);
   }
@@ -158,8 +196,7 @@ public class RESTSerializers {
     @Override
     public TableMetadata deserialize(JsonParser p, DeserializationContext context)
         throws IOException {
-      JsonNode node = p.getCodec().readTree(p);
-      return TableMetadataParser.fromJson(node);
+      return TableMetadataParser.fromJson(null, p);
     }
   }
 
@@ -330,6 +367,24 @@ public class RESTSerializers {
     }
   }
 
+  public static class ReportMetricsBatchRequestSerializer<T extends ReportMetricsBatchRequest>
+      extends JsonSerializer<T> {
+    @Override
+    public void serialize(T request, JsonGenerator gen, SerializerProvider serializers)
+        throws IOException {
+      ReportMetricsBatchRequestParser.toJson(request, gen);
+    }
+  }
+
+  public static class ReportMetricsBatchRequestDeserializer<T extends ReportMetricsBatchRequest>
+      extends JsonDeserializer<T> {
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext context) throws IOException {
+      JsonNode jsonNode = p.getCodec().readTree(p);
+      return (T) ReportMetricsBatchRequestParser.fromJson(jsonNode);
+    }
+  }
+
   public static class CommitTransactionRequestSerializer
       extends JsonSerializer<CommitTransactionRequest> {
     @Override
@@ -448,8 +503,7 @@ public class RESTSerializers {
       extends JsonDeserializer<T> {
     @Override
     public T deserialize(JsonParser p, DeserializationContext context) throws IOException {
-      JsonNode jsonNode = p.getCodec().readTree(p);
-      return (T) LoadTableResponseParser.fromJson(jsonNode);
+      return (T) LoadTableResponseParser.fromJson(p);
     }
   }
 
@@ -470,4 +524,110 @@ public class RESTSerializers {
       return (T) LoadCredentialsResponseParser.fromJson(jsonNode);
     }
   }
+
+  static class PlanTableScanRequestSerializer extends JsonSerializer<PlanTableScanRequest> {
+    @Override
+    public void serialize(
+        PlanTableScanRequest request, JsonGenerator gen, SerializerProvider serializers)
+        throws IOException {
+      PlanTableScanRequestParser.toJson(request, gen);
+    }
+  }
+
+  static class PlanTableScanRequestDeserializer extends JsonDeserializer<PlanTableScanRequest> {
+    @Override
+    public PlanTableScanRequest deserialize(JsonParser p, DeserializationContext context)
+        throws IOException {
+      JsonNode jsonNode = p.getCodec().readTree(p);
+      return PlanTableScanRequestParser.fromJson(jsonNode);
+    }
+  }
+
+  static class FetchScanTasksRequestSerializer extends JsonSerializer<FetchScanTasksRequest> {
+    @Override
+    public void serialize(
+        FetchScanTasksRequest request, JsonGenerator gen, SerializerProvider serializers)
+        throws IOException {
+      FetchScanTasksRequestParser.toJson(request, gen);
+    }
+  }
+
+  static class FetchScanTasksRequestDeserializer extends JsonDeserializer<FetchScanTasksRequest> {
+    @Override
+    public FetchScanTasksRequest deserialize(JsonParser p, DeserializationContext context)
+        throws IOException {
+      JsonNode jsonNode = p.getCodec().readTree(p);
+      return FetchScanTasksRequestParser.fromJson(jsonNode);
+    }
+  }
+
+  static class PlanTableScanResponseSerializer extends JsonSerializer<PlanTableScanResponse> {
+    @Override
+    public void serialize(
+        PlanTableScanResponse response, JsonGenerator gen, SerializerProvider serializers)
+        throws IOException {
+      PlanTableScanResponseParser.toJson(response, gen);
+    }
+  }
+
+  static class PlanTableScanResponseDeserializer extends JsonDeserializer<PlanTableScanResponse> {
+    @Override
+    public PlanTableScanResponse deserialize(JsonParser p, DeserializationContext context)
+        throws IOException {
+      JsonNode jsonNode = p.getCodec().readTree(p);
+      return PlanTableScanResponseParser.fromJson(
+          jsonNode, specsById(context), caseSensitive(context));
+    }
+  }
+
+  static class FetchPlanningResultResponseSerializer
+      extends JsonSerializer<FetchPlanningResultResponse> {
+    @Override
+    public void serialize(
+        FetchPlanningResultResponse response, JsonGenerator gen, SerializerProvider serializers)
+        throws IOException {
+      FetchPlanningResultResponseParser.toJson(response, gen);
+    }
+  }
+
+  static class FetchPlanningResultResponseDeserializer
+      extends JsonDeserializer<FetchPlanningResultResponse> {
+    @Override
+    public FetchPlanningResultResponse deserialize(JsonParser p, DeserializationContext context)
+        throws IOException {
+      JsonNode jsonNode = p.getCodec().readTree(p);
+      return FetchPlanningResultResponseParser.fromJson(
+          jsonNode, specsById(context), caseSensitive(context));
+    }
+  }
+
+  static class FetchScanTasksResponseSerializer extends JsonSerializer<FetchScanTasksResponse> {
+    @Override
+    public void serialize(
+        FetchScanTasksResponse response, JsonGenerator gen, SerializerProvider serializers)
+        throws IOException {
+      FetchScanTasksResponseParser.toJson(response, gen);
+    }
+  }
+
+  static class FetchScanTasksResponseDeserializer
+      extends JsonDeserializer<FetchScanTasksResponse> {
+    @Override
+    public FetchScanTasksResponse deserialize(JsonParser p, DeserializationContext context)
+        throws IOException {
+      JsonNode jsonNode = p.getCodec().readTree(p);
+      return FetchScanTasksResponseParser.fromJson(
+          jsonNode, specsById(context), caseSensitive(context));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<Integer, PartitionSpec> specsById(DeserializationContext context)
+      throws IOException {
+    return (Map<Integer, PartitionSpec>) context.findInjectableValue(SPECS_BY_ID, null, null);
+  }
+
+  private static boolean caseSensitive(DeserializationContext context) throws IOException {
+    return (Boolean) context.findInjectableValue(CASE_SENSITIVE, null, null);
+  }
 }
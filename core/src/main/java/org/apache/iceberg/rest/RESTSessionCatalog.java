@@ -21,13 +21,19 @@ package org.apache.iceberg.rest;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.CatalogUtil;
@@ -110,6 +116,28 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
   // server supports view endpoints but doesn't send the "endpoints" field in the ConfigResponse
   static final String VIEW_ENDPOINTS_SUPPORTED = "view-endpoints-supported";
   public static final String REST_PAGE_SIZE = "rest-page-size";
+  // parsed load responses are cached and revalidated with ETags only when this is set above 0
+  public static final String REST_TABLE_CACHE_MAX_ENTRIES = "rest-table-cache-max-entries";
+  static final int REST_TABLE_CACHE_MAX_ENTRIES_DEFAULT = 0;
+  public static final String REST_TABLE_CACHE_EXPIRATION_MS = "rest-table-cache-expiration-ms";
+  static final long REST_TABLE_CACHE_EXPIRATION_MS_DEFAULT = TimeUnit.MINUTES.toMillis(10);
+  // when enabled, table scans are planned by the server if it supports the scan planning endpoints
+  public static final String REST_SCAN_PLANNING_ENABLED = "rest-scan-planning-enabled";
+  // the maximum number of concurrent requests sent by loadTables
+  public static final String REST_LOAD_TABLES_CONCURRENCY = "rest-load-tables-concurrency";
+  static final int REST_LOAD_TABLES_CONCURRENCY_DEFAULT = 16;
+  // metrics reports are queued and sent in batches of up to this size
+  static final String REST_METRICS_REPORTING_BATCH_SIZE = "rest-metrics-reporting-batch-size";
+  static final int REST_METRICS_REPORTING_BATCH_SIZE_DEFAULT = 100;
+  // queued metrics reports are sent at least this often
+  static final String REST_METRICS_REPORTING_FLUSH_INTERVAL_MS =
+      "rest-metrics-reporting-flush-interval-ms";
+  static final long REST_METRICS_REPORTING_FLUSH_INTERVAL_MS_DEFAULT = 1_000L;
+  // reports are dropped when this many are already waiting to be sent
+  static final String REST_METRICS_REPORTING_QUEUE_SIZE = "rest-metrics-reporting-queue-size";
+  static final int REST_METRICS_REPORTING_QUEUE_SIZE_DEFAULT = 10_000;
+  static final String REST_METRICS_REPORTING_COMPRESSION_ENABLED =
+      "rest-metrics-reporting-compression-enabled";
 
   // these default endpoints must not be updated in order to maintain backwards compatibility with
   // legacy servers
@@ -155,8 +183,13 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
   private FileIO io = null;
   private MetricsReporter reporter = null;
   private boolean reportingViaRestEnabled;
+  private boolean scanPlanningEnabled;
   private Integer pageSize = null;
+  private int loadTablesConcurrency = REST_LOAD_TABLES_CONCURRENCY_DEFAULT;
+  private RESTTableCache tableCache = null;
   private CloseableGroup closeables = null;
+  private RESTMetricsBatcher metricsBatcher = null;
+  private boolean metricsCompressionEnabled = false;
   private Set<Endpoint> endpoints;
 
   enum SnapshotMode {
@@ -236,6 +269,24 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
           pageSize > 0, "Invalid value for %s, must be a positive integer", REST_PAGE_SIZE);
     }
 
+    this.loadTablesConcurrency =
+        PropertyUtil.propertyAsInt(
+            mergedProps, REST_LOAD_TABLES_CONCURRENCY, REST_LOAD_TABLES_CONCURRENCY_DEFAULT);
+    Preconditions.checkArgument(
+        loadTablesConcurrency > 0,
+        "Invalid value for %s, must be a positive integer",
+        REST_LOAD_TABLES_CONCURRENCY);
+
+    this.tableCache =
+        new RESTTableCache(
+            PropertyUtil.propertyAsInt(
+                mergedProps, REST_TABLE_CACHE_MAX_ENTRIES, REST_TABLE_CACHE_MAX_ENTRIES_DEFAULT),
+            Duration.ofMillis(
+                PropertyUtil.propertyAsLong(
+                    mergedProps,
+                    REST_TABLE_CACHE_EXPIRATION_MS,
+                    REST_TABLE_CACHE_EXPIRATION_MS_DEFAULT)));
+
     this.io = newFileIO(SessionContext.createEmpty(), mergedProps);
 
     this.fileIOTracker = new FileIOTracker();
@@ -253,6 +304,31 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
 
     this.reportingViaRestEnabled =
         PropertyUtil.propertyAsBoolean(mergedProps, REST_METRICS_REPORTING_ENABLED, true);
+    if (reportingViaRestEnabled) {
+      this.metricsBatcher =
+          new RESTMetricsBatcher(
+              PropertyUtil.propertyAsInt(
+                  mergedProps,
+                  REST_METRICS_REPORTING_BATCH_SIZE,
+                  REST_METRICS_REPORTING_BATCH_SIZE_DEFAULT),
+              PropertyUtil.propertyAsLong(
+                  mergedProps,
+                  REST_METRICS_REPORTING_FLUSH_INTERVAL_MS,
+                  REST_METRICS_REPORTING_FLUSH_INTERVAL_MS_DEFAULT),
+              PropertyUtil.propertyAsInt(
+                  mergedProps,
+                  REST_METRICS_REPORTING_QUEUE_SIZE,
+                  REST_METRICS_REPORTING_QUEUE_SIZE_DEFAULT));
+      this.metricsCompressionEnabled =
+          PropertyUtil.propertyAsBoolean(
+              mergedProps, REST_METRICS_REPORTING_COMPRESSION_ENABLED, false);
+    }
+
+    this.scanPlanningEnabled =
+        PropertyUtil.propertyAsBoolean(mergedProps, REST_SCAN_PLANNING_ENABLED, false)
+            && endpoints.contains(Endpoint.V1_SUBMIT_TABLE_SCAN_PLAN)
+            && endpoints.contains(Endpoint.V1_FETCH_TABLE_SCAN_PLAN)
+            && endpoints.contains(Endpoint.V1_FETCH_TABLE_SCAN_PLAN_TASKS);
     super.initialize(name, mergedProps);
   }
 
@@ -298,6 +374,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
   public boolean dropTable(SessionContext context, TableIdentifier identifier) {
     Endpoint.check(endpoints, Endpoint.V1_DELETE_TABLE);
     checkIdentifierIsValid(identifier);
+    tableCache.invalidate(identifier);
 
     try {
       AuthSession contextualSession = authManager.contextualSession(context, catalogAuth);
@@ -314,6 +391,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
   public boolean purgeTable(SessionContext context, TableIdentifier identifier) {
     Endpoint.check(endpoints, Endpoint.V1_DELETE_TABLE);
     checkIdentifierIsValid(identifier);
+    tableCache.invalidate(identifier);
 
     try {
       AuthSession contextualSession = authManager.contextualSession(context, catalogAuth);
@@ -336,6 +414,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
     Endpoint.check(endpoints, Endpoint.V1_RENAME_TABLE);
     checkIdentifierIsValid(from);
     checkIdentifierIsValid(to);
+    tableCache.invalidate(from);
 
     RenameTableRequest request =
         RenameTableRequest.builder().withSource(from).withDestination(to).build();
@@ -368,16 +447,116 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
 
   private LoadTableResponse loadInternal(
       SessionContext context, TableIdentifier identifier, SnapshotMode mode) {
+    return loadWithETag(context, identifier, mode).response();
+  }
+
+  /**
+   * Loads a table, sending the ETag of a cached response so that the server can respond with 304
+   * Not Modified instead of sending the full table metadata again.
+   */
+  private RESTTableCache.CachedResponse loadWithETag(
+      SessionContext context, TableIdentifier identifier, SnapshotMode mode) {
+    return RESTUtil.join(loadWithETagAsync(context, identifier, mode));
+  }
+
+  private CompletableFuture<RESTTableCache.CachedResponse> loadWithETagAsync(
+      SessionContext context, TableIdentifier identifier, SnapshotMode mode) {
     Endpoint.check(endpoints, Endpoint.V1_LOAD_TABLE);
     AuthSession contextualSession = authManager.contextualSession(context, catalogAuth);
-    return client
-        .withAuthSession(contextualSession)
-        .get(
-            paths.table(identifier),
-            mode.params(),
-            LoadTableResponse.class,
-            Map.of(),
-            ErrorHandlers.tableErrorHandler());
+    RESTTableCache.CachedResponse cached = tableCache.get(context.sessionId(), identifier, mode);
+    Map<String, String> headers =
+        cached != null ? Map.of(HttpHeaders.IF_NONE_MATCH, cached.etag()) : Map.of();
+
+    AtomicReference<String> etag = new AtomicReference<>();
+    CompletableFuture<LoadTableResponse> request =
+        client
+            .withAuthSession(contextualSession)
+            .getAsync(
+                paths.table(identifier),
+                mode.params(),
+                LoadTableResponse.class,
+                headers,
+                ErrorHandlers.tableErrorHandler(),
+                responseHeaders -> etag.set(RESTTableCache.etag(responseHeaders)));
+    CompletableFuture<RESTTableCache.CachedResponse> result =
+        request.thenApply(
+            response -> {
+              if (response == null && cached != null) {
+                // the table has not changed since the cached response was loaded
+                return cached;
+              }
+
+              Preconditions.checkState(
+                  response != null, "Invalid response for table %s: null", identifier);
+              RESTTableCache.CachedResponse loaded =
+                  new RESTTableCache.CachedResponse(etag.get(), response);
+              tableCache.put(context.sessionId(), identifier, mode, loaded);
+              return loaded;
+            });
+
+    // cancelling the result cancels the request, which dependent stages do not do on their own
+    result.whenComplete(
+        (loaded, error) -> {
+          if (result.isCancelled()) {
+            request.cancel(false);
+          }
+        });
+
+    return result;
+  }
+
+  /**
+   * Loads tables concurrently, sending at most {@link #REST_LOAD_TABLES_CONCURRENCY} requests at a
+   * time.
+   *
+   * <p>Requests are only sent concurrently when the REST client supports asynchronous requests.
+   * Tables are returned in the order of the given identifiers and the first failure is thrown,
+   * after the requests that are still outstanding are cancelled.
+   */
+  public List<Table> loadTables(SessionContext context, List<TableIdentifier> identifiers) {
+    Endpoint.check(
+        endpoints,
+        Endpoint.V1_LOAD_TABLE,
+        () ->
+            new NoSuchTableException(
+                "Unable to load tables from %s: Server does not support endpoint %s",
+                name(), Endpoint.V1_LOAD_TABLE));
+
+    identifiers.forEach(this::checkIdentifierIsValid);
+
+    Semaphore permits = new Semaphore(loadTablesConcurrency);
+    List<CompletableFuture<RESTTableCache.CachedResponse>> responses =
+        Lists.newArrayListWithExpectedSize(identifiers.size());
+    try {
+      for (TableIdentifier identifier : identifiers) {
+        permits.acquireUninterruptibly();
+        CompletableFuture<RESTTableCache.CachedResponse> response =
+            loadWithETagAsync(context, identifier, snapshotMode);
+        response.whenComplete((loaded, error) -> permits.release());
+        responses.add(response);
+      }
+
+      ImmutableList.Builder<Table> tables = ImmutableList.builder();
+      for (int pos = 0; pos < identifiers.size(); pos += 1) {
+        TableIdentifier identifier = identifiers.get(pos);
+        RESTTableCache.CachedResponse loaded;
+        try {
+          loaded = RESTUtil.join(responses.get(pos));
+        } catch (NoSuchTableException e) {
+          // the identifier may be a metadata table, which loadTable resolves using its base table
+          tables.add(loadTable(context, identifier));
+          continue;
+        }
+
+        tables.add(tableFromResponse(context, identifier, loaded));
+      }
+
+      return tables.build();
+    } catch (RuntimeException e) {
+      // the remaining responses would be discarded, so stop loading them
+      responses.forEach(response -> response.cancel(false));
+      throw e;
+    }
   }
 
   @Override
@@ -393,10 +572,10 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
     checkIdentifierIsValid(identifier);
 
     MetadataTableType metadataType;
-    LoadTableResponse response;
+    RESTTableCache.CachedResponse loaded;
     TableIdentifier loadedIdent;
     try {
-      response = loadInternal(context, identifier, snapshotMode);
+      loaded = loadWithETag(context, identifier, snapshotMode);
       loadedIdent = identifier;
       metadataType = null;
 
@@ -406,7 +585,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
         // attempt to load a metadata table using the identifier's namespace as the base table
         TableIdentifier baseIdent = TableIdentifier.of(identifier.namespace().levels());
         try {
-          response = loadInternal(context, baseIdent, snapshotMode);
+          loaded = loadWithETag(context, baseIdent, snapshotMode);
           loadedIdent = baseIdent;
         } catch (NoSuchTableException ignored) {
           // the base table does not exist
@@ -418,7 +597,19 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
       }
     }
 
-    TableIdentifier finalIdentifier = loadedIdent;
+    BaseTable table = tableFromResponse(context, loadedIdent, loaded);
+    if (metadataType != null) {
+      return MetadataTableUtils.createMetadataTableInstance(table, metadataType);
+    }
+
+    return table;
+  }
+
+  private BaseTable tableFromResponse(
+      SessionContext context,
+      TableIdentifier finalIdentifier,
+      RESTTableCache.CachedResponse loaded) {
+    LoadTableResponse response = loaded.response();
     Map<String, String> tableConf = response.config();
     AuthSession contextualSession = authManager.contextualSession(context, catalogAuth);
     AuthSession tableSession =
@@ -449,17 +640,31 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
             Map::of,
             tableFileIO(context, tableConf, response.credentials()),
             tableMetadata,
+            // refresh loads all snapshots, so the ETag can only be reused if they were loaded
+            snapshotMode == SnapshotMode.ALL ? loaded.etag() : null,
             endpoints);
 
     trackFileIO(ops);
 
-    BaseTable table =
-        new BaseTable(
-            ops,
-            fullTableName(finalIdentifier),
-            metricsReporter(paths.metrics(finalIdentifier), tableClient));
-    if (metadataType != null) {
-      return MetadataTableUtils.createMetadataTableInstance(table, metadataType);
+    BaseTable table;
+    if (scanPlanningEnabled) {
+      table =
+          new RESTTable(
+              ops,
+              fullTableName(finalIdentifier),
+              metricsReporter(finalIdentifier, tableClient),
+              tableClient,
+              paths,
+              finalIdentifier,
+              Map::of,
+              endpoints);
+    } else {
+      // fall back to planning scans locally
+      table =
+          new BaseTable(
+              ops,
+              fullTableName(finalIdentifier),
+              metricsReporter(finalIdentifier, tableClient));
     }
 
     return table;
@@ -471,10 +676,17 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
     }
   }
 
-  private MetricsReporter metricsReporter(String metricsEndpoint, RESTClient restClient) {
+  private MetricsReporter metricsReporter(TableIdentifier ident, RESTClient restClient) {
     if (reportingViaRestEnabled && endpoints.contains(Endpoint.V1_REPORT_METRICS)) {
+      String batchEndpoint =
+          endpoints.contains(Endpoint.V1_REPORT_METRICS_BATCH) ? paths.metricsBatch(ident) : null;
       RESTMetricsReporter restMetricsReporter =
-          new RESTMetricsReporter(restClient, metricsEndpoint, Map::of);
+          new RESTMetricsReporter(
+              restClient,
+              paths.metrics(ident),
+              batchEndpoint,
+              metricsCompressionEnabled,
+              metricsBatcher);
       return MetricsReporters.combine(reporter, restMetricsReporter);
     } else {
       return this.reporter;
@@ -488,7 +700,9 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
   }
 
   @Override
-  public void invalidateTable(SessionContext context, TableIdentifier ident) {}
+  public void invalidateTable(SessionContext context, TableIdentifier ident) {
+    tableCache.invalidate(ident);
+  }
 
   @Override
   public Table registerTable(
@@ -532,8 +746,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
 
     trackFileIO(ops);
 
-    return new BaseTable(
-        ops, fullTableName(ident), metricsReporter(paths.metrics(ident), tableClient));
+    return new BaseTable(ops, fullTableName(ident), metricsReporter(ident, tableClient));
   }
 
   @Override
@@ -669,6 +882,11 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
 
   @Override
   public void close() throws IOException {
+    // pending metrics reports must be sent before the clients are closed
+    if (metricsBatcher != null) {
+      metricsBatcher.close();
+    }
+
     if (closeables != null) {
       closeables.close();
     }
@@ -791,8 +1009,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
 
       trackFileIO(ops);
 
-      return new BaseTable(
-          ops, fullTableName(ident), metricsReporter(paths.metrics(ident), tableClient));
+      return new BaseTable(ops, fullTableName(ident), metricsReporter(ident, tableClient));
     }
 
     @Override
@@ -821,7 +1038,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
       trackFileIO(ops);
 
       return Transactions.createTableTransaction(
-          fullName, ops, meta, metricsReporter(paths.metrics(ident), tableClient));
+          fullName, ops, meta, metricsReporter(ident, tableClient));
     }
 
     @Override
@@ -884,7 +1101,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
       trackFileIO(ops);
 
       return Transactions.replaceTableTransaction(
-          fullName, ops, replacement, metricsReporter(paths.metrics(ident), tableClient));
+          fullName, ops, replacement, metricsReporter(ident, tableClient));
     }
 
     @Override
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.rest.RESTSessionCatalog.SnapshotMode;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
+
+/**
+ * A client-side cache of parsed table load responses and the ETags that were returned with them.
+ *
+ * <p>Cached responses are never returned without revalidation: the cached ETag is sent in an
+ * {@code If-None-Match} header and the cached response is only reused when the server responds
+ * with 304 Not Modified. Entries are scoped to a session because load responses may contain
+ * session-specific config.
+ *
+ * <p>Responses that carry storage credentials are not cached. A 304 response has no body, so the
+ * credentials of a reused response could have expired since it was loaded.
+ */
+class RESTTableCache {
+  private static final List<String> CREDENTIAL_PROPERTY_PARTS =
+      ImmutableList.of("token", "secret", "access-key", "shared-key", "password");
+
+  private final Cache<CacheKey, CachedResponse> responses;
+
+  RESTTableCache(int maxEntries, Duration expireAfterAccess) {
+    Preconditions.checkArgument(
+        maxEntries >= 0, "Invalid table cache size: %s (must be >= 0)", maxEntries);
+    Preconditions.checkArgument(
+        !expireAfterAccess.isNegative(),
+        "Invalid table cache expiration: %s (must be >= 0)",
+        expireAfterAccess);
+    if (maxEntries > 0 && !expireAfterAccess.isZero()) {
+      this.responses =
+          Caffeine.newBuilder()
+              .maximumSize(maxEntries)
+              .expireAfterAccess(expireAfterAccess)
+              .build();
+    } else {
+      this.responses = null;
+    }
+  }
+
+  /** Returns the cached response for a table, or null if there is none. */
+  CachedResponse get(String sessionId, TableIdentifier ident, SnapshotMode mode) {
+    return responses != null ? responses.getIfPresent(new CacheKey(sessionId, ident, mode)) : null;
+  }
+
+  /**
+   * Caches a response if the server returned an ETag for it and it has no credentials, or removes
+   * the stale entry.
+   */
+  void put(String sessionId, TableIdentifier ident, SnapshotMode mode, CachedResponse response) {
+    if (responses != null) {
+      CacheKey key = new CacheKey(sessionId, ident, mode);
+      if (response.etag() != null && !hasCredentials(response.response())) {
+        responses.put(key, response);
+      } else {
+        responses.invalidate(key);
+      }
+    }
+  }
+
+  /** Removes all cached responses for a table, across sessions and snapshot modes. */
+  void invalidate(TableIdentifier ident) {
+    if (responses != null) {
+      responses.asMap().keySet().removeIf(key -> key.ident.equals(ident));
+    }
+  }
+
+  void invalidateAll() {
+    if (responses != null) {
+      responses.invalidateAll();
+    }
+  }
+
+  private static boolean hasCredentials(LoadTableResponse response) {
+    return !response.credentials().isEmpty()
+        || response.config().keySet().stream().anyMatch(RESTTableCache::isCredentialProperty);
+  }
+
+  private static boolean isCredentialProperty(String property) {
+    String lowerCase = property.toLowerCase(Locale.ROOT);
+    return CREDENTIAL_PROPERTY_PARTS.stream().anyMatch(lowerCase::contains);
+  }
+
+  /** Returns the ETag from a map of response headers, or null if there is no ETag header. */
+  static String etag(Map<String, String> responseHeaders) {
+    for (Map.Entry<String, String> header : responseHeaders.entrySet()) {
+      if (HttpHeaders.ETAG.equalsIgnoreCase(header.getKey())) {
+        return header.getValue();
+      }
+    }
+
+    return null;
+  }
+
+  /** A table load response and the ETag the server returned with it, if any. */
+  static class CachedResponse {
+    private final String etag;
+    private final LoadTableResponse response;
+
+    CachedResponse(String etag, LoadTableResponse response) {
+      this.etag = etag;
+      this.response = response;
+    }
+
+    String etag() {
+      return etag;
+    }
+
+    LoadTableResponse response() {
+      return response;
+    }
+  }
+
+  private static class CacheKey {
+    private final String sessionId;
+    private final TableIdentifier ident;
+    private final SnapshotMode mode;
+
+    private CacheKey(String sessionId, TableIdentifier ident, SnapshotMode mode) {
+      this.sessionId = sessionId;
+      this.ident = ident;
+      this.mode = mode;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (!(other instanceof CacheKey)) {
+        return false;
+      }
+
+      CacheKey that = (CacheKey) other;
+      return Objects.equals(sessionId, that.sessionId)
+          && ident.equals(that.ident)
+          && mode == that.mode;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(sessionId, ident, mode);
+    }
+  }
+}
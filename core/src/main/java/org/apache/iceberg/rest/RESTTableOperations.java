@@ -22,8 +22,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.iceberg.LocationProviders;
 import org.apache.iceberg.MetadataUpdate;
 import org.apache.iceberg.TableMetadata;
@@ -36,6 +38,7 @@ import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.LocationProvider;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
 import org.apache.iceberg.rest.responses.ErrorResponse;
@@ -60,6 +63,7 @@ class RESTTableOperations implements TableOperations {
   private final Set<Endpoint> endpoints;
   private UpdateType updateType;
   private TableMetadata current;
+  private String etag;
 
   RESTTableOperations(
       RESTClient client,
@@ -68,7 +72,19 @@ class RESTTableOperations implements TableOperations {
       FileIO io,
       TableMetadata current,
       Set<Endpoint> endpoints) {
+    this(client, path, headers, io, current, null, endpoints);
+  }
+
+  RESTTableOperations(
+      RESTClient client,
+      String path,
+      Supplier<Map<String, String>> headers,
+      FileIO io,
+      TableMetadata current,
+      String etag,
+      Set<Endpoint> endpoints) {
     this(client, path, headers, io, UpdateType.SIMPLE, Lists.newArrayList(), current, endpoints);
+    this.etag = etag;
   }
 
   RESTTableOperations(
@@ -103,8 +119,33 @@ class RESTTableOperations implements TableOperations {
   @Override
   public TableMetadata refresh() {
     Endpoint.check(endpoints, Endpoint.V1_LOAD_TABLE);
-    return updateCurrentMetadata(
-        client.get(path, LoadTableResponse.class, headers, ErrorHandlers.tableErrorHandler()));
+    Map<String, String> requestHeaders = headers.get();
+    if (etag != null && current != null) {
+      requestHeaders =
+          ImmutableMap.<String, String>builder()
+              .putAll(requestHeaders)
+              .put(HttpHeaders.IF_NONE_MATCH, etag)
+              .buildKeepingLast();
+    }
+
+    AtomicReference<String> responseETag = new AtomicReference<>();
+    LoadTableResponse response =
+        client.get(
+            path,
+            ImmutableMap.of(),
+            LoadTableResponse.class,
+            requestHeaders,
+            ErrorHandlers.tableErrorHandler(),
+            responseHeaders -> responseETag.set(RESTTableCache.etag(responseHeaders)));
+
+    if (response == null && etag != null && current != null) {
+      // the server confirmed that the current metadata is still up to date
+      return current;
+    }
+
+    Preconditions.checkState(response != null, "Invalid response for table %s: null", path);
+    this.etag = responseETag.get();
+    return updateCurrentMetadata(response);
   }
 
   @Override
@@ -161,6 +202,9 @@ class RESTTableOperations implements TableOperations {
     // all future commits should be simple commits
     this.updateType = UpdateType.SIMPLE;
 
+    // the ETag of the last load no longer matches the committed metadata
+    this.etag = null;
+
     updateCurrentMetadata(response);
   }
 
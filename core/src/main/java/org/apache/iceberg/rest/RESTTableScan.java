@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.iceberg.DataTableScan;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableScan;
+import org.apache.iceberg.TableScanContext;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.RESTException;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
+import org.apache.iceberg.rest.responses.ErrorResponse;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
+import org.apache.iceberg.types.TypeUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link TableScan} that delegates planning to the REST catalog's scan planning endpoints.
+ *
+ * <p>The initial plan request may return file scan tasks, plan tasks, or both. Plan tasks are
+ * exchanged for more tasks lazily, as the tasks returned by {@link #planFiles()} are consumed, so
+ * that large scans are streamed in batches rather than buffered by the client. Submitted plans are
+ * polled until planning completes, fails, or is cancelled.
+ */
+class RESTTableScan extends DataTableScan {
+  private static final Logger LOG = LoggerFactory.getLogger(RESTTableScan.class);
+  private static final long MIN_POLL_WAIT_MS = 100L;
+  private static final long MAX_POLL_WAIT_MS = 5_000L;
+
+  private final RESTClient client;
+  private final ResourcePaths paths;
+  private final TableIdentifier ident;
+  private final Supplier<Map<String, String>> headers;
+  private final Set<Endpoint> endpoints;
+
+  RESTTableScan(
+      Table table,
+      Schema schema,
+      TableScanContext context,
+      RESTClient client,
+      ResourcePaths paths,
+      TableIdentifier ident,
+      Supplier<Map<String, String>> headers,
+      Set<Endpoint> endpoints) {
+    super(table, schema, context);
+    this.client = client;
+    this.paths = paths;
+    this.ident = ident;
+    this.headers = headers;
+    this.endpoints = endpoints;
+  }
+
+  @Override
+  protected TableScan newRefinedScan(Table table, Schema schema, TableScanContext context) {
+    return new RESTTableScan(table, schema, context, client, paths, ident, headers, endpoints);
+  }
+
+  @Override
+  public CloseableIterable<FileScanTask> doPlanFiles() {
+    ParserContext parserContext =
+        ParserContext.builder()
+            .add(RESTSerializers.SPECS_BY_ID, table().specs())
+            .add(RESTSerializers.CASE_SENSITIVE, isCaseSensitive())
+            .build();
+
+    PlanTableScanResponse response =
+        client.post(
+            paths.planTableScan(ident),
+            planRequest(),
+            PlanTableScanResponse.class,
+            headers.get(),
+            ErrorHandlers.tableErrorHandler(),
+            responseHeaders -> {},
+            parserContext);
+
+    String planId = response.planId();
+    PlanStatus status = response.planStatus();
+    ErrorResponse error = response.error();
+    List<String> planTasks = response.planTasks();
+    List<FileScanTask> fileScanTasks = response.fileScanTasks();
+
+    long waitMs = MIN_POLL_WAIT_MS;
+    while (status == PlanStatus.SUBMITTED) {
+      sleep(planId, waitMs);
+      waitMs = Math.min(waitMs * 2, MAX_POLL_WAIT_MS);
+
+      FetchPlanningResultResponse result =
+          client.get(
+              paths.plan(ident, planId),
+              Map.of(),
+              FetchPlanningResultResponse.class,
+              headers.get(),
+              ErrorHandlers.planErrorHandler(),
+              parserContext);
+      status = result.planStatus();
+      error = result.error();
+      planTasks = result.planTasks();
+      fileScanTasks = result.fileScanTasks();
+    }
+
+    switch (status) {
+      case COMPLETED:
+        return new ScanTasks(planId, planTasks, fileScanTasks, parserContext);
+      case FAILED:
+        ErrorHandlers.tableErrorHandler().accept(error);
+        throw new RESTException("Failed to plan scan for table %s: %s", ident, error);
+      case CANCELLED:
+        throw new RESTException("Failed to plan scan for table %s: plan was cancelled", ident);
+      default:
+        throw new RESTException("Invalid plan status for table %s: %s", ident, status);
+    }
+  }
+
+  private PlanTableScanRequest planRequest() {
+    PlanTableScanRequest.Builder builder =
+        PlanTableScanRequest.builder()
+            .withSnapshotId(snapshot().snapshotId())
+            .withFilter(filter())
+            .withCaseSensitive(isCaseSensitive())
+            // the schema of a time-travel scan is the snapshot's schema
+            .withUseSnapshotSchema(snapshotId() != null);
+
+    Collection<String> selectedColumns = context().selectedColumns();
+    if (selectedColumns != null) {
+      builder.withSelect(ImmutableList.copyOf(selectedColumns));
+    }
+
+    if (shouldReturnColumnStats()) {
+      Set<Integer> statsIds = columnsToKeepStats();
+      if (statsIds == null) {
+        statsIds = TypeUtil.getProjectedIds(tableSchema());
+      }
+
+      builder.withStatsFields(
+          statsIds.stream().map(tableSchema()::findColumnName).collect(Collectors.toList()));
+    }
+
+    return builder.build();
+  }
+
+  private void sleep(String planId, long waitMs) {
+    try {
+      Thread.sleep(waitMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      cancel(planId);
+      throw new RESTException(e, "Interrupted while waiting for scan plan %s", planId);
+    }
+  }
+
+  private void cancel(String planId) {
+    if (planId != null && endpoints.contains(Endpoint.V1_CANCEL_TABLE_SCAN_PLAN)) {
+      try {
+        client.delete(
+            paths.plan(ident, planId), null, headers.get(), ErrorHandlers.tableErrorHandler());
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to cancel scan plan {} for table {}", planId, ident, e);
+      }
+    }
+  }
+
+  /** Scan tasks that fetch the tasks for remaining plan tasks as they are consumed. */
+  private class ScanTasks implements CloseableIterable<FileScanTask> {
+    private final String planId;
+    private final List<String> planTasks;
+    private final List<FileScanTask> fileScanTasks;
+    private final ParserContext parserContext;
+
+    private ScanTasks(
+        String planId,
+        List<String> planTasks,
+        List<FileScanTask> fileScanTasks,
+        ParserContext parserContext) {
+      this.planId = planId;
+      this.planTasks = planTasks != null ? planTasks : ImmutableList.of();
+      this.fileScanTasks = fileScanTasks != null ? fileScanTasks : ImmutableList.of();
+      this.parserContext = parserContext;
+    }
+
+    @Override
+    public CloseableIterator<FileScanTask> iterator() {
+      return new ScanTaskIterator(planId, planTasks, fileScanTasks, parserContext);
+    }
+
+    @Override
+    public void close() {}
+  }
+
+  private class ScanTaskIterator implements CloseableIterator<FileScanTask> {
+    private final String planId;
+    private final Deque<String> remainingPlanTasks;
+    private final ParserContext parserContext;
+    private Iterator<FileScanTask> currentTasks;
+
+    private ScanTaskIterator(
+        String planId,
+        List<String> planTasks,
+        List<FileScanTask> fileScanTasks,
+        ParserContext parserContext) {
+      this.planId = planId;
+      this.remainingPlanTasks = Lists.newLinkedList(planTasks);
+      this.parserContext = parserContext;
+      this.currentTasks = fileScanTasks.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!currentTasks.hasNext() && !remainingPlanTasks.isEmpty()) {
+        fetchTasks(remainingPlanTasks.removeFirst());
+      }
+
+      return currentTasks.hasNext();
+    }
+
+    @Override
+    public FileScanTask next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      FileScanTask task = currentTasks.next();
+      scanMetrics().resultDataFiles().increment();
+      scanMetrics().resultDeleteFiles().increment((long) task.deletes().size());
+      scanMetrics().totalFileSizeInBytes().increment(task.file().fileSizeInBytes());
+      return task;
+    }
+
+    private void fetchTasks(String planTask) {
+      FetchScanTasksResponse response =
+          client.post(
+              paths.fetchScanTasks(ident),
+              new FetchScanTasksRequest(planTask),
+              FetchScanTasksResponse.class,
+              headers.get(),
+              ErrorHandlers.tableErrorHandler(),
+              responseHeaders -> {},
+              parserContext);
+
+      if (response.planTasks() != null) {
+        remainingPlanTasks.addAll(response.planTasks());
+      }
+
+      this.currentTasks =
+          response.fileScanTasks() != null
+              ? response.fileScanTasks().iterator()
+              : ImmutableList.<FileScanTask>of().iterator();
+    }
+
+    @Override
+    public void close() {
+      if (!remainingPlanTasks.isEmpty()) {
+        // release server-side planning state for tasks that will not be fetched
+        remainingPlanTasks.clear();
+        cancel(planId);
+      }
+    }
+  }
+}
@@ -37,10 +37,15 @@ public class ResourcePaths {
   public static final String V1_TABLE_REGISTER = "/v1/{prefix}/namespaces/{namespace}/register";
   public static final String V1_TABLE_METRICS =
       "/v1/{prefix}/namespaces/{namespace}/tables/{table}/metrics";
+  public static final String V1_TABLE_METRICS_BATCH =
+      "/v1/{prefix}/namespaces/{namespace}/tables/{table}/metrics/batch";
   public static final String V1_TABLE_RENAME = "/v1/{prefix}/tables/rename";
-  public static final String V1_TABLE_SCAN_PLAN_SUBMIT = "/v1/{prefix}/tables/{table}/plan";
-  public static final String V1_TABLE_SCAN_PLAN = "/v1/{prefix}/tables/{table}/plan/{plan-id}";
-  public static final String V1_TABLE_SCAN_PLAN_TASKS = "/v1/{prefix}/tables/{table}/tasks";
+  public static final String V1_TABLE_SCAN_PLAN_SUBMIT =
+      "/v1/{prefix}/namespaces/{namespace}/tables/{table}/plan";
+  public static final String V1_TABLE_SCAN_PLAN =
+      "/v1/{prefix}/namespaces/{namespace}/tables/{table}/plan/{plan-id}";
+  public static final String V1_TABLE_SCAN_PLAN_TASKS =
+      "/v1/{prefix}/namespaces/{namespace}/tables/{table}/tasks";
   public static final String V1_TRANSACTIONS_COMMIT = "/v1/{prefix}/transactions/commit";
   public static final String V1_VIEWS = "/v1/{prefix}/namespaces/{namespace}/views";
   public static final String V1_VIEW = "/v1/{prefix}/namespaces/{namespace}/views/{view}";
@@ -109,6 +114,52 @@ public class ResourcePaths {
         "metrics");
   }
 
+  public String metricsBatch(TableIdentifier identifier) {
+    return SLASH.join(
+        "v1",
+        prefix,
+        "namespaces",
+        RESTUtil.encodeNamespace(identifier.namespace()),
+        "tables",
+        RESTUtil.encodeString(identifier.name()),
+        "metrics",
+        "batch");
+  }
+
+  public String planTableScan(TableIdentifier ident) {
+    return SLASH.join(
+        "v1",
+        prefix,
+        "namespaces",
+        RESTUtil.encodeNamespace(ident.namespace()),
+        "tables",
+        RESTUtil.encodeString(ident.name()),
+        "plan");
+  }
+
+  public String plan(TableIdentifier ident, String planId) {
+    return SLASH.join(
+        "v1",
+        prefix,
+        "namespaces",
+        RESTUtil.encodeNamespace(ident.namespace()),
+        "tables",
+        RESTUtil.encodeString(ident.name()),
+        "plan",
+        RESTUtil.encodeString(planId));
+  }
+
+  public String fetchScanTasks(TableIdentifier ident) {
+    return SLASH.join(
+        "v1",
+        prefix,
+        "namespaces",
+        RESTUtil.encodeNamespace(ident.namespace()),
+        "tables",
+        RESTUtil.encodeString(ident.name()),
+        "tasks");
+  }
+
   public String commitTransaction() {
     return SLASH.join("v1", prefix, "transactions", "commit");
   }
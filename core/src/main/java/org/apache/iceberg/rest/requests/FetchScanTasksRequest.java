@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.requests;
+
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.rest.RESTRequest;
+
+/** A REST request to fetch the scan tasks for a plan task returned by scan planning. */
+public class FetchScanTasksRequest implements RESTRequest {
+  private final String planTask;
+
+  public FetchScanTasksRequest(String planTask) {
+    this.planTask = planTask;
+    validate();
+  }
+
+  public String planTask() {
+    return planTask;
+  }
+
+  @Override
+  public void validate() {
+    Preconditions.checkArgument(planTask != null, "Invalid plan task: null");
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("planTask", planTask).toString();
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.requests;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import org.apache.iceberg.expressions.ExpressionParser;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.JsonUtil;
+
+public class PlanTableScanRequestParser {
+  private static final String SNAPSHOT_ID = "snapshot-id";
+  private static final String SELECT = "select";
+  private static final String FILTER = "filter";
+  private static final String CASE_SENSITIVE = "case-sensitive";
+  private static final String USE_SNAPSHOT_SCHEMA = "use-snapshot-schema";
+  private static final String START_SNAPSHOT_ID = "start-snapshot-id";
+  private static final String END_SNAPSHOT_ID = "end-snapshot-id";
+  private static final String STATS_FIELDS = "stats-fields";
+
+  private PlanTableScanRequestParser() {}
+
+  public static String toJson(PlanTableScanRequest request) {
+    return toJson(request, false);
+  }
+
+  public static String toJson(PlanTableScanRequest request, boolean pretty) {
+    return JsonUtil.generate(gen -> toJson(request, gen), pretty);
+  }
+
+  public static void toJson(PlanTableScanRequest request, JsonGenerator gen) throws IOException {
+    Preconditions.checkArgument(null != request, "Invalid plan table scan request: null");
+
+    gen.writeStartObject();
+
+    JsonUtil.writeLongFieldIfPresent(SNAPSHOT_ID, request.snapshotId(), gen);
+
+    if (request.select() != null) {
+      JsonUtil.writeStringArray(SELECT, request.select(), gen);
+    }
+
+    if (request.filter() != null) {
+      gen.writeFieldName(FILTER);
+      ExpressionParser.toJson(request.filter(), gen);
+    }
+
+    gen.writeBooleanField(CASE_SENSITIVE, request.caseSensitive());
+    gen.writeBooleanField(USE_SNAPSHOT_SCHEMA, request.useSnapshotSchema());
+    JsonUtil.writeLongFieldIfPresent(START_SNAPSHOT_ID, request.startSnapshotId(), gen);
+    JsonUtil.writeLongFieldIfPresent(END_SNAPSHOT_ID, request.endSnapshotId(), gen);
+
+    if (request.statsFields() != null) {
+      JsonUtil.writeStringArray(STATS_FIELDS, request.statsFields(), gen);
+    }
+
+    gen.writeEndObject();
+  }
+
+  public static PlanTableScanRequest fromJson(String json) {
+    return JsonUtil.parse(json, PlanTableScanRequestParser::fromJson);
+  }
+
+  public static PlanTableScanRequest fromJson(JsonNode json) {
+    Preconditions.checkArgument(
+        null != json, "Cannot parse plan table scan request from null object");
+
+    PlanTableScanRequest.Builder builder =
+        PlanTableScanRequest.builder()
+            .withSnapshotId(JsonUtil.getLongOrNull(SNAPSHOT_ID, json))
+            .withSelect(JsonUtil.getStringListOrNull(SELECT, json))
+            .withStartSnapshotId(JsonUtil.getLongOrNull(START_SNAPSHOT_ID, json))
+            .withEndSnapshotId(JsonUtil.getLongOrNull(END_SNAPSHOT_ID, json))
+            .withStatsFields(JsonUtil.getStringListOrNull(STATS_FIELDS, json));
+
+    if (json.has(FILTER)) {
+      builder.withFilter(ExpressionParser.fromJson(JsonUtil.get(FILTER, json)));
+    }
+
+    if (json.has(CASE_SENSITIVE)) {
+      builder.withCaseSensitive(JsonUtil.getBool(CASE_SENSITIVE, json));
+    }
+
+    if (json.has(USE_SNAPSHOT_SCHEMA)) {
+      builder.withUseSnapshotSchema(JsonUtil.getBool(USE_SNAPSHOT_SCHEMA, json));
+    }
+
+    return builder.build();
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.requests;
+
+import java.util.List;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.rest.RESTRequest;
+import org.immutables.value.Value;
+
+/** A request to report multiple {@link MetricsReport metrics reports} for a table at once. */
+@Value.Immutable
+public interface ReportMetricsBatchRequest extends RESTRequest {
+
+  List<ReportMetricsRequest> reports();
+
+  @Override
+  default void validate() {
+    Preconditions.checkArgument(!reports().isEmpty(), "Invalid metrics batch: empty");
+  }
+
+  static ReportMetricsBatchRequest of(List<MetricsReport> reports) {
+    ImmutableReportMetricsBatchRequest.Builder builder =
+        ImmutableReportMetricsBatchRequest.builder();
+    for (MetricsReport report : reports) {
+      builder.addReports(ReportMetricsRequest.of(report));
+    }
+
+    return builder.build();
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.requests;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.JsonUtil;
+
+public class ReportMetricsBatchRequestParser {
+
+  private static final String REPORTS = "reports";
+
+  private ReportMetricsBatchRequestParser() {}
+
+  public static String toJson(ReportMetricsBatchRequest request) {
+    return toJson(request, false);
+  }
+
+  public static String toJson(ReportMetricsBatchRequest request, boolean pretty) {
+    return JsonUtil.generate(gen -> toJson(request, gen), pretty);
+  }
+
+  public static void toJson(ReportMetricsBatchRequest request, JsonGenerator gen)
+      throws IOException {
+    Preconditions.checkArgument(null != request, "Invalid metrics batch request: null");
+
+    gen.writeStartObject();
+
+    gen.writeArrayFieldStart(REPORTS);
+    for (ReportMetricsRequest report : request.reports()) {
+      ReportMetricsRequestParser.toJson(report, gen);
+    }
+
+    gen.writeEndArray();
+
+    gen.writeEndObject();
+  }
+
+  public static ReportMetricsBatchRequest fromJson(String json) {
+    return JsonUtil.parse(json, ReportMetricsBatchRequestParser::fromJson);
+  }
+
+  public static ReportMetricsBatchRequest fromJson(JsonNode json) {
+    Preconditions.checkArgument(
+        null != json, "Cannot parse metrics batch request from null object");
+    Preconditions.checkArgument(
+        json.isObject(), "Cannot parse metrics batch request from non-object: %s", json);
+
+    JsonNode reports = JsonUtil.get(REPORTS, json);
+    Preconditions.checkArgument(
+        reports.isArray(), "Cannot parse reports from non-array: %s", reports);
+
+    ImmutableReportMetricsBatchRequest.Builder builder =
+        ImmutableReportMetricsBatchRequest.builder();
+    for (JsonNode report : reports) {
+      builder.addReports(ReportMetricsRequestParser.fromJson(report));
+    }
+
+    return builder.build();
+  }
+}
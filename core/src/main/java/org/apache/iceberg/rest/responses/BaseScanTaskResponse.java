@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.responses;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.rest.RESTResponse;
+
+/**
+ * Base class for REST responses that carry scan tasks.
+ *
+ * <p>File scan tasks are ready to be read. Plan tasks are opaque strings that are exchanged for
+ * more tasks with a fetch-scan-tasks request. The partition specs are used to serialize the tasks'
+ * files and are not part of the JSON payload.
+ */
+public abstract class BaseScanTaskResponse implements RESTResponse {
+  private final List<String> planTasks;
+  private final List<FileScanTask> fileScanTasks;
+  private final Map<Integer, PartitionSpec> specsById;
+
+  protected BaseScanTaskResponse(
+      List<String> planTasks,
+      List<FileScanTask> fileScanTasks,
+      Map<Integer, PartitionSpec> specsById) {
+    this.planTasks = planTasks;
+    this.fileScanTasks = fileScanTasks;
+    this.specsById = specsById;
+  }
+
+  public List<String> planTasks() {
+    return planTasks;
+  }
+
+  public List<FileScanTask> fileScanTasks() {
+    return fileScanTasks;
+  }
+
+  public Map<Integer, PartitionSpec> specsById() {
+    return specsById;
+  }
+
+  @Override
+  public void validate() {
+    Preconditions.checkArgument(
+        fileScanTasks == null || fileScanTasks.isEmpty() || specsById != null,
+        "Invalid response: partition specs are required to send file scan tasks");
+  }
+
+  protected boolean hasTasks() {
+    return (planTasks != null && !planTasks.isEmpty())
+        || (fileScanTasks != null && !fileScanTasks.isEmpty());
+  }
+
+  @SuppressWarnings("unchecked")
+  public abstract static class Builder<B extends Builder<B, R>, R extends BaseScanTaskResponse> {
+    private List<String> planTasks;
+    private List<FileScanTask> fileScanTasks;
+    private Map<Integer, PartitionSpec> specsById;
+
+    protected Builder() {}
+
+    public B withPlanTasks(List<String> tasks) {
+      this.planTasks = tasks != null ? ImmutableList.copyOf(tasks) : null;
+      return (B) this;
+    }
+
+    public B withFileScanTasks(List<FileScanTask> tasks) {
+      this.fileScanTasks = tasks != null ? ImmutableList.copyOf(tasks) : null;
+      return (B) this;
+    }
+
+    public B withSpecsById(Map<Integer, PartitionSpec> specs) {
+      this.specsById = specs != null ? ImmutableMap.copyOf(specs) : null;
+      return (B) this;
+    }
+
+    protected List<String> planTasks() {
+      return planTasks;
+    }
+
+    protected List<FileScanTask> fileScanTasks() {
+      return fileScanTasks;
+    }
+
+    protected Map<Integer, PartitionSpec> specsById() {
+      return specsById;
+    }
+
+    public abstract R build();
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.responses;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.rest.PlanStatus;
+
+/** A REST response to a fetch-planning-result request for a submitted scan plan. */
+public class FetchPlanningResultResponse extends BaseScanTaskResponse {
+  private final PlanStatus planStatus;
+  private final ErrorResponse error;
+
+  private FetchPlanningResultResponse(
+      PlanStatus planStatus,
+      ErrorResponse error,
+      List<String> planTasks,
+      List<FileScanTask> fileScanTasks,
+      Map<Integer, PartitionSpec> specsById) {
+    super(planTasks, fileScanTasks, specsById);
+    this.planStatus = planStatus;
+    this.error = error;
+    validate();
+  }
+
+  public PlanStatus planStatus() {
+    return planStatus;
+  }
+
+  public ErrorResponse error() {
+    return error;
+  }
+
+  @Override
+  public void validate() {
+    super.validate();
+    Preconditions.checkArgument(planStatus != null, "Invalid status: null");
+    Preconditions.checkArgument(
+        planStatus == PlanStatus.COMPLETED || !hasTasks(),
+        "Invalid response: tasks can only be returned when status is 'completed'");
+    Preconditions.checkArgument(
+        planStatus != PlanStatus.FAILED || error != null,
+        "Invalid response: error is required when status is 'failed'");
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("planStatus", planStatus)
+        .add("error", error)
+        .toString();
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder
+      extends BaseScanTaskResponse.Builder<Builder, FetchPlanningResultResponse> {
+    private PlanStatus planStatus;
+    private ErrorResponse error;
+
+    private Builder() {}
+
+    public Builder withPlanStatus(PlanStatus status) {
+      this.planStatus = status;
+      return this;
+    }
+
+    public Builder withError(ErrorResponse errorResponse) {
+      this.error = errorResponse;
+      return this;
+    }
+
+    @Override
+    public FetchPlanningResultResponse build() {
+      return new FetchPlanningResultResponse(
+          planStatus, error, planTasks(), fileScanTasks(), specsById());
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.responses;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.util.Map;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.JsonUtil;
+
+public class FetchPlanningResultResponseParser {
+
+  private FetchPlanningResultResponseParser() {}
+
+  public static String toJson(FetchPlanningResultResponse response) {
+    return toJson(response, false);
+  }
+
+  public static String toJson(FetchPlanningResultResponse response, boolean pretty) {
+    return JsonUtil.generate(gen -> toJson(response, gen), pretty);
+  }
+
+  public static void toJson(FetchPlanningResultResponse response, JsonGenerator gen)
+      throws IOException {
+    Preconditions.checkArgument(null != response, "Invalid fetch planning result response: null");
+
+    gen.writeStartObject();
+
+    TableScanResponseParser.writeStatus(response.planStatus(), response.error(), gen);
+    TableScanResponseParser.writeTasks(response, gen);
+
+    gen.writeEndObject();
+  }
+
+  public static FetchPlanningResultResponse fromJson(
+      String json, Map<Integer, PartitionSpec> specsById, boolean caseSensitive) {
+    return JsonUtil.parse(json, node -> fromJson(node, specsById, caseSensitive));
+  }
+
+  public static FetchPlanningResultResponse fromJson(
+      JsonNode json, Map<Integer, PartitionSpec> specsById, boolean caseSensitive) {
+    Preconditions.checkArgument(
+        null != json, "Cannot parse fetch planning result response from null object");
+
+    return FetchPlanningResultResponse.builder()
+        .withPlanStatus(TableScanResponseParser.status(json))
+        .withError(TableScanResponseParser.error(json))
+        .withPlanTasks(TableScanResponseParser.planTasks(json))
+        .withFileScanTasks(TableScanResponseParser.fileScanTasks(json, specsById, caseSensitive))
+        .withSpecsById(specsById)
+        .build();
+  }
+}
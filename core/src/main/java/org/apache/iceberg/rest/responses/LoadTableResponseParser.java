@@ -19,7 +19,11 @@
 package org.apache.iceberg.rest.responses;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.io.IOException;
 import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.TableMetadataParser;
@@ -79,13 +83,48 @@ public class LoadTableResponseParser {
 
   public static LoadTableResponse fromJson(JsonNode json) {
     Preconditions.checkArgument(null != json, "Cannot parse load table response from null object");
+    return fromJson(json, TableMetadataParser.fromJson(JsonUtil.get(METADATA, json)));
+  }
+
+  /**
+   * Read a load table response from a JSON parser that is positioned at the start of the response
+   * object.
+   *
+   * <p>The table metadata is parsed as it is read rather than after reading the whole response into
+   * a tree. The parser must have a codec, like parsers created by {@link JsonUtil#mapper()}.
+   */
+  public static LoadTableResponse fromJson(JsonParser parser) throws IOException {
+    Preconditions.checkArgument(
+        parser.currentToken() == JsonToken.START_OBJECT,
+        "Cannot parse load table response from non-object: %s",
+        parser.currentToken());
+
+    ObjectNode json = JsonNodeFactory.instance.objectNode();
+    TableMetadata metadata = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      if (parser.nextToken() == JsonToken.START_OBJECT && METADATA.equals(field)) {
+        metadata = TableMetadataParser.fromJson(null, parser);
+      } else {
+        json.set(field, parser.readValueAsTree());
+      }
+    }
+
+    if (null == metadata) {
+      // report a missing or invalid metadata field the same way as the tree parser
+      return fromJson(json);
+    }
+
+    return fromJson(json, metadata);
+  }
 
+  private static LoadTableResponse fromJson(JsonNode json, TableMetadata tableMetadata) {
     String metadataLocation = null;
     if (json.hasNonNull(METADATA_LOCATION)) {
       metadataLocation = JsonUtil.getString(METADATA_LOCATION, json);
     }
 
-    TableMetadata metadata = TableMetadataParser.fromJson(JsonUtil.get(METADATA, json));
+    TableMetadata metadata = tableMetadata;
 
     if (null != metadataLocation) {
       metadata = TableMetadata.buildFrom(metadata).withMetadataLocation(metadataLocation).build();
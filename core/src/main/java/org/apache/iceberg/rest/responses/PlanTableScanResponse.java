@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.responses;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.rest.PlanStatus;
+
+/**
+ * A REST response to a plan-table-scan request.
+ *
+ * <p>A completed plan includes scan tasks. A submitted plan has a plan ID that is used to poll for
+ * the planning result, and a failed plan includes the error that caused planning to fail.
+ */
+public class PlanTableScanResponse extends BaseScanTaskResponse {
+  private final PlanStatus planStatus;
+  private final String planId;
+  private final ErrorResponse error;
+
+  private PlanTableScanResponse(
+      PlanStatus planStatus,
+      String planId,
+      ErrorResponse error,
+      List<String> planTasks,
+      List<FileScanTask> fileScanTasks,
+      Map<Integer, PartitionSpec> specsById) {
+    super(planTasks, fileScanTasks, specsById);
+    this.planStatus = planStatus;
+    this.planId = planId;
+    this.error = error;
+    validate();
+  }
+
+  public PlanStatus planStatus() {
+    return planStatus;
+  }
+
+  public String planId() {
+    return planId;
+  }
+
+  public ErrorResponse error() {
+    return error;
+  }
+
+  @Override
+  public void validate() {
+    super.validate();
+    Preconditions.checkArgument(planStatus != null, "Invalid status: null");
+    Preconditions.checkArgument(
+        planStatus != PlanStatus.SUBMITTED || planId != null,
+        "Invalid response: plan id is required when status is 'submitted'");
+    Preconditions.checkArgument(
+        planStatus == PlanStatus.COMPLETED || !hasTasks(),
+        "Invalid response: tasks can only be returned when status is 'completed'");
+    Preconditions.checkArgument(
+        planStatus != PlanStatus.FAILED || error != null,
+        "Invalid response: error is required when status is 'failed'");
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("planStatus", planStatus)
+        .add("planId", planId)
+        .add("error", error)
+        .toString();
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder extends BaseScanTaskResponse.Builder<Builder, PlanTableScanResponse> {
+    private PlanStatus planStatus;
+    private String planId;
+    private ErrorResponse error;
+
+    private Builder() {}
+
+    public Builder withPlanStatus(PlanStatus status) {
+      this.planStatus = status;
+      return this;
+    }
+
+    public Builder withPlanId(String id) {
+      this.planId = id;
+      return this;
+    }
+
+    public Builder withError(ErrorResponse errorResponse) {
+      this.error = errorResponse;
+      return this;
+    }
+
+    @Override
+    public PlanTableScanResponse build() {
+      return new PlanTableScanResponse(
+          planStatus, planId, error, planTasks(), fileScanTasks(), specsById());
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.responses;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.RESTFileScanTaskParser;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.rest.PlanStatus;
+import org.apache.iceberg.util.JsonUtil;
+import org.apache.iceberg.util.Pair;
+
+/** Shared JSON handling for responses that carry scan tasks. */
+class TableScanResponseParser {
+  private static final String STATUS = "status";
+  private static final String ERROR = "error";
+  private static final String MESSAGE = "message";
+  private static final String TYPE = "type";
+  private static final String CODE = "code";
+  private static final String PLAN_TASKS = "plan-tasks";
+  private static final String FILE_SCAN_TASKS = "file-scan-tasks";
+  private static final String DELETE_FILES = "delete-files";
+
+  private TableScanResponseParser() {}
+
+  static void writeStatus(PlanStatus status, ErrorResponse error, JsonGenerator gen)
+      throws IOException {
+    gen.writeStringField(STATUS, status.status());
+    if (error != null) {
+      // the error model is embedded directly, as in an error response
+      gen.writeObjectFieldStart(ERROR);
+      gen.writeStringField(MESSAGE, error.message());
+      gen.writeStringField(TYPE, error.type());
+      gen.writeNumberField(CODE, error.code());
+      gen.writeEndObject();
+    }
+  }
+
+  static PlanStatus status(JsonNode json) {
+    return PlanStatus.fromName(JsonUtil.getString(STATUS, json));
+  }
+
+  static ErrorResponse error(JsonNode json) {
+    return json.has(ERROR) ? ErrorResponseParser.fromJson(json) : null;
+  }
+
+  /**
+   * Writes plan tasks and file scan tasks.
+   *
+   * <p>Delete files are often shared by many tasks, so each delete file is written once in the
+   * delete-files list and tasks refer to delete files by position in that list.
+   */
+  static void writeTasks(BaseScanTaskResponse response, JsonGenerator gen) throws IOException {
+    if (response.planTasks() != null) {
+      JsonUtil.writeStringArray(PLAN_TASKS, response.planTasks(), gen);
+    }
+
+    List<FileScanTask> tasks = response.fileScanTasks();
+    if (tasks == null || tasks.isEmpty()) {
+      return;
+    }
+
+    Map<Integer, PartitionSpec> specsById = response.specsById();
+    Map<Pair<String, Long>, Integer> deleteFilePositions = Maps.newHashMap();
+    List<DeleteFile> deleteFiles = Lists.newArrayList();
+    List<List<Integer>> deleteFileReferences = Lists.newArrayListWithExpectedSize(tasks.size());
+    for (FileScanTask task : tasks) {
+      List<Integer> references = Lists.newArrayListWithExpectedSize(task.deletes().size());
+      for (DeleteFile deleteFile : task.deletes()) {
+        // DVs are stored in shared Puffin files, so the content offset is part of the key
+        Pair<String, Long> key = Pair.of(deleteFile.location(), deleteFile.contentOffset());
+        Integer position = deleteFilePositions.get(key);
+        if (position == null) {
+          position = deleteFiles.size();
+          deleteFilePositions.put(key, position);
+          deleteFiles.add(deleteFile);
+        }
+
+        references.add(position);
+      }
+
+      deleteFileReferences.add(references);
+    }
+
+    if (!deleteFiles.isEmpty()) {
+      gen.writeArrayFieldStart(DELETE_FILES);
+      for (DeleteFile deleteFile : deleteFiles) {
+        PartitionSpec spec = specsById.get(deleteFile.specId());
+        Preconditions.checkArgument(
+            spec != null, "Cannot find partition spec for delete file: %s", deleteFile.specId());
+        RESTFileScanTaskParser.toJson(deleteFile, spec, gen);
+      }
+
+      gen.writeEndArray();
+    }
+
+    gen.writeArrayFieldStart(FILE_SCAN_TASKS);
+    for (int pos = 0; pos < tasks.size(); pos += 1) {
+      RESTFileScanTaskParser.toJson(tasks.get(pos), deleteFileReferences.get(pos), gen);
+    }
+
+    gen.writeEndArray();
+  }
+
+  static List<String> planTasks(JsonNode json) {
+    return JsonUtil.getStringListOrNull(PLAN_TASKS, json);
+  }
+
+  static List<FileScanTask> fileScanTasks(
+      JsonNode json, Map<Integer, PartitionSpec> specsById, boolean caseSensitive) {
+    if (!json.has(FILE_SCAN_TASKS)) {
+      return null;
+    }
+
+    List<DeleteFile> deleteFiles = ImmutableList.of();
+    if (json.has(DELETE_FILES)) {
+      deleteFiles =
+          JsonUtil.getObjectList(
+              DELETE_FILES,
+              json,
+              node -> RESTFileScanTaskParser.deleteFileFromJson(node, specsById));
+    }
+
+    List<DeleteFile> allDeleteFiles = deleteFiles;
+    return JsonUtil.getObjectList(
+        FILE_SCAN_TASKS,
+        json,
+        node -> RESTFileScanTaskParser.fromJson(node, allDeleteFiles, specsById, caseSensitive));
+  }
+}
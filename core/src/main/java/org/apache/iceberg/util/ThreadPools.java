@@ -51,6 +51,18 @@ public class ThreadPools {
   private static final ExecutorService DELETE_WORKER_POOL =
       newExitingWorkerPool("iceberg-delete-worker-pool", DELETE_WORKER_THREAD_POOL_SIZE);
 
+  public static final int PREFETCH_WORKER_THREAD_POOL_SIZE =
+      SystemConfigs.PREFETCH_WORKER_THREAD_POOL_SIZE.value();
+
+  private static final ExecutorService PREFETCH_WORKER_POOL =
+      newExitingWorkerPool("iceberg-prefetch-worker-pool", PREFETCH_WORKER_THREAD_POOL_SIZE);
+
+  public static final int COMPRESSION_WORKER_THREAD_POOL_SIZE =
+      SystemConfigs.COMPRESSION_WORKER_THREAD_POOL_SIZE.value();
+
+  private static final ExecutorService COMPRESSION_WORKER_POOL =
+      newExitingWorkerPool("iceberg-compression-worker-pool", COMPRESSION_WORKER_THREAD_POOL_SIZE);
+
   /**
    * Return an {@link ExecutorService} that uses the "worker" thread-pool.
    *
@@ -82,6 +94,38 @@ public class ThreadPools {
     return DELETE_WORKER_POOL;
   }
 
+  /**
+   * Return an {@link ExecutorService} that uses the "prefetch worker" thread-pool.
+   *
+   * <p>The size of this worker pool limits the number of tasks concurrently reading data ahead of
+   * readers within a single JVM, such as Parquet row groups that are read while the previous row
+   * group is decoded.
+   *
+   * <p>The size of this thread-pool is controlled by the Java system property {@code
+   * iceberg.worker.prefetch-num-threads}.
+   *
+   * @return an {@link ExecutorService} that uses the prefetch worker pool
+   */
+  public static ExecutorService getPrefetchWorkerPool() {
+    return PREFETCH_WORKER_POOL;
+  }
+
+  /**
+   * Return an {@link ExecutorService} that uses the "compression worker" thread-pool.
+   *
+   * <p>The size of this worker pool limits the number of tasks concurrently compressing data for
+   * writers within a single JVM, such as Parquet pages that are compressed while the writer
+   * encodes more records.
+   *
+   * <p>The size of this thread-pool is controlled by the Java system property {@code
+   * iceberg.worker.compression-num-threads}.
+   *
+   * @return an {@link ExecutorService} that uses the compression worker pool
+   */
+  public static ExecutorService getCompressionWorkerPool() {
+    return COMPRESSION_WORKER_POOL;
+  }
+
   /**
    * Creates a fixed-size thread pool that uses daemon threads. The pool is wrapped with {@link
    * MoreExecutors#getExitingExecutorService(ThreadPoolExecutor)}, which registers a shutdown hook
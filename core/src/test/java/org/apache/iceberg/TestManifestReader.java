@@ -75,6 +75,41 @@ public class TestManifestReader extends TestBase {
     }
   }
 
+  @TestTemplate
+  public void testReaderWithFilterProjectsStatsForFilterColumns() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE_WITH_STATS);
+    try (ManifestReader<DataFile> reader =
+        ManifestFiles.read(manifest, FILE_IO)
+            .filterRows(Expressions.greaterThan("id", 0))
+            .select(ImmutableList.of("file_path"))) {
+      DataFile file = Iterables.getOnlyElement(reader.entries()).file();
+      assertThat(file.valueCounts()).containsOnlyKeys(3);
+      assertThat(file.nullValueCounts()).containsOnlyKeys(3);
+      assertThat(file.nanValueCounts()).containsOnlyKeys(3);
+      assertThat(file.lowerBounds()).containsOnlyKeys(3);
+      assertThat(file.upperBounds()).containsOnlyKeys(3);
+    }
+
+    try (ManifestReader<DataFile> reader =
+        ManifestFiles.read(manifest, FILE_IO)
+            .filterRows(Expressions.greaterThan("id", 0))
+            .select(ImmutableList.of("file_path", "lower_bounds"))) {
+      DataFile file = Iterables.getOnlyElement(reader.entries()).file();
+      assertThat(file.lowerBounds()).containsOnlyKeys(3, 4);
+    }
+  }
+
+  @TestTemplate
+  public void testReaderWithFilterSkipsFilesUsingProjectedStats() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE_WITH_STATS);
+    try (ManifestReader<DataFile> reader =
+        ManifestFiles.read(manifest, FILE_IO)
+            .filterRows(Expressions.greaterThan("id", 5))
+            .select(ImmutableList.of("file_path"))) {
+      assertThat(reader).isEmpty();
+    }
+  }
+
   @TestTemplate
   public void testInvalidUsage() throws IOException {
     ManifestFile manifest = writeManifest(FILE_A, FILE_B);
@@ -37,6 +37,13 @@ public class TestableCachingCatalog extends CachingCatalog {
         catalog, true /* caseSensitive */, expirationInterval, ticker);
   }
 
+  /** Wraps a catalog with background refresh enabled; refreshes run on the calling thread. */
+  public static TestableCachingCatalog wrap(
+      Catalog catalog, Duration expirationInterval, Duration refreshInterval, Ticker ticker) {
+    return new TestableCachingCatalog(
+        catalog, true /* caseSensitive */, expirationInterval, refreshInterval, ticker);
+  }
+
   private final Duration cacheExpirationInterval;
 
   TestableCachingCatalog(
@@ -45,6 +52,22 @@ public class TestableCachingCatalog extends CachingCatalog {
     this.cacheExpirationInterval = expirationInterval;
   }
 
+  TestableCachingCatalog(
+      Catalog catalog,
+      boolean caseSensitive,
+      Duration expirationInterval,
+      Duration refreshInterval,
+      Ticker ticker) {
+    super(
+        catalog,
+        caseSensitive,
+        expirationInterval.toMillis(),
+        refreshInterval.toMillis(),
+        ticker,
+        Runnable::run);
+    this.cacheExpirationInterval = expirationInterval;
+  }
+
   public Cache<TableIdentifier, Table> cache() {
     // cleanUp must be called as tests apply assertions directly on the underlying map, but metadata
     // table
@@ -18,8 +18,15 @@
  */
 package org.apache.iceberg.avro;
 
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.io.IOException;
 import java.util.List;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.iceberg.InternalTestHelpers;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.RandomInternalData;
@@ -30,6 +37,8 @@ import org.apache.iceberg.inmemory.InMemoryOutputFile;
 import org.apache.iceberg.io.DataWriter;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.Test;
 
 public class TestInternalAvro extends DataTestBase {
   @Override
@@ -52,6 +61,53 @@ public class TestInternalAvro extends DataTestBase {
     return true;
   }
 
+  @Test
+  public void testReadOptionalFieldsWithNullSecond() throws IOException {
+    org.apache.avro.Schema avroSchema =
+        new org.apache.avro.Schema.Parser()
+            .parse(
+                "{\"type\": \"record\", \"name\": \"r\", \"fields\": ["
+                    + "{\"name\": \"id\", \"type\": \"long\", \"field-id\": 1},"
+                    + "{\"name\": \"skipped\", \"type\": [\"string\", \"null\"], \"field-id\": 4},"
+                    + "{\"name\": \"data\", \"type\": [\"string\", \"null\"], \"field-id\": 2},"
+                    + "{\"name\": \"count\", \"type\": [\"int\", \"null\"], \"field-id\": 3}]}");
+
+    OutputFile outputFile = new InMemoryOutputFile();
+    try (DataFileWriter<GenericData.Record> writer =
+        new DataFileWriter<>(new GenericDatumWriter<GenericData.Record>(avroSchema))) {
+      writer.create(avroSchema, outputFile.create());
+      for (long id = 0; id < 4; id += 1) {
+        GenericData.Record rec = new GenericData.Record(avroSchema);
+        rec.put("id", id);
+        rec.put("skipped", id % 2 == 0 ? "skipped" + id : null);
+        rec.put("data", id % 2 == 0 ? null : "data" + id);
+        rec.put("count", id % 3 == 0 ? null : (int) id * 10);
+        writer.append(rec);
+      }
+    }
+
+    Schema expectedSchema =
+        new Schema(
+            required(1, "id", Types.LongType.get()),
+            optional(2, "data", Types.StringType.get()),
+            optional(3, "count", Types.LongType.get()));
+    List<Record> rows;
+    try (AvroIterable<Record> reader =
+        Avro.read(outputFile.toInputFile())
+            .project(expectedSchema)
+            .createResolvingReader(InternalReader::create)
+            .build()) {
+      rows = Lists.newArrayList(reader);
+    }
+
+    assertThat(rows).hasSize(4);
+    for (Record row : rows) {
+      long id = (Long) row.getField("id");
+      assertThat(row.getField("data")).isEqualTo(id % 2 == 0 ? null : "data" + id);
+      assertThat(row.getField("count")).isEqualTo(id % 3 == 0 ? null : id * 10);
+    }
+  }
+
   @Override
   protected void writeAndValidate(Schema schema) throws IOException {
     List<Record> expected = RandomInternalData.generate(schema, 100, 42L);
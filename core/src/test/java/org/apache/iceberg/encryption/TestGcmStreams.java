@@ -31,7 +31,9 @@ import java.util.Arrays;
 import java.util.Random;
 import javax.crypto.AEADBadTagException;
 import org.apache.iceberg.Files;
+import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.PositionOutputStream;
+import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -407,4 +409,121 @@ public class TestGcmStreams {
       decryptedStream.close();
     }
   }
+
+  @Test
+  public void testParallelWriteRead() throws IOException {
+    Random random = new Random();
+    int testFileSize = 5 * Ciphers.PLAIN_BLOCK_SIZE + Ciphers.PLAIN_BLOCK_SIZE / 2;
+    byte[] testFileContents = new byte[testFileSize];
+    random.nextBytes(testFileContents);
+    byte[] key = new byte[16];
+    random.nextBytes(key);
+    byte[] aadPrefix = new byte[16];
+    random.nextBytes(aadPrefix);
+
+    for (int writeParallelism : new int[] {1, 3}) {
+      File testFile = File.createTempFile("test", null, temp.toFile());
+      AesGcmOutputFile encryptedFile =
+          new AesGcmOutputFile(Files.localOutput(testFile), key, aadPrefix, writeParallelism);
+      try (PositionOutputStream encryptedStream = encryptedFile.createOrOverwrite()) {
+        int offset = 0;
+        while (offset < testFileSize) {
+          int chunkLen = Math.min(testFileSize - offset, 1 + random.nextInt(100_000));
+          encryptedStream.write(testFileContents, offset, chunkLen);
+          offset += chunkLen;
+          assertThat(encryptedStream.getPos()).isEqualTo(offset);
+        }
+      }
+
+      for (int readParallelism : new int[] {1, 4}) {
+        AesGcmInputFile decryptedFile =
+            new AesGcmInputFile(Files.localInput(testFile), key, aadPrefix, readParallelism);
+        assertThat(decryptedFile.getLength()).isEqualTo(testFileSize);
+
+        try (SeekableInputStream decryptedStream = decryptedFile.newStream()) {
+          // sequential reads decrypt the following blocks ahead of the reader
+          byte[] readContent = new byte[testFileSize];
+          int offset = 0;
+          while (offset < testFileSize) {
+            int chunkLen = Math.min(testFileSize - offset, 1 + random.nextInt(100_000));
+            int bytesRead = decryptedStream.read(readContent, offset, chunkLen);
+            assertThat(bytesRead).isEqualTo(chunkLen);
+            offset += bytesRead;
+          }
+
+          assertThat(decryptedStream.read()).as("Read at end of stream").isEqualTo(-1);
+          assertThat(readContent).isEqualTo(testFileContents);
+
+          // range reads do not change the stream position
+          RangeReadable rangeReadable = (RangeReadable) decryptedStream;
+          for (int n = 0; n < 10; n++) {
+            int pos = random.nextInt(testFileSize);
+            int len = random.nextInt(testFileSize - pos);
+            byte[] range = new byte[len];
+            rangeReadable.readFully(pos, range);
+            assertThat(ByteBuffer.wrap(range))
+                .isEqualTo(ByteBuffer.wrap(testFileContents, pos, len));
+            assertThat(decryptedStream.getPos()).isEqualTo(testFileSize);
+          }
+
+          byte[] tail = new byte[100];
+          assertThat(rangeReadable.readTail(tail)).isEqualTo(tail.length);
+          assertThat(ByteBuffer.wrap(tail))
+              .isEqualTo(
+                  ByteBuffer.wrap(testFileContents, testFileSize - tail.length, tail.length));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testParallelReadCorruptBlock() throws IOException {
+    Random random = new Random();
+    byte[] key = new byte[16];
+    random.nextBytes(key);
+    byte[] aadPrefix = new byte[16];
+    random.nextBytes(aadPrefix);
+    byte[] content = new byte[6 * Ciphers.PLAIN_BLOCK_SIZE];
+    random.nextBytes(content);
+
+    File testFile = File.createTempFile("test", null, temp.toFile());
+    AesGcmOutputFile encryptedFile =
+        new AesGcmOutputFile(Files.localOutput(testFile), key, aadPrefix, 4);
+    try (PositionOutputStream encryptedStream = encryptedFile.createOrOverwrite()) {
+      encryptedStream.write(content);
+    }
+
+    // replace part of the fourth block's content
+    try (FileChannel out = FileChannel.open(testFile.toPath(), StandardOpenOption.WRITE)) {
+      out.position(
+          Ciphers.GCM_STREAM_HEADER_LENGTH + 3L * Ciphers.CIPHER_BLOCK_SIZE + Ciphers.NONCE_LENGTH);
+      out.write(ByteBuffer.wrap(key));
+    }
+
+    AesGcmInputFile decryptedFile =
+        new AesGcmInputFile(Files.localInput(testFile), key, aadPrefix, 4);
+    try (SeekableInputStream decryptedStream = decryptedFile.newStream()) {
+      byte[] readContent = new byte[Ciphers.PLAIN_BLOCK_SIZE];
+      for (int block = 0; block < 3; block += 1) {
+        IOUtil.readFully(decryptedStream, readContent, 0, readContent.length);
+        assertThat(ByteBuffer.wrap(readContent))
+            .isEqualTo(
+                ByteBuffer.wrap(
+                    content, block * Ciphers.PLAIN_BLOCK_SIZE, Ciphers.PLAIN_BLOCK_SIZE));
+      }
+
+      // the corrupt block was decrypted ahead of the reader, but fails when it is read
+      assertThatThrownBy(() -> decryptedStream.read(readContent))
+          .isInstanceOf(RuntimeException.class)
+          .hasCauseInstanceOf(AEADBadTagException.class)
+          .hasMessageContaining("GCM tag check failed");
+
+      // blocks after the corrupt block can still be read
+      decryptedStream.seek(4L * Ciphers.PLAIN_BLOCK_SIZE);
+      IOUtil.readFully(decryptedStream, readContent, 0, readContent.length);
+      assertThat(ByteBuffer.wrap(readContent))
+          .isEqualTo(
+              ByteBuffer.wrap(content, 4 * Ciphers.PLAIN_BLOCK_SIZE, Ciphers.PLAIN_BLOCK_SIZE));
+    }
+  }
 }
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.encryption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestKeyUnwrapCache {
+  private static final String KEY_ID = UnitestKMS.MASTER_KEY_NAME1;
+  private static final Duration TTL = Duration.ofMinutes(10);
+
+  private final Random random = new Random();
+  private final AtomicLong nanos = new AtomicLong(0L);
+  private CountingKMS kms;
+  private RecordingMetricsContext metrics;
+
+  @BeforeEach
+  public void before() {
+    this.kms = new CountingKMS();
+    kms.initialize(ImmutableMap.of());
+    this.metrics = new RecordingMetricsContext();
+  }
+
+  @Test
+  public void testCachesUnwrappedKeys() {
+    KeyUnwrapCache cache = newCache(100);
+    ByteBuffer key = randomKey();
+    ByteBuffer wrappedKey = kms.wrapKey(key, KEY_ID);
+
+    ByteBuffer unwrapped = cache.unwrap(wrappedKey, KEY_ID);
+    assertThat(unwrapped).isEqualTo(key);
+
+    // callers get their own copy, so changing it does not change the cached key
+    unwrapped.put(0, (byte) (unwrapped.get(0) + 1));
+    assertThat(cache.unwrap(wrappedKey, KEY_ID)).isEqualTo(key);
+    assertThat(cache.unwrap(ByteBuffer.wrap(wrappedKey.array().clone()), KEY_ID)).isEqualTo(key);
+
+    assertThat(kms.unwrapCalls()).isEqualTo(1);
+    assertThat(metrics.count(KeyUnwrapCache.CACHE_MISSES)).isEqualTo(1);
+    assertThat(metrics.count(KeyUnwrapCache.CACHE_HITS)).isEqualTo(2);
+    assertThat(metrics.count(KeyUnwrapCache.KMS_REQUESTS)).isEqualTo(1);
+  }
+
+  @Test
+  public void testKeysExpireAfterTtl() {
+    KeyUnwrapCache cache = newCache(100);
+    ByteBuffer key = randomKey();
+    ByteBuffer wrappedKey = kms.wrapKey(key, KEY_ID);
+
+    cache.unwrap(wrappedKey, KEY_ID);
+    nanos.addAndGet(TTL.toNanos() - 1);
+    cache.unwrap(wrappedKey, KEY_ID);
+    assertThat(kms.unwrapCalls()).isEqualTo(1);
+
+    byte[] cachedBytes = kms.lastUnwrapped();
+    nanos.addAndGet(2);
+    assertThat(cache.unwrap(wrappedKey, KEY_ID)).isEqualTo(key);
+    assertThat(kms.unwrapCalls()).isEqualTo(2);
+    assertThat(cachedBytes).as("Expired key should be zeroed").containsOnly(0);
+  }
+
+  @Test
+  public void testEvictedKeysAreZeroed() {
+    KeyUnwrapCache cache = newCache(1);
+    for (int i = 0; i < 3; i += 1) {
+      ByteBuffer key = randomKey();
+      assertThat(cache.unwrap(kms.wrapKey(key, KEY_ID), KEY_ID)).isEqualTo(key);
+    }
+
+    // the cache may evict either the new or the old entry, but only one key stays cached
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(metrics.count(KeyUnwrapCache.CACHE_EVICTIONS)).isEqualTo(2);
+    assertThat(kms.unwrappedKeys())
+        .as("Only the cached key should not be zeroed")
+        .filteredOn(key -> !isZeroed(key))
+        .hasSize(1);
+
+    cache.invalidateAll();
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(kms.unwrappedKeys())
+        .as("Invalidated key should be zeroed")
+        .allMatch(TestKeyUnwrapCache::isZeroed);
+  }
+
+  @Test
+  public void testDisabledCache() {
+    KeyUnwrapCache cache = newCache(0);
+    ByteBuffer key = randomKey();
+    ByteBuffer wrappedKey = kms.wrapKey(key, KEY_ID);
+
+    assertThat(cache.unwrap(wrappedKey, KEY_ID)).isEqualTo(key);
+    assertThat(cache.unwrap(wrappedKey, KEY_ID)).isEqualTo(key);
+    assertThat(kms.unwrapCalls()).isEqualTo(2);
+  }
+
+  @Test
+  public void testBatchUnwrap() {
+    StandardEncryptionManager manager =
+        new StandardEncryptionManager(KEY_ID, 16, kms, TTL, 100, metrics);
+
+    List<ByteBuffer> keys = Lists.newArrayList();
+    List<ByteBuffer> wrappedKeys = Lists.newArrayList();
+    for (int i = 0; i < 4; i += 1) {
+      ByteBuffer key = randomKey();
+      keys.add(key);
+      wrappedKeys.add(kms.wrapKey(key, KEY_ID));
+    }
+
+    // one key is already cached and one is requested twice
+    assertThat(manager.unwrapKey(wrappedKeys.get(0))).isEqualTo(keys.get(0));
+    keys.add(keys.get(1));
+    wrappedKeys.add(wrappedKeys.get(1));
+
+    assertThat(manager.unwrapKeys(wrappedKeys)).containsExactlyElementsOf(keys);
+    assertThat(kms.batchSizes()).containsExactly(3);
+    assertThat(kms.unwrapCalls()).isEqualTo(4);
+
+    for (int i = 0; i < wrappedKeys.size(); i += 1) {
+      assertThat(manager.unwrapKey(wrappedKeys.get(i))).isEqualTo(keys.get(i));
+    }
+
+    assertThat(kms.unwrapCalls()).isEqualTo(4);
+    assertThat(metrics.count(KeyUnwrapCache.KMS_REQUESTS)).isEqualTo(2);
+  }
+
+  @Test
+  public void testManagerCachesUnwrappedKeys() {
+    StandardEncryptionManager manager =
+        (StandardEncryptionManager) EncryptionTestHelpers.createEncryptionManager();
+    ByteBuffer key = randomKey();
+    ByteBuffer wrappedKey = manager.wrapKey(key);
+
+    assertThat(manager.unwrapKey(wrappedKey)).isEqualTo(key);
+    assertThat(manager.unwrapKey(wrappedKey)).isEqualTo(key);
+    assertThat(manager.keyCache().size()).isEqualTo(1);
+  }
+
+  @Test
+  public void testManagerReportsMetricsToContext() {
+    Map<String, String> tableProperties =
+        ImmutableMap.of(TableProperties.ENCRYPTION_TABLE_KEY, KEY_ID);
+    StandardEncryptionManager manager =
+        (StandardEncryptionManager)
+            EncryptionUtil.createEncryptionManager(List.of(), tableProperties, kms, metrics);
+    ByteBuffer key = randomKey();
+    ByteBuffer wrappedKey = manager.wrapKey(key);
+
+    assertThat(manager.unwrapKey(wrappedKey)).isEqualTo(key);
+    assertThat(manager.unwrapKey(wrappedKey)).isEqualTo(key);
+    assertThat(metrics.count(KeyUnwrapCache.CACHE_MISSES)).isEqualTo(1);
+    assertThat(metrics.count(KeyUnwrapCache.CACHE_HITS)).isEqualTo(1);
+    assertThat(metrics.count(KeyUnwrapCache.KMS_REQUESTS)).isEqualTo(1);
+  }
+
+  @Test
+  public void testKeysAreCachedByWrappingKeyId() {
+    KeyUnwrapCache cache = newCache(100);
+    ByteBuffer key = randomKey();
+
+    assertThat(cache.unwrap(kms.wrapKey(key, KEY_ID), KEY_ID)).isEqualTo(key);
+    ByteBuffer wrappedWithKeyB = kms.wrapKey(key, UnitestKMS.MASTER_KEY_NAME2);
+    assertThat(cache.unwrap(wrappedWithKeyB, UnitestKMS.MASTER_KEY_NAME2)).isEqualTo(key);
+    assertThat(cache.unwrap(wrappedWithKeyB, UnitestKMS.MASTER_KEY_NAME2)).isEqualTo(key);
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(kms.unwrapCalls()).isEqualTo(2);
+  }
+
+  private KeyUnwrapCache newCache(int maxEntries) {
+    return new KeyUnwrapCache(kms, TTL, maxEntries, metrics, nanos::get);
+  }
+
+  private static boolean isZeroed(byte[] key) {
+    for (byte b : key) {
+      if (b != 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private ByteBuffer randomKey() {
+    byte[] key = new byte[16];
+    random.nextBytes(key);
+    return ByteBuffer.wrap(key);
+  }
+
+  /** A local KMS that records the keys it unwrapped. */
+  private static class CountingKMS extends UnitestKMS {
+    private final List<Integer> batchSizes = Lists.newArrayList();
+    private final List<byte[]> unwrappedKeys = Lists.newArrayList();
+
+    @Override
+    public ByteBuffer unwrapKey(ByteBuffer wrappedKey, String wrappingKeyId) {
+      ByteBuffer key = super.unwrapKey(wrappedKey, wrappingKeyId);
+      unwrappedKeys.add(key.array());
+      return key;
+    }
+
+    @Override
+    public List<ByteBuffer> unwrapKeys(List<ByteBuffer> wrappedKeys, String wrappingKeyId) {
+      batchSizes.add(wrappedKeys.size());
+      return super.unwrapKeys(wrappedKeys, wrappingKeyId);
+    }
+
+    int unwrapCalls() {
+      return unwrappedKeys.size();
+    }
+
+    byte[] lastUnwrapped() {
+      return unwrappedKeys.get(unwrappedKeys.size() - 1);
+    }
+
+    List<byte[]> unwrappedKeys() {
+      return unwrappedKeys;
+    }
+
+    List<Integer> batchSizes() {
+      return batchSizes;
+    }
+  }
+
+  private static class RecordingMetricsContext extends DefaultMetricsContext {
+    private final Map<String, Counter> counters = Maps.newConcurrentMap();
+
+    @Override
+    public Counter counter(String name, MetricsContext.Unit unit) {
+      return counters.computeIfAbsent(name, ignored -> super.counter(name, unit));
+    }
+
+    long count(String name) {
+      return counters.get(name).value();
+    }
+  }
+}
@@ -53,6 +53,7 @@ public class TestCachingCatalog extends HadoopTableTestBase {
 
   private static final Duration EXPIRATION_TTL = Duration.ofMinutes(5);
   private static final Duration HALF_OF_EXPIRATION = EXPIRATION_TTL.dividedBy(2);
+  private static final Duration REFRESH_INTERVAL = Duration.ofMinutes(1);
 
   private FakeTicker ticker;
 
@@ -407,6 +408,90 @@ public class TestCachingCatalog extends HadoopTableTestBase {
     assertThat(wrappedCatalog.cache().asMap()).doesNotContainKey(tableIdent);
   }
 
+  @Test
+  public void testRefreshIntervalMustBeLessThanExpiration() {
+    assertThatThrownBy(
+            () ->
+                TestableCachingCatalog.wrap(
+                    hadoopCatalog(), EXPIRATION_TTL, EXPIRATION_TTL, ticker))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Invalid cache.refresh-interval-ms: 300000 (must be less than cache.expiration-interval-ms: 300000)");
+  }
+
+  @Test
+  public void testRefreshAheadReloadsChangedTable() throws IOException {
+    TestableCachingCatalog catalog =
+        TestableCachingCatalog.wrap(hadoopCatalog(), EXPIRATION_TTL, REFRESH_INTERVAL, ticker);
+    Namespace namespace = Namespace.of("db", "ns1", "ns2");
+    TableIdentifier tableIdent = TableIdentifier.of(namespace, "tbl");
+    Table table = catalog.createTable(tableIdent, SCHEMA, SPEC, ImmutableMap.of("key", "value"));
+    TableIdentifier filesIdent = TableIdentifier.of("db", "ns1", "ns2", "tbl", "files");
+    Table filesTable = catalog.loadTable(filesIdent);
+    assertThat(table.currentSnapshot()).isNull();
+
+    // commit through a different catalog, which the cached table does not know about
+    hadoopCatalog().loadTable(tableIdent).newAppend().appendFile(FILE_A).commit();
+
+    ticker.advance(REFRESH_INTERVAL.plus(Duration.ofSeconds(10)));
+    assertThat(catalog.loadTable(tableIdent)).isSameAs(table);
+    assertThat(catalog.refreshCount()).isEqualTo(1);
+    assertThat(catalog.unchangedRefreshCount()).isZero();
+
+    // the cached table and its metadata tables are refreshed in place
+    assertThat(table.currentSnapshot()).isNotNull();
+    assertThat(catalog.loadTable(filesIdent)).isSameAs(filesTable);
+    assertThat(filesTable.currentSnapshot()).isEqualTo(table.currentSnapshot());
+  }
+
+  @Test
+  public void testRefreshAheadSkipsUnchangedTable() throws IOException {
+    TestableCachingCatalog catalog =
+        TestableCachingCatalog.wrap(hadoopCatalog(), EXPIRATION_TTL, REFRESH_INTERVAL, ticker);
+    TableIdentifier tableIdent = TableIdentifier.of("db", "ns1", "ns2", "tbl");
+    Table table = catalog.createTable(tableIdent, SCHEMA, SPEC, ImmutableMap.of("key", "value"));
+    table.newAppend().appendFile(FILE_A).commit();
+    Snapshot snapshot = table.currentSnapshot();
+
+    ticker.advance(REFRESH_INTERVAL.plus(Duration.ofSeconds(10)));
+    assertThat(catalog.loadTable(tableIdent)).isSameAs(table);
+    assertThat(catalog.refreshCount()).isEqualTo(1);
+    assertThat(catalog.unchangedRefreshCount()).isEqualTo(1);
+    assertThat(table.currentSnapshot()).isSameAs(snapshot);
+
+    // refreshed entries do not expire while they are used
+    ticker.advance(EXPIRATION_TTL.minus(Duration.ofSeconds(10)));
+    assertThat(catalog.cache().asMap()).containsKey(tableIdent);
+  }
+
+  @Test
+  public void testTableListingsAreCachedWithRefreshAhead() throws IOException {
+    TestableCachingCatalog catalog =
+        TestableCachingCatalog.wrap(hadoopCatalog(), EXPIRATION_TTL, REFRESH_INTERVAL, ticker);
+    Namespace namespace = Namespace.of("db", "ns1", "ns2");
+    TableIdentifier tableIdent = TableIdentifier.of(namespace, "tbl");
+    catalog.createTable(tableIdent, SCHEMA, SPEC, ImmutableMap.of("key", "value"));
+
+    assertThat(catalog.listTables(namespace)).containsExactly(tableIdent);
+    assertThat(catalog.listTables(namespace)).containsExactly(tableIdent);
+    assertThat(catalog.tableListCacheStats().hitCount()).isEqualTo(1);
+    assertThat(catalog.tableListCacheStats().missCount()).isEqualTo(1);
+
+    // changes made through the caching catalog invalidate the listing
+    TableIdentifier otherIdent = TableIdentifier.of(namespace, "other");
+    catalog.createTable(otherIdent, SCHEMA);
+    assertThat(catalog.listTables(namespace)).containsExactlyInAnyOrder(tableIdent, otherIdent);
+    catalog.dropTable(otherIdent);
+    assertThat(catalog.listTables(namespace)).containsExactly(tableIdent);
+
+    // changes made elsewhere are picked up by a background refresh
+    hadoopCatalog().createTable(otherIdent, SCHEMA);
+    assertThat(catalog.listTables(namespace)).containsExactly(tableIdent);
+    ticker.advance(REFRESH_INTERVAL.plus(Duration.ofSeconds(10)));
+    catalog.listTables(namespace);
+    assertThat(catalog.listTables(namespace)).containsExactlyInAnyOrder(tableIdent, otherIdent);
+  }
+
   public static TableIdentifier[] metadataTables(TableIdentifier tableIdent) {
     return Arrays.stream(MetadataTableType.values())
         .map(type -> TableIdentifier.parse(tableIdent + "." + type.name().toLowerCase(Locale.ROOT)))
@@ -25,6 +25,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.List;
 import java.util.Set;
 import org.apache.hadoop.conf.Configuration;
@@ -574,6 +575,80 @@ public class TestHadoopCatalog extends HadoopTableTestBase {
             "Metadata file for version 3 is missing under " + new Path(tableLocation, "metadata"));
   }
 
+  @Test
+  public void testStaleVersionHintFindsLatestVersion() throws Exception {
+    for (int i = 0; i < 10; i += 1) {
+      table.newFastAppend().appendFile(FILE_A).commit();
+    }
+
+    replaceVersionHint(1);
+
+    HadoopTableOperations tableOperations =
+        (HadoopTableOperations) TABLES.newTableOps(tableLocation);
+    assertThat(tableOperations.findVersion()).isEqualTo(1);
+    assertThat(tableOperations.refresh().metadataFileLocation())
+        .isEqualTo(tableOperations.getMetadataFile(11).toString());
+    assertThat(TABLES.load(tableLocation).currentSnapshot().snapshotId())
+        .isEqualTo(table.currentSnapshot().snapshotId());
+  }
+
+  @Test
+  public void testMetadataLocationCache() throws Exception {
+    Configuration conf = new Configuration();
+    conf.setBoolean(ConfigProperties.HADOOP_METADATA_LOCATION_CACHE_ENABLED, true);
+    HadoopTables tables = new HadoopTables(conf);
+    HadoopTableOperations.clearMetadataLocationCache();
+
+    // locations are only cached once the metadata directory has not changed for a while
+    long modifiedTime = System.currentTimeMillis() - 10_000;
+    assertThat(metadataDir.setLastModified(modifiedTime)).isTrue();
+    String firstLocation = metadataFileLocation(tables.load(tableLocation));
+    assertThat(firstLocation).endsWith(version(1).getName());
+
+    // add a version without changing the directory modification time, so the cached location is
+    // still used
+    Files.copy(version(1).toPath(), version(2).toPath());
+    assertThat(metadataDir.setLastModified(modifiedTime)).isTrue();
+    assertThat(metadataFileLocation(tables.load(tableLocation))).isEqualTo(firstLocation);
+
+    // once the directory is modified, the cached location is no longer valid
+    assertThat(metadataDir.setLastModified(modifiedTime + 1_000)).isTrue();
+    assertThat(metadataFileLocation(tables.load(tableLocation))).endsWith(version(2).getName());
+    assertThat(metadataFileLocation(TABLES.load(tableLocation))).endsWith(version(2).getName());
+  }
+
+  @Test
+  public void testListTablesInParallel() throws Exception {
+    HadoopCatalog catalog =
+        hadoopCatalog(ImmutableMap.of(HadoopCatalog.LIST_TABLES_PARALLELISM, "4"));
+
+    Set<String> expected = Sets.newHashSet();
+    for (int i = 0; i < 20; i += 1) {
+      String name = "tbl" + i;
+      catalog.createTable(TableIdentifier.of("db", name), SCHEMA, PartitionSpec.unpartitioned());
+      expected.add(name);
+    }
+
+    catalog.createNamespace(Namespace.of("db", "ns1"));
+    catalog.createTable(
+        TableIdentifier.of("db", "ns1", "tbl"), SCHEMA, PartitionSpec.unpartitioned());
+
+    List<TableIdentifier> tables = catalog.listTables(Namespace.of("db"));
+    assertThat(tables).hasSize(20);
+    assertThat(tables.stream().map(TableIdentifier::name))
+        .containsExactlyInAnyOrderElementsOf(expected);
+
+    catalog.close();
+  }
+
+  @Test
+  public void testInvalidListTablesParallelism() {
+    assertThatThrownBy(
+            () -> hadoopCatalog(ImmutableMap.of(HadoopCatalog.LIST_TABLES_PARALLELISM, "0")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid list-tables-parallelism: 0 (must be positive)");
+  }
+
   @Test
   public void testTableName() throws Exception {
     HadoopCatalog catalog = hadoopCatalog();
@@ -589,6 +664,10 @@ public class TestHadoopCatalog extends HadoopTableTestBase {
     assertThat(snapshotsTable.name()).isEqualTo("hadoop.db.ns1.ns2.tbl.snapshots");
   }
 
+  private static String metadataFileLocation(Table table) {
+    return ((HasTableOperations) table).operations().current().metadataFileLocation();
+  }
+
   private static void addVersionsToTable(Table table) {
     DataFile dataFile1 =
         DataFiles.builder(SPEC)
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.apache.iceberg.CatalogProperties;
+import org.apache.iceberg.hadoop.HadoopMetricsContext;
+import org.apache.iceberg.metrics.DefaultCounter;
+import org.apache.iceberg.metrics.Gauge;
+import org.apache.iceberg.metrics.Histogram;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+public class TestDefaultFileIOMetricsContext {
+
+  private static String newScope() {
+    return "test-" + UUID.randomUUID();
+  }
+
+  @Test
+  public void metricsAreSharedWithinScope() {
+    String scope = newScope();
+    DefaultFileIOMetricsContext first = new DefaultFileIOMetricsContext(scope);
+    DefaultFileIOMetricsContext second = new DefaultFileIOMetricsContext(scope);
+
+    first.counter(FileIOMetricsContext.READ_BYTES, MetricsContext.Unit.BYTES).increment(10L);
+    second.counter(FileIOMetricsContext.READ_BYTES, MetricsContext.Unit.BYTES).increment(5L);
+    first.gauge(FileIOMetricsContext.READS_IN_FLIGHT).increment();
+    second.histogram(FileIOMetricsContext.GET_LATENCY).update(100L);
+
+    Map<String, Number> values = first.values();
+    assertThat(values)
+        .containsEntry(FileIOMetricsContext.READ_BYTES, 15L)
+        .containsEntry(FileIOMetricsContext.READS_IN_FLIGHT, 1L)
+        .containsEntry(FileIOMetricsContext.GET_LATENCY + ".count", 1)
+        .containsEntry(FileIOMetricsContext.GET_LATENCY + ".p50", 100L)
+        .containsEntry(FileIOMetricsContext.GET_LATENCY + ".max", 100L);
+
+    assertThat(new DefaultFileIOMetricsContext(newScope()).values()).isEmpty();
+    DefaultFileIOMetricsContext.clear(scope);
+  }
+
+  @Test
+  public void conflictingMetricTypes() {
+    String scope = newScope();
+    DefaultFileIOMetricsContext context = new DefaultFileIOMetricsContext(scope);
+    context.histogram("m");
+
+    assertThatThrownBy(() -> context.gauge("m"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot use metric m as a Gauge: already registered as LogLinearHistogram");
+    DefaultFileIOMetricsContext.clear(scope);
+  }
+
+  @Test
+  public void jmxReporter() throws Exception {
+    String scope = newScope();
+    DefaultFileIOMetricsContext context = new DefaultFileIOMetricsContext(scope);
+    context.initialize(ImmutableMap.of(CatalogProperties.IO_METRICS_JMX_ENABLED, "true"));
+    context.counter(FileIOMetricsContext.RETRIES).increment(3L);
+
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = FileIOMetricsMBean.objectName(scope);
+    assertThat(server.getAttribute(name, FileIOMetricsContext.RETRIES)).isEqualTo(3L);
+
+    server.unregisterMBean(name);
+    DefaultFileIOMetricsContext.clear(scope);
+  }
+
+  @Test
+  public void unsupportedMetricsFallBackToNoop() {
+    MetricsContext context =
+        new MetricsContext() {
+          @Override
+          public org.apache.iceberg.metrics.Counter counter(String name, Unit unit) {
+            throw new IllegalArgumentException("Unsupported counter: " + name);
+          }
+        };
+
+    FileIOMetrics metrics = FileIOMetrics.of(context);
+    assertThat(metrics.openLatency()).isSameAs(Histogram.NOOP);
+    assertThat(metrics.readsInFlight()).isSameAs(Gauge.NOOP);
+    assertThat(metrics.retries()).isSameAs(DefaultCounter.NOOP);
+  }
+
+  @Test
+  public void hadoopContextReturnsNoopMetrics() {
+    HadoopMetricsContext context = new HadoopMetricsContext("s3");
+    assertThat(context.histogram(FileIOMetricsContext.OPEN_LATENCY)).isSameAs(Histogram.NOOP);
+    assertThat(context.gauge(FileIOMetricsContext.READS_IN_FLIGHT)).isSameAs(Gauge.NOOP);
+    assertThat(context.counter(FileIOMetricsContext.RETRIES)).isSameAs(DefaultCounter.NOOP);
+  }
+
+  @Test
+  public void timedPages() {
+    String scope = newScope();
+    DefaultFileIOMetricsContext context = new DefaultFileIOMetricsContext(scope);
+    Histogram latency = context.histogram(FileIOMetricsContext.LIST_LATENCY);
+
+    Iterator<String> pages =
+        FileIOMetrics.timedPages(ImmutableList.of("a", "b", "c").iterator(), latency);
+    List<String> result = Lists.newArrayList();
+    while (pages.hasNext()) {
+      // repeated calls to hasNext must not record additional pages
+      pages.hasNext();
+      result.add(pages.next());
+    }
+
+    assertThat(result).containsExactly("a", "b", "c");
+    assertThat(latency.count()).isEqualTo(3);
+    DefaultFileIOMetricsContext.clear(scope);
+  }
+}
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.apache.iceberg.exceptions.ForbiddenException;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class TestParallelPrefixListing {
+  private final NavigableSet<String> keys = Sets.newTreeSet();
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void before() {
+    for (int dir = 0; dir < 5; dir += 1) {
+      keys.add(String.format("table/data/file-%d.parquet", dir));
+      for (int part = 0; part < 4; part += 1) {
+        for (int file = 0; file < 10; file += 1) {
+          keys.add(String.format("table/data/dir=%d/part=%d/file-%d.parquet", dir, part, file));
+        }
+      }
+    }
+
+    keys.add("table/metadata/v1.metadata.json");
+    keys.add("other/file.parquet");
+    this.executor = Executors.newFixedThreadPool(8);
+  }
+
+  @AfterEach
+  public void after() throws InterruptedException {
+    executor.shutdownNow();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @ParameterizedTest
+  @CsvSource({"1, 0", "1, 2", "4, 1", "4, 2", "8, 5"})
+  public void listsAllFiles(int parallelism, int fanoutDepth) {
+    ParallelPrefixListing listing =
+        ParallelPrefixListing.builder(this::listLevel, this::listRecursive)
+            .parallelism(parallelism)
+            .fanoutDepth(fanoutDepth)
+            .queueSize(3)
+            .executeWith(executor)
+            .build();
+
+    List<String> listed = locations(listing.list("table/"));
+    assertThat(listed)
+        .doesNotHaveDuplicates()
+        .containsExactlyInAnyOrderElementsOf(keys.subSet("table/", "table0"));
+  }
+
+  @Test
+  public void listsEmptyPrefix() {
+    ParallelPrefixListing listing =
+        ParallelPrefixListing.builder(this::listLevel, this::listRecursive)
+            .executeWith(executor)
+            .build();
+
+    assertThat(locations(listing.list("missing/"))).isEmpty();
+  }
+
+  @Test
+  public void limitsConcurrentListings() {
+    AtomicInteger active = new AtomicInteger(0);
+    AtomicInteger maxActive = new AtomicInteger(0);
+    ParallelPrefixListing listing =
+        ParallelPrefixListing.builder(
+                this::listLevel,
+                prefix -> {
+                  int current = active.incrementAndGet();
+                  maxActive.accumulateAndGet(current, Math::max);
+                  try {
+                    Thread.sleep(10);
+                    return Lists.newArrayList(listRecursive(prefix));
+                  } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                  } finally {
+                    active.decrementAndGet();
+                  }
+                })
+            .parallelism(2)
+            .fanoutDepth(3)
+            .executeWith(executor)
+            .build();
+
+    assertThat(locations(listing.list("table/"))).hasSize(keys.subSet("table/", "table0").size());
+    assertThat(maxActive.get()).isBetween(1, 2);
+  }
+
+  @Test
+  public void retriesWithoutDuplicates() {
+    Set<String> failed = Sets.newConcurrentHashSet();
+    ParallelPrefixListing listing =
+        ParallelPrefixListing.builder(
+                this::listLevel,
+                prefix -> {
+                  Iterable<FileInfo> files = listRecursive(prefix);
+                  if (!failed.add(prefix)) {
+                    return files;
+                  }
+
+                  // fail the first attempt after returning part of the listing
+                  return () -> failAfter(files.iterator(), 3);
+                })
+            .fanoutDepth(2)
+            .executeWith(executor)
+            .build();
+
+    List<String> listed = locations(listing.list("table/"));
+    assertThat(failed).isNotEmpty();
+    assertThat(listed)
+        .doesNotHaveDuplicates()
+        .containsExactlyInAnyOrderElementsOf(keys.subSet("table/", "table0"));
+  }
+
+  @Test
+  public void failsAfterRetries() {
+    AtomicInteger attempts = new AtomicInteger(0);
+    ParallelPrefixListing listing =
+        ParallelPrefixListing.builder(
+                prefix -> {
+                  attempts.incrementAndGet();
+                  throw new IllegalStateException("Listing failed: " + prefix);
+                },
+                this::listRecursive)
+            .retries(2)
+            .executeWith(executor)
+            .build();
+
+    assertThatThrownBy(() -> locations(listing.list("table/")))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Listing failed: table/");
+    assertThat(attempts.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void doesNotRetryPermanentFailures() {
+    AtomicInteger attempts = new AtomicInteger(0);
+    ParallelPrefixListing listing =
+        ParallelPrefixListing.builder(
+                prefix -> {
+                  attempts.incrementAndGet();
+                  throw new ForbiddenException("Access denied: %s", prefix);
+                },
+                this::listRecursive)
+            .retries(2)
+            .executeWith(executor)
+            .build();
+
+    assertThatThrownBy(() -> locations(listing.list("table/")))
+        .isInstanceOf(ForbiddenException.class)
+        .hasMessage("Access denied: table/");
+    assertThat(attempts.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void abandonsListingWhenCallerStops() throws InterruptedException {
+    ParallelPrefixListing listing =
+        ParallelPrefixListing.builder(this::listLevel, this::listRecursive)
+            .parallelism(4)
+            .queueSize(1)
+            .idleTimeoutMs(100)
+            .executeWith(executor)
+            .build();
+
+    // the iterable is never closed
+    Iterator<FileInfo> iter = listing.list("table/").iterator();
+    assertThat(iter.next().location()).startsWith("table/");
+
+    // workers blocked on the full queue exit once the caller has been idle for the timeout
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    assertThatThrownBy(() -> iter.forEachRemaining(file -> {}))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Listing was abandoned after 100 ms without the caller taking an entry");
+  }
+
+  @Test
+  public void closeStopsListing() throws IOException, InterruptedException {
+    ParallelPrefixListing listing =
+        ParallelPrefixListing.builder(this::listLevel, this::listRecursive)
+            .parallelism(4)
+            .queueSize(1)
+            .executeWith(executor)
+            .build();
+
+    try (CloseableIterable<FileInfo> files = listing.list("table/")) {
+      Iterator<FileInfo> iter = files.iterator();
+      assertThat(iter.hasNext()).isTrue();
+      assertThat(iter.next().location()).startsWith("table/");
+    }
+
+    // workers blocked on the full queue must exit once the listing is closed
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private List<String> locations(CloseableIterable<FileInfo> files) {
+    try (CloseableIterable<FileInfo> closeable = files) {
+      return Lists.newArrayList(closeable).stream()
+          .map(FileInfo::location)
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private ParallelPrefixListing.Level listLevel(String prefix) {
+    List<FileInfo> files = Lists.newArrayList();
+    Set<String> prefixes = Sets.newTreeSet();
+    for (String key : keys.tailSet(prefix)) {
+      if (!key.startsWith(prefix)) {
+        break;
+      }
+
+      int delimiter = key.indexOf('/', prefix.length());
+      if (delimiter < 0) {
+        files.add(new FileInfo(key, key.length(), 0L));
+      } else {
+        prefixes.add(key.substring(0, delimiter + 1));
+      }
+    }
+
+    return new ParallelPrefixListing.Level(files, Lists.newArrayList(prefixes));
+  }
+
+  private Iterable<FileInfo> listRecursive(String prefix) {
+    return keys.tailSet(prefix).stream()
+        .filter(key -> key.startsWith(prefix))
+        .map(key -> new FileInfo(key, key.length(), 0L))
+        .collect(Collectors.toList());
+  }
+
+  private static <T> Iterator<T> failAfter(Iterator<T> iter, int count) {
+    return new Iterator<T>() {
+      private int returned = 0;
+
+      @Override
+      public boolean hasNext() {
+        if (returned >= count) {
+          throw new IllegalStateException("Connection reset");
+        }
+
+        return iter.hasNext();
+      }
+
+      @Override
+      public T next() {
+        returned += 1;
+        return iter.next();
+      }
+    };
+  }
+}
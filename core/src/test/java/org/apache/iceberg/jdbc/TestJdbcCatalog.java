@@ -57,14 +57,19 @@ import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.TableOperations;
 import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.Transaction;
+import org.apache.iceberg.UpdateRequirement;
 import org.apache.iceberg.catalog.CatalogTests;
+import org.apache.iceberg.catalog.ImmutableTableCommit;
 import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableCommit;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
+import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.NamespaceNotEmptyException;
 import org.apache.iceberg.exceptions.NoSuchNamespaceException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.hadoop.Util;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
@@ -709,6 +714,115 @@ public class TestJdbcCatalog extends CatalogTests<JdbcCatalog> {
         .hasMessage("Namespace does not exist: db.ns1.ns2");
   }
 
+  @Test
+  public void testPaginatedListing() {
+    JdbcCatalog pagingCatalog =
+        initCatalog("paging_jdbc_catalog", ImmutableMap.of(JdbcUtil.LIST_PAGE_SIZE_PROPERTY, "2"));
+    List<TableIdentifier> tables = Lists.newArrayList();
+    for (int i = 0; i < 5; i += 1) {
+      TableIdentifier table = TableIdentifier.of("db", "tbl" + i);
+      pagingCatalog.createTable(table, SCHEMA);
+      tables.add(table);
+    }
+
+    for (int i = 0; i < 4; i += 1) {
+      pagingCatalog.createTable(TableIdentifier.of("db", "ns" + i, "tbl"), SCHEMA);
+    }
+
+    pagingCatalog.createNamespace(Namespace.of("props_ns"), ImmutableMap.of("key", "value"));
+
+    assertThat(pagingCatalog.listTables(Namespace.of("db")))
+        .containsExactlyInAnyOrderElementsOf(tables);
+    assertThat(pagingCatalog.listNamespaces(Namespace.of("db")))
+        .containsExactlyInAnyOrder(
+            Namespace.of("db", "ns0"),
+            Namespace.of("db", "ns1"),
+            Namespace.of("db", "ns2"),
+            Namespace.of("db", "ns3"));
+    assertThat(pagingCatalog.listNamespaces())
+        .containsExactlyInAnyOrder(Namespace.of("db"), Namespace.of("props_ns"));
+  }
+
+  @Test
+  public void testInvalidListPageSize() {
+    assertThatThrownBy(
+            () ->
+                initCatalog(
+                    "paging_jdbc_catalog", ImmutableMap.of(JdbcUtil.LIST_PAGE_SIZE_PROPERTY, "0")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid jdbc.list-page-size: 0 (must be positive)");
+  }
+
+  @Test
+  public void testStatementCache() {
+    JdbcCatalog cachingCatalog =
+        initCatalog(
+            "caching_jdbc_catalog", ImmutableMap.of(JdbcUtil.STATEMENT_CACHE_SIZE_PROPERTY, "3"));
+    TableIdentifier table = TableIdentifier.of("db", "tbl");
+    cachingCatalog.createTable(table, SCHEMA);
+
+    for (int i = 0; i < 3; i += 1) {
+      cachingCatalog.loadTable(table).updateProperties().set("key", "value" + i).commit();
+      assertThat(cachingCatalog.listTables(Namespace.of("db"))).containsExactly(table);
+    }
+
+    assertThat(cachingCatalog.loadTable(table).properties()).containsEntry("key", "value2");
+    assertThat(cachingCatalog.connectionPool().cachedStatementCount())
+        .isBetween(1, 3 * CatalogProperties.CLIENT_POOL_SIZE_DEFAULT);
+  }
+
+  @Test
+  public void testMultiTableCommit() {
+    TableIdentifier table1 = TableIdentifier.of("db", "tbl1");
+    TableIdentifier table2 = TableIdentifier.of("db", "tbl2");
+    catalog.createTable(table1, SCHEMA);
+    catalog.createTable(table2, SCHEMA);
+
+    catalog.commitTransaction(
+        ImmutableList.of(
+            setProperty(table1, "key", "value1"), setProperty(table2, "key", "value2")));
+
+    assertThat(catalog.loadTable(table1).properties()).containsEntry("key", "value1");
+    assertThat(catalog.loadTable(table2).properties()).containsEntry("key", "value2");
+  }
+
+  @Test
+  public void testMultiTableCommitFailureChangesNoTable() {
+    TableIdentifier table1 = TableIdentifier.of("db", "tbl1");
+    TableIdentifier table2 = TableIdentifier.of("db", "tbl2");
+    catalog.createTable(table1, SCHEMA);
+    catalog.createTable(table2, SCHEMA);
+    String table1Location = catalog.newTableOps(table1).current().metadataFileLocation();
+
+    TableCommit failingCommit =
+        ImmutableTableCommit.builder()
+            .identifier(table2)
+            .addRequirements(new UpdateRequirement.AssertTableUUID(UUID.randomUUID().toString()))
+            .build();
+
+    assertThatThrownBy(
+            () ->
+                catalog.commitTransaction(
+                    ImmutableList.of(setProperty(table1, "key", "value1"), failingCommit)))
+        .isInstanceOf(CommitFailedException.class)
+        .hasMessageContaining("UUID does not match");
+
+    assertThat(catalog.newTableOps(table1).current().metadataFileLocation())
+        .isEqualTo(table1Location);
+    assertThat(catalog.loadTable(table1).properties()).doesNotContainKey("key");
+
+    // the metadata file written for table1 is removed when the transaction fails
+    File metadataDir = new File(catalog.loadTable(table1).location(), "metadata");
+    assertThat(metadataDir.listFiles((dir, name) -> name.endsWith(".metadata.json"))).hasSize(1);
+  }
+
+  private TableCommit setProperty(TableIdentifier identifier, String key, String value) {
+    TableMetadata base = catalog.newTableOps(identifier).current();
+    TableMetadata updated =
+        TableMetadata.buildFrom(base).setProperties(ImmutableMap.of(key, value)).build();
+    return TableCommit.create(identifier, base, updated);
+  }
+
   @Test
   public void testCallingLocationProviderWhenNoCurrentMetadata() {
     TableIdentifier tableIdent = TableIdentifier.of("ns1", "ns2", "table1");
@@ -27,7 +27,9 @@ import java.util.Map;
 import java.util.Properties;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.Pair;
 import org.junit.jupiter.api.Test;
 import org.sqlite.SQLiteDataSource;
 
@@ -144,6 +146,62 @@ public class TestJdbcUtil {
     }
   }
 
+  @Test
+  public void testUpdateTablesIsAtomic() throws Exception {
+    java.nio.file.Path dbFile = Files.createTempFile("icebergUpdateTables", "db");
+    String jdbcUrl = "jdbc:sqlite:" + dbFile.toAbsolutePath();
+    Map<String, String> props = ImmutableMap.of(JdbcUtil.STATEMENT_CACHE_SIZE_PROPERTY, "4");
+    TableIdentifier table1 = TableIdentifier.of(Namespace.of("namespace1"), "table1");
+    TableIdentifier table2 = TableIdentifier.of(Namespace.of("namespace1"), "table2");
+
+    try (JdbcClientPool connections = new JdbcClientPool(1, jdbcUrl, props)) {
+      connections.run(conn -> conn.prepareStatement(JdbcUtil.V0_CREATE_CATALOG_SQL).execute());
+      connections.run(conn -> conn.prepareStatement(JdbcUtil.V1_UPDATE_CATALOG_SQL).execute());
+      for (TableIdentifier table : new TableIdentifier[] {table1, table2}) {
+        JdbcUtil.doCommitCreateTable(
+            JdbcUtil.SchemaVersion.V1,
+            connections,
+            "TEST",
+            table.namespace(),
+            table,
+            "location1");
+      }
+
+      // table2 does not have the expected old location, so neither table is updated
+      boolean committed =
+          JdbcUtil.updateTables(
+              JdbcUtil.SchemaVersion.V1,
+              connections,
+              "TEST",
+              ImmutableMap.of(
+                  table1, Pair.of("location2", "location1"),
+                  table2, Pair.of("location2", "stale")));
+      assertThat(committed).isFalse();
+      assertThat(metadataLocation(connections, table1)).isEqualTo("location1");
+      assertThat(metadataLocation(connections, table2)).isEqualTo("location1");
+
+      committed =
+          JdbcUtil.updateTables(
+              JdbcUtil.SchemaVersion.V1,
+              connections,
+              "TEST",
+              ImmutableMap.of(
+                  table1, Pair.of("location2", "location1"),
+                  table2, Pair.of("location2", "location1")));
+      assertThat(committed).isTrue();
+      assertThat(metadataLocation(connections, table1)).isEqualTo("location2");
+      assertThat(metadataLocation(connections, table2)).isEqualTo("location2");
+      assertThat(connections.cachedStatementCount()).isPositive();
+      assertThat(connections.run(conn -> conn.getAutoCommit())).isTrue();
+    }
+  }
+
+  private static String metadataLocation(JdbcClientPool connections, TableIdentifier table)
+      throws Exception {
+    return JdbcUtil.loadTable(JdbcUtil.SchemaVersion.V1, connections, "TEST", table)
+        .get(JdbcTableOperations.METADATA_LOCATION_PROP);
+  }
+
   @Test
   public void emptyNamespaceInIdentifier() {
     assertThat(JdbcUtil.stringToTableIdentifier("", "tblName"))
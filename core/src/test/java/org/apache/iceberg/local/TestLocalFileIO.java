@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.apache.iceberg.exceptions.AlreadyExistsException;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.io.ByteBufferReadable;
+import org.apache.iceberg.io.FileInfo;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.PositionOutputStream;
+import org.apache.iceberg.io.RangeReadable;
+import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class TestLocalFileIO {
+  private static final Random RANDOM = new Random(42);
+
+  @TempDir private Path temp;
+
+  private static LocalFileIO fileIO(long mmapMinSize) {
+    LocalFileIO io = new LocalFileIO();
+    io.initialize(ImmutableMap.of(LocalFileIO.MMAP_MIN_FILE_SIZE, String.valueOf(mmapMinSize)));
+    return io;
+  }
+
+  private static byte[] randomBytes(int length) {
+    byte[] bytes = new byte[length];
+    RANDOM.nextBytes(bytes);
+    return bytes;
+  }
+
+  private static void write(OutputFile file, byte[] data) throws IOException {
+    try (PositionOutputStream out = file.create()) {
+      // mix single-byte, small and large writes
+      out.write(data[0]);
+      out.write(data, 1, 99);
+      out.write(data, 100, data.length - 100);
+      assertThat(out.getPos()).isEqualTo(data.length);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {0L, -1L})
+  public void testReadWrite(long mmapMinSize) throws IOException {
+    LocalFileIO io = fileIO(mmapMinSize);
+    String location = temp.resolve("nested/dir/file.bin").toString();
+    byte[] data = randomBytes(1024 * 1024 + 17);
+
+    write(io.newOutputFile(location), data);
+
+    InputFile inputFile = io.newInputFile(location);
+    assertThat(inputFile.exists()).isTrue();
+    assertThat(inputFile.getLength()).isEqualTo(data.length);
+
+    try (SeekableInputStream in = inputFile.newStream()) {
+      byte[] actual = new byte[data.length];
+      int read = 0;
+      while (read < actual.length) {
+        read += in.read(actual, read, Math.min(4096, actual.length - read));
+      }
+
+      assertThat(actual).isEqualTo(data);
+      assertThat(in.read()).isEqualTo(-1);
+
+      in.seek(10);
+      assertThat(in.read()).isEqualTo(data[10] & 0xFF);
+      assertThat(in.getPos()).isEqualTo(11);
+
+      byte[] range = new byte[100];
+      ((RangeReadable) in).readFully(5000, range);
+      assertThat(range).isEqualTo(slice(data, 5000, 100));
+
+      byte[] tail = new byte[64];
+      assertThat(((RangeReadable) in).readTail(tail)).isEqualTo(64);
+      assertThat(tail).isEqualTo(slice(data, data.length - 64, 64));
+
+      // positional reads do not move the stream
+      assertThat(in.getPos()).isEqualTo(11);
+
+      ByteBuffer direct = ByteBuffer.allocateDirect(256);
+      ((ByteBufferReadable) in).readFully(direct);
+      direct.flip();
+      byte[] fromDirect = new byte[256];
+      direct.get(fromDirect);
+      assertThat(fromDirect).isEqualTo(slice(data, 11, 256));
+      assertThat(in.getPos()).isEqualTo(11 + 256);
+
+      assertThatThrownBy(() -> ((RangeReadable) in).readFully(data.length - 10, new byte[20]))
+          .isInstanceOf(EOFException.class)
+          .hasMessage("Reached the end of stream with 10 bytes left to read");
+    }
+  }
+
+  @Test
+  public void testFileUriLocations() throws IOException {
+    LocalFileIO io = fileIO(LocalFileIO.MMAP_MIN_FILE_SIZE_DEFAULT);
+    Path path = temp.resolve("uri.bin");
+    byte[] data = randomBytes(200);
+
+    write(io.newOutputFile("file:" + path), data);
+    assertThat(io.newInputFile("file://" + path).getLength()).isEqualTo(200);
+    assertThat(io.newInputFile(path.toUri().toString()).getLength()).isEqualTo(200);
+  }
+
+  @Test
+  public void testCreateAndOverwrite() throws IOException {
+    LocalFileIO io = fileIO(LocalFileIO.MMAP_MIN_FILE_SIZE_DEFAULT);
+    String location = temp.resolve("file.bin").toString();
+    write(io.newOutputFile(location), randomBytes(200));
+
+    assertThatThrownBy(() -> io.newOutputFile(location).create())
+        .isInstanceOf(AlreadyExistsException.class)
+        .hasMessage("File already exists: %s", location);
+
+    try (PositionOutputStream out = io.newOutputFile(location).createOrOverwrite()) {
+      out.write(new byte[] {1, 2, 3});
+    }
+
+    assertThat(io.newInputFile(location).getLength()).isEqualTo(3);
+  }
+
+  @Test
+  public void testMissingFile() {
+    LocalFileIO io = fileIO(LocalFileIO.MMAP_MIN_FILE_SIZE_DEFAULT);
+    String location = temp.resolve("missing.bin").toString();
+
+    assertThat(io.newInputFile(location).exists()).isFalse();
+    assertThatThrownBy(() -> io.newInputFile(location).newStream())
+        .isInstanceOf(NotFoundException.class)
+        .hasMessage("File does not exist: %s", location);
+  }
+
+  @Test
+  public void testPrefixOperations() throws IOException {
+    LocalFileIO io = fileIO(LocalFileIO.MMAP_MIN_FILE_SIZE_DEFAULT);
+    List<String> locations =
+        ImmutableList.of(
+            temp.resolve("table/data/a.parquet").toString(),
+            temp.resolve("table/data/b.parquet").toString(),
+            temp.resolve("table/metadata/v1.metadata.json").toString());
+    for (String location : locations) {
+      write(io.newOutputFile(location), randomBytes(128));
+    }
+
+    String prefix = temp.resolve("table").toString();
+    assertThat(listLocations(io, prefix)).containsExactlyInAnyOrderElementsOf(locations);
+
+    io.deleteFiles(locations.subList(0, 1));
+    assertThat(listLocations(io, prefix))
+        .containsExactlyInAnyOrderElementsOf(locations.subList(1, 3));
+
+    io.deletePrefix(prefix);
+    assertThat(listLocations(io, prefix)).isEmpty();
+    assertThat(temp.resolve("table")).doesNotExist();
+  }
+
+  @Test
+  public void testListPrefixWithUri() throws IOException {
+    LocalFileIO io = fileIO(LocalFileIO.MMAP_MIN_FILE_SIZE_DEFAULT);
+    Path file = temp.resolve("table/data/a.parquet");
+    write(io.newOutputFile(file.toString()), randomBytes(16));
+
+    String prefix = temp.resolve("table").toUri().toString();
+    assertThat(listLocations(io, prefix)).containsExactly(file.toUri().toString());
+  }
+
+  private static List<String> listLocations(LocalFileIO io, String prefix) {
+    return Lists.newArrayList(io.listPrefix(prefix)).stream()
+        .map(FileInfo::location)
+        .collect(Collectors.toList());
+  }
+
+  private static byte[] slice(byte[] data, int offset, int length) {
+    byte[] result = new byte[length];
+    System.arraycopy(data, offset, result, 0, length);
+    return result;
+  }
+}
@@ -21,11 +21,13 @@ package org.apache.iceberg.rest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.BaseTransaction;
 import org.apache.iceberg.Table;
@@ -43,6 +45,7 @@ import org.apache.iceberg.exceptions.ForbiddenException;
 import org.apache.iceberg.exceptions.NamespaceNotEmptyException;
 import org.apache.iceberg.exceptions.NoSuchIcebergTableException;
 import org.apache.iceberg.exceptions.NoSuchNamespaceException;
+import org.apache.iceberg.exceptions.NoSuchPlanIdException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.exceptions.NoSuchViewException;
 import org.apache.iceberg.exceptions.NotAuthorizedException;
@@ -52,26 +55,34 @@ import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.relocated.com.google.common.base.Splitter;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.hash.Hashing;
 import org.apache.iceberg.rest.HTTPRequest.HTTPMethod;
 import org.apache.iceberg.rest.auth.AuthSession;
 import org.apache.iceberg.rest.requests.CommitTransactionRequest;
 import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
 import org.apache.iceberg.rest.requests.CreateViewRequest;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
 import org.apache.iceberg.rest.requests.RegisterTableRequest;
 import org.apache.iceberg.rest.requests.RenameTableRequest;
+import org.apache.iceberg.rest.requests.ReportMetricsBatchRequest;
 import org.apache.iceberg.rest.requests.ReportMetricsRequest;
 import org.apache.iceberg.rest.requests.UpdateNamespacePropertiesRequest;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
 import org.apache.iceberg.rest.responses.ConfigResponse;
 import org.apache.iceberg.rest.responses.CreateNamespaceResponse;
 import org.apache.iceberg.rest.responses.ErrorResponse;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
 import org.apache.iceberg.rest.responses.GetNamespaceResponse;
 import org.apache.iceberg.rest.responses.ListNamespacesResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.rest.responses.LoadTableResponseParser;
 import org.apache.iceberg.rest.responses.LoadViewResponse;
 import org.apache.iceberg.rest.responses.OAuthTokenResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
 import org.apache.iceberg.rest.responses.UpdateNamespacePropertiesResponse;
 import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.PropertyUtil;
@@ -79,6 +90,8 @@ import org.apache.iceberg.util.PropertyUtil;
 /** Adaptor class to translate REST requests into {@link Catalog} API calls. */
 public class RESTCatalogAdapter extends BaseHTTPClient {
   private static final Splitter SLASH = Splitter.on('/');
+  // small plan tasks so that planned scans are paginated in tests
+  private static final int TASKS_PER_PLAN_TASK = 2;
 
   private static final Map<Class<? extends Exception>, Integer> EXCEPTION_ERROR_CODES =
       ImmutableMap.<Class<? extends Exception>, Integer>builder()
@@ -90,6 +103,7 @@ public class RESTCatalogAdapter extends BaseHTTPClient {
           .put(NoSuchNamespaceException.class, 404)
           .put(NoSuchTableException.class, 404)
           .put(NoSuchViewException.class, 404)
+          .put(NoSuchPlanIdException.class, 404)
           .put(NoSuchIcebergTableException.class, 404)
           .put(UnsupportedOperationException.class, 406)
           .put(AlreadyExistsException.class, 409)
@@ -101,11 +115,23 @@ public class RESTCatalogAdapter extends BaseHTTPClient {
   private final Catalog catalog;
   private final SupportsNamespaces asNamespaceCatalog;
   private final ViewCatalog asViewCatalog;
+  private final boolean etagsEnabled;
 
   private AuthSession authSession = AuthSession.EMPTY;
 
   public RESTCatalogAdapter(Catalog catalog) {
+    this(catalog, false);
+  }
+
+  /**
+   * Creates an adapter that optionally returns ETags for loaded tables.
+   *
+   * <p>When ETags are enabled, a table load with an {@code If-None-Match} header that matches the
+   * current ETag is answered as 304 Not Modified, which {@link #execute} signals by returning null.
+   */
+  public RESTCatalogAdapter(Catalog catalog, boolean etagsEnabled) {
     this.catalog = catalog;
+    this.etagsEnabled = etagsEnabled;
     this.asNamespaceCatalog =
         catalog instanceof SupportsNamespaces ? (SupportsNamespaces) catalog : null;
     this.asViewCatalog = catalog instanceof ViewCatalog ? (ViewCatalog) catalog : null;
@@ -150,11 +176,29 @@ public class RESTCatalogAdapter extends BaseHTTPClient {
     RENAME_TABLE(HTTPMethod.POST, ResourcePaths.V1_TABLE_RENAME, RenameTableRequest.class, null),
     REPORT_METRICS(
         HTTPMethod.POST, ResourcePaths.V1_TABLE_METRICS, ReportMetricsRequest.class, null),
+    REPORT_METRICS_BATCH(
+        HTTPMethod.POST,
+        ResourcePaths.V1_TABLE_METRICS_BATCH,
+        ReportMetricsBatchRequest.class,
+        null),
     COMMIT_TRANSACTION(
         HTTPMethod.POST,
         ResourcePaths.V1_TRANSACTIONS_COMMIT,
         CommitTransactionRequest.class,
         null),
+    PLAN_TABLE_SCAN(
+        HTTPMethod.POST,
+        ResourcePaths.V1_TABLE_SCAN_PLAN_SUBMIT,
+        PlanTableScanRequest.class,
+        PlanTableScanResponse.class),
+    FETCH_PLANNING_RESULT(
+        HTTPMethod.GET, ResourcePaths.V1_TABLE_SCAN_PLAN, null, FetchPlanningResultResponse.class),
+    CANCEL_PLANNING(HTTPMethod.DELETE, ResourcePaths.V1_TABLE_SCAN_PLAN),
+    FETCH_SCAN_TASKS(
+        HTTPMethod.POST,
+        ResourcePaths.V1_TABLE_SCAN_PLAN_TASKS,
+        FetchScanTasksRequest.class,
+        FetchScanTasksResponse.class),
     LIST_VIEWS(HTTPMethod.GET, ResourcePaths.V1_VIEWS, null, ListTablesResponse.class),
     VIEW_EXISTS(HTTPMethod.HEAD, ResourcePaths.V1_VIEW),
     LOAD_VIEW(HTTPMethod.GET, ResourcePaths.V1_VIEW, null, LoadViewResponse.class),
@@ -449,6 +493,12 @@ public class RESTCatalogAdapter extends BaseHTTPClient {
           return null;
         }
 
+      case REPORT_METRICS_BATCH:
+        {
+          castRequest(ReportMetricsBatchRequest.class, body).validate();
+          return null;
+        }
+
       case COMMIT_TRANSACTION:
         {
           CommitTransactionRequest request = castRequest(CommitTransactionRequest.class, body);
@@ -456,6 +506,37 @@ public class RESTCatalogAdapter extends BaseHTTPClient {
           return null;
         }
 
+      case PLAN_TABLE_SCAN:
+        {
+          TableIdentifier ident = tableIdentFromPathVars(vars);
+          PlanTableScanRequest request = castRequest(PlanTableScanRequest.class, body);
+          return castResponse(
+              responseType,
+              CatalogHandlers.planTableScan(catalog, ident, request, TASKS_PER_PLAN_TASK));
+        }
+
+      case FETCH_PLANNING_RESULT:
+        {
+          TableIdentifier ident = tableIdentFromPathVars(vars);
+          return castResponse(
+              responseType,
+              CatalogHandlers.fetchPlanningResult(catalog, ident, planIdFromPathVars(vars)));
+        }
+
+      case CANCEL_PLANNING:
+        {
+          CatalogHandlers.cancelPlanning(planIdFromPathVars(vars));
+          return null;
+        }
+
+      case FETCH_SCAN_TASKS:
+        {
+          TableIdentifier ident = tableIdentFromPathVars(vars);
+          FetchScanTasksRequest request = castRequest(FetchScanTasksRequest.class, body);
+          return castResponse(
+              responseType, CatalogHandlers.fetchScanTasks(catalog, ident, request));
+        }
+
       case LIST_VIEWS:
         {
           if (null != asViewCatalog) {
@@ -625,7 +706,21 @@ public class RESTCatalogAdapter extends BaseHTTPClient {
         vars.putAll(request.queryParameters());
         vars.putAll(routeAndVars.second());
 
-        return handleRequest(routeAndVars.first(), vars.build(), request.body(), responseType);
+        T response =
+            handleRequest(routeAndVars.first(), vars.build(), request.body(), responseType);
+        if (etagsEnabled
+            && request.method() == HTTPMethod.GET
+            && response instanceof LoadTableResponse) {
+          String etag = etag((LoadTableResponse) response);
+          responseHeaders.accept(ImmutableMap.of(HttpHeaders.ETAG, etag));
+          if (request.headers().entries(HttpHeaders.IF_NONE_MATCH).stream()
+              .anyMatch(header -> header.value().equals(etag))) {
+            // not modified
+            return null;
+          }
+        }
+
+        return response;
 
       } catch (RuntimeException e) {
         configureResponseFromException(e, errorBuilder);
@@ -653,6 +748,14 @@ public class RESTCatalogAdapter extends BaseHTTPClient {
     // initialize method when fetching the server configuration.
   }
 
+  /** Returns a strong ETag that changes whenever any part of a load response changes. */
+  static String etag(LoadTableResponse response) {
+    return "\""
+        + Hashing.murmur3_128()
+            .hashString(LoadTableResponseParser.toJson(response), StandardCharsets.UTF_8)
+        + "\"";
+  }
+
   private static class BadResponseType extends RuntimeException {
     private BadResponseType(Class<?> responseType, Object response) {
       super(
@@ -700,6 +803,10 @@ public class RESTCatalogAdapter extends BaseHTTPClient {
         namespaceFromPathVars(pathVars), RESTUtil.decodeString(pathVars.get("table")));
   }
 
+  private static String planIdFromPathVars(Map<String, String> pathVars) {
+    return RESTUtil.decodeString(pathVars.get("plan-id"));
+  }
+
   private static TableIdentifier viewIdentFromPathVars(Map<String, String> pathVars) {
     return TableIdentifier.of(
         namespaceFromPathVars(pathVars), RESTUtil.decodeString(pathVars.get("view")));
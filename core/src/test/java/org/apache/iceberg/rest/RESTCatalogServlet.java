@@ -24,15 +24,18 @@ import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.iceberg.exceptions.RESTException;
@@ -106,10 +109,16 @@ public class RESTCatalogServlet extends HttpServlet {
               context.body());
       Object responseBody =
           restCatalogAdapter.execute(
-              request, context.route().responseClass(), handle(response), h -> {});
+              request,
+              context.route().responseClass(),
+              handle(response),
+              headers -> headers.forEach(response::setHeader));
 
       if (responseBody != null) {
         RESTObjectMapper.mapper().writeValue(response.getWriter(), responseBody);
+      } else if (context.route() == Route.LOAD_TABLE) {
+        // the adapter only returns no table for a conditional load that matched the current ETag
+        response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
       }
     } catch (RESTException e) {
       LOG.error("Error processing REST request", e);
@@ -177,8 +186,9 @@ public class RESTCatalogServlet extends HttpServlet {
       Route route = routeContext.first();
       Object requestBody = null;
       if (route.requestClass() != null) {
-        requestBody =
-            RESTObjectMapper.mapper().readValue(request.getReader(), route.requestClass());
+        try (Reader reader = requestReader(request)) {
+          requestBody = RESTObjectMapper.mapper().readValue(reader, route.requestClass());
+        }
       } else if (route == Route.TOKENS) {
         try (Reader reader = new InputStreamReader(request.getInputStream())) {
           requestBody = RESTUtil.decodeFormData(CharStreams.toString(reader));
@@ -195,6 +205,16 @@ public class RESTCatalogServlet extends HttpServlet {
       return new ServletRequestContext(method, route, path, headers, queryParams, requestBody);
     }
 
+    private static Reader requestReader(HttpServletRequest request) throws IOException {
+      // the gzip handler only compresses responses, so compressed request bodies are inflated here
+      if ("gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING))) {
+        InputStream body = new GZIPInputStream(request.getInputStream());
+        return new InputStreamReader(body, StandardCharsets.UTF_8);
+      }
+
+      return request.getReader();
+    }
+
     public HTTPMethod method() {
       return method;
     }
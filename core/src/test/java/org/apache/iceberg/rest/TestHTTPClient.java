@@ -37,7 +37,10 @@ import java.net.SocketTimeoutException;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
@@ -456,6 +459,56 @@ public class TestHTTPClient {
         .doesNotThrowAnyException();
   }
 
+  @Test
+  public void testAsyncRequests() throws IOException {
+    Item body = new Item(0L, "hank");
+    Map<String, String> headers = ImmutableMap.of("Authorization", "Bearer " + BEARER_AUTH_TOKEN);
+    String successPath = addRequestTestCaseAndGetPath(HttpMethod.POST, body, 200);
+    String failurePath = addRequestTestCaseAndGetPath(HttpMethod.GET, body, 404);
+
+    ErrorHandler onError = mock(ErrorHandler.class);
+    doThrow(new RuntimeException("Failure response")).when(onError).accept(any());
+
+    try (HTTPClient client =
+        HTTPClient.builder(
+                ImmutableMap.of(
+                    HTTPClient.REST_USER_AGENT,
+                    TEST_USER_AGENT,
+                    HTTPClient.REST_ASYNC_ENABLED,
+                    "true"))
+            .uri(URI)
+            .withAuthSession(AuthSession.EMPTY)
+            .build()) {
+      CompletableFuture<Item> response =
+          client.postAsync(successPath, body, Item.class, headers, onError);
+      assertThat(response.join()).isEqualTo(body);
+
+      AtomicReference<String> handlerThread = new AtomicReference<>();
+      CompletableFuture<Item> failure =
+          client.getAsync(
+              failurePath,
+              Map.of(),
+              Item.class,
+              headers,
+              onError,
+              h -> handlerThread.set(Thread.currentThread().getName()));
+      assertThatThrownBy(failure::join)
+          .isInstanceOf(CompletionException.class)
+          .cause()
+          .isInstanceOf(RuntimeException.class)
+          .hasMessage("Failure response");
+
+      // responses are handled on the response executor instead of an I/O reactor thread
+      assertThat(handlerThread.get()).startsWith("rest-client-response");
+
+      // blocking requests are sent using the async client and throw the original exception
+      assertThat(client.post(successPath, body, Item.class, headers, onError)).isEqualTo(body);
+      assertThatThrownBy(() -> client.get(failurePath, Item.class, headers, onError))
+          .isInstanceOf(RuntimeException.class)
+          .hasMessage("Failure response");
+    }
+  }
+
   public static void testHttpMethodOnSuccess(HttpMethod method) throws JsonProcessingException {
     Item body = new Item(0L, "hank");
     int statusCode = 200;
@@ -27,10 +27,12 @@ import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.InjectableValues;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.io.IOException;
@@ -44,17 +46,26 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.BaseTransaction;
 import org.apache.iceberg.CatalogProperties;
+import org.apache.iceberg.CatalogUtil;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.FilesTable;
 import org.apache.iceberg.MetadataUpdate;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableScan;
 import org.apache.iceberg.Transaction;
 import org.apache.iceberg.UpdatePartitionSpec;
 import org.apache.iceberg.UpdateSchema;
@@ -64,10 +75,14 @@ import org.apache.iceberg.catalog.SessionCatalog;
 import org.apache.iceberg.catalog.TableCommit;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.exceptions.NoSuchPlanIdException;
+import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.exceptions.NotAuthorizedException;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.exceptions.ServiceFailureException;
 import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.inmemory.InMemoryCatalog;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
@@ -78,14 +93,22 @@ import org.apache.iceberg.rest.RESTSessionCatalog.SnapshotMode;
 import org.apache.iceberg.rest.auth.AuthSessionUtil;
 import org.apache.iceberg.rest.auth.OAuth2Properties;
 import org.apache.iceberg.rest.auth.OAuth2Util;
+import org.apache.iceberg.rest.credentials.Credential;
+import org.apache.iceberg.rest.credentials.ImmutableCredential;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
+import org.apache.iceberg.rest.requests.ReportMetricsBatchRequest;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.BaseScanTaskResponse;
 import org.apache.iceberg.rest.responses.ConfigResponse;
 import org.apache.iceberg.rest.responses.CreateNamespaceResponse;
 import org.apache.iceberg.rest.responses.ErrorResponse;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
 import org.apache.iceberg.rest.responses.ListNamespacesResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
 import org.apache.iceberg.rest.responses.OAuthTokenResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
 import org.apache.iceberg.types.Types;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.awaitility.Awaitility;
@@ -107,6 +130,14 @@ public class TestRESTCatalog extends CatalogTests<RESTCatalog> {
   private static final ObjectMapper MAPPER = RESTObjectMapper.mapper();
   private static final ResourcePaths RESOURCE_PATHS =
       ResourcePaths.forCatalogProperties(Maps.newHashMap());
+  private static final DeleteFile FILE_A_DELETES =
+      FileMetadata.deleteFileBuilder(SPEC)
+          .ofPositionDeletes()
+          .withPath("/path/to/data-a-deletes.parquet")
+          .withFileSizeInBytes(10)
+          .withPartitionPath("id_bucket=0")
+          .withRecordCount(1)
+          .build();
 
   @TempDir public Path temp;
 
@@ -139,7 +170,7 @@ public class TestRESTCatalog extends CatalogTests<RESTCatalog> {
                 "test-value"));
 
     RESTCatalogAdapter adaptor =
-        new RESTCatalogAdapter(backendCatalog) {
+        new RESTCatalogAdapter(backendCatalog, true) {
           @Override
           public <T extends RESTResponse> T execute(
               HTTPRequest request,
@@ -213,7 +244,9 @@ public class TestRESTCatalog extends CatalogTests<RESTCatalog> {
             "credential",
             "catalog:12345",
             "header.test-header",
-            "test-value");
+            "test-value",
+            RESTSessionCatalog.REST_TABLE_CACHE_MAX_ENTRIES,
+            "1000");
     catalog.initialize(
         catalogName,
         ImmutableMap.<String, String>builder()
@@ -227,7 +260,22 @@ public class TestRESTCatalog extends CatalogTests<RESTCatalog> {
   public static <T> T roundTripSerialize(T payload, String description) {
     if (payload != null) {
       try {
-        if (payload instanceof RESTMessage) {
+        if (payload instanceof BaseScanTaskResponse) {
+          // scan tasks can only be parsed using the table's partition specs
+          Map<Integer, PartitionSpec> specsById = ((BaseScanTaskResponse) payload).specsById();
+          InjectableValues injectableValues =
+              new InjectableValues.Std(
+                  ImmutableMap.of(
+                      RESTSerializers.SPECS_BY_ID,
+                      specsById != null ? specsById : ImmutableMap.of(),
+                      RESTSerializers.CASE_SENSITIVE,
+                      true));
+          return (T)
+              MAPPER
+                  .readerFor(payload.getClass())
+                  .with(injectableValues)
+                  .readValue(MAPPER.writeValueAsString(payload));
+        } else if (payload instanceof RESTMessage) {
           return (T) MAPPER.readValue(MAPPER.writeValueAsString(payload), payload.getClass());
         } else {
           // use Map so that Jackson doesn't try to instantiate ImmutableMap from payload.getClass()
@@ -2698,13 +2746,460 @@ public class TestRESTCatalog extends CatalogTests<RESTCatalog> {
     verifyTableExistsFallbackToGETRequest(ConfigResponse.builder().build());
   }
 
-  private RESTCatalog catalog(RESTCatalogAdapter adapter) {
+  @Test
+  public void testConditionalTableLoads() {
+    RESTCatalogAdapter adapter = Mockito.spy(new RESTCatalogAdapter(backendCatalog, true));
+    RESTCatalog catalog = catalog(adapter);
+
+    if (requiresNamespaceCreate()) {
+      catalog.createNamespace(TABLE.namespace());
+    }
+
+    catalog.createTable(TABLE, SCHEMA);
+    Table table = catalog.loadTable(TABLE);
+    Table reloaded = catalog.loadTable(TABLE);
+
+    // the server responded with 304 Not Modified, so the cached metadata is reused
+    verify(adapter, times(1))
+        .execute(conditionalLoad(TABLE), eq(LoadTableResponse.class), any(), any());
+    assertThat(((BaseTable) reloaded).operations().current())
+        .isSameAs(((BaseTable) table).operations().current());
+
+    // the update refreshes the table with a conditional request before committing
+    table.updateProperties().set("key", "value").commit();
+    Table updated = catalog.loadTable(TABLE);
+
+    // the cached ETag was sent, but no longer matched the table
+    verify(adapter, times(3))
+        .execute(conditionalLoad(TABLE), eq(LoadTableResponse.class), any(), any());
+    assertThat(updated.properties()).containsEntry("key", "value");
+  }
+
+  @Test
+  public void testConditionalTableRefresh() {
+    RESTCatalogAdapter adapter = Mockito.spy(new RESTCatalogAdapter(backendCatalog, true));
+    RESTCatalog catalog = catalog(adapter);
+
+    if (requiresNamespaceCreate()) {
+      catalog.createNamespace(TABLE.namespace());
+    }
+
+    catalog.createTable(TABLE, SCHEMA);
+    Table table = catalog.loadTable(TABLE);
+    TableMetadata loaded = ((BaseTable) table).operations().current();
+
+    table.refresh();
+    verify(adapter, times(1))
+        .execute(conditionalLoad(TABLE), eq(LoadTableResponse.class), any(), any());
+    assertThat(((BaseTable) table).operations().current()).isSameAs(loaded);
+
+    catalog.loadTable(TABLE).updateProperties().set("key", "value").commit();
+    table.refresh();
+    assertThat(table.properties()).containsEntry("key", "value");
+  }
+
+  @Test
+  public void testTableCacheDisabled() {
+    RESTCatalogAdapter adapter = Mockito.spy(new RESTCatalogAdapter(backendCatalog, true));
+    RESTCatalog catalog =
+        new RESTCatalog(SessionCatalog.SessionContext.createEmpty(), (config) -> adapter);
+    catalog.initialize(
+        "test",
+        ImmutableMap.of(
+            CatalogProperties.FILE_IO_IMPL,
+            "org.apache.iceberg.inmemory.InMemoryFileIO",
+            RESTSessionCatalog.REST_TABLE_CACHE_MAX_ENTRIES,
+            "0"));
+
+    if (requiresNamespaceCreate()) {
+      catalog.createNamespace(TABLE.namespace());
+    }
+
+    catalog.createTable(TABLE, SCHEMA);
+    catalog.loadTable(TABLE);
+    catalog.loadTable(TABLE);
+
+    verify(adapter, never())
+        .execute(conditionalLoad(TABLE), eq(LoadTableResponse.class), any(), any());
+  }
+
+  @Test
+  public void testTableCacheDisabledByDefault() {
+    RESTCatalogAdapter adapter = Mockito.spy(new RESTCatalogAdapter(backendCatalog, true));
     RESTCatalog catalog =
         new RESTCatalog(SessionCatalog.SessionContext.createEmpty(), (config) -> adapter);
     catalog.initialize(
         "test",
         ImmutableMap.of(
             CatalogProperties.FILE_IO_IMPL, "org.apache.iceberg.inmemory.InMemoryFileIO"));
+
+    if (requiresNamespaceCreate()) {
+      catalog.createNamespace(TABLE.namespace());
+    }
+
+    catalog.createTable(TABLE, SCHEMA);
+    catalog.loadTable(TABLE);
+    catalog.loadTable(TABLE);
+
+    verify(adapter, never())
+        .execute(conditionalLoad(TABLE), eq(LoadTableResponse.class), any(), any());
+  }
+
+  @Test
+  public void testTableCacheSkipsResponsesWithCredentials() {
+    Credential credential =
+        ImmutableCredential.builder()
+            .prefix("s3://bucket")
+            .config(ImmutableMap.of("s3.session-token", "token"))
+            .build();
+    RESTCatalogAdapter adapter =
+        Mockito.spy(
+            new RESTCatalogAdapter(backendCatalog, true) {
+              @Override
+              public <T extends RESTResponse> T execute(
+                  HTTPRequest request,
+                  Class<T> responseType,
+                  Consumer<ErrorResponse> errorHandler,
+                  Consumer<Map<String, String>> responseHeaders) {
+                T response = super.execute(request, responseType, errorHandler, responseHeaders);
+                if (response instanceof LoadTableResponse) {
+                  LoadTableResponse loaded = (LoadTableResponse) response;
+                  return castResponse(
+                      responseType,
+                      LoadTableResponse.builder()
+                          .withTableMetadata(loaded.tableMetadata())
+                          .addAllConfig(loaded.config())
+                          .addCredential(credential)
+                          .build());
+                }
+
+                return response;
+              }
+            });
+    RESTCatalog catalog = catalog(adapter);
+
+    if (requiresNamespaceCreate()) {
+      catalog.createNamespace(TABLE.namespace());
+    }
+
+    catalog.createTable(TABLE, SCHEMA);
+    catalog.loadTable(TABLE);
+    catalog.loadTable(TABLE);
+
+    // vended credentials may expire, so each load fetches a full response
+    verify(adapter, never())
+        .execute(conditionalLoad(TABLE), eq(LoadTableResponse.class), any(), any());
+  }
+
+  @Test
+  public void testServerSideScanPlanning() throws IOException {
+    RESTCatalog catalog =
+        initCatalog(
+            "planning", ImmutableMap.of(RESTSessionCatalog.REST_SCAN_PLANNING_ENABLED, "true"));
+    Table table = createTableWithDeletes(catalog);
+    Table backendTable = backendCatalog.loadTable(TABLE);
+
+    assertThat(table.newScan()).isInstanceOf(RESTTableScan.class);
+
+    // tasks are paginated by the test server and parsed from JSON by the client
+    List<FileScanTask> tasks = planFiles(table.newScan());
+    assertThat(tasks).hasSize(3);
+    assertThat(taskPaths(tasks)).isEqualTo(taskPaths(planFiles(backendTable.newScan())));
+    FileScanTask taskA =
+        tasks.stream()
+            .filter(task -> task.file().location().equals(FILE_A.location()))
+            .findFirst()
+            .orElseThrow();
+    assertThat(taskA.deletes()).hasSize(1);
+    assertThat(taskA.deletes().get(0).location()).isEqualTo(FILE_A_DELETES.location());
+    assertThat(taskA.spec()).isEqualTo(table.spec());
+
+    // the filter is sent to the server and residuals are returned with the tasks
+    List<FileScanTask> filtered = planFiles(table.newScan().filter(Expressions.equal("id", 1)));
+    assertThat(taskPaths(filtered))
+        .isEqualTo(taskPaths(planFiles(backendTable.newScan().filter(Expressions.equal("id", 1)))));
+    assertThat(filtered).allMatch(task -> !task.residual().equals(Expressions.alwaysTrue()));
+
+    // time travel plans the requested snapshot
+    long firstSnapshotId = table.snapshots().iterator().next().snapshotId();
+    assertThat(planFiles(table.newScan().useSnapshot(firstSnapshotId))).hasSize(2);
+  }
+
+  @Test
+  public void testScanPlanningWithoutEndpoints() throws IOException {
+    RESTCatalogAdapter adapter =
+        Mockito.spy(
+            new RESTCatalogAdapter(backendCatalog) {
+              @Override
+              public <T extends RESTResponse> T handleRequest(
+                  Route route, Map<String, String> vars, Object body, Class<T> responseType) {
+                if (route == Route.CONFIG) {
+                  // simulate a server that does not support scan planning
+                  return castResponse(responseType, ConfigResponse.builder().build());
+                }
+
+                return super.handleRequest(route, vars, body, responseType);
+              }
+            });
+    RESTCatalog catalog = planningCatalog(adapter);
+    Table table = createTableWithDeletes(catalog);
+
+    assertThat(table.newScan()).isNotInstanceOf(RESTTableScan.class);
+    assertThat(planFiles(table.newScan())).hasSize(3);
+    verify(adapter, never())
+        .execute(
+            reqMatcher(HTTPMethod.POST, RESOURCE_PATHS.planTableScan(TABLE)),
+            any(),
+            any(),
+            any(),
+            any());
+  }
+
+  @Test
+  public void testClosingScanCancelsPlan() throws IOException {
+    RESTCatalogAdapter adapter = Mockito.spy(new RESTCatalogAdapter(backendCatalog));
+    RESTCatalog catalog = planningCatalog(adapter);
+    Table table = createTableWithDeletes(catalog);
+
+    try (CloseableIterable<FileScanTask> tasks = table.newScan().planFiles();
+        CloseableIterator<FileScanTask> iterator = tasks.iterator()) {
+      // the first tasks are returned with the plan
+      iterator.next();
+    }
+
+    verify(adapter, never())
+        .execute(
+            reqMatcher(HTTPMethod.POST, RESOURCE_PATHS.fetchScanTasks(TABLE)),
+            any(),
+            any(),
+            any(),
+            any());
+    verify(adapter)
+        .execute(
+            argThat(
+                req ->
+                    req.method() == HTTPMethod.DELETE
+                        && req.path().startsWith(RESOURCE_PATHS.planTableScan(TABLE) + "/")),
+            any(),
+            any(),
+            any());
+  }
+
+  @Test
+  public void testFetchedPlanTasksAreReleased() {
+    createTableWithDeletes(planningCatalog(new RESTCatalogAdapter(backendCatalog)));
+
+    PlanTableScanResponse response =
+        CatalogHandlers.planTableScan(
+            backendCatalog, TABLE, PlanTableScanRequest.builder().build(), 1);
+    String planId = response.planId();
+    List<String> planTasks = response.planTasks();
+    assertThat(planTasks).hasSize(2);
+
+    // the remaining plan tasks are returned until they are fetched
+    CatalogHandlers.fetchScanTasks(
+        backendCatalog, TABLE, new FetchScanTasksRequest(planTasks.get(0)));
+    assertThat(CatalogHandlers.fetchPlanningResult(backendCatalog, TABLE, planId).planTasks())
+        .containsExactly(planTasks.get(1));
+    assertThatThrownBy(
+            () ->
+                CatalogHandlers.fetchScanTasks(
+                    backendCatalog, TABLE, new FetchScanTasksRequest(planTasks.get(0))))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid plan task: %s", planTasks.get(0));
+
+    // the plan is dropped once its last plan task is fetched
+    assertThat(
+            CatalogHandlers.fetchScanTasks(
+                    backendCatalog, TABLE, new FetchScanTasksRequest(planTasks.get(1)))
+                .fileScanTasks())
+        .hasSize(1);
+    assertThatThrownBy(() -> CatalogHandlers.fetchPlanningResult(backendCatalog, TABLE, planId))
+        .isInstanceOf(NoSuchPlanIdException.class)
+        .hasMessage("Plan does not exist: %s", planId);
+  }
+
+  @Test
+  public void testFetchUnknownPlan() {
+    RESTCatalogAdapter adapter = new RESTCatalogAdapter(backendCatalog);
+    createTableWithDeletes(planningCatalog(adapter));
+
+    assertThatThrownBy(
+            () ->
+                adapter.get(
+                    RESOURCE_PATHS.plan(TABLE, "unknown"),
+                    ImmutableMap.of(),
+                    FetchPlanningResultResponse.class,
+                    ImmutableMap.of(),
+                    ErrorHandlers.planErrorHandler()))
+        .isInstanceOf(NoSuchPlanIdException.class)
+        .hasMessage("Plan does not exist: unknown");
+  }
+
+  @Test
+  public void testLoadTablesWithAsyncClient() throws IOException {
+    RESTCatalog catalog =
+        initCatalog(
+            "async",
+            ImmutableMap.of(
+                HTTPClient.REST_ASYNC_ENABLED,
+                "true",
+                RESTSessionCatalog.REST_LOAD_TABLES_CONCURRENCY,
+                "2"));
+    Namespace ns = Namespace.of("bulk");
+    catalog.createNamespace(ns);
+    List<TableIdentifier> identifiers = Lists.newArrayList();
+    for (int i = 0; i < 5; i += 1) {
+      TableIdentifier ident = TableIdentifier.of(ns, "table" + i);
+      catalog.createTable(ident, SCHEMA);
+      identifiers.add(ident);
+    }
+
+    // metadata tables are loaded using their base table
+    TableIdentifier filesIdent = TableIdentifier.of(Namespace.of("bulk", "table0"), "files");
+    List<Table> tables =
+        catalog.loadTables(
+            ImmutableList.<TableIdentifier>builder().addAll(identifiers).add(filesIdent).build());
+
+    assertThat(tables).hasSize(6);
+    for (int i = 0; i < identifiers.size(); i += 1) {
+      assertThat(tables.get(i).name())
+          .isEqualTo(CatalogUtil.fullTableName(catalog.name(), identifiers.get(i)));
+      assertThat(tables.get(i).schema().asStruct()).isEqualTo(SCHEMA.asStruct());
+    }
+
+    assertThat(tables.get(5)).isInstanceOf(FilesTable.class);
+
+    TableIdentifier missing = TableIdentifier.of(ns, "missing");
+    assertThatThrownBy(() -> catalog.loadTables(ImmutableList.of(identifiers.get(0), missing)))
+        .isInstanceOf(NoSuchTableException.class)
+        .hasMessageContaining("bulk.missing");
+
+    catalog.close();
+  }
+
+  @Test
+  public void testBatchedMetricsReporting() throws Exception {
+    RESTCatalogAdapter adapter = Mockito.spy(new RESTCatalogAdapter(backendCatalog));
+    ServletContextHandler servletContext =
+        new ServletContextHandler(ServletContextHandler.NO_SESSIONS);
+    servletContext.addServlet(new ServletHolder(new RESTCatalogServlet(adapter)), "/*");
+    Server server = new Server(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    server.setHandler(servletContext);
+    server.start();
+
+    try {
+      RESTCatalog catalog =
+          new RESTCatalog(
+              SessionCatalog.SessionContext.createEmpty(),
+              (config) ->
+                  HTTPClient.builder(config).uri(config.get(CatalogProperties.URI)).build());
+      catalog.initialize(
+          "test",
+          ImmutableMap.of(
+              CatalogProperties.URI,
+              server.getURI().toString(),
+              CatalogProperties.FILE_IO_IMPL,
+              "org.apache.iceberg.inmemory.InMemoryFileIO",
+              RESTSessionCatalog.REST_METRICS_REPORTING_BATCH_SIZE,
+              "10",
+              RESTSessionCatalog.REST_METRICS_REPORTING_FLUSH_INTERVAL_MS,
+              "3600000",
+              RESTSessionCatalog.REST_METRICS_REPORTING_COMPRESSION_ENABLED,
+              "true"));
+
+      catalog.createNamespace(TBL.namespace());
+      Table table = catalog.buildTable(TBL, SCHEMA).withPartitionSpec(SPEC).create();
+      table.newFastAppend().appendFile(FILE_A).commit();
+      for (int i = 0; i < 3; i += 1) {
+        assertThat(planFiles(table.newScan())).hasSize(1);
+      }
+
+      // nothing is sent until the batch is full or the catalog flushes on close
+      Mockito.verify(adapter, never())
+          .execute(
+              reqMatcher(HTTPMethod.POST, RESOURCE_PATHS.metricsBatch(TBL)), any(), any(), any());
+
+      catalog.close();
+
+      ArgumentCaptor<HTTPRequest> captor = ArgumentCaptor.forClass(HTTPRequest.class);
+      Mockito.verify(adapter, atLeastOnce()).execute(captor.capture(), any(), any(), any());
+      List<HTTPRequest> metricsRequests =
+          captor.getAllValues().stream()
+              .filter(req -> req.path().startsWith(RESOURCE_PATHS.metrics(TBL)))
+              .collect(Collectors.toList());
+
+      // the commit report and all scan reports are sent in a single compressed request
+      assertThat(metricsRequests).hasSize(1);
+      HTTPRequest request = metricsRequests.get(0);
+      assertThat(request.path()).isEqualTo(RESOURCE_PATHS.metricsBatch(TBL));
+      assertThat(request.headers().entries("Content-Encoding"))
+          .containsExactly(HTTPHeaders.HTTPHeader.of("Content-Encoding", "gzip"));
+      assertThat(request.body()).isInstanceOf(ReportMetricsBatchRequest.class);
+      assertThat(((ReportMetricsBatchRequest) request.body()).reports()).hasSize(4);
+    } finally {
+      server.stop();
+    }
+  }
+
+  private Table createTableWithDeletes(RESTCatalog catalog) {
+    if (requiresNamespaceCreate()) {
+      catalog.createNamespace(TABLE.namespace());
+    }
+
+    Table table =
+        catalog
+            .buildTable(TABLE, SCHEMA)
+            .withPartitionSpec(SPEC)
+            .withProperty("format-version", "2")
+            .create();
+    table.newFastAppend().appendFile(FILE_A).appendFile(FILE_B).commit();
+    table.newFastAppend().appendFile(FILE_C).commit();
+    table.newRowDelta().addDeletes(FILE_A_DELETES).commit();
+    return catalog.loadTable(TABLE);
+  }
+
+  private RESTCatalog planningCatalog(RESTCatalogAdapter adapter) {
+    RESTCatalog catalog =
+        new RESTCatalog(SessionCatalog.SessionContext.createEmpty(), (config) -> adapter);
+    catalog.initialize(
+        "test",
+        ImmutableMap.of(
+            CatalogProperties.FILE_IO_IMPL,
+            "org.apache.iceberg.inmemory.InMemoryFileIO",
+            RESTSessionCatalog.REST_SCAN_PLANNING_ENABLED,
+            "true"));
+    return catalog;
+  }
+
+  private static List<FileScanTask> planFiles(TableScan scan) throws IOException {
+    try (CloseableIterable<FileScanTask> tasks = scan.planFiles()) {
+      return Lists.newArrayList(tasks);
+    }
+  }
+
+  private static List<String> taskPaths(List<FileScanTask> tasks) {
+    return tasks.stream().map(task -> task.file().location()).sorted().collect(Collectors.toList());
+  }
+
+  private static HTTPRequest conditionalLoad(TableIdentifier ident) {
+    return argThat(
+        req ->
+            req.method() == HTTPMethod.GET
+                && req.path().equals(RESOURCE_PATHS.table(ident))
+                && req.headers().contains(HttpHeaders.IF_NONE_MATCH));
+  }
+
+  private RESTCatalog catalog(RESTCatalogAdapter adapter) {
+    RESTCatalog catalog =
+        new RESTCatalog(SessionCatalog.SessionContext.createEmpty(), (config) -> adapter);
+    catalog.initialize(
+        "test",
+        ImmutableMap.of(
+            CatalogProperties.FILE_IO_IMPL,
+            "org.apache.iceberg.inmemory.InMemoryFileIO",
+            RESTSessionCatalog.REST_TABLE_CACHE_MAX_ENTRIES,
+            "1000"));
     return catalog;
   }
 
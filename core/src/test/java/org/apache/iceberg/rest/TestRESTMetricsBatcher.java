@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class TestRESTMetricsBatcher {
+  private static final long NEVER_FLUSH_MS = TimeUnit.HOURS.toMillis(1);
+
+  @Test
+  public void invalidConfiguration() {
+    assertThatThrownBy(() -> new RESTMetricsBatcher(0, NEVER_FLUSH_MS, 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid batch size: 0 (must be > 0)");
+
+    assertThatThrownBy(() -> new RESTMetricsBatcher(10, 0, 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid flush interval: 0 (must be > 0)");
+
+    assertThatThrownBy(() -> new RESTMetricsBatcher(10, NEVER_FLUSH_MS, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid queue size: 0 (must be > 0)");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void reportsAreBatchedPerReporter() {
+    RESTMetricsReporter first = mock(RESTMetricsReporter.class);
+    RESTMetricsReporter second = mock(RESTMetricsReporter.class);
+    MetricsReport report = new MetricsReport() {};
+
+    RESTMetricsBatcher batcher = new RESTMetricsBatcher(3, NEVER_FLUSH_MS, 10);
+    assertThat(batcher.add(first, report)).isTrue();
+    assertThat(batcher.add(second, report)).isTrue();
+    verify(first, never()).send(any());
+
+    batcher.close();
+
+    ArgumentCaptor<List<MetricsReport>> captor = ArgumentCaptor.forClass(List.class);
+    verify(first, times(1)).send(captor.capture());
+    assertThat(captor.getValue()).containsExactly(report);
+    verify(second, times(1)).send(captor.capture());
+    assertThat(captor.getValue()).containsExactly(report);
+
+    // reports added after close are dropped
+    assertThat(batcher.add(first, report)).isFalse();
+    assertThat(batcher.droppedReports()).isEqualTo(1);
+  }
+
+  @Test
+  public void reportsAreDroppedWhenQueueIsFull() {
+    RESTMetricsReporter reporter = mock(RESTMetricsReporter.class);
+    MetricsReport report = new MetricsReport() {};
+
+    RESTMetricsBatcher batcher = new RESTMetricsBatcher(10, NEVER_FLUSH_MS, 2);
+    assertThat(batcher.add(reporter, report)).isTrue();
+    assertThat(batcher.add(reporter, report)).isTrue();
+    assertThat(batcher.add(reporter, report)).isFalse();
+    assertThat(batcher.droppedReports()).isEqualTo(1);
+
+    batcher.flush();
+    verify(reporter, times(1)).send(any());
+
+    // the queue has room again after a flush
+    assertThat(batcher.add(reporter, report)).isTrue();
+    assertThat(batcher.droppedReports()).isEqualTo(1);
+    batcher.close();
+  }
+}
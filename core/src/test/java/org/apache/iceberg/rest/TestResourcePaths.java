@@ -179,4 +179,20 @@ public class TestResourcePaths {
     assertThat(withPrefix.view(ident)).isEqualTo("v1/ws/catalog/namespaces/n%1Fs/views/view-name");
     assertThat(withoutPrefix.view(ident)).isEqualTo("v1/namespaces/n%1Fs/views/view-name");
   }
+
+  @Test
+  public void scanPlanning() {
+    TableIdentifier ident = TableIdentifier.of("ns", "table");
+    assertThat(withPrefix.planTableScan(ident))
+        .isEqualTo("v1/ws/catalog/namespaces/ns/tables/table/plan");
+    assertThat(withoutPrefix.planTableScan(ident)).isEqualTo("v1/namespaces/ns/tables/table/plan");
+    assertThat(withPrefix.plan(ident, "plan-id"))
+        .isEqualTo("v1/ws/catalog/namespaces/ns/tables/table/plan/plan-id");
+    assertThat(withoutPrefix.plan(ident, "plan-id"))
+        .isEqualTo("v1/namespaces/ns/tables/table/plan/plan-id");
+    assertThat(withPrefix.fetchScanTasks(ident))
+        .isEqualTo("v1/ws/catalog/namespaces/ns/tables/table/tasks");
+    assertThat(withoutPrefix.fetchScanTasks(ident))
+        .isEqualTo("v1/namespaces/ns/tables/table/tasks");
+  }
 }
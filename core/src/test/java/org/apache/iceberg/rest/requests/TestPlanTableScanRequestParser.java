@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.requests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+public class TestPlanTableScanRequestParser {
+
+  @Test
+  public void nullCheck() {
+    assertThatThrownBy(() -> PlanTableScanRequestParser.toJson(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid plan table scan request: null");
+
+    assertThatThrownBy(() -> PlanTableScanRequestParser.fromJson((JsonNode) null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse plan table scan request from null object");
+  }
+
+  @Test
+  public void invalidSnapshotIds() {
+    assertThatThrownBy(
+            () -> PlanTableScanRequestParser.fromJson("{\"snapshot-id\":1,\"end-snapshot-id\":2}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid scan: cannot set both snapshot-id and start or end snapshot ids");
+
+    assertThatThrownBy(() -> PlanTableScanRequestParser.fromJson("{\"start-snapshot-id\":1}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid incremental scan: end-snapshot-id is required");
+  }
+
+  @Test
+  public void defaults() {
+    PlanTableScanRequest request = PlanTableScanRequestParser.fromJson("{}");
+    assertThat(request.snapshotId()).isNull();
+    assertThat(request.select()).isNull();
+    assertThat(request.filter()).isNull();
+    assertThat(request.caseSensitive()).isTrue();
+    assertThat(request.useSnapshotSchema()).isFalse();
+    assertThat(request.statsFields()).isNull();
+  }
+
+  @Test
+  public void roundTripSerde() {
+    PlanTableScanRequest request =
+        PlanTableScanRequest.builder()
+            .withSnapshotId(1L)
+            .withSelect(ImmutableList.of("id", "data"))
+            .withFilter(Expressions.alwaysTrue())
+            .withCaseSensitive(false)
+            .withStatsFields(ImmutableList.of("id"))
+            .build();
+
+    String expectedJson =
+        "{\n"
+            + "  \"snapshot-id\" : 1,\n"
+            + "  \"select\" : [ \"id\", \"data\" ],\n"
+            + "  \"filter\" : true,\n"
+            + "  \"case-sensitive\" : false,\n"
+            + "  \"use-snapshot-schema\" : false,\n"
+            + "  \"stats-fields\" : [ \"id\" ]\n"
+            + "}";
+
+    String json = PlanTableScanRequestParser.toJson(request, true);
+    assertThat(json).isEqualTo(expectedJson);
+
+    assertThat(PlanTableScanRequestParser.toJson(PlanTableScanRequestParser.fromJson(json), true))
+        .isEqualTo(expectedJson);
+  }
+
+  @Test
+  public void roundTripSerdeIncrementalScan() {
+    PlanTableScanRequest request =
+        PlanTableScanRequest.builder()
+            .withStartSnapshotId(1L)
+            .withEndSnapshotId(2L)
+            .withFilter(Expressions.equal("id", 5))
+            .build();
+
+    String json = PlanTableScanRequestParser.toJson(request);
+    PlanTableScanRequest parsed = PlanTableScanRequestParser.fromJson(json);
+    assertThat(parsed.startSnapshotId()).isEqualTo(1L);
+    assertThat(parsed.endSnapshotId()).isEqualTo(2L);
+    assertThat(parsed.filter().toString()).isEqualTo(request.filter().toString());
+    assertThat(PlanTableScanRequestParser.toJson(parsed)).isEqualTo(json);
+  }
+}
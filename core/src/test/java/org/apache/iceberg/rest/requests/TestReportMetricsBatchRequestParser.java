@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.requests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.metrics.CommitMetrics;
+import org.apache.iceberg.metrics.CommitMetricsResult;
+import org.apache.iceberg.metrics.CommitReport;
+import org.apache.iceberg.metrics.ImmutableCommitReport;
+import org.apache.iceberg.metrics.ImmutableScanReport;
+import org.apache.iceberg.metrics.ScanMetrics;
+import org.apache.iceberg.metrics.ScanMetricsResult;
+import org.apache.iceberg.metrics.ScanReport;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+public class TestReportMetricsBatchRequestParser {
+
+  @Test
+  public void nullCheck() {
+    assertThatThrownBy(() -> ReportMetricsBatchRequestParser.toJson(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid metrics batch request: null");
+
+    assertThatThrownBy(() -> ReportMetricsBatchRequestParser.fromJson((JsonNode) null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse metrics batch request from null object");
+  }
+
+  @Test
+  public void invalidReports() {
+    assertThatThrownBy(() -> ReportMetricsBatchRequestParser.fromJson("{}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse missing field: reports");
+
+    assertThatThrownBy(() -> ReportMetricsBatchRequestParser.fromJson("{\"reports\":{}}"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse reports from non-array: {}");
+
+    assertThatThrownBy(() -> ReportMetricsBatchRequest.of(ImmutableList.of()).validate())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid metrics batch: empty");
+  }
+
+  @Test
+  public void roundTripSerde() {
+    ScanReport scanReport =
+        ImmutableScanReport.builder()
+            .tableName("roundTripTableName")
+            .schemaId(4)
+            .addProjectedFieldIds(1, 2, 3)
+            .addProjectedFieldNames("c1", "c2", "c3")
+            .snapshotId(23L)
+            .filter(Expressions.alwaysTrue())
+            .scanMetrics(ScanMetricsResult.fromScanMetrics(ScanMetrics.noop()))
+            .build();
+    CommitReport commitReport =
+        ImmutableCommitReport.builder()
+            .tableName("roundTripTableName")
+            .snapshotId(23L)
+            .sequenceNumber(4L)
+            .operation("DELETE")
+            .commitMetrics(CommitMetricsResult.from(CommitMetrics.noop(), ImmutableMap.of()))
+            .build();
+
+    String expectedJson =
+        "{\n"
+            + "  \"reports\" : [ {\n"
+            + "    \"report-type\" : \"scan-report\",\n"
+            + "    \"table-name\" : \"roundTripTableName\",\n"
+            + "    \"snapshot-id\" : 23,\n"
+            + "    \"filter\" : true,\n"
+            + "    \"schema-id\" : 4,\n"
+            + "    \"projected-field-ids\" : [ 1, 2, 3 ],\n"
+            + "    \"projected-field-names\" : [ \"c1\", \"c2\", \"c3\" ],\n"
+            + "    \"metrics\" : { }\n"
+            + "  }, {\n"
+            + "    \"report-type\" : \"commit-report\",\n"
+            + "    \"table-name\" : \"roundTripTableName\",\n"
+            + "    \"snapshot-id\" : 23,\n"
+            + "    \"sequence-number\" : 4,\n"
+            + "    \"operation\" : \"DELETE\",\n"
+            + "    \"metrics\" : { }\n"
+            + "  } ]\n"
+            + "}";
+
+    ReportMetricsBatchRequest request =
+        ReportMetricsBatchRequest.of(ImmutableList.of(scanReport, commitReport));
+
+    String json = ReportMetricsBatchRequestParser.toJson(request, true);
+    assertThat(json).isEqualTo(expectedJson);
+
+    ReportMetricsBatchRequest parsed = ReportMetricsBatchRequestParser.fromJson(json);
+    assertThat(parsed.reports()).hasSize(2);
+    assertThat(parsed.reports().get(0).report()).isEqualTo(scanReport);
+    assertThat(parsed.reports().get(1).report()).isEqualTo(commitReport);
+  }
+}
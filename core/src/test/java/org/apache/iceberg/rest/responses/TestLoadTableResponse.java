@@ -38,6 +38,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.rest.RequestResponseTestBase;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.JsonUtil;
 import org.junit.jupiter.api.Test;
 
 public class TestLoadTableResponse extends RequestResponseTestBase<LoadTableResponse> {
@@ -178,6 +179,23 @@ public class TestLoadTableResponse extends RequestResponseTestBase<LoadTableResp
         .isEqualTo(ImmutableMap.of());
   }
 
+  @Test
+  public void testStreamingDeserializationWithAnyFieldOrder() throws Exception {
+    String metadataJson = readTableMetadataInputFile("TableMetadataV2Valid.json");
+    // the metadata is parsed before the metadata location and config are known
+    String json =
+        String.format(
+            "{\"metadata\":%s,\"config\":{\"foo\":\"bar\"},\"metadata-location\":\"%s\"}",
+            metadataJson, TEST_METADATA_LOCATION);
+    LoadTableResponse actual = deserialize(json);
+    LoadTableResponse expected = LoadTableResponseParser.fromJson(JsonUtil.mapper().readTree(json));
+    assertEquals(actual, expected);
+    assertThat(actual.tableMetadata().snapshots()).isNotEmpty();
+    assertThat(Lists.transform(actual.tableMetadata().snapshots(), Snapshot::snapshotId))
+        .isEqualTo(Lists.transform(expected.tableMetadata().snapshots(), Snapshot::snapshotId));
+    assertThat(actual.tableMetadata().metadataFileLocation()).isEqualTo(TEST_METADATA_LOCATION);
+  }
+
   @Override
   public void assertEquals(LoadTableResponse actual, LoadTableResponse expected) {
     assertThat(actual.config())
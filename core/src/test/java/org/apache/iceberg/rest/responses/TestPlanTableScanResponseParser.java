@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest.responses;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.BaseFileScanTask;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.PartitionSpecParser;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SchemaParser;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.ResidualEvaluator;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.rest.PlanStatus;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.JsonUtil;
+import org.junit.jupiter.api.Test;
+
+public class TestPlanTableScanResponseParser {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()), required(2, "data", Types.StringType.get()));
+  private static final PartitionSpec SPEC =
+      PartitionSpec.builderFor(SCHEMA).bucket("data", 16).withSpecId(1).build();
+  private static final PartitionSpec UNPARTITIONED =
+      PartitionSpec.builderFor(SCHEMA).withSpecId(0).build();
+  private static final Map<Integer, PartitionSpec> SPECS_BY_ID =
+      ImmutableMap.of(0, UNPARTITIONED, 1, SPEC);
+
+  private static final DataFile FILE_A =
+      DataFiles.builder(SPEC)
+          .withPath("/path/to/data-a.parquet")
+          .withFileSizeInBytes(10)
+          .withPartitionPath("data_bucket=0")
+          .withRecordCount(1)
+          .build();
+  private static final DataFile FILE_B =
+      DataFiles.builder(SPEC)
+          .withPath("/path/to/data-b.parquet")
+          .withFileSizeInBytes(10)
+          .withPartitionPath("data_bucket=1")
+          .withRecordCount(1)
+          .build();
+  private static final DeleteFile EQ_DELETES =
+      FileMetadata.deleteFileBuilder(UNPARTITIONED)
+          .ofEqualityDeletes(1)
+          .withPath("/path/to/eq-deletes.parquet")
+          .withFileSizeInBytes(10)
+          .withRecordCount(1)
+          .build();
+
+  @Test
+  public void nullCheck() {
+    assertThatThrownBy(() -> PlanTableScanResponseParser.toJson(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid plan table scan response: null");
+
+    assertThatThrownBy(() -> PlanTableScanResponseParser.fromJson((JsonNode) null, null, true))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse plan table scan response from null object");
+  }
+
+  @Test
+  public void invalidResponses() {
+    assertThatThrownBy(() -> PlanTableScanResponseParser.fromJson("{}", SPECS_BY_ID, true))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot parse missing string: status");
+
+    assertThatThrownBy(
+            () ->
+                PlanTableScanResponseParser.fromJson("{\"status\":\"unknown\"}", SPECS_BY_ID, true))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid status: unknown");
+
+    assertThatThrownBy(
+            () ->
+                PlanTableScanResponseParser.fromJson(
+                    "{\"status\":\"submitted\"}", SPECS_BY_ID, true))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid response: plan id is required when status is 'submitted'");
+
+    assertThatThrownBy(
+            () ->
+                PlanTableScanResponseParser.fromJson(
+                    "{\"status\":\"submitted\",\"plan-id\":\"p1\",\"plan-tasks\":[\"t1\"]}",
+                    SPECS_BY_ID,
+                    true))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid response: tasks can only be returned when status is 'completed'");
+  }
+
+  @Test
+  public void roundTripSerdeSubmitted() {
+    PlanTableScanResponse response =
+        PlanTableScanResponse.builder()
+            .withPlanStatus(PlanStatus.SUBMITTED)
+            .withPlanId("plan-1")
+            .build();
+
+    String expectedJson = "{\n  \"status\" : \"submitted\",\n  \"plan-id\" : \"plan-1\"\n}";
+    String json = PlanTableScanResponseParser.toJson(response, true);
+    assertThat(json).isEqualTo(expectedJson);
+    assertThat(
+            PlanTableScanResponseParser.toJson(
+                PlanTableScanResponseParser.fromJson(json, SPECS_BY_ID, true), true))
+        .isEqualTo(expectedJson);
+  }
+
+  @Test
+  public void roundTripSerdeFailed() {
+    PlanTableScanResponse response =
+        PlanTableScanResponse.builder()
+            .withPlanStatus(PlanStatus.FAILED)
+            .withError(
+                ErrorResponse.builder()
+                    .responseCode(500)
+                    .withType("ServiceFailureException")
+                    .withMessage("Planning failed")
+                    .build())
+            .build();
+
+    String json = PlanTableScanResponseParser.toJson(response);
+    assertThat(json)
+        .isEqualTo(
+            "{\"status\":\"failed\",\"error\":{\"message\":\"Planning failed\","
+                + "\"type\":\"ServiceFailureException\",\"code\":500}}");
+
+    PlanTableScanResponse parsed = PlanTableScanResponseParser.fromJson(json, SPECS_BY_ID, true);
+    assertThat(parsed.planStatus()).isEqualTo(PlanStatus.FAILED);
+    assertThat(parsed.error().code()).isEqualTo(500);
+    assertThat(parsed.error().type()).isEqualTo("ServiceFailureException");
+    assertThat(parsed.error().message()).isEqualTo("Planning failed");
+  }
+
+  @Test
+  public void roundTripSerdeWithTasks() {
+    List<FileScanTask> tasks = ImmutableList.of(task(FILE_A), task(FILE_B));
+    PlanTableScanResponse response =
+        PlanTableScanResponse.builder()
+            .withPlanStatus(PlanStatus.COMPLETED)
+            .withPlanId("plan-1")
+            .withPlanTasks(ImmutableList.of("task-1", "task-2"))
+            .withFileScanTasks(tasks)
+            .withSpecsById(SPECS_BY_ID)
+            .build();
+
+    String json = PlanTableScanResponseParser.toJson(response);
+
+    // the delete file is shared by both tasks, so it is only written once
+    JsonNode node = JsonUtil.parse(json, jsonNode -> jsonNode);
+    assertThat(node.get("delete-files")).hasSize(1);
+    assertThat(node.get("file-scan-tasks")).hasSize(2);
+    for (JsonNode taskNode : node.get("file-scan-tasks")) {
+      assertThat(JsonUtil.getIntegerList("delete-file-references", taskNode)).containsExactly(0);
+    }
+
+    PlanTableScanResponse parsed = PlanTableScanResponseParser.fromJson(json, SPECS_BY_ID, true);
+    assertThat(parsed.planStatus()).isEqualTo(PlanStatus.COMPLETED);
+    assertThat(parsed.planId()).isEqualTo("plan-1");
+    assertThat(parsed.planTasks()).containsExactly("task-1", "task-2");
+    assertThat(parsed.fileScanTasks()).hasSize(2);
+    for (int pos = 0; pos < tasks.size(); pos += 1) {
+      FileScanTask expected = tasks.get(pos);
+      FileScanTask actual = parsed.fileScanTasks().get(pos);
+      assertThat(actual.file().location()).isEqualTo(expected.file().location());
+      assertThat(actual.file().partition()).isEqualTo(expected.file().partition());
+      assertThat(actual.spec()).isEqualTo(SPEC);
+      assertThat(actual.deletes()).hasSize(1);
+      assertThat(actual.deletes().get(0).location()).isEqualTo(EQ_DELETES.location());
+      assertThat(actual.deletes().get(0).equalityFieldIds()).containsExactly(1);
+      assertThat(actual.residual().toString()).isEqualTo(expected.residual().toString());
+    }
+
+    // parsed delete files are shared by tasks, like the files returned by local planning
+    assertThat(parsed.fileScanTasks().get(0).deletes().get(0))
+        .isSameAs(parsed.fileScanTasks().get(1).deletes().get(0));
+    assertThat(PlanTableScanResponseParser.toJson(parsed)).isEqualTo(json);
+  }
+
+  @Test
+  public void roundTripSerdeFetchScanTasks() {
+    FetchScanTasksResponse response =
+        FetchScanTasksResponse.builder()
+            .withFileScanTasks(ImmutableList.of(task(FILE_A)))
+            .withSpecsById(SPECS_BY_ID)
+            .build();
+
+    String json = FetchScanTasksResponseParser.toJson(response);
+    FetchScanTasksResponse parsed = FetchScanTasksResponseParser.fromJson(json, SPECS_BY_ID, true);
+    assertThat(parsed.planTasks()).isNull();
+    assertThat(parsed.fileScanTasks()).hasSize(1);
+    assertThat(FetchScanTasksResponseParser.toJson(parsed)).isEqualTo(json);
+  }
+
+  private static FileScanTask task(DataFile file) {
+    return new BaseFileScanTask(
+        file,
+        new DeleteFile[] {EQ_DELETES},
+        SchemaParser.toJson(SCHEMA),
+        PartitionSpecParser.toJson(SPEC),
+        ResidualEvaluator.of(SPEC, Expressions.equal("id", 1), true));
+  }
+}
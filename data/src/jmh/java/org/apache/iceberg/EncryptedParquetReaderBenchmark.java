@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import org.apache.iceberg.data.RandomGenericData;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetReaders;
+import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.encryption.AesGcmInputFile;
+import org.apache.iceberg.encryption.AesGcmOutputFile;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A benchmark that compares reading a plaintext Parquet file with reading the same file written
+ * through an AES GCM stream, with blocks decrypted on the reading thread or in parallel.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-data:jmh
+ *       -PjmhIncludeRegex=EncryptedParquetReaderBenchmark
+ *       -PjmhOutputPath=benchmark/encrypted-parquet-reader-benchmark-result.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.SingleShotTime)
+public class EncryptedParquetReaderBenchmark {
+  private static final Logger LOG = LoggerFactory.getLogger(EncryptedParquetReaderBenchmark.class);
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "longCol", Types.LongType.get()),
+          required(2, "intCol", Types.IntegerType.get()),
+          optional(3, "doubleCol", Types.DoubleType.get()),
+          optional(4, "decimalCol", Types.DecimalType.of(20, 5)),
+          optional(5, "timestampCol", Types.TimestampType.withZone()),
+          optional(6, "stringCol", Types.StringType.get()));
+
+  private static final int NUM_ROWS = 2_500_000;
+  private static final int SEED = -1;
+
+  @Param({"plaintext", "aes-gcm", "aes-gcm-parallel"})
+  private String encryption;
+
+  private File testFile;
+  private byte[] key;
+  private byte[] aadPrefix;
+
+  @Setup
+  public void setupBenchmark() throws IOException {
+    this.testFile = java.nio.file.Files.createTempFile("perf-bench", null).toFile();
+    testFile.delete();
+
+    Random random = new Random();
+    this.key = new byte[16];
+    random.nextBytes(key);
+    this.aadPrefix = new byte[16];
+    random.nextBytes(aadPrefix);
+
+    try (FileAppender<Record> writer =
+        Parquet.write(outputFile())
+            .schema(SCHEMA)
+            .createWriterFunc(GenericParquetWriter::create)
+            .build()) {
+      writer.addAll(RandomGenericData.generate(SCHEMA, NUM_ROWS, SEED));
+    }
+  }
+
+  @TearDown
+  public void tearDownBenchmark() {
+    testFile.delete();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readParquet() throws IOException {
+    try (CloseableIterable<Record> reader =
+        Parquet.read(inputFile())
+            .project(SCHEMA)
+            .createReaderFunc(fileSchema -> GenericParquetReaders.buildReader(SCHEMA, fileSchema))
+            .build()) {
+      long val = 0;
+      for (Record record : reader) {
+        // access something to ensure the compiler doesn't optimize this away
+        val ^= (Long) record.get(0);
+      }
+
+      LOG.info("XOR val: {}", val);
+    }
+  }
+
+  private OutputFile outputFile() {
+    OutputFile plaintextFile = Files.localOutput(testFile);
+    switch (encryption) {
+      case "plaintext":
+        return plaintextFile;
+      case "aes-gcm":
+        return new AesGcmOutputFile(plaintextFile, key, aadPrefix, 1);
+      default:
+        return new AesGcmOutputFile(plaintextFile, key, aadPrefix, 4);
+    }
+  }
+
+  private InputFile inputFile() {
+    InputFile plaintextFile = Files.localInput(testFile);
+    switch (encryption) {
+      case "plaintext":
+        return plaintextFile;
+      case "aes-gcm":
+        return new AesGcmInputFile(plaintextFile, key, aadPrefix, 1);
+      default:
+        return new AesGcmInputFile(plaintextFile, key, aadPrefix, 4);
+    }
+  }
+}
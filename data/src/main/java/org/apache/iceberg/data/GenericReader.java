@@ -60,9 +60,14 @@ class GenericReader implements Serializable {
   }
 
   CloseableIterator<Record> open(CloseableIterable<CombinedScanTask> tasks) {
+    return CloseableIterable.concat(openFiles(tasks)).iterator();
+  }
+
+  /** Returns one lazily opened iterable per file task, in task order. */
+  Iterable<CloseableIterable<Record>> openFiles(CloseableIterable<CombinedScanTask> tasks) {
     Iterable<FileScanTask> fileTasks =
         Iterables.concat(Iterables.transform(tasks, CombinedScanTask::files));
-    return CloseableIterable.concat(Iterables.transform(fileTasks, this::open)).iterator();
+    return Iterables.transform(fileTasks, this::open);
   }
 
   public CloseableIterable<Record> open(CombinedScanTask task) {
@@ -19,11 +19,13 @@
 package org.apache.iceberg.data;
 
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 
 public class IcebergGenerics {
   private IcebergGenerics() {}
@@ -39,8 +41,13 @@ public class IcebergGenerics {
   }
 
   public static class ScanBuilder {
+    private static final int DEFAULT_MAX_BUFFERED_RECORDS = 10_000;
+
     private TableScan tableScan;
     private boolean reuseContainers = false;
+    private ExecutorService readExecutor = null;
+    private boolean preserveOrder = false;
+    private int maxBufferedRecords = DEFAULT_MAX_BUFFERED_RECORDS;
 
     public ScanBuilder(Table table) {
       this.tableScan = table.newScan();
@@ -51,6 +58,48 @@ public class IcebergGenerics {
       return this;
     }
 
+    /**
+     * Read the files of the scan concurrently, using the given executor.
+     *
+     * <p>Records are returned in no particular order, unless {@link #preserveOrder()} is called.
+     * Closing the iterable or its iterators cancels the reads that are in progress. This cannot be
+     * combined with {@link #reuseContainers()}.
+     *
+     * @param executorService an executor to read files
+     * @return this for method chaining
+     */
+    public ScanBuilder readWith(ExecutorService executorService) {
+      this.readExecutor = executorService;
+      return this;
+    }
+
+    /**
+     * Return records in the same order as a sequential read when files are read concurrently.
+     *
+     * <p>Files are still read concurrently, but records of a file are only returned once the
+     * records of the previous files have been returned.
+     *
+     * @return this for method chaining
+     */
+    public ScanBuilder preserveOrder() {
+      this.preserveOrder = true;
+      return this;
+    }
+
+    /**
+     * Set the approximate number of records read ahead of the consumer when files are read
+     * concurrently.
+     *
+     * @param numRecords the approximate number of records to buffer, 10,000 by default
+     * @return this for method chaining
+     */
+    public ScanBuilder maxBufferedRecords(int numRecords) {
+      Preconditions.checkArgument(
+          numRecords > 0, "Invalid max buffered records: %s (must be > 0)", numRecords);
+      this.maxBufferedRecords = numRecords;
+      return this;
+    }
+
     public ScanBuilder where(Expression rowFilter) {
       this.tableScan = tableScan.filter(rowFilter);
       return this;
@@ -97,7 +146,11 @@ public class IcebergGenerics {
     }
 
     public CloseableIterable<Record> build() {
-      return new TableScanIterable(tableScan, reuseContainers);
+      Preconditions.checkArgument(
+          readExecutor == null || !reuseContainers,
+          "Cannot reuse containers when reading files concurrently");
+      return new TableScanIterable(
+          tableScan, reuseContainers, readExecutor, preserveOrder, maxBufferedRecords);
     }
   }
 }
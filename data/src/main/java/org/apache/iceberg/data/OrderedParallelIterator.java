@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.io.Closer;
+import org.apache.iceberg.util.ThreadPools;
+
+/**
+ * Reads several iterables concurrently and returns their items in order, the items of the first
+ * iterable first.
+ *
+ * <p>This is the ordered counterpart of {@link org.apache.iceberg.util.ParallelIterable}. Like it,
+ * it keeps 2 iterables per worker thread in flight. Each iterable is read into its own bounded
+ * buffer, so a worker waits when its buffer is full instead of getting ahead of the consumer.
+ * Buffers are drained in order: reading the first iterable is never delayed by the others.
+ */
+class OrderedParallelIterator<T> implements CloseableIterator<T> {
+  private final Iterator<? extends CloseableIterable<T>> inputs;
+  private final ExecutorService workerPool;
+  private final int maxInFlight;
+  private final int bufferSize;
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+  private final Deque<Reader<T>> readers = new ArrayDeque<>();
+  private T nextItem = null;
+
+  /**
+   * Create a new iterator.
+   *
+   * @param inputs iterables to read, in the order their items are returned
+   * @param workerPool executor used to read the iterables
+   * @param maxBufferedItems approximate number of items buffered across all iterables in flight
+   */
+  OrderedParallelIterator(
+      Iterable<? extends CloseableIterable<T>> inputs,
+      ExecutorService workerPool,
+      int maxBufferedItems) {
+    Preconditions.checkArgument(maxBufferedItems > 0, "Max buffered items must be greater than 0");
+    this.inputs = inputs.iterator();
+    this.workerPool = Preconditions.checkNotNull(workerPool, "Worker pool cannot be null");
+    this.maxInFlight = 2 * ThreadPools.WORKER_THREAD_POOL_SIZE;
+    this.bufferSize = Math.max(1, maxBufferedItems / maxInFlight);
+  }
+
+  @Override
+  public boolean hasNext() {
+    Preconditions.checkState(!closed.get(), "Already closed");
+    while (nextItem == null) {
+      while (readers.size() < maxInFlight && inputs.hasNext()) {
+        Reader<T> reader = new Reader<>(inputs.next(), closed, bufferSize);
+        readers.addLast(reader);
+        reader.submit(workerPool);
+      }
+
+      if (readers.isEmpty()) {
+        return false;
+      }
+
+      this.nextItem = readers.peekFirst().take();
+      if (nextItem == null) {
+        readers.removeFirst();
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    T item = nextItem;
+    this.nextItem = null;
+    return item;
+  }
+
+  @Override
+  public void close() {
+    // stop readers from adding items before cancelling them
+    closed.set(true);
+    this.nextItem = null;
+
+    try (Closer closer = Closer.create()) {
+      for (Reader<T> reader : readers) {
+        closer.register(reader::cancel);
+      }
+
+      readers.clear();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Close failed", e);
+    }
+  }
+
+  private static class Reader<T> implements Runnable {
+    private final CloseableIterable<T> input;
+    private final AtomicBoolean closed;
+    private final BlockingQueue<T> buffer;
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private volatile boolean done = false;
+    private volatile Throwable failure = null;
+    private Future<?> future = null;
+
+    private Reader(CloseableIterable<T> input, AtomicBoolean closed, int bufferSize) {
+      this.input = input;
+      this.closed = closed;
+      this.buffer = new LinkedBlockingQueue<>(bufferSize);
+    }
+
+    private void submit(ExecutorService workerPool) {
+      this.future = workerPool.submit(this);
+    }
+
+    @Override
+    public void run() {
+      if (!started.compareAndSet(false, true)) {
+        // cancelled before it started
+        return;
+      }
+
+      try (CloseableIterable<T> closeable = input) {
+        for (T item : closeable) {
+          while (!buffer.offer(item, 10, TimeUnit.MILLISECONDS)) {
+            if (closed.get()) {
+              return;
+            }
+          }
+
+          if (closed.get()) {
+            return;
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        this.failure = e;
+      } catch (Throwable e) {
+        this.failure = e;
+      } finally {
+        this.done = true;
+      }
+    }
+
+    /** Returns the next item, waiting for the worker if needed, or null if there are no more. */
+    private T take() {
+      try {
+        while (true) {
+          T item = buffer.poll(10, TimeUnit.MILLISECONDS);
+          if (item != null) {
+            return item;
+          } else if (done) {
+            // items are added before the reader is done, so the buffer has all remaining items
+            item = buffer.poll();
+            if (item != null) {
+              return item;
+            } else if (failure instanceof RuntimeException) {
+              throw (RuntimeException) failure;
+            } else if (failure != null) {
+              throw new RuntimeException("Failed while running parallel task", failure);
+            }
+
+            return null;
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while running parallel task", e);
+      }
+    }
+
+    private void cancel() throws IOException {
+      future.cancel(true);
+      buffer.clear();
+      if (started.compareAndSet(false, true)) {
+        // the worker never started and will not close the input
+        input.close();
+      }
+    }
+  }
+}
@@ -19,25 +19,61 @@
 package org.apache.iceberg.data;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
 import org.apache.iceberg.CombinedScanTask;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.util.ParallelIterable;
 
 class TableScanIterable extends CloseableGroup implements CloseableIterable<Record> {
   private final GenericReader reader;
   private final CloseableIterable<CombinedScanTask> tasks;
+  private final ExecutorService workerPool;
+  private final boolean preserveOrder;
+  private final int maxBufferedRecords;
 
   TableScanIterable(TableScan scan, boolean reuseContainers) {
+    this(scan, reuseContainers, null, false, 0);
+  }
+
+  /**
+   * Create an iterable that reads the file tasks of a scan.
+   *
+   * @param scan the table scan
+   * @param reuseContainers whether to reuse records, only when reading sequentially
+   * @param workerPool executor to read file tasks concurrently, or null to read them sequentially
+   * @param preserveOrder whether concurrent reads return records in file task order
+   * @param maxBufferedRecords approximate number of records read ahead by concurrent reads
+   */
+  TableScanIterable(
+      TableScan scan,
+      boolean reuseContainers,
+      ExecutorService workerPool,
+      boolean preserveOrder,
+      int maxBufferedRecords) {
     this.reader = new GenericReader(scan, reuseContainers);
     // start planning tasks in the background
     this.tasks = scan.planTasks();
+    this.workerPool = workerPool;
+    this.preserveOrder = preserveOrder;
+    this.maxBufferedRecords = maxBufferedRecords;
   }
 
   @Override
   public CloseableIterator<Record> iterator() {
-    CloseableIterator<Record> iter = reader.open(tasks);
+    CloseableIterator<Record> iter;
+    if (workerPool == null) {
+      iter = reader.open(tasks);
+    } else if (preserveOrder) {
+      iter = new OrderedParallelIterator<>(reader.openFiles(tasks), workerPool, maxBufferedRecords);
+    } else {
+      iter =
+          new ParallelIterable<>(reader.openFiles(tasks), workerPool, maxBufferedRecords)
+              .iterator();
+    }
+
     addCloseable(iter);
     return iter;
   }
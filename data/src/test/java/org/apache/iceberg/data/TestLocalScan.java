@@ -40,6 +40,8 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
 import org.apache.iceberg.AppendFiles;
@@ -58,6 +60,8 @@ import org.apache.iceberg.Tables;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.hadoop.HadoopInputFile;
 import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
@@ -290,6 +294,69 @@ public class TestLocalScan {
     assertThat(records).as("Random record set should match").isEqualTo(expected);
   }
 
+  @TestTemplate
+  public void testParallelRead() throws IOException {
+    appendData();
+    List<Record> expected = Lists.newArrayList(IcebergGenerics.read(sharedTable).build());
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Record> unordered =
+          Lists.newArrayList(
+              IcebergGenerics.read(sharedTable).readWith(executor).maxBufferedRecords(2).build());
+      assertThat(unordered).containsExactlyInAnyOrderElementsOf(expected);
+
+      List<Record> ordered =
+          Lists.newArrayList(
+              IcebergGenerics.read(sharedTable)
+                  .readWith(executor)
+                  .preserveOrder()
+                  .maxBufferedRecords(2)
+                  .build());
+      assertThat(ordered).as("Should return records in file order").isEqualTo(expected);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @TestTemplate
+  public void testParallelReadClose() throws IOException {
+    appendData();
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try (CloseableIterable<Record> records =
+        IcebergGenerics.read(sharedTable)
+            .readWith(executor)
+            .preserveOrder()
+            .maxBufferedRecords(1)
+            .build()) {
+      CloseableIterator<Record> iter = records.iterator();
+      assertThat(iter.next()).isNotNull();
+      iter.close();
+
+      assertThatThrownBy(iter::hasNext)
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("Already closed");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @TestTemplate
+  public void testParallelReadWithReusedContainers() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      IcebergGenerics.ScanBuilder scanBuilder =
+          IcebergGenerics.read(sharedTable).readWith(executor).reuseContainers();
+
+      assertThatThrownBy(scanBuilder::build)
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Cannot reuse containers when reading files concurrently");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @TestTemplate
   public void testFilter() {
     Iterable<Record> result = IcebergGenerics.read(sharedTable).where(lessThan("id", 3)).build();
@@ -20,6 +20,8 @@ package org.apache.iceberg.dell;
 
 import java.io.Serializable;
 import java.util.Map;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.PropertyUtil;
 
 public class DellProperties implements Serializable {
   /** S3 Access key id of Dell EMC ECS */
@@ -38,9 +40,25 @@ public class DellProperties implements Serializable {
    */
   public static final String CLIENT_FACTORY = "client.factory";
 
+  /**
+   * Number of keys deleted in a single multi-object delete request by {@link
+   * org.apache.iceberg.dell.ecs.EcsFileIO#deleteFiles(Iterable)}. ECS accepts at most 1000 keys
+   * per request.
+   */
+  public static final String ECS_DELETE_BATCH_SIZE = "ecs.delete.batch-size";
+
+  public static final int ECS_DELETE_BATCH_SIZE_DEFAULT = 1000;
+
+  public static final int ECS_DELETE_BATCH_SIZE_MAX = 1000;
+
+  /** Number of threads used to issue delete requests, defaults to the number of processors. */
+  public static final String ECS_DELETE_THREADS = "ecs.delete.num-threads";
+
   private String ecsS3Endpoint;
   private String ecsS3AccessKeyId;
   private String ecsS3SecretAccessKey;
+  private int ecsDeleteBatchSize = ECS_DELETE_BATCH_SIZE_DEFAULT;
+  private int ecsDeleteThreads = Runtime.getRuntime().availableProcessors();
 
   public DellProperties() {}
 
@@ -48,6 +66,19 @@ public class DellProperties implements Serializable {
     this.ecsS3AccessKeyId = properties.get(DellProperties.ECS_S3_ACCESS_KEY_ID);
     this.ecsS3SecretAccessKey = properties.get(DellProperties.ECS_S3_SECRET_ACCESS_KEY);
     this.ecsS3Endpoint = properties.get(DellProperties.ECS_S3_ENDPOINT);
+    this.ecsDeleteBatchSize =
+        PropertyUtil.propertyAsInt(
+            properties, DellProperties.ECS_DELETE_BATCH_SIZE, ECS_DELETE_BATCH_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        ecsDeleteBatchSize > 0 && ecsDeleteBatchSize <= ECS_DELETE_BATCH_SIZE_MAX,
+        "Invalid delete batch size: %s (must be between 1 and %s)",
+        ecsDeleteBatchSize,
+        ECS_DELETE_BATCH_SIZE_MAX);
+    this.ecsDeleteThreads =
+        PropertyUtil.propertyAsInt(
+            properties,
+            DellProperties.ECS_DELETE_THREADS,
+            Runtime.getRuntime().availableProcessors());
   }
 
   public String ecsS3Endpoint() {
@@ -73,4 +104,20 @@ public class DellProperties implements Serializable {
   public void setEcsS3SecretAccessKey(String ecsS3SecretAccessKey) {
     this.ecsS3SecretAccessKey = ecsS3SecretAccessKey;
   }
+
+  public int ecsDeleteBatchSize() {
+    return ecsDeleteBatchSize;
+  }
+
+  public void setEcsDeleteBatchSize(int ecsDeleteBatchSize) {
+    this.ecsDeleteBatchSize = ecsDeleteBatchSize;
+  }
+
+  public int ecsDeleteThreads() {
+    return ecsDeleteThreads;
+  }
+
+  public void setEcsDeleteThreads(int ecsDeleteThreads) {
+    this.ecsDeleteThreads = ecsDeleteThreads;
+  }
 }
@@ -19,17 +19,40 @@
 package org.apache.iceberg.dell.ecs;
 
 import com.emc.object.s3.S3Client;
+import com.emc.object.s3.bean.AbstractDeleteResult;
+import com.emc.object.s3.bean.DeleteError;
+import com.emc.object.s3.bean.DeleteObjectsResult;
+import com.emc.object.s3.bean.ListObjectsResult;
+import com.emc.object.s3.bean.ObjectKey;
+import com.emc.object.s3.bean.S3Object;
+import com.emc.object.s3.request.DeleteObjectsRequest;
+import com.emc.object.s3.request.ListObjectsRequest;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import org.apache.iceberg.common.DynConstructors;
 import org.apache.iceberg.dell.DellClientFactories;
 import org.apache.iceberg.dell.DellClientFactory;
 import org.apache.iceberg.dell.DellProperties;
-import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.BulkDeletionFailureException;
+import org.apache.iceberg.io.DelegateFileIO;
+import org.apache.iceberg.io.FileInfo;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Streams;
 import org.apache.iceberg.util.SerializableSupplier;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,11 +63,12 @@ import org.slf4j.LoggerFactory;
  * schemes s3, s3a, s3n, https are also treated as ECS object paths. Using this FileIO with other
  * schemes will result in {@link org.apache.iceberg.exceptions.ValidationException}.
  */
-public class EcsFileIO implements FileIO {
+public class EcsFileIO implements DelegateFileIO {
 
   private static final Logger LOG = LoggerFactory.getLogger(EcsFileIO.class);
   private static final String DEFAULT_METRICS_IMPL =
       "org.apache.iceberg.hadoop.HadoopMetricsContext";
+  private static volatile ExecutorService executorService;
 
   private SerializableSupplier<S3Client> s3;
   private DellProperties dellProperties;
@@ -70,6 +94,100 @@ public class EcsFileIO implements FileIO {
     client().deleteObject(uri.bucket(), uri.name());
   }
 
+  /**
+   * Deletes the given paths in batches.
+   *
+   * <p>The paths are grouped by bucket and each batch of up to {@link
+   * DellProperties#ECS_DELETE_BATCH_SIZE} keys is deleted with a single multi-object delete
+   * request. Batches are deleted in parallel.
+   *
+   * @param pathsToDelete paths to delete
+   */
+  @Override
+  public void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException {
+    S3Client s3 = client();
+    Map<String, List<String>> bucketToKeys = Maps.newHashMap();
+    List<Future<Integer>> deletionTasks = Lists.newArrayList();
+    for (String path : pathsToDelete) {
+      EcsURI uri = new EcsURI(path);
+      String bucket = uri.bucket();
+      List<String> keys = bucketToKeys.computeIfAbsent(bucket, ignored -> Lists.newArrayList());
+      keys.add(uri.name());
+      if (keys.size() >= dellProperties.ecsDeleteBatchSize()) {
+        deletionTasks.add(executorService().submit(() -> deleteBatch(s3, bucket, keys)));
+        bucketToKeys.remove(bucket);
+      }
+    }
+
+    // delete the remainder
+    bucketToKeys.forEach(
+        (bucket, keys) ->
+            deletionTasks.add(executorService().submit(() -> deleteBatch(s3, bucket, keys))));
+
+    int totalFailedDeletions = 0;
+    for (Future<Integer> deletionTask : deletionTasks) {
+      try {
+        totalFailedDeletions += deletionTask.get();
+      } catch (ExecutionException e) {
+        throw new RuntimeException("Failed to delete batch", e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        deletionTasks.stream().filter(task -> !task.isDone()).forEach(task -> task.cancel(true));
+        throw new RuntimeException("Interrupted when waiting for deletions to complete", e);
+      }
+    }
+
+    if (totalFailedDeletions > 0) {
+      throw new BulkDeletionFailureException(totalFailedDeletions);
+    }
+  }
+
+  /** Deletes a batch of keys from a bucket and returns the number of keys that were not deleted. */
+  private int deleteBatch(S3Client s3, String bucket, List<String> keys) {
+    List<ObjectKey> objectKeys = keys.stream().map(ObjectKey::new).collect(Collectors.toList());
+    try {
+      DeleteObjectsResult result =
+          s3.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(objectKeys));
+      int failed = 0;
+      for (AbstractDeleteResult deleteResult : result.getResults()) {
+        if (deleteResult instanceof DeleteError) {
+          DeleteError error = (DeleteError) deleteResult;
+          LOG.warn(
+              "Failed to delete object at path ecs://{}/{}: {} {}",
+              bucket,
+              error.getKey(),
+              error.getCode(),
+              error.getMessage());
+          failed += 1;
+        }
+      }
+
+      return failed;
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to delete {} objects from bucket {}", keys.size(), bucket, e);
+      return keys.size();
+    }
+  }
+
+  @Override
+  public Iterable<FileInfo> listPrefix(String prefix) {
+    EcsURI uri = new EcsURI(prefix);
+    return () -> new ListingIterator(uri);
+  }
+
+  /**
+   * Deletes all objects under the given prefix.
+   *
+   * <p>ECS has no atomic prefix delete, so this lists the prefix and deletes the listed objects in
+   * batches. Objects added concurrently may not be deleted.
+   *
+   * @param prefix prefix to delete
+   */
+  @Override
+  public void deletePrefix(String prefix) {
+    deleteFiles(() -> Streams.stream(listPrefix(prefix)).map(FileInfo::location).iterator());
+  }
+
   private S3Client client() {
     if (client == null) {
       synchronized (this) {
@@ -106,6 +224,20 @@ public class EcsFileIO implements FileIO {
     }
   }
 
+  private ExecutorService executorService() {
+    if (executorService == null) {
+      synchronized (EcsFileIO.class) {
+        if (executorService == null) {
+          executorService =
+              ThreadPools.newExitingWorkerPool(
+                  "iceberg-ecsfileio-delete", dellProperties.ecsDeleteThreads());
+        }
+      }
+    }
+
+    return executorService;
+  }
+
   @Override
   public void close() {
     // handles concurrent calls to close()
@@ -113,4 +245,48 @@ public class EcsFileIO implements FileIO {
       client.destroy();
     }
   }
+
+  /** Lists all objects under a prefix, requesting one page of keys at a time. */
+  private class ListingIterator implements Iterator<FileInfo> {
+    private final EcsURI prefix;
+    private final String scheme;
+    private Iterator<S3Object> page = Collections.emptyIterator();
+    private String nextMarker = null;
+    private boolean hasMorePages = true;
+
+    private ListingIterator(EcsURI prefix) {
+      this.prefix = prefix;
+      this.scheme = URI.create(prefix.location()).getScheme();
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!page.hasNext() && hasMorePages) {
+        ListObjectsResult result =
+            client()
+                .listObjects(
+                    new ListObjectsRequest(prefix.bucket())
+                        .withPrefix(prefix.name())
+                        .withMarker(nextMarker));
+        this.page = result.getObjects().iterator();
+        this.nextMarker = result.getNextMarker();
+        this.hasMorePages = nextMarker != null;
+      }
+
+      return page.hasNext();
+    }
+
+    @Override
+    public FileInfo next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      S3Object object = page.next();
+      return new FileInfo(
+          String.format("%s://%s/%s", scheme, prefix.bucket(), object.getKey()),
+          object.getSize(),
+          object.getLastModified().getTime());
+    }
+  }
 }
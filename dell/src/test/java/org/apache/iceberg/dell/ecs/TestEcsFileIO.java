@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.dell.ecs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.emc.object.s3.request.PutObjectRequest;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.dell.DellProperties;
+import org.apache.iceberg.dell.mock.ecs.EcsS3MockRule;
+import org.apache.iceberg.dell.mock.ecs.MockS3Client;
+import org.apache.iceberg.io.BulkDeletionFailureException;
+import org.apache.iceberg.io.FileInfo;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.assertj.core.api.Assumptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class TestEcsFileIO {
+
+  @RegisterExtension public static EcsS3MockRule rule = EcsS3MockRule.create();
+
+  private EcsFileIO fileIO;
+
+  @BeforeEach
+  public void before() {
+    Map<String, String> properties = Maps.newHashMap(rule.clientProperties());
+    properties.put(DellProperties.ECS_DELETE_BATCH_SIZE, "3");
+    fileIO = new EcsFileIO();
+    fileIO.initialize(properties);
+  }
+
+  @AfterEach
+  public void after() {
+    fileIO.close();
+  }
+
+  @Test
+  public void testListPrefix() {
+    String prefix = rule.randomObjectName() + "/";
+    List<String> expected = putObjects(prefix, 12);
+    putObjects(rule.randomObjectName() + "/", 2);
+
+    List<FileInfo> files = Lists.newArrayList(fileIO.listPrefix(location(prefix)));
+    assertThat(files)
+        .extracting(FileInfo::location)
+        .containsExactlyInAnyOrderElementsOf(expected);
+    assertThat(files).extracting(FileInfo::size).containsOnly(10L);
+    assertThat(fileIO.listPrefix(location(rule.randomObjectName() + "/"))).isEmpty();
+  }
+
+  @Test
+  public void testDeleteFiles() {
+    String prefix = rule.randomObjectName() + "/";
+    List<String> paths = putObjects(prefix, 7);
+
+    fileIO.deleteFiles(paths);
+    for (String path : paths) {
+      assertThat(fileIO.newInputFile(path).exists()).as("File should be deleted").isFalse();
+    }
+  }
+
+  @Test
+  public void testDeleteFilesReportsFailures() {
+    Assumptions.assumeThat(rule.client())
+        .as("Failed deletes can only be simulated by the mock client")
+        .isInstanceOf(MockS3Client.class);
+
+    String prefix = rule.randomObjectName() + "/";
+    List<String> paths = putObjects(prefix, 7);
+    MockS3Client client = (MockS3Client) rule.client();
+    client.preventDeletion(rule.bucket(), prefix + "file-1");
+    client.preventDeletion(rule.bucket(), prefix + "file-5");
+
+    assertThatThrownBy(() -> fileIO.deleteFiles(paths))
+        .isInstanceOf(BulkDeletionFailureException.class)
+        .hasMessage("Failed to delete 2 files");
+    assertThat(fileIO.listPrefix(location(prefix)))
+        .extracting(FileInfo::location)
+        .containsExactlyInAnyOrder(location(prefix + "file-1"), location(prefix + "file-5"));
+  }
+
+  @Test
+  public void testDeletePrefix() {
+    String prefix = rule.randomObjectName() + "/";
+    String otherPrefix = rule.randomObjectName() + "/";
+    putObjects(prefix, 8);
+    List<String> others = putObjects(otherPrefix, 2);
+
+    fileIO.deletePrefix(location(prefix));
+    assertThat(fileIO.listPrefix(location(prefix))).isEmpty();
+    assertThat(fileIO.listPrefix(location(otherPrefix)))
+        .extracting(FileInfo::location)
+        .containsExactlyInAnyOrderElementsOf(others);
+  }
+
+  private List<String> putObjects(String prefix, int count) {
+    List<String> paths = Lists.newArrayList();
+    for (int i = 0; i < count; i += 1) {
+      String name = prefix + "file-" + i;
+      rule.client().putObject(new PutObjectRequest(rule.bucket(), name, "0123456789".getBytes()));
+      paths.add(location(name));
+    }
+
+    return paths;
+  }
+
+  private String location(String name) {
+    return new EcsURI(rule.bucket(), name).location();
+  }
+}
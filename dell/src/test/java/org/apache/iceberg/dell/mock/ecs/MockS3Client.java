@@ -25,6 +25,7 @@ import com.emc.object.Range;
 import com.emc.object.s3.S3Client;
 import com.emc.object.s3.S3Exception;
 import com.emc.object.s3.S3ObjectMetadata;
+import com.emc.object.s3.bean.AbstractDeleteResult;
 import com.emc.object.s3.bean.AccessControlList;
 import com.emc.object.s3.bean.BucketInfo;
 import com.emc.object.s3.bean.BucketPolicy;
@@ -33,7 +34,9 @@ import com.emc.object.s3.bean.CompleteMultipartUploadResult;
 import com.emc.object.s3.bean.CopyObjectResult;
 import com.emc.object.s3.bean.CopyPartResult;
 import com.emc.object.s3.bean.CorsConfiguration;
+import com.emc.object.s3.bean.DeleteError;
 import com.emc.object.s3.bean.DeleteObjectsResult;
+import com.emc.object.s3.bean.DeleteSuccess;
 import com.emc.object.s3.bean.GetObjectResult;
 import com.emc.object.s3.bean.InitiateMultipartUploadResult;
 import com.emc.object.s3.bean.LifecycleConfiguration;
@@ -46,6 +49,7 @@ import com.emc.object.s3.bean.ListVersionsResult;
 import com.emc.object.s3.bean.LocationConstraint;
 import com.emc.object.s3.bean.MetadataSearchList;
 import com.emc.object.s3.bean.MultipartPartETag;
+import com.emc.object.s3.bean.ObjectKey;
 import com.emc.object.s3.bean.ObjectLockConfiguration;
 import com.emc.object.s3.bean.ObjectLockLegalHold;
 import com.emc.object.s3.bean.ObjectLockRetention;
@@ -104,6 +108,14 @@ public class MockS3Client implements S3Client {
    */
   private final Map<ObjectId, ObjectData> objectData = Maps.newConcurrentMap();
 
+  /** Objects that multi-object deletes report as failed, see {@link #preventDeletion}. */
+  private final Set<ObjectId> undeletableObjects = Sets.newConcurrentHashSet();
+
+  /** Makes multi-object deletes of the given object fail with an AccessDenied error. */
+  public void preventDeletion(String bucketName, String key) {
+    undeletableObjects.add(new ObjectId(bucketName, key));
+  }
+
   @Override
   public PutObjectResult putObject(PutObjectRequest request) {
     ObjectId objectId = new ObjectId(request.getBucketName(), request.getKey());
@@ -239,7 +251,7 @@ public class MockS3Client implements S3Client {
         break;
       }
 
-      int nextDelimiter = id.name.indexOf(delimiter, prefix.length());
+      int nextDelimiter = delimiter != null ? id.name.indexOf(delimiter, prefix.length()) : -1;
       if (nextDelimiter > 0) {
         // If name = a/b/c and prefix = a/ , then return a/b/
         prefixResults.add(id.name.substring(0, nextDelimiter + delimiter.length()));
@@ -247,6 +259,8 @@ public class MockS3Client implements S3Client {
         S3Object s3Object = new S3Object();
         s3Object.setKey(id.name);
         s3Object.setETag(entry.getValue().createFullMetadata().getETag());
+        s3Object.setSize((long) entry.getValue().length());
+        s3Object.setLastModified(new Date());
         objectResults.add(s3Object);
       }
     }
@@ -512,7 +526,26 @@ public class MockS3Client implements S3Client {
 
   @Override
   public DeleteObjectsResult deleteObjects(DeleteObjectsRequest request) {
-    return wontImplement();
+    List<AbstractDeleteResult> results = Lists.newArrayList();
+    for (ObjectKey key : request.getDeleteObjects().getKeys()) {
+      ObjectId objectId = new ObjectId(request.getBucketName(), key.getKey());
+      if (undeletableObjects.contains(objectId)) {
+        DeleteError error = new DeleteError();
+        error.setKey(key.getKey());
+        error.setCode("AccessDenied");
+        error.setMessage("Access Denied");
+        results.add(error);
+      } else {
+        objectData.remove(objectId);
+        DeleteSuccess success = new DeleteSuccess();
+        success.setKey(key.getKey());
+        results.add(success);
+      }
+    }
+
+    DeleteObjectsResult result = new DeleteObjectsResult();
+    result.setResults(results);
+    return result;
   }
 
   @Override
@@ -62,6 +62,23 @@ public class GCPProperties implements Serializable {
    */
   public static final int GCS_DELETE_BATCH_SIZE_DEFAULT = 50;
 
+  /**
+   * Number of prefixes listed concurrently by {@link
+   * org.apache.iceberg.gcp.gcs.GCSFileIO#listPrefix(String)}. When greater than 1, the listing is
+   * split over the sub-directories returned by listing with a "/" delimiter.
+   */
+  public static final String GCS_LIST_PARALLELISM = "gcs.list.parallelism";
+
+  public static final int GCS_LIST_PARALLELISM_DEFAULT = 1;
+
+  /**
+   * Number of levels listed with a "/" delimiter before sub-directories are listed in parallel.
+   * Only used when {@link #GCS_LIST_PARALLELISM} is greater than 1.
+   */
+  public static final String GCS_LIST_FANOUT_DEPTH = "gcs.list.fanout-depth";
+
+  public static final int GCS_LIST_FANOUT_DEPTH_DEFAULT = 2;
+
   private final Map<String, String> allProperties;
 
   private String projectId;
@@ -82,6 +99,8 @@ public class GCPProperties implements Serializable {
   private boolean gcsOauth2RefreshCredentialsEnabled;
 
   private int gcsDeleteBatchSize = GCS_DELETE_BATCH_SIZE_DEFAULT;
+  private int gcsListParallelism = GCS_LIST_PARALLELISM_DEFAULT;
+  private int gcsListFanoutDepth = GCS_LIST_FANOUT_DEPTH_DEFAULT;
 
   public GCPProperties() {
     this.allProperties = ImmutableMap.of();
@@ -128,6 +147,17 @@ public class GCPProperties implements Serializable {
     gcsDeleteBatchSize =
         PropertyUtil.propertyAsInt(
             properties, GCS_DELETE_BATCH_SIZE, GCS_DELETE_BATCH_SIZE_DEFAULT);
+    gcsListParallelism =
+        PropertyUtil.propertyAsInt(properties, GCS_LIST_PARALLELISM, GCS_LIST_PARALLELISM_DEFAULT);
+    Preconditions.checkArgument(
+        gcsListParallelism > 0, "Invalid list parallelism: %s (must be > 0)", gcsListParallelism);
+    gcsListFanoutDepth =
+        PropertyUtil.propertyAsInt(
+            properties, GCS_LIST_FANOUT_DEPTH, GCS_LIST_FANOUT_DEPTH_DEFAULT);
+    Preconditions.checkArgument(
+        gcsListFanoutDepth >= 0,
+        "Invalid list fanout depth: %s (must be >= 0)",
+        gcsListFanoutDepth);
   }
 
   public Optional<Integer> channelReadChunkSize() {
@@ -178,6 +208,14 @@ public class GCPProperties implements Serializable {
     return gcsDeleteBatchSize;
   }
 
+  public int listParallelism() {
+    return gcsListParallelism;
+  }
+
+  public int listFanoutDepth() {
+    return gcsListFanoutDepth;
+  }
+
   public Optional<String> oauth2RefreshCredentialsEndpoint() {
     return Optional.ofNullable(gcsOauth2RefreshCredentialsEndpoint);
   }
@@ -20,6 +20,7 @@ package org.apache.iceberg.gcp.gcs;
 
 import com.google.api.client.util.Lists;
 import com.google.api.client.util.Maps;
+import com.google.cloud.BaseServiceException;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
@@ -35,6 +36,7 @@ import org.apache.iceberg.io.DelegateFileIO;
 import org.apache.iceberg.io.FileInfo;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.ParallelPrefixListing;
 import org.apache.iceberg.io.StorageCredential;
 import org.apache.iceberg.io.SupportsStorageCredentials;
 import org.apache.iceberg.metrics.MetricsContext;
@@ -239,20 +241,68 @@ public class GCSFileIO implements DelegateFileIO, SupportsStorageCredentials {
   @Override
   public Iterable<FileInfo> listPrefix(String prefix) {
     GCSLocation location = new GCSLocation(prefix);
+    GCPProperties properties = clientForStoragePath(prefix).gcpProperties();
+    if (properties.listParallelism() > 1) {
+      return ParallelPrefixListing.builder(
+              blobPrefix -> listLevel(prefix, location.bucket(), blobPrefix),
+              blobPrefix -> listBlobs(prefix, location.bucket(), blobPrefix))
+          .parallelism(properties.listParallelism())
+          .fanoutDepth(properties.listFanoutDepth())
+          .shouldRetry(GCSFileIO::isTransientListFailure)
+          .build()
+          .list(location.prefix());
+    }
+
+    return listBlobs(prefix, location.bucket(), location.prefix());
+  }
+
+  @SuppressWarnings("resource")
+  private Iterable<FileInfo> listBlobs(String storagePath, String bucket, String blobPrefix) {
     return () ->
-        clientForStoragePath(prefix)
+        clientForStoragePath(storagePath)
             .storage()
-            .list(location.bucket(), Storage.BlobListOption.prefix(location.prefix()))
+            .list(bucket, Storage.BlobListOption.prefix(blobPrefix))
             .streamAll()
-            .map(
-                blob ->
-                    new FileInfo(
-                        String.format("gs://%s/%s", blob.getBucket(), blob.getName()),
-                        blob.getSize(),
-                        createTimeMillis(blob)))
+            .map(this::toFileInfo)
             .iterator();
   }
 
+  @SuppressWarnings("resource")
+  private ParallelPrefixListing.Level listLevel(
+      String storagePath, String bucket, String blobPrefix) {
+    List<FileInfo> files = Lists.newArrayList();
+    List<String> prefixes = Lists.newArrayList();
+    clientForStoragePath(storagePath)
+        .storage()
+        .list(
+            bucket,
+            Storage.BlobListOption.prefix(blobPrefix),
+            Storage.BlobListOption.currentDirectory())
+        .streamAll()
+        .forEach(
+            blob -> {
+              if (blob.isDirectory()) {
+                prefixes.add(blob.getName());
+              } else {
+                files.add(toFileInfo(blob));
+              }
+            });
+
+    return new ParallelPrefixListing.Level(files, prefixes);
+  }
+
+  /** Returns true for failures that the storage client reports as retryable. */
+  private static boolean isTransientListFailure(Exception e) {
+    return e instanceof BaseServiceException && ((BaseServiceException) e).isRetryable();
+  }
+
+  private FileInfo toFileInfo(Blob blob) {
+    return new FileInfo(
+        String.format("gs://%s/%s", blob.getBucket(), blob.getName()),
+        blob.getSize(),
+        createTimeMillis(blob));
+  }
+
   private long createTimeMillis(Blob blob) {
     if (blob.getCreateTimeOffsetDateTime() == null) {
       return 0;
@@ -37,6 +37,8 @@ import org.apache.hadoop.security.UserGroupInformation;
 import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.ClientPool;
 import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.metrics.DefaultTimer;
+import org.apache.iceberg.metrics.Timer;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
@@ -74,6 +76,7 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
   private final int clientPoolSize;
   private final long evictionInterval;
   private final Key key;
+  private final Timer callTimer = new DefaultTimer(TimeUnit.NANOSECONDS);
 
   CachedClientPool(Configuration conf, Map<String, String> properties) {
     this.conf = conf;
@@ -116,16 +119,33 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
     return clientPoolCache;
   }
 
+  /**
+   * Returns a timer that records the number and duration of metastore actions run through this
+   * pool, excluding time spent waiting for a client.
+   */
+  Timer callTimer() {
+    return callTimer;
+  }
+
   @Override
   public <R> R run(Action<R, IMetaStoreClient, TException> action)
       throws TException, InterruptedException {
-    return clientPool().run(action);
+    return clientPool().run(timed(action));
   }
 
   @Override
   public <R> R run(Action<R, IMetaStoreClient, TException> action, boolean retry)
       throws TException, InterruptedException {
-    return clientPool().run(action, retry);
+    return clientPool().run(timed(action), retry);
+  }
+
+  private <R> Action<R, IMetaStoreClient, TException> timed(
+      Action<R, IMetaStoreClient, TException> action) {
+    return client -> {
+      try (Timer.Timed ignored = callTimer.start()) {
+        return action.run(client);
+      }
+    };
   }
 
   @VisibleForTesting
@@ -21,6 +21,7 @@ package org.apache.iceberg.hive;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 import org.apache.hadoop.conf.Configurable;
 import org.apache.hadoop.conf.Configuration;
@@ -35,6 +36,7 @@ import org.apache.hadoop.hive.metastore.api.PrincipalType;
 import org.apache.hadoop.hive.metastore.api.Table;
 import org.apache.hadoop.hive.metastore.api.UnknownDBException;
 import org.apache.iceberg.BaseMetastoreTableOperations;
+import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.CatalogUtil;
 import org.apache.iceberg.ClientPool;
@@ -53,15 +55,18 @@ import org.apache.iceberg.exceptions.NoSuchViewException;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.hadoop.HadoopFileIO;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.metrics.Timer;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
-import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.util.LocationUtil;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
 import org.apache.iceberg.view.BaseMetastoreViewCatalog;
 import org.apache.iceberg.view.View;
 import org.apache.iceberg.view.ViewBuilder;
@@ -76,6 +81,14 @@ public class HiveCatalog extends BaseMetastoreViewCatalog
   public static final String LIST_ALL_TABLES = "list-all-tables";
   public static final String LIST_ALL_TABLES_DEFAULT = "false";
 
+  /**
+   * Maximum number of tables requested from the metastore in a single bulk call. Larger requests
+   * are split into batches of this size that are fetched in parallel.
+   */
+  public static final String METASTORE_BATCH_SIZE = "metastore-batch-size";
+
+  public static final int METASTORE_BATCH_SIZE_DEFAULT = 100;
+
   public static final String HMS_TABLE_OWNER = "hive.metastore.table.owner";
   public static final String HMS_DB_OWNER = "hive.metastore.database.owner";
   public static final String HMS_DB_OWNER_TYPE = "hive.metastore.database.owner-type";
@@ -89,7 +102,9 @@ public class HiveCatalog extends BaseMetastoreViewCatalog
   private Configuration conf;
   private FileIO fileIO;
   private ClientPool<IMetaStoreClient, TException> clients;
+  private Timer metastoreCallTimer;
   private boolean listAllTables = false;
+  private int metastoreBatchSize = METASTORE_BATCH_SIZE_DEFAULT;
   private Map<String, String> catalogProperties;
 
   public HiveCatalog() {}
@@ -115,6 +130,13 @@ public class HiveCatalog extends BaseMetastoreViewCatalog
 
     this.listAllTables =
         Boolean.parseBoolean(properties.getOrDefault(LIST_ALL_TABLES, LIST_ALL_TABLES_DEFAULT));
+    this.metastoreBatchSize =
+        PropertyUtil.propertyAsInt(properties, METASTORE_BATCH_SIZE, METASTORE_BATCH_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        metastoreBatchSize > 0,
+        "Invalid %s: %s (must be positive)",
+        METASTORE_BATCH_SIZE,
+        metastoreBatchSize);
 
     String fileIOImpl = properties.get(CatalogProperties.FILE_IO_IMPL);
     this.fileIO =
@@ -122,7 +144,9 @@ public class HiveCatalog extends BaseMetastoreViewCatalog
             ? new HadoopFileIO(conf)
             : CatalogUtil.loadFileIO(fileIOImpl, properties, conf);
 
-    this.clients = new CachedClientPool(conf, properties);
+    CachedClientPool cachedClients = new CachedClientPool(conf, properties);
+    this.clients = cachedClients;
+    this.metastoreCallTimer = cachedClients.callTimer();
   }
 
   @Override
@@ -184,16 +208,7 @@ public class HiveCatalog extends BaseMetastoreViewCatalog
       List<String> viewNames =
           clients.run(client -> client.getTables(database, "*", TableType.VIRTUAL_VIEW));
 
-      // Retrieving the Table objects from HMS in batches to avoid OOM
-      List<TableIdentifier> filteredTableIdentifiers = Lists.newArrayList();
-      Iterable<List<String>> viewNameSets = Iterables.partition(viewNames, 100);
-
-      for (List<String> viewNameSet : viewNameSets) {
-        filteredTableIdentifiers.addAll(
-            listIcebergTables(viewNameSet, namespace, HiveOperationsBase.ICEBERG_VIEW_TYPE_VALUE));
-      }
-
-      return filteredTableIdentifiers;
+      return listIcebergTables(viewNames, namespace, HiveOperationsBase.ICEBERG_VIEW_TYPE_VALUE);
     } catch (UnknownDBException e) {
       throw new NoSuchNamespaceException("Namespace does not exist: %s", namespace);
 
@@ -314,11 +329,125 @@ public class HiveCatalog extends BaseMetastoreViewCatalog
     renameTableOrView(from, to, HiveOperationsBase.ContentType.VIEW);
   }
 
+  /**
+   * Loads several tables, fetching their metastore entries with bulk calls instead of one call per
+   * table.
+   *
+   * <p>Metastore entries are requested per database in batches of {@link #METASTORE_BATCH_SIZE}
+   * and the table metadata files are read in parallel. Metadata tables and identifiers that are
+   * not found in the bulk response are loaded with {@link #loadTable(TableIdentifier)}, which
+   * throws {@link NoSuchTableException} when a table does not exist.
+   *
+   * @param identifiers table identifiers to load
+   * @return the loaded tables, in the same order as the identifiers
+   */
+  public List<org.apache.iceberg.Table> loadTables(List<TableIdentifier> identifiers) {
+    Map<String, List<String>> namesByDatabase = Maps.newHashMap();
+    for (TableIdentifier identifier : identifiers) {
+      if (isValidIdentifier(identifier)) {
+        namesByDatabase
+            .computeIfAbsent(identifier.namespace().level(0), db -> Lists.newArrayList())
+            .add(identifier.name());
+      }
+    }
+
+    Map<TableIdentifier, Table> hmsTables = Maps.newHashMap();
+    namesByDatabase.forEach(
+        (database, names) -> {
+          for (Table table : fetchTableObjects(database, names)) {
+            hmsTables.put(TableIdentifier.of(database, table.getTableName()).toLowerCase(), table);
+          }
+        });
+
+    AtomicReferenceArray<org.apache.iceberg.Table> tables =
+        new AtomicReferenceArray<>(identifiers.size());
+    Tasks.range(identifiers.size())
+        .executeWith(ThreadPools.getWorkerPool())
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .run(
+            index -> {
+              TableIdentifier identifier = identifiers.get(index);
+              Table hmsTable =
+                  isValidIdentifier(identifier) ? hmsTables.get(identifier.toLowerCase()) : null;
+              tables.set(
+                  index,
+                  hmsTable != null ? loadTable(identifier, hmsTable) : loadTable(identifier));
+            });
+
+    List<org.apache.iceberg.Table> result = Lists.newArrayListWithExpectedSize(tables.length());
+    for (int i = 0; i < tables.length(); i += 1) {
+      result.add(tables.get(i));
+    }
+
+    return result;
+  }
+
+  private org.apache.iceberg.Table loadTable(TableIdentifier identifier, Table hmsTable) {
+    HiveTableOperations ops = (HiveTableOperations) newTableOps(identifier);
+    ops.refreshFromHmsTable(hmsTable);
+    return new BaseTable(ops, fullTableName(name(), identifier), metricsReporter());
+  }
+
+  private List<Table> fetchTableObjects(String database, List<String> tableNames) {
+    try {
+      return getTableObjects(database, tableNames);
+
+    } catch (UnknownDBException e) {
+      // tables in a missing database are reported as missing by the per-table fallback
+      return ImmutableList.of();
+
+    } catch (TException e) {
+      throw new RuntimeException("Failed to load tables from database " + database, e);
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted in call to loadTables", e);
+    }
+  }
+
+  /**
+   * Fetches the metastore entries for the given tables with bulk calls. Requests larger than the
+   * configured batch size are split and the batches are fetched in parallel through the client
+   * pool, which keeps each response bounded while avoiding one round trip per batch.
+   */
+  private List<Table> getTableObjects(String database, List<String> tableNames)
+      throws TException, InterruptedException {
+    if (tableNames.size() <= metastoreBatchSize) {
+      return clients.run(client -> client.getTableObjectsByName(database, tableNames));
+    }
+
+    List<List<String>> batches = Lists.partition(tableNames, metastoreBatchSize);
+    AtomicReferenceArray<List<Table>> results = new AtomicReferenceArray<>(batches.size());
+    Tasks.range(batches.size())
+        .executeWith(ThreadPools.getWorkerPool())
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .run(
+            index -> {
+              List<String> batch = batches.get(index);
+              try {
+                results.set(
+                    index, clients.run(client -> client.getTableObjectsByName(database, batch)));
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while fetching tables from metastore", e);
+              }
+            },
+            TException.class);
+
+    List<Table> tables = Lists.newArrayListWithExpectedSize(tableNames.size());
+    for (int i = 0; i < results.length(); i += 1) {
+      tables.addAll(results.get(i));
+    }
+
+    return tables;
+  }
+
   private List<TableIdentifier> listIcebergTables(
       List<String> tableNames, Namespace namespace, String tableTypeProp)
       throws TException, InterruptedException {
-    List<Table> tableObjects =
-        clients.run(client -> client.getTableObjectsByName(namespace.level(0), tableNames));
+    List<Table> tableObjects = getTableObjects(namespace.level(0), tableNames);
     return tableObjects.stream()
         .filter(
             table ->
@@ -815,6 +944,13 @@ public class HiveCatalog extends BaseMetastoreViewCatalog
     return catalogProperties == null ? ImmutableMap.of() : catalogProperties;
   }
 
+  /**
+   * Returns a timer that records the count and latency of metastore calls made by this catalog.
+   */
+  public Timer metastoreCallTimer() {
+    return metastoreCallTimer;
+  }
+
   @VisibleForTesting
   void setListAllTables(boolean listAllTables) {
     this.listAllTables = listAllTables;
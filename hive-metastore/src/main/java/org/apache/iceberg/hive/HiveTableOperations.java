@@ -127,6 +127,16 @@ public class HiveTableOperations extends BaseMetastoreTableOperations
     refreshFromMetadataLocation(metadataLocation, metadataRefreshMaxRetries);
   }
 
+  /**
+   * Refreshes this table from a metastore entry that was already fetched, for example by a bulk
+   * call, instead of requesting it again.
+   */
+  void refreshFromHmsTable(Table table) {
+    HiveOperationsBase.validateTableIsIceberg(table, fullName);
+    refreshFromMetadataLocation(
+        table.getParameters().get(METADATA_LOCATION_PROP), metadataRefreshMaxRetries);
+  }
+
   @SuppressWarnings({"checkstyle:CyclomaticComplexity", "MethodLength"})
   @Override
   protected void doCommit(TableMetadata base, TableMetadata metadata) {
@@ -37,6 +37,7 @@ import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -52,6 +53,7 @@ import org.apache.iceberg.CatalogUtil;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DataFiles;
 import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.HasTableOperations;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.PartitionSpecParser;
 import org.apache.iceberg.Schema;
@@ -73,8 +75,10 @@ import org.apache.iceberg.exceptions.AlreadyExistsException;
 import org.apache.iceberg.exceptions.NamespaceNotEmptyException;
 import org.apache.iceberg.exceptions.NoSuchNamespaceException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.transforms.Transform;
 import org.apache.iceberg.transforms.Transforms;
@@ -190,6 +194,77 @@ public class TestHiveCatalog extends CatalogTests<HiveCatalog> {
         .hasMessageContaining("Invalid identifier: " + invalidTo);
   }
 
+  @Test
+  public void testListTablesInBatches() {
+    HiveCatalog batchingCatalog =
+        initCatalog("batching_hive", ImmutableMap.of(HiveCatalog.METASTORE_BATCH_SIZE, "2"));
+    List<TableIdentifier> identifiers = Lists.newArrayList();
+    for (int i = 0; i < 5; i += 1) {
+      TableIdentifier identifier = TableIdentifier.of(DB_NAME, "tbl" + i);
+      batchingCatalog.createTable(identifier, getTestSchema());
+      identifiers.add(identifier);
+    }
+
+    assertThat(batchingCatalog.listTables(Namespace.of(DB_NAME)))
+        .containsExactlyInAnyOrderElementsOf(identifiers);
+  }
+
+  @Test
+  public void testInvalidMetastoreBatchSize() {
+    assertThatThrownBy(
+            () -> initCatalog("hive", ImmutableMap.of(HiveCatalog.METASTORE_BATCH_SIZE, "0")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid metastore-batch-size: 0 (must be positive)");
+  }
+
+  @Test
+  public void testLoadTables() {
+    HiveCatalog batchingCatalog =
+        initCatalog("batching_hive", ImmutableMap.of(HiveCatalog.METASTORE_BATCH_SIZE, "2"));
+    TableIdentifier first = TableIdentifier.of(DB_NAME, "first");
+    TableIdentifier second = TableIdentifier.of(DB_NAME, "second");
+    TableIdentifier third = TableIdentifier.of(DB_NAME, "third");
+    Table firstTable = batchingCatalog.createTable(first, getTestSchema());
+    batchingCatalog.createTable(second, getTestSchema());
+    batchingCatalog.createTable(third, getTestSchema());
+    TableIdentifier filesTable = TableIdentifier.of(DB_NAME, "first", "files");
+
+    List<Table> tables = batchingCatalog.loadTables(ImmutableList.of(third, first, filesTable));
+
+    assertThat(tables).hasSize(3);
+    assertThat(tables.get(0).name()).isEqualTo("batching_hive." + third);
+    assertThat(tables.get(1).name()).isEqualTo("batching_hive." + first);
+    assertThat(tables.get(1).currentSnapshot()).isNull();
+    assertThat(((HasTableOperations) tables.get(1)).operations().current().metadataFileLocation())
+        .isEqualTo(
+            ((HasTableOperations) firstTable).operations().current().metadataFileLocation());
+    assertThat(tables.get(2).name()).isEqualTo("batching_hive." + filesTable);
+  }
+
+  @Test
+  public void testLoadTablesWithMissingTable() {
+    TableIdentifier existing = TableIdentifier.of(DB_NAME, "existing");
+    catalog.createTable(existing, getTestSchema());
+    TableIdentifier missing = TableIdentifier.of(DB_NAME, "missing");
+
+    assertThatThrownBy(() -> catalog.loadTables(ImmutableList.of(existing, missing)))
+        .isInstanceOf(NoSuchTableException.class)
+        .hasMessageContaining("missing");
+    assertThatThrownBy(
+            () -> catalog.loadTables(ImmutableList.of(TableIdentifier.of("unknown_db", "tbl"))))
+        .isInstanceOf(NoSuchTableException.class);
+  }
+
+  @Test
+  public void testMetastoreCallTimer() {
+    long callsBefore = catalog.metastoreCallTimer().count();
+
+    catalog.listTables(Namespace.of(DB_NAME));
+
+    assertThat(catalog.metastoreCallTimer().count()).isGreaterThan(callsBefore);
+    assertThat(catalog.metastoreCallTimer().totalDuration()).isPositive();
+  }
+
   @Test
   public void testCreateTableBuilder() throws Exception {
     Schema schema = getTestSchema();
@@ -32,7 +32,7 @@ class RESTServerCatalogAdapter extends RESTCatalogAdapter {
   private final CatalogContext catalogContext;
 
   RESTServerCatalogAdapter(CatalogContext catalogContext) {
-    super(catalogContext.catalog());
+    super(catalogContext.catalog(), true);
     this.catalogContext = catalogContext;
   }
 
@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.orc;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.function.Function;
 import org.apache.hadoop.conf.Configuration;
@@ -105,12 +106,20 @@ class OrcIterable<T> extends CloseableGroup implements CloseableIterable<T> {
         newOrcIterator(file, readOrcSchema, start, length, orcFileReader, sarg, recordsPerBatch);
     if (batchReaderFunction != null) {
       OrcBatchReader<T> batchReader = (OrcBatchReader<T>) batchReaderFunction.apply(readOrcSchema);
-      return CloseableIterator.transform(
-          rowBatchIterator,
-          pair -> {
-            batchReader.setBatchContext(pair.second());
-            return batchReader.read(pair.first());
-          });
+      CloseableIterator<T> batches =
+          CloseableIterator.transform(
+              rowBatchIterator,
+              pair -> {
+                batchReader.setBatchContext(pair.second());
+                return batchReader.read(pair.first());
+              });
+      if (batchReader instanceof Closeable) {
+        // readers that hold off-heap batches, like Arrow readers, release them with the iterator
+        addCloseable((Closeable) batchReader);
+        return new ClosingIterator<>(batches, (Closeable) batchReader);
+      }
+
+      return batches;
     } else {
       return new OrcRowIterator<>(
           rowBatchIterator, (OrcRowReader<T>) readerFunction.apply(readOrcSchema));
@@ -182,4 +191,33 @@ class OrcIterable<T> extends CloseableGroup implements CloseableIterable<T> {
       batchIter.close();
     }
   }
+
+  private static class ClosingIterator<T> implements CloseableIterator<T> {
+    private final CloseableIterator<T> batches;
+    private final Closeable batchReader;
+
+    ClosingIterator(CloseableIterator<T> batches, Closeable batchReader) {
+      this.batches = batches;
+      this.batchReader = batchReader;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return batches.hasNext();
+    }
+
+    @Override
+    public T next() {
+      return batches.next();
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        batches.close();
+      } finally {
+        batchReader.close();
+      }
+    }
+  }
 }
@@ -0,0 +1,436 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import org.apache.iceberg.metrics.Timer;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.page.PageWriteStore;
+import org.apache.parquet.column.page.PageWriter;
+import org.apache.parquet.column.statistics.SizeStatistics;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bloomfilter.BloomFilterWriteStore;
+import org.apache.parquet.column.values.bloomfilter.BloomFilterWriter;
+import org.apache.parquet.hadoop.CodecFactory;
+import org.apache.parquet.hadoop.ColumnChunkPageWriteStore;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+
+/**
+ * A page store that compresses the data pages of a row group on an executor.
+ *
+ * <p>Column writers pass encoded pages to this store on the writer thread. Each data page is copied
+ * and compressed by a task on the executor, using one of a fixed set of compressors, so at most
+ * that many pages of a writer are compressed at once. Compressed pages are passed to the {@link
+ * ColumnChunkPageWriteStore} of the current row group in the order they were written, which adds
+ * page headers, checksums, and encryption as it does for pages compressed on the writer thread.
+ * Dictionary pages are compressed on the writer thread.
+ *
+ * <p>Pages are only handed to the executor while the uncompressed size of the pages waiting to be
+ * compressed stays within {@code maxBufferedBytes}; otherwise the writer waits for the oldest
+ * pages. All pages are passed to the row group's page store by {@link #drain()}, which must be
+ * called before the row group is flushed. Time the writer spends waiting for compression is
+ * recorded by the stall timer.
+ */
+class ParallelPageWriteStore implements PageWriteStore, BloomFilterWriteStore, Closeable {
+  private final CodecFactory.BytesCompressor writerCompressor;
+  private final Queue<CodecFactory.BytesCompressor> compressors = new ConcurrentLinkedQueue<>();
+  private final int parallelism;
+  private final long maxBufferedBytes;
+  private final Timer stallTimer;
+  private final ExecutorService executor;
+  private final PrecompressedCompressor pageCompressor;
+  private final Deque<PendingPage> pending = Lists.newLinkedList();
+
+  private ColumnChunkPageWriteStore rowGroupStore = null;
+  private long pendingBytes = 0L;
+
+  ParallelPageWriteStore(
+      CodecFactory.BytesCompressor writerCompressor,
+      Supplier<CodecFactory.BytesCompressor> newCompressor,
+      int parallelism,
+      long maxBufferedBytes,
+      Timer stallTimer,
+      ExecutorService executor) {
+    Preconditions.checkArgument(
+        parallelism > 1, "Invalid compression parallelism: %s (must be > 1)", parallelism);
+    Preconditions.checkArgument(
+        maxBufferedBytes > 0,
+        "Invalid compression buffer size: %s (must be > 0)",
+        maxBufferedBytes);
+    this.writerCompressor = writerCompressor;
+    this.parallelism = parallelism;
+    this.maxBufferedBytes = maxBufferedBytes;
+    this.stallTimer = stallTimer;
+    this.executor = executor;
+    this.pageCompressor = new PrecompressedCompressor(writerCompressor);
+    for (int i = 0; i < parallelism; i += 1) {
+      compressors.add(newCompressor.get());
+    }
+  }
+
+  /**
+   * Returns the compressor to use for the row group page stores that pages are passed to.
+   *
+   * <p>It returns pages that were compressed on the executor and compresses dictionary pages.
+   */
+  CodecFactory.BytesCompressor pageCompressor() {
+    return pageCompressor;
+  }
+
+  /** Sets the page store of the next row group, which must use {@link #pageCompressor()}. */
+  void startRowGroup(ColumnChunkPageWriteStore newRowGroupStore) {
+    Preconditions.checkState(pending.isEmpty(), "Cannot start row group: pages were not drained");
+    this.rowGroupStore = newRowGroupStore;
+  }
+
+  /** Waits for all pending pages and passes them to the current row group's page store. */
+  void drain() throws IOException {
+    while (!pending.isEmpty()) {
+      writeNext();
+    }
+  }
+
+  @Override
+  public PageWriter getPageWriter(ColumnDescriptor path) {
+    return new ParallelPageWriter(rowGroupStore.getPageWriter(path));
+  }
+
+  @Override
+  public BloomFilterWriter getBloomFilterWriter(ColumnDescriptor path) {
+    return rowGroupStore.getBloomFilterWriter(path);
+  }
+
+  private void submit(ParallelPageWriter column, BytesInput page, PageCopy copy)
+      throws IOException {
+    // column writers reuse their buffers after a page is written
+    BytesInput bytes = BytesInput.copy(page);
+    long size = bytes.size();
+
+    while (!pending.isEmpty()
+        && (pending.size() >= parallelism || pendingBytes + size > maxBufferedBytes)) {
+      writeNext();
+    }
+
+    CompletableFuture<BytesInput> compressed =
+        CompletableFuture.supplyAsync(() -> compress(bytes), executor);
+    pending.addLast(new PendingPage(column, bytes, size, compressed, copy));
+    this.pendingBytes += size;
+    column.bufferedBytes += size;
+
+    // pass on pages that are already compressed to release their buffers
+    while (!pending.isEmpty() && pending.peekFirst().compressed.isDone()) {
+      writeNext();
+    }
+  }
+
+  private BytesInput compress(BytesInput bytes) {
+    // there are never more pages waiting than compressors, so one is always available
+    CodecFactory.BytesCompressor compressor = compressors.poll();
+    Preconditions.checkState(compressor != null, "No compressor available");
+    try {
+      // compressors reuse their output buffer, so the result is copied before it is returned
+      return BytesInput.copy(compressor.compress(bytes));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to compress page", e);
+    } finally {
+      compressors.add(compressor);
+    }
+  }
+
+  private void writeNext() throws IOException {
+    PendingPage page = pending.removeFirst();
+    BytesInput compressed = await(page.compressed);
+    this.pendingBytes -= page.size;
+    page.column.bufferedBytes -= page.size;
+
+    pageCompressor.setNext(compressed);
+    try {
+      page.copy.writeTo(page.column.delegate, page.bytes);
+      Preconditions.checkState(
+          pageCompressor.next == null, "Invalid page write: compressed page was not consumed");
+    } finally {
+      // never return a stale page for the next dictionary page
+      pageCompressor.setNext(null);
+    }
+  }
+
+  private BytesInput await(CompletableFuture<BytesInput> task) {
+    if (task.isDone()) {
+      return join(task);
+    }
+
+    try (Timer.Timed ignored = stallTimer.start()) {
+      return join(task);
+    }
+  }
+
+  private static BytesInput join(CompletableFuture<BytesInput> task) {
+    try {
+      return task.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      } else if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+
+      throw e;
+    }
+  }
+
+  /** Waits for running compression tasks, discards pending pages, and releases compressors. */
+  @Override
+  public void close() {
+    for (PendingPage page : pending) {
+      page.compressed.handle((bytes, failure) -> null).join();
+    }
+
+    pending.clear();
+    this.pendingBytes = 0L;
+
+    for (CodecFactory.BytesCompressor compressor : compressors) {
+      compressor.release();
+    }
+
+    compressors.clear();
+  }
+
+  /** Writes a compressed page to a row group's page writer, given its uncompressed bytes. */
+  private interface PageCopy {
+    void writeTo(PageWriter writer, BytesInput bytes) throws IOException;
+  }
+
+  private static class PendingPage {
+    private final ParallelPageWriter column;
+    private final BytesInput bytes;
+    private final long size;
+    private final CompletableFuture<BytesInput> compressed;
+    private final PageCopy copy;
+
+    private PendingPage(
+        ParallelPageWriter column,
+        BytesInput bytes,
+        long size,
+        CompletableFuture<BytesInput> compressed,
+        PageCopy copy) {
+      this.column = column;
+      this.bytes = bytes;
+      this.size = size;
+      this.compressed = compressed;
+      this.copy = copy;
+    }
+  }
+
+  /**
+   * A compressor that returns the page that was compressed on the executor for the next page that
+   * is written, and compresses other pages, like dictionary pages, on the writer thread.
+   */
+  private static class PrecompressedCompressor extends CodecFactory.BytesCompressor {
+    private final CodecFactory.BytesCompressor compressor;
+    private BytesInput next = null;
+
+    private PrecompressedCompressor(CodecFactory.BytesCompressor compressor) {
+      this.compressor = compressor;
+    }
+
+    private void setNext(BytesInput compressed) {
+      this.next = compressed;
+    }
+
+    @Override
+    public BytesInput compress(BytesInput bytes) throws IOException {
+      if (next != null) {
+        BytesInput compressed = next;
+        this.next = null;
+        return compressed;
+      }
+
+      return compressor.compress(bytes);
+    }
+
+    @Override
+    public CompressionCodecName getCodecName() {
+      return compressor.getCodecName();
+    }
+
+    @Override
+    public void release() {
+      // the wrapped compressor is released by its owner
+    }
+  }
+
+  /** A {@link PageWriter} that compresses data pages on the executor. */
+  private class ParallelPageWriter implements PageWriter {
+    private final PageWriter delegate;
+    private long bufferedBytes = 0L;
+
+    private ParallelPageWriter(PageWriter delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void writePage(
+        BytesInput bytesInput,
+        int valueCount,
+        Statistics<?> statistics,
+        Encoding rlEncoding,
+        Encoding dlEncoding,
+        Encoding valuesEncoding)
+        throws IOException {
+      submit(
+          this,
+          bytesInput,
+          (writer, bytes) ->
+              writer.writePage(
+                  bytes, valueCount, statistics, rlEncoding, dlEncoding, valuesEncoding));
+    }
+
+    @Override
+    public void writePage(
+        BytesInput bytesInput,
+        int valueCount,
+        int rowCount,
+        Statistics<?> statistics,
+        Encoding rlEncoding,
+        Encoding dlEncoding,
+        Encoding valuesEncoding)
+        throws IOException {
+      submit(
+          this,
+          bytesInput,
+          (writer, bytes) ->
+              writer.writePage(
+                  bytes, valueCount, rowCount, statistics, rlEncoding, dlEncoding, valuesEncoding));
+    }
+
+    @Override
+    public void writePage(
+        BytesInput bytesInput,
+        int valueCount,
+        int rowCount,
+        Statistics<?> statistics,
+        SizeStatistics sizeStatistics,
+        Encoding rlEncoding,
+        Encoding dlEncoding,
+        Encoding valuesEncoding)
+        throws IOException {
+      submit(
+          this,
+          bytesInput,
+          (writer, bytes) ->
+              writer.writePage(
+                  bytes,
+                  valueCount,
+                  rowCount,
+                  statistics,
+                  sizeStatistics,
+                  rlEncoding,
+                  dlEncoding,
+                  valuesEncoding));
+    }
+
+    @Override
+    public void writePageV2(
+        int rowCount,
+        int nullCount,
+        int valueCount,
+        BytesInput repetitionLevels,
+        BytesInput definitionLevels,
+        Encoding dataEncoding,
+        BytesInput data,
+        Statistics<?> statistics)
+        throws IOException {
+      writePageV2(
+          rowCount,
+          nullCount,
+          valueCount,
+          repetitionLevels,
+          definitionLevels,
+          dataEncoding,
+          data,
+          statistics,
+          null);
+    }
+
+    @Override
+    public void writePageV2(
+        int rowCount,
+        int nullCount,
+        int valueCount,
+        BytesInput repetitionLevels,
+        BytesInput definitionLevels,
+        Encoding dataEncoding,
+        BytesInput data,
+        Statistics<?> statistics,
+        SizeStatistics sizeStatistics)
+        throws IOException {
+      // only the data is compressed in v2 pages, but the levels are also reused by column writers
+      BytesInput repetitionLevelsCopy = BytesInput.copy(repetitionLevels);
+      BytesInput definitionLevelsCopy = BytesInput.copy(definitionLevels);
+      submit(
+          this,
+          data,
+          (writer, bytes) ->
+              writer.writePageV2(
+                  rowCount,
+                  nullCount,
+                  valueCount,
+                  repetitionLevelsCopy,
+                  definitionLevelsCopy,
+                  dataEncoding,
+                  bytes,
+                  statistics,
+                  sizeStatistics));
+    }
+
+    @Override
+    public long getMemSize() {
+      return delegate.getMemSize() + bufferedBytes;
+    }
+
+    @Override
+    public long allocatedSize() {
+      return delegate.allocatedSize() + bufferedBytes;
+    }
+
+    @Override
+    public void writeDictionaryPage(DictionaryPage dictionaryPage) throws IOException {
+      delegate.writeDictionaryPage(dictionaryPage);
+    }
+
+    @Override
+    public String memUsageString(String prefix) {
+      return delegate.memUsageString(prefix);
+    }
+  }
+}
@@ -32,9 +32,13 @@ import static org.apache.iceberg.TableProperties.PARQUET_BLOOM_FILTER_MAX_BYTES;
 import static org.apache.iceberg.TableProperties.PARQUET_BLOOM_FILTER_MAX_BYTES_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_COLUMN_STATS_ENABLED_PREFIX;
 import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION;
+import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_BUFFER_BYTES;
+import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_BUFFER_BYTES_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_LEVEL;
 import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_LEVEL_DEFAULT;
+import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_THREADS;
+import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_THREADS_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_DICT_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.PARQUET_DICT_SIZE_BYTES_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_PAGE_ROW_LIMIT;
@@ -92,6 +96,7 @@ import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.mapping.NameMapping;
+import org.apache.iceberg.metrics.Timer;
 import org.apache.iceberg.parquet.ParquetValueWriters.PositionDeleteStructWriter;
 import org.apache.iceberg.parquet.ParquetValueWriters.StructWriter;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
@@ -171,6 +176,7 @@ public class Parquet {
     private Function<Map<String, String>, Context> createContextFunc = Context::dataContext;
     private ByteBuffer fileEncryptionKey = null;
     private ByteBuffer fileAADPrefix = null;
+    private Timer compressionStallTimer = Timer.NOOP;
 
     private WriteBuilder(OutputFile file) {
       this.file = file;
@@ -279,6 +285,22 @@ public class Parquet {
       return this;
     }
 
+    /**
+     * Sets a timer that records the time a writer waits for pages to be compressed.
+     *
+     * <p>Writers only wait when pages are compressed in parallel, which is enabled by setting
+     * {@link org.apache.iceberg.TableProperties#PARQUET_COMPRESSION_THREADS} to more than 1. The
+     * writer waits when its compression buffer is full and when a row group is flushed.
+     *
+     * @param stallTimer a timer for the time spent waiting on page compression
+     * @return this builder for method chaining
+     */
+    public WriteBuilder compressionStallTimer(Timer stallTimer) {
+      Preconditions.checkArgument(stallTimer != null, "Invalid stall timer: null");
+      this.compressionStallTimer = stallTimer;
+      return this;
+    }
+
     @SuppressWarnings("unchecked")
     private <T> WriteSupport<T> getWriteSupport(MessageType type) {
       if (writeSupport != null) {
@@ -370,6 +392,8 @@ public class Parquet {
       int rowGroupCheckMaxRecordCount = context.rowGroupCheckMaxRecordCount();
       int bloomFilterMaxBytes = context.bloomFilterMaxBytes();
       boolean dictionaryEnabled = context.dictionaryEnabled();
+      int compressionThreads = context.compressionThreads();
+      long compressionBufferBytes = context.compressionBufferBytes();
 
       if (compressionLevel != null) {
         switch (codec) {
@@ -459,7 +483,10 @@ public class Parquet {
             parquetProperties,
             metricsConfig,
             writeMode,
-            fileEncryptionProperties);
+            fileEncryptionProperties,
+            compressionThreads,
+            compressionBufferBytes,
+            compressionStallTimer);
       } else {
         ParquetWriteBuilder<D> parquetWriteBuilder =
             new ParquetWriteBuilder<D>(ParquetIO.file(file))
@@ -504,6 +531,8 @@ public class Parquet {
       private final Map<String, String> columnBloomFilterEnabled;
       private final Map<String, String> columnStatsEnabled;
       private final boolean dictionaryEnabled;
+      private final int compressionThreads;
+      private final long compressionBufferBytes;
 
       private Context(
           int rowGroupSize,
@@ -518,7 +547,9 @@ public class Parquet {
           Map<String, String> columnBloomFilterFpp,
           Map<String, String> columnBloomFilterEnabled,
           Map<String, String> columnStatsEnabled,
-          boolean dictionaryEnabled) {
+          boolean dictionaryEnabled,
+          int compressionThreads,
+          long compressionBufferBytes) {
         this.rowGroupSize = rowGroupSize;
         this.pageSize = pageSize;
         this.pageRowLimit = pageRowLimit;
@@ -532,6 +563,8 @@ public class Parquet {
         this.columnBloomFilterEnabled = columnBloomFilterEnabled;
         this.columnStatsEnabled = columnStatsEnabled;
         this.dictionaryEnabled = dictionaryEnabled;
+        this.compressionThreads = compressionThreads;
+        this.compressionBufferBytes = compressionBufferBytes;
       }
 
       static Context dataContext(Map<String, String> config) {
@@ -598,6 +631,17 @@ public class Parquet {
         boolean dictionaryEnabled =
             PropertyUtil.propertyAsBoolean(config, ParquetOutputFormat.ENABLE_DICTIONARY, true);
 
+        int compressionThreads =
+            PropertyUtil.propertyAsInt(
+                config, PARQUET_COMPRESSION_THREADS, PARQUET_COMPRESSION_THREADS_DEFAULT);
+        Preconditions.checkArgument(compressionThreads > 0, "Compression threads must be > 0");
+
+        long compressionBufferBytes =
+            PropertyUtil.propertyAsLong(
+                config, PARQUET_COMPRESSION_BUFFER_BYTES, PARQUET_COMPRESSION_BUFFER_BYTES_DEFAULT);
+        Preconditions.checkArgument(
+            compressionBufferBytes > 0, "Compression buffer size must be > 0");
+
         return new Context(
             rowGroupSize,
             pageSize,
@@ -611,7 +655,9 @@ public class Parquet {
             columnBloomFilterFpp,
             columnBloomFilterEnabled,
             columnStatsEnabled,
-            dictionaryEnabled);
+            dictionaryEnabled,
+            compressionThreads,
+            compressionBufferBytes);
       }
 
       static Context deleteContext(Map<String, String> config) {
@@ -680,7 +726,9 @@ public class Parquet {
             ImmutableMap.of(),
             ImmutableMap.of(),
             ImmutableMap.of(),
-            dictionaryEnabled);
+            dictionaryEnabled,
+            dataContext.compressionThreads(),
+            dataContext.compressionBufferBytes());
       }
 
       private static CompressionCodecName toCodec(String codecAsString) {
@@ -742,6 +790,14 @@ public class Parquet {
       boolean dictionaryEnabled() {
         return dictionaryEnabled;
       }
+
+      int compressionThreads() {
+        return compressionThreads;
+      }
+
+      long compressionBufferBytes() {
+        return compressionBufferBytes;
+      }
     }
   }
 
@@ -1161,6 +1217,10 @@ public class Parquet {
     private NameMapping nameMapping = null;
     private ByteBuffer fileEncryptionKey = null;
     private ByteBuffer fileAADPrefix = null;
+    private int prefetchRowGroups = 0;
+    private long prefetchMaxBytes = 256L * 1024 * 1024;
+    private Timer prefetchStallTimer = Timer.NOOP;
+    private boolean cacheFooters = SystemConfigs.PARQUET_FOOTER_CACHE_ENABLED.value();
 
     private ReadBuilder(InputFile file) {
       this.file = file;
@@ -1279,6 +1339,67 @@ public class Parquet {
       return this;
     }
 
+    /**
+     * Reads up to the given number of row groups ahead of the row group that is being decoded.
+     *
+     * <p>Row groups are read and decompressed on the shared prefetch worker pool, so that I/O
+     * overlaps with decoding. Only the projected columns of row groups that are not skipped by the
+     * filter are read. The default, 0, reads each row group when it is needed.
+     *
+     * @param numRowGroups the maximum number of row groups to read ahead
+     * @return this builder for method chaining
+     */
+    public ReadBuilder prefetchRowGroups(int numRowGroups) {
+      Preconditions.checkArgument(
+          numRowGroups >= 0, "Invalid number of row groups to prefetch: %s", numRowGroups);
+      this.prefetchRowGroups = numRowGroups;
+      return this;
+    }
+
+    /**
+     * Limits the memory used by a reader that prefetches row groups.
+     *
+     * <p>Row groups are only read ahead while the uncompressed size of the projected columns of the
+     * row groups held by the reader, including the one being decoded, stays within the limit. The
+     * default is 256 MB.
+     *
+     * @param maxBytes the maximum number of bytes held by each reader
+     * @return this builder for method chaining
+     */
+    public ReadBuilder prefetchMemoryLimit(long maxBytes) {
+      Preconditions.checkArgument(maxBytes > 0, "Invalid prefetch memory limit: %s", maxBytes);
+      this.prefetchMaxBytes = maxBytes;
+      return this;
+    }
+
+    /**
+     * Sets a timer that records the time a prefetching reader waits for a row group to be read.
+     *
+     * @param stallTimer a timer for the time spent waiting on prefetched row groups
+     * @return this builder for method chaining
+     */
+    public ReadBuilder prefetchStallTimer(Timer stallTimer) {
+      Preconditions.checkArgument(stallTimer != null, "Invalid stall timer: null");
+      this.prefetchStallTimer = stallTimer;
+      return this;
+    }
+
+    /**
+     * Reuses parsed file footers across readers of the same file.
+     *
+     * <p>When enabled, the footer of each file is read and parsed once and kept in a process-wide
+     * cache, so that tasks reading different splits of a file do not each read and decode it.
+     * Footers of encrypted files are never cached. The default is set by {@link
+     * SystemConfigs#PARQUET_FOOTER_CACHE_ENABLED}.
+     *
+     * @param enabled whether to use the footer cache
+     * @return this builder for method chaining
+     */
+    public ReadBuilder cacheFooters(boolean enabled) {
+      this.cacheFooters = enabled;
+      return this;
+    }
+
     @Override
     public ReadBuilder setRootType(Class<? extends StructLike> rootClass) {
       throw new UnsupportedOperationException("Custom types are not yet supported");
@@ -1338,6 +1459,8 @@ public class Parquet {
 
         if (fileDecryptionProperties != null) {
           optionsBuilder.withDecryption(fileDecryptionProperties);
+        } else if (cacheFooters) {
+          optionsBuilder.set(ParquetFooterCache.ENABLED_PROPERTY, "true");
         }
 
         ParquetReadOptions options = optionsBuilder.build();
@@ -1361,14 +1484,27 @@ public class Parquet {
               filter,
               reuseContainers,
               caseSensitive,
-              maxRecordsPerBatch);
+              maxRecordsPerBatch,
+              prefetchRowGroups,
+              prefetchMaxBytes,
+              prefetchStallTimer);
         } else {
           Function<MessageType, ParquetValueReader<?>> readBuilder =
               readerFuncWithSchema != null
                   ? fileType -> readerFuncWithSchema.apply(schema, fileType)
                   : readerFunc;
           return new org.apache.iceberg.parquet.ParquetReader<>(
-              file, schema, options, readBuilder, mapping, filter, reuseContainers, caseSensitive);
+              file,
+              schema,
+              options,
+              readBuilder,
+              mapping,
+              filter,
+              reuseContainers,
+              caseSensitive,
+              prefetchRowGroups,
+              prefetchMaxBytes,
+              prefetchStallTimer);
         }
       }
 
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.iceberg.SystemConfigs;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.util.Pair;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.io.SeekableInputStream;
+
+/**
+ * A process-wide cache of parsed Parquet footers, shared by readers of different splits of a file.
+ *
+ * <p>Footers are cached by file location and length. Iceberg never modifies data files in place,
+ * so a file with the same location and length has the same footer. Footers are read without a
+ * range filter, and each reader selects the row groups of its split from the cached footer using
+ * the midpoint rule that Parquet applies when it reads a footer for a range.
+ *
+ * <p>The cache is bounded by the serialized size of the footers it holds, which is read from the
+ * end of each file and grows with the number of column chunks and the size of their statistics,
+ * set by {@link SystemConfigs#PARQUET_FOOTER_CACHE_MAX_BYTES}. Footers of encrypted files are
+ * never cached.
+ */
+class ParquetFooterCache {
+  /** Read option that enables the footer cache for a read. */
+  static final String ENABLED_PROPERTY = "iceberg.read.parquet.footer-cache.enabled";
+
+  // a file ends with the 4-byte little endian length of the footer and the magic bytes
+  private static final int FOOTER_TAIL_BYTES = 8;
+  private static final int FOOTER_LENGTH_BYTES = 4;
+  private static final ParquetMetadataConverter CONVERTER = new ParquetMetadataConverter();
+
+  private static final Cache<Pair<String, Long>, CachedFooter> FOOTERS =
+      Caffeine.newBuilder()
+          .maximumWeight(SystemConfigs.PARQUET_FOOTER_CACHE_MAX_BYTES.value())
+          .weigher((Pair<String, Long> key, CachedFooter footer) -> footer.weight)
+          .build();
+
+  private ParquetFooterCache() {}
+
+  /** Returns whether a read with the given options can use the footer cache. */
+  static boolean canCache(ParquetReadOptions options) {
+    return Boolean.parseBoolean(options.getProperty(ENABLED_PROPERTY))
+        && options.getDecryptionProperties() == null
+        && (options.getMetadataFilter() == ParquetMetadataConverter.NO_FILTER
+            || options.getMetadataFilter() instanceof ParquetMetadataConverter.RangeMetadataFilter);
+  }
+
+  /** Opens a file reader that uses the cached footer of the file, reading it if necessary. */
+  static ParquetFileReader open(InputFile file, ParquetReadOptions options) throws IOException {
+    org.apache.parquet.io.InputFile parquetFile = ParquetIO.file(file);
+    CachedFooter cached;
+    try {
+      cached =
+          FOOTERS.get(
+              Pair.of(file.location(), parquetFile.getLength()),
+              key -> readFooter(file.location(), parquetFile));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+
+    SeekableInputStream stream = parquetFile.newStream();
+    try {
+      return new ParquetFileReader(parquetFile, select(cached.footer, options), options, stream);
+    } catch (IOException | RuntimeException e) {
+      stream.close();
+      throw e;
+    }
+  }
+
+  @VisibleForTesting
+  static void invalidateAll() {
+    FOOTERS.invalidateAll();
+  }
+
+  @VisibleForTesting
+  static long size() {
+    return FOOTERS.estimatedSize();
+  }
+
+  @VisibleForTesting
+  static long weightedSize() {
+    FOOTERS.cleanUp();
+    return FOOTERS.policy().eviction().orElseThrow().weightedSize().orElseThrow();
+  }
+
+  /** Reads the footer of a file, using one stream for the footer length and the footer. */
+  private static CachedFooter readFooter(String location, org.apache.parquet.io.InputFile file) {
+    try (SeekableInputStream stream = file.newStream()) {
+      long fileLength = file.getLength();
+      if (fileLength < ParquetFileWriter.MAGIC.length + FOOTER_TAIL_BYTES) {
+        throw new IOException(String.format("Not a Parquet file (too short): %s", location));
+      }
+
+      byte[] tail = new byte[FOOTER_TAIL_BYTES];
+      stream.seek(fileLength - FOOTER_TAIL_BYTES);
+      stream.readFully(tail);
+
+      byte[] magic = Arrays.copyOfRange(tail, FOOTER_LENGTH_BYTES, FOOTER_TAIL_BYTES);
+      if (!Arrays.equals(ParquetFileWriter.MAGIC, magic)) {
+        throw new IOException(String.format("Not a Parquet file (invalid magic): %s", location));
+      }
+
+      int footerLength = ByteBuffer.wrap(tail).order(ByteOrder.LITTLE_ENDIAN).getInt();
+      long footerStart = fileLength - FOOTER_TAIL_BYTES - footerLength;
+      if (footerLength < 0 || footerStart < ParquetFileWriter.MAGIC.length) {
+        throw new IOException(
+            String.format("Invalid Parquet footer length %s: %s", footerLength, location));
+      }
+
+      byte[] footer = new byte[footerLength];
+      stream.seek(footerStart);
+      stream.readFully(footer);
+
+      return new CachedFooter(
+          CONVERTER.readParquetMetadata(
+              new ByteArrayInputStream(footer), ParquetMetadataConverter.NO_FILTER),
+          footerLength);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Returns the footer with only the row groups selected by the options' range, if any. */
+  private static ParquetMetadata select(ParquetMetadata footer, ParquetReadOptions options) {
+    if (!(options.getMetadataFilter() instanceof ParquetMetadataConverter.RangeMetadataFilter)) {
+      return footer;
+    }
+
+    ParquetMetadataConverter.RangeMetadataFilter range =
+        (ParquetMetadataConverter.RangeMetadataFilter) options.getMetadataFilter();
+    List<BlockMetaData> rowGroups =
+        footer.getBlocks().stream()
+            .filter(rowGroup -> range.contains(midpoint(rowGroup)))
+            .collect(Collectors.toList());
+
+    return new ParquetMetadata(footer.getFileMetaData(), rowGroups);
+  }
+
+  private static long midpoint(BlockMetaData rowGroup) {
+    return rowGroup.getStartingPos() + rowGroup.getCompressedSize() / 2;
+  }
+
+  private static class CachedFooter {
+    private final ParquetMetadata footer;
+    private final int weight;
+
+    private CachedFooter(ParquetMetadata footer, int weight) {
+      this.footer = footer;
+      this.weight = weight;
+    }
+  }
+}
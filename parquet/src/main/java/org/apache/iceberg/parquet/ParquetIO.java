@@ -21,12 +21,14 @@ package org.apache.iceberg.parquet;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.hadoop.HadoopInputFile;
 import org.apache.iceberg.hadoop.HadoopOutputFile;
+import org.apache.iceberg.io.ByteBufferReadable;
 import org.apache.iceberg.io.DelegatingInputStream;
 import org.apache.iceberg.io.DelegatingOutputStream;
 import org.apache.parquet.hadoop.util.HadoopStreams;
@@ -121,6 +123,24 @@ class ParquetIO {
     public void seek(long newPos) throws IOException {
       delegate.seek(newPos);
     }
+
+    @Override
+    public int read(ByteBuffer buf) throws IOException {
+      if (delegate instanceof ByteBufferReadable) {
+        return ((ByteBufferReadable) delegate).read(buf);
+      }
+
+      return super.read(buf);
+    }
+
+    @Override
+    public void readFully(ByteBuffer buf) throws IOException {
+      if (delegate instanceof ByteBufferReadable) {
+        ((ByteBufferReadable) delegate).readFully(buf);
+      } else {
+        super.readFully(buf);
+      }
+    }
   }
 
   private static class ParquetOutputStreamAdapter extends DelegatingPositionOutputStream {
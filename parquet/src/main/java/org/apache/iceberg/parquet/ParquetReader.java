@@ -29,6 +29,8 @@ import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMapping;
+import org.apache.iceberg.metrics.Timer;
+import org.apache.iceberg.util.ThreadPools;
 import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.ParquetFileReader;
@@ -46,6 +48,9 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
   private final boolean reuseContainers;
   private final boolean caseSensitive;
   private final NameMapping nameMapping;
+  private final int prefetchDepth;
+  private final long prefetchMaxBytes;
+  private final Timer prefetchStallTimer;
 
   public ParquetReader(
       InputFile input,
@@ -56,6 +61,38 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
       Expression filter,
       boolean reuseContainers,
       boolean caseSensitive) {
+    this(
+        input,
+        expectedSchema,
+        options,
+        readerFunc,
+        nameMapping,
+        filter,
+        reuseContainers,
+        caseSensitive,
+        0,
+        0L,
+        Timer.NOOP);
+  }
+
+  /**
+   * Creates a reader that reads up to {@code prefetchDepth} row groups ahead of the row group that
+   * is being decoded, using the shared prefetch worker pool.
+   *
+   * @see ThreadPools#getPrefetchWorkerPool()
+   */
+  public ParquetReader(
+      InputFile input,
+      Schema expectedSchema,
+      ParquetReadOptions options,
+      Function<MessageType, ParquetValueReader<?>> readerFunc,
+      NameMapping nameMapping,
+      Expression filter,
+      boolean reuseContainers,
+      boolean caseSensitive,
+      int prefetchDepth,
+      long prefetchMaxBytes,
+      Timer prefetchStallTimer) {
     this.input = input;
     this.expectedSchema = expectedSchema;
     this.options = options;
@@ -65,6 +102,9 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
     this.reuseContainers = reuseContainers;
     this.caseSensitive = caseSensitive;
     this.nameMapping = nameMapping;
+    this.prefetchDepth = prefetchDepth;
+    this.prefetchMaxBytes = prefetchMaxBytes;
+    this.prefetchStallTimer = prefetchStallTimer;
   }
 
   private ReadConf<T> conf = null;
@@ -91,7 +131,8 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
 
   @Override
   public CloseableIterator<T> iterator() {
-    FileIterator<T> iter = new FileIterator<>(init());
+    FileIterator<T> iter =
+        new FileIterator<>(init(), prefetchDepth, prefetchMaxBytes, prefetchStallTimer);
     addCloseable(iter);
     return iter;
   }
@@ -104,18 +145,29 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
     private final ParquetValueReader<T> model;
     private final long totalValues;
     private final boolean reuseContainers;
+    private final RowGroupPrefetcher prefetcher;
 
     private int nextRowGroup = 0;
     private long nextRowGroupStart = 0;
     private long valuesRead = 0;
     private T last = null;
 
-    FileIterator(ReadConf<T> conf) {
+    FileIterator(ReadConf<T> conf, int prefetchDepth, long prefetchMaxBytes, Timer stallTimer) {
       this.reader = conf.reader();
       this.shouldSkip = conf.shouldSkip();
       this.model = conf.model();
       this.totalValues = conf.totalValues();
       this.reuseContainers = conf.reuseContainers();
+      this.prefetcher =
+          prefetchDepth > 0
+              ? new RowGroupPrefetcher(
+                  reader,
+                  conf,
+                  prefetchDepth,
+                  prefetchMaxBytes,
+                  stallTimer,
+                  ThreadPools.getPrefetchWorkerPool())
+              : null;
     }
 
     @Override
@@ -153,15 +205,13 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
     private void advance() {
       while (shouldSkip[nextRowGroup]) {
         nextRowGroup += 1;
-        reader.skipNextRowGroup();
+        if (prefetcher == null) {
+          // the prefetcher skips row groups itself
+          reader.skipNextRowGroup();
+        }
       }
 
-      PageReadStore pages;
-      try {
-        pages = reader.readNextRowGroup();
-      } catch (IOException e) {
-        throw new RuntimeIOException(e);
-      }
+      PageReadStore pages = prefetcher != null ? prefetcher.next() : readNextRowGroup();
 
       nextRowGroupStart += pages.getRowCount();
       nextRowGroup += 1;
@@ -169,8 +219,20 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
       model.setPageSource(pages);
     }
 
+    private PageReadStore readNextRowGroup() {
+      try {
+        return reader.readNextRowGroup();
+      } catch (IOException e) {
+        throw new RuntimeIOException(e);
+      }
+    }
+
     @Override
     public void close() throws IOException {
+      if (prefetcher != null) {
+        prefetcher.close();
+      }
+
       reader.close();
     }
   }
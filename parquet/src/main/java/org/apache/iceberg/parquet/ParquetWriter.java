@@ -30,8 +30,10 @@ import org.apache.iceberg.MetricsConfig;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.metrics.Timer;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.util.ThreadPools;
 import org.apache.parquet.column.ColumnWriteStore;
 import org.apache.parquet.column.ParquetProperties;
 import org.apache.parquet.crypto.FileEncryptionProperties;
@@ -59,6 +61,7 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
   private final OutputFile output;
   private final Configuration conf;
   private final InternalFileEncryptor fileEncryptor;
+  private final ParallelPageWriteStore parallelPages;
 
   private ColumnChunkPageWriteStore pageStore = null;
   private ColumnWriteStore writeStore;
@@ -84,7 +87,10 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
       ParquetProperties properties,
       MetricsConfig metricsConfig,
       ParquetFileWriter.Mode writeMode,
-      FileEncryptionProperties encryptionProperties) {
+      FileEncryptionProperties encryptionProperties,
+      int compressionThreads,
+      long compressionBufferBytes,
+      Timer compressionStallTimer) {
     this.schema = schema;
     this.targetRowGroupSize = rowGroupSize;
     this.props = properties;
@@ -102,6 +108,18 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     this.rowGroupOrdinal = 0;
     this.fileEncryptor =
         (encryptionProperties == null ? null : new InternalFileEncryptor(encryptionProperties));
+    this.parallelPages =
+        compressionThreads > 1
+            ? new ParallelPageWriteStore(
+                compressor,
+                () ->
+                    new ParquetCodecFactory(conf, props.getPageSizeThreshold())
+                        .getCompressor(codec),
+                compressionThreads,
+                compressionBufferBytes,
+                compressionStallTimer,
+                ThreadPools.getCompressionWorkerPool())
+            : null;
 
     startRowGroup();
   }
@@ -214,6 +232,9 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
         ensureWriterInitialized();
         writer.startBlock(recordCount);
         writeStore.flush();
+        if (parallelPages != null) {
+          parallelPages.drain();
+        }
         pageStore.flushToFileWriter(writer);
         writer.endBlock();
         if (!finished) {
@@ -237,7 +258,7 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
 
     this.pageStore =
         new ColumnChunkPageWriteStore(
-            compressor,
+            parallelPages != null ? parallelPages.pageCompressor() : compressor,
             parquetSchema,
             props.getAllocator(),
             this.columnIndexTruncateLength,
@@ -246,7 +267,12 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
             rowGroupOrdinal);
     this.rowGroupOrdinal++;
 
-    this.writeStore = props.newColumnWriteStore(parquetSchema, pageStore, pageStore);
+    if (parallelPages != null) {
+      parallelPages.startRowGroup(pageStore);
+      this.writeStore = props.newColumnWriteStore(parquetSchema, parallelPages, parallelPages);
+    } else {
+      this.writeStore = props.newColumnWriteStore(parquetSchema, pageStore, pageStore);
+    }
 
     model.setColumnStore(writeStore);
   }
@@ -260,6 +286,9 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
       if (writer != null) {
         writer.end(metadata);
       }
+      if (parallelPages != null) {
+        parallelPages.close();
+      }
       if (compressor != null) {
         compressor.release();
       }
@@ -32,6 +32,7 @@ import org.apache.iceberg.mapping.NameMapping;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
@@ -185,23 +186,49 @@ class ReadConf<T> {
     return columnChunkMetaDataForRowGroups;
   }
 
+  List<ColumnDescriptor> projectedColumns() {
+    return projection.getColumns();
+  }
+
+  /** Returns the uncompressed size of the projected column chunks in each row group. */
+  long[] projectedRowGroupSizes() {
+    Set<ColumnPath> projectedColumns = projectedColumnPaths();
+    long[] sizes = new long[rowGroups.size()];
+    for (int i = 0; i < sizes.length; i += 1) {
+      for (ColumnChunkMetaData column : rowGroups.get(i).getColumns()) {
+        if (projectedColumns.contains(column.getPath())) {
+          sizes[i] += column.getTotalUncompressedSize();
+        }
+      }
+    }
+
+    return sizes;
+  }
+
   ReadConf<T> copy() {
     return new ReadConf<>(this);
   }
 
   private static ParquetFileReader newReader(InputFile file, ParquetReadOptions options) {
     try {
+      if (ParquetFooterCache.canCache(options)) {
+        return ParquetFooterCache.open(file, options);
+      }
+
       return ParquetFileReader.open(ParquetIO.file(file), options);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to open Parquet file: %s", file.location());
     }
   }
 
+  private Set<ColumnPath> projectedColumnPaths() {
+    return projection.getColumns().stream()
+        .map(columnDescriptor -> ColumnPath.get(columnDescriptor.getPath()))
+        .collect(Collectors.toSet());
+  }
+
   private List<Map<ColumnPath, ColumnChunkMetaData>> getColumnChunkMetadataForRowGroups() {
-    Set<ColumnPath> projectedColumns =
-        projection.getColumns().stream()
-            .map(columnDescriptor -> ColumnPath.get(columnDescriptor.getPath()))
-            .collect(Collectors.toSet());
+    Set<ColumnPath> projectedColumns = projectedColumnPaths();
     ImmutableList.Builder<Map<ColumnPath, ColumnChunkMetaData>> listBuilder =
         ImmutableList.builder();
     for (int i = 0; i < rowGroups.size(); i++) {
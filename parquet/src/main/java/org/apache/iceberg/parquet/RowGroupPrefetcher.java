@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.metrics.Timer;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.Pair;
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.page.DataPage;
+import org.apache.parquet.column.page.DataPageV1;
+import org.apache.parquet.column.page.DataPageV2;
+import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.column.page.PageReader;
+import org.apache.parquet.hadoop.ParquetFileReader;
+
+/**
+ * Reads row groups ahead of the row group that is being decoded.
+ *
+ * <p>Row groups are read in file order by tasks on an executor. Each task reads a row group and
+ * decompresses the pages of the projected columns into buffers owned by the returned {@link
+ * PageReadStore}, so decoding only waits for I/O or decompression when it catches up with the
+ * prefetch. Tasks are chained so that only one of them uses the {@link ParquetFileReader} at a
+ * time.
+ *
+ * <p>At most {@code depth} row groups are read ahead, and row groups are only read ahead while the
+ * uncompressed size of the row groups held by the prefetcher, including the one being decoded,
+ * stays within {@code maxBytes}. The next row group is always read when it is needed, even if it
+ * alone is larger than the limit. Time spent waiting for a row group is recorded by the stall
+ * timer.
+ */
+class RowGroupPrefetcher implements Closeable {
+  private final ParquetFileReader reader;
+  private final List<ColumnDescriptor> columns;
+  private final int[] rowGroups;
+  private final long[] rowGroupSizes;
+  private final int depth;
+  private final long maxBytes;
+  private final Timer stallTimer;
+  private final ExecutorService executor;
+  private final Deque<Pair<Long, CompletableFuture<PageReadStore>>> pending =
+      Lists.newLinkedList();
+
+  private CompletableFuture<PageReadStore> lastTask = CompletableFuture.completedFuture(null);
+  private int nextToRead = 0;
+  private long pendingBytes = 0L;
+  private long currentBytes = 0L;
+  private volatile boolean closed = false;
+
+  // only used by prefetch tasks, which never run concurrently
+  private int readerPosition = 0;
+
+  RowGroupPrefetcher(
+      ParquetFileReader reader,
+      ReadConf<?> conf,
+      int depth,
+      long maxBytes,
+      Timer stallTimer,
+      ExecutorService executor) {
+    Preconditions.checkArgument(depth > 0, "Invalid prefetch depth: %s (must be > 0)", depth);
+    Preconditions.checkArgument(
+        maxBytes > 0, "Invalid prefetch memory limit: %s (must be > 0)", maxBytes);
+    this.reader = reader;
+    this.columns = conf.projectedColumns();
+    this.rowGroupSizes = conf.projectedRowGroupSizes();
+    this.depth = depth;
+    this.maxBytes = maxBytes;
+    this.stallTimer = stallTimer;
+    this.executor = executor;
+
+    boolean[] shouldSkip = conf.shouldSkip();
+    List<Integer> toRead = Lists.newArrayList();
+    for (int i = 0; i < shouldSkip.length; i += 1) {
+      if (!shouldSkip[i]) {
+        toRead.add(i);
+      }
+    }
+
+    this.rowGroups = toRead.stream().mapToInt(Integer::intValue).toArray();
+    prefetch();
+  }
+
+  /**
+   * Returns the pages of the next row group that is not skipped.
+   *
+   * <p>The pages of the row group returned by the previous call are released by this call.
+   */
+  PageReadStore next() {
+    Preconditions.checkState(!closed, "Cannot read row groups: prefetcher is closed");
+    // the row group returned by the last call is no longer decoded
+    this.currentBytes = 0L;
+    if (pending.isEmpty()) {
+      Preconditions.checkState(nextToRead < rowGroups.length, "No more row groups to read");
+      submitNext();
+    }
+
+    Pair<Long, CompletableFuture<PageReadStore>> next = pending.removeFirst();
+    this.pendingBytes -= next.first();
+    this.currentBytes = next.first();
+
+    // keep reading ahead while waiting for the next row group
+    prefetch();
+
+    return await(next.second());
+  }
+
+  private void prefetch() {
+    while (nextToRead < rowGroups.length && pending.size() < depth) {
+      long size = rowGroupSizes[rowGroups[nextToRead]];
+      if (pendingBytes + currentBytes + size > maxBytes) {
+        break;
+      }
+
+      submitNext();
+    }
+  }
+
+  private void submitNext() {
+    int rowGroup = rowGroups[nextToRead];
+    long size = rowGroupSizes[rowGroup];
+    this.nextToRead += 1;
+
+    CompletableFuture<PageReadStore> task =
+        lastTask.thenApplyAsync(ignored -> read(rowGroup), executor);
+    this.lastTask = task;
+    this.pendingBytes += size;
+    pending.addLast(Pair.of(size, task));
+  }
+
+  private PageReadStore read(int rowGroup) {
+    if (closed) {
+      return null;
+    }
+
+    try {
+      while (readerPosition < rowGroup) {
+        reader.skipNextRowGroup();
+        this.readerPosition += 1;
+      }
+
+      PageReadStore pages = reader.readNextRowGroup();
+      this.readerPosition += 1;
+
+      return DecompressedPageReadStore.copyOf(pages, columns);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e);
+    }
+  }
+
+  private PageReadStore await(CompletableFuture<PageReadStore> task) {
+    if (task.isDone()) {
+      return join(task);
+    }
+
+    try (Timer.Timed ignored = stallTimer.start()) {
+      return join(task);
+    }
+  }
+
+  private static PageReadStore join(CompletableFuture<PageReadStore> task) {
+    try {
+      return task.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      } else if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+
+      throw e;
+    }
+  }
+
+  /**
+   * Stops reading ahead and waits for the task that is using the file reader, if any.
+   *
+   * <p>This does not close the file reader.
+   */
+  @Override
+  public void close() {
+    this.closed = true;
+    pending.clear();
+    // tasks are chained, so the last task completes after all other tasks
+    lastTask.handle((pages, failure) -> null).join();
+  }
+
+  /** A {@link PageReadStore} that holds decompressed copies of a row group's pages. */
+  private static class DecompressedPageReadStore implements PageReadStore {
+    private final PageReadStore delegate;
+    private final Map<ColumnDescriptor, PageReader> pageReaders;
+
+    private DecompressedPageReadStore(
+        PageReadStore delegate, Map<ColumnDescriptor, PageReader> pageReaders) {
+      this.delegate = delegate;
+      this.pageReaders = pageReaders;
+    }
+
+    static PageReadStore copyOf(PageReadStore pages, List<ColumnDescriptor> columns)
+        throws IOException {
+      Map<ColumnDescriptor, PageReader> pageReaders = Maps.newHashMap();
+      for (ColumnDescriptor column : columns) {
+        pageReaders.put(column, DecompressedPageReader.copyOf(pages.getPageReader(column)));
+      }
+
+      return new DecompressedPageReadStore(pages, pageReaders);
+    }
+
+    @Override
+    public PageReader getPageReader(ColumnDescriptor descriptor) {
+      PageReader pageReader = pageReaders.get(descriptor);
+      return pageReader != null ? pageReader : delegate.getPageReader(descriptor);
+    }
+
+    @Override
+    public long getRowCount() {
+      return delegate.getRowCount();
+    }
+
+    @Override
+    public Optional<Long> getRowIndexOffset() {
+      return delegate.getRowIndexOffset();
+    }
+
+    @Override
+    public Optional<PrimitiveIterator.OfLong> getRowIndexes() {
+      return delegate.getRowIndexes();
+    }
+  }
+
+  /** A {@link PageReader} that returns pages that were already read and decompressed. */
+  private static class DecompressedPageReader implements PageReader {
+    private final DictionaryPage dictionaryPage;
+    private final Deque<DataPage> dataPages;
+    private final long totalValueCount;
+
+    private DecompressedPageReader(
+        DictionaryPage dictionaryPage, Deque<DataPage> dataPages, long totalValueCount) {
+      this.dictionaryPage = dictionaryPage;
+      this.dataPages = dataPages;
+      this.totalValueCount = totalValueCount;
+    }
+
+    static PageReader copyOf(PageReader pageReader) throws IOException {
+      DictionaryPage dictionaryPage = pageReader.readDictionaryPage();
+      Deque<DataPage> dataPages = Lists.newLinkedList();
+      for (DataPage page = pageReader.readPage(); page != null; page = pageReader.readPage()) {
+        dataPages.addLast(copy(page));
+      }
+
+      return new DecompressedPageReader(
+          dictionaryPage != null ? dictionaryPage.copy() : null,
+          dataPages,
+          pageReader.getTotalValueCount());
+    }
+
+    // pages returned by the file reader may share buffers that are reused by later reads
+    private static DataPage copy(DataPage page) throws IOException {
+      if (page instanceof DataPageV1) {
+        DataPageV1 v1 = (DataPageV1) page;
+        BytesInput bytes = BytesInput.copy(v1.getBytes());
+        if (v1.getFirstRowIndex().isPresent() && v1.getIndexRowCount().isPresent()) {
+          return new DataPageV1(
+              bytes,
+              v1.getValueCount(),
+              v1.getUncompressedSize(),
+              v1.getFirstRowIndex().get(),
+              v1.getIndexRowCount().get(),
+              v1.getStatistics(),
+              v1.getRlEncoding(),
+              v1.getDlEncoding(),
+              v1.getValueEncoding());
+        }
+
+        return new DataPageV1(
+            bytes,
+            v1.getValueCount(),
+            v1.getUncompressedSize(),
+            v1.getStatistics(),
+            v1.getRlEncoding(),
+            v1.getDlEncoding(),
+            v1.getValueEncoding());
+      }
+
+      DataPageV2 v2 = (DataPageV2) page;
+      BytesInput repetitionLevels = BytesInput.copy(v2.getRepetitionLevels());
+      BytesInput definitionLevels = BytesInput.copy(v2.getDefinitionLevels());
+      BytesInput data = BytesInput.copy(v2.getData());
+      if (v2.getFirstRowIndex().isPresent()) {
+        return DataPageV2.uncompressed(
+            v2.getRowCount(),
+            v2.getNullCount(),
+            v2.getValueCount(),
+            v2.getFirstRowIndex().get(),
+            repetitionLevels,
+            definitionLevels,
+            v2.getDataEncoding(),
+            data,
+            v2.getStatistics());
+      }
+
+      return DataPageV2.uncompressed(
+          v2.getRowCount(),
+          v2.getNullCount(),
+          v2.getValueCount(),
+          repetitionLevels,
+          definitionLevels,
+          v2.getDataEncoding(),
+          data,
+          v2.getStatistics());
+    }
+
+    @Override
+    public DictionaryPage readDictionaryPage() {
+      return dictionaryPage;
+    }
+
+    @Override
+    public long getTotalValueCount() {
+      return totalValueCount;
+    }
+
+    @Override
+    public DataPage readPage() {
+      return dataPages.pollFirst();
+    }
+  }
+}
@@ -32,6 +32,8 @@ import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMapping;
+import org.apache.iceberg.metrics.Timer;
+import org.apache.iceberg.util.ThreadPools;
 import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.ParquetFileReader;
@@ -49,6 +51,9 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
   private final boolean caseSensitive;
   private final int batchSize;
   private final NameMapping nameMapping;
+  private final int prefetchDepth;
+  private final long prefetchMaxBytes;
+  private final Timer prefetchStallTimer;
 
   public VectorizedParquetReader(
       InputFile input,
@@ -60,6 +65,40 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
       boolean reuseContainers,
       boolean caseSensitive,
       int maxRecordsPerBatch) {
+    this(
+        input,
+        expectedSchema,
+        options,
+        readerFunc,
+        nameMapping,
+        filter,
+        reuseContainers,
+        caseSensitive,
+        maxRecordsPerBatch,
+        0,
+        0L,
+        Timer.NOOP);
+  }
+
+  /**
+   * Creates a reader that reads up to {@code prefetchDepth} row groups ahead of the row group that
+   * is being decoded, using the shared prefetch worker pool.
+   *
+   * @see ThreadPools#getPrefetchWorkerPool()
+   */
+  public VectorizedParquetReader(
+      InputFile input,
+      Schema expectedSchema,
+      ParquetReadOptions options,
+      Function<MessageType, VectorizedReader<?>> readerFunc,
+      NameMapping nameMapping,
+      Expression filter,
+      boolean reuseContainers,
+      boolean caseSensitive,
+      int maxRecordsPerBatch,
+      int prefetchDepth,
+      long prefetchMaxBytes,
+      Timer prefetchStallTimer) {
     this.input = input;
     this.expectedSchema = expectedSchema;
     this.options = options;
@@ -70,6 +109,9 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
     this.caseSensitive = caseSensitive;
     this.batchSize = maxRecordsPerBatch;
     this.nameMapping = nameMapping;
+    this.prefetchDepth = prefetchDepth;
+    this.prefetchMaxBytes = prefetchMaxBytes;
+    this.prefetchStallTimer = prefetchStallTimer;
   }
 
   private ReadConf conf = null;
@@ -96,7 +138,8 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
 
   @Override
   public CloseableIterator<T> iterator() {
-    FileIterator<T> iter = new FileIterator<>(init());
+    FileIterator<T> iter =
+        new FileIterator<>(init(), prefetchDepth, prefetchMaxBytes, prefetchStallTimer);
     addCloseable(iter);
     return iter;
   }
@@ -109,12 +152,13 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
     private final int batchSize;
     private final List<Map<ColumnPath, ColumnChunkMetaData>> columnChunkMetadata;
     private final boolean reuseContainers;
+    private final RowGroupPrefetcher prefetcher;
     private int nextRowGroup = 0;
     private long nextRowGroupStart = 0;
     private long valuesRead = 0;
     private T last = null;
 
-    FileIterator(ReadConf conf) {
+    FileIterator(ReadConf conf, int prefetchDepth, long prefetchMaxBytes, Timer stallTimer) {
       this.reader = conf.reader();
       this.shouldSkip = conf.shouldSkip();
       this.totalValues = conf.totalValues();
@@ -123,6 +167,16 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
       this.batchSize = conf.batchSize();
       this.model.setBatchSize(this.batchSize);
       this.columnChunkMetadata = conf.columnChunkMetadataForRowGroups();
+      this.prefetcher =
+          prefetchDepth > 0
+              ? new RowGroupPrefetcher(
+                  reader,
+                  conf,
+                  prefetchDepth,
+                  prefetchMaxBytes,
+                  stallTimer,
+                  ThreadPools.getPrefetchWorkerPool())
+              : null;
     }
 
     @Override
@@ -154,23 +208,33 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
     private void advance() {
       while (shouldSkip[nextRowGroup]) {
         nextRowGroup += 1;
-        reader.skipNextRowGroup();
-      }
-      PageReadStore pages;
-      try {
-        pages = reader.readNextRowGroup();
-      } catch (IOException e) {
-        throw new RuntimeIOException(e);
+        if (prefetcher == null) {
+          // the prefetcher skips row groups itself
+          reader.skipNextRowGroup();
+        }
       }
+      PageReadStore pages = prefetcher != null ? prefetcher.next() : readNextRowGroup();
 
       model.setRowGroupInfo(pages, columnChunkMetadata.get(nextRowGroup));
       nextRowGroupStart += pages.getRowCount();
       nextRowGroup += 1;
     }
 
+    private PageReadStore readNextRowGroup() {
+      try {
+        return reader.readNextRowGroup();
+      } catch (IOException e) {
+        throw new RuntimeIOException(e);
+      }
+    }
+
     @Override
     public void close() throws IOException {
       model.close();
+      if (prefetcher != null) {
+        prefetcher.close();
+      }
+
       reader.close();
     }
   }
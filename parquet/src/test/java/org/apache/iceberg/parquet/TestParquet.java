@@ -21,6 +21,10 @@ package org.apache.iceberg.parquet;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.iceberg.Files.localInput;
 import static org.apache.iceberg.TableProperties.PARQUET_COLUMN_STATS_ENABLED_PREFIX;
+import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION;
+import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_BUFFER_BYTES;
+import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_THREADS;
+import static org.apache.iceberg.TableProperties.PARQUET_PAGE_ROW_LIMIT;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES;
@@ -29,13 +33,16 @@ import static org.apache.iceberg.parquet.ParquetWritingTestUtils.write;
 import static org.apache.iceberg.relocated.com.google.common.collect.Iterables.getOnlyElement;
 import static org.apache.iceberg.types.Types.NestedField.optional;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -45,7 +52,18 @@ import org.apache.iceberg.Metrics;
 import org.apache.iceberg.MetricsConfig;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetReaders;
+import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.metrics.DefaultTimer;
+import org.apache.iceberg.metrics.Timer;
 import org.apache.iceberg.relocated.com.google.common.base.Strings;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
@@ -54,11 +72,13 @@ import org.apache.iceberg.types.Types;
 import org.apache.iceberg.types.Types.IntegerType;
 import org.apache.iceberg.util.Pair;
 import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.column.ParquetProperties.WriterVersion;
 import org.apache.parquet.column.statistics.Statistics;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.apache.parquet.schema.MessageType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -265,6 +285,225 @@ public class TestParquet {
     }
   }
 
+  @Test
+  public void testPrefetchRowGroups() throws IOException {
+    File parquetFile =
+        generateFile(ParquetAvroWriter::buildWriter, 100, 4 * Integer.BYTES, 1, 2).first();
+    int rowGroupCount;
+    try (ParquetFileReader reader =
+        ParquetFileReader.open(ParquetIO.file(localInput(parquetFile)))) {
+      rowGroupCount = reader.getRowGroups().size();
+    }
+
+    assertThat(rowGroupCount).isGreaterThan(2);
+
+    List<Integer> expected = readInts(parquetFile, Expressions.alwaysTrue(), 0, Timer.NOOP);
+    assertThat(expected).hasSize(100);
+
+    Timer stallTimer = new DefaultTimer(TimeUnit.NANOSECONDS);
+    assertThat(readInts(parquetFile, Expressions.alwaysTrue(), 1, stallTimer)).isEqualTo(expected);
+    assertThat(readInts(parquetFile, Expressions.alwaysTrue(), 3, stallTimer)).isEqualTo(expected);
+    // a stall is only recorded when a row group was not read ahead in time
+    assertThat(stallTimer.count()).isLessThanOrEqualTo(2L * rowGroupCount);
+
+    // skipped row groups are not read ahead
+    Expression filter = Expressions.greaterThan("intCol", 50);
+    List<Integer> expectedFiltered = readInts(parquetFile, filter, 0, Timer.NOOP);
+    assertThat(expectedFiltered).hasSizeLessThan(100).contains(100).doesNotContain(1);
+    assertThat(readInts(parquetFile, filter, 3, Timer.NOOP)).isEqualTo(expectedFiltered);
+
+    // closing a reader that is reading ahead waits for the prefetch
+    try (CloseableIterable<Record> reader = prefetchingReader(parquetFile, 3, 1024)) {
+      CloseableIterator<Record> records = reader.iterator();
+      assertThat(records.next().getField("intCol")).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void testPrefetchRowGroupsWithMemoryLimit() throws IOException {
+    File parquetFile =
+        generateFile(ParquetAvroWriter::buildWriter, 100, 4 * Integer.BYTES, 1, 2).first();
+
+    // the next row group is always read, even when it is larger than the limit
+    List<Integer> values = Lists.newArrayList();
+    try (CloseableIterable<Record> reader = prefetchingReader(parquetFile, 3, 1)) {
+      reader.forEach(record -> values.add((Integer) record.getField("intCol")));
+    }
+
+    assertThat(values).isEqualTo(readInts(parquetFile, Expressions.alwaysTrue(), 0, Timer.NOOP));
+  }
+
+  @Test
+  public void testParallelPageCompression() throws IOException {
+    Schema schema =
+        new Schema(
+            optional(1, "intCol", IntegerType.get()),
+            optional(2, "stringCol", Types.StringType.get()),
+            // v2 pages of an all-null column have no data to compress
+            optional(3, "nullCol", Types.LongType.get()));
+    List<Record> records = Lists.newArrayList();
+    for (int i = 0; i < 10_000; i += 1) {
+      Record record = GenericRecord.create(schema);
+      record.setField("intCol", i);
+      record.setField("stringCol", i % 7 == 0 ? null : "value-" + (i % 1000));
+      records.add(record);
+    }
+
+    for (WriterVersion version : WriterVersion.values()) {
+      // a buffer smaller than a page makes the writer wait for each page
+      for (long bufferBytes : new long[] {1, 1024 * 1024}) {
+        Timer stallTimer = new DefaultTimer(TimeUnit.NANOSECONDS);
+        File parquetFile = writeRecords(schema, records, version, 4, bufferBytes, stallTimer);
+        try (ParquetFileReader reader =
+            ParquetFileReader.open(ParquetIO.file(localInput(parquetFile)))) {
+          assertThat(reader.getRowGroups()).hasSizeGreaterThan(1);
+          for (BlockMetaData rowGroup : reader.getRowGroups()) {
+            for (ColumnChunkMetaData column : rowGroup.getColumns()) {
+              assertThat(column.getCodec()).isEqualTo(CompressionCodecName.ZSTD);
+            }
+          }
+        }
+
+        assertThat(readRecords(parquetFile, schema)).isEqualTo(records);
+        if (bufferBytes == 1) {
+          assertThat(stallTimer.count()).isGreaterThan(0L);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testFooterCacheWithSplits() throws IOException {
+    Schema schema = new Schema(optional(1, "intCol", IntegerType.get()));
+    List<Record> records = Lists.newArrayList();
+    for (int i = 0; i < 10_000; i += 1) {
+      Record record = GenericRecord.create(schema);
+      record.setField("intCol", i);
+      records.add(record);
+    }
+
+    File parquetFile =
+        writeRecords(schema, records, WriterVersion.PARQUET_1_0, 1, 1024 * 1024, Timer.NOOP);
+    long third = parquetFile.length() / 3;
+    long[][] splits = {{0, third}, {third, third}, {2 * third, parquetFile.length() - 2 * third}};
+
+    ParquetFooterCache.invalidateAll();
+    List<Record> cached = Lists.newArrayList();
+    List<Record> uncached = Lists.newArrayList();
+    for (long[] split : splits) {
+      cached.addAll(readSplit(parquetFile, schema, split[0], split[1], true));
+      uncached.addAll(readSplit(parquetFile, schema, split[0], split[1], false));
+    }
+
+    // each split reads only its own row groups from the footer that was cached by the first split
+    assertThat(ParquetFooterCache.size()).isEqualTo(1);
+    // the footer is weighed by its serialized length, which is stored at the end of the file
+    try (RandomAccessFile raf = new RandomAccessFile(parquetFile, "r")) {
+      raf.seek(parquetFile.length() - 8);
+      int footerLength = Integer.reverseBytes(raf.readInt());
+      assertThat(ParquetFooterCache.weightedSize()).isEqualTo(footerLength);
+    }
+    assertThat(cached).isEqualTo(uncached).isEqualTo(records);
+  }
+
+  @Test
+  public void testFooterCacheRejectsInvalidMagic() throws IOException {
+    Schema schema = new Schema(optional(1, "intCol", IntegerType.get()));
+    Record record = GenericRecord.create(schema);
+    record.setField("intCol", 1);
+    File parquetFile =
+        writeRecords(
+            schema, Lists.newArrayList(record), WriterVersion.PARQUET_1_0, 1, 1024, Timer.NOOP);
+    try (RandomAccessFile raf = new RandomAccessFile(parquetFile, "rw")) {
+      raf.seek(parquetFile.length() - 1);
+      raf.write('X');
+    }
+
+    ParquetFooterCache.invalidateAll();
+    assertThatThrownBy(() -> readSplit(parquetFile, schema, 0, parquetFile.length(), true))
+        .hasStackTraceContaining("Not a Parquet file (invalid magic)");
+    assertThat(ParquetFooterCache.size()).isEqualTo(0);
+  }
+
+  private List<Record> readSplit(
+      File file, Schema schema, long start, long length, boolean cacheFooters) throws IOException {
+    try (CloseableIterable<Record> reader =
+        Parquet.read(localInput(file))
+            .project(schema)
+            .split(start, length)
+            .createReaderFunc(fileSchema -> GenericParquetReaders.buildReader(schema, fileSchema))
+            .cacheFooters(cacheFooters)
+            .build()) {
+      return Lists.newArrayList(reader);
+    }
+  }
+
+  private File writeRecords(
+      Schema schema,
+      List<Record> records,
+      WriterVersion version,
+      int compressionThreads,
+      long compressionBufferBytes,
+      Timer stallTimer)
+      throws IOException {
+    File file = createTempFile(temp);
+    try (FileAppender<Record> appender =
+        Parquet.write(Files.localOutput(file))
+            .schema(schema)
+            .createWriterFunc(GenericParquetWriter::create)
+            .withWriterVersion(version)
+            .set(PARQUET_COMPRESSION, "zstd")
+            .set(PARQUET_PAGE_ROW_LIMIT, "100")
+            .set(PARQUET_ROW_GROUP_SIZE_BYTES, "4096")
+            .set(PARQUET_COMPRESSION_THREADS, Integer.toString(compressionThreads))
+            .set(PARQUET_COMPRESSION_BUFFER_BYTES, Long.toString(compressionBufferBytes))
+            .compressionStallTimer(stallTimer)
+            .build()) {
+      appender.addAll(records);
+    }
+
+    return file;
+  }
+
+  private List<Record> readRecords(File file, Schema schema) throws IOException {
+    try (CloseableIterable<Record> reader =
+        Parquet.read(localInput(file))
+            .project(schema)
+            .createReaderFunc(fileSchema -> GenericParquetReaders.buildReader(schema, fileSchema))
+            .build()) {
+      return Lists.newArrayList(reader);
+    }
+  }
+
+  private List<Integer> readInts(
+      File file, Expression filter, int prefetchRowGroups, Timer stallTimer) throws IOException {
+    Schema schema = new Schema(optional(1, "intCol", IntegerType.get()));
+    List<Integer> values = Lists.newArrayList();
+    try (CloseableIterable<Record> reader =
+        Parquet.read(localInput(file))
+            .project(schema)
+            .filter(filter)
+            .createReaderFunc(fileSchema -> GenericParquetReaders.buildReader(schema, fileSchema))
+            .prefetchRowGroups(prefetchRowGroups)
+            .prefetchStallTimer(stallTimer)
+            .build()) {
+      reader.forEach(record -> values.add((Integer) record.getField("intCol")));
+    }
+
+    return values;
+  }
+
+  private CloseableIterable<Record> prefetchingReader(
+      File file, int prefetchRowGroups, long prefetchMemoryLimit) {
+    Schema schema = new Schema(optional(1, "intCol", IntegerType.get()));
+    return Parquet.read(localInput(file))
+        .project(schema)
+        .createReaderFunc(fileSchema -> GenericParquetReaders.buildReader(schema, fileSchema))
+        .prefetchRowGroups(prefetchRowGroups)
+        .prefetchMemoryLimit(prefetchMemoryLimit)
+        .build();
+  }
+
   private Pair<File, Long> generateFile(
       Function<MessageType, ParquetValueWriter<?>> createWriterFunc,
       int desiredRecordCount,
@@ -743,6 +743,12 @@ public class SparkCatalog extends BaseCatalog {
             CatalogProperties.CACHE_EXPIRATION_INTERVAL_MS,
             CatalogProperties.CACHE_EXPIRATION_INTERVAL_MS_DEFAULT);
 
+    long cacheRefreshIntervalMs =
+        PropertyUtil.propertyAsLong(
+            options,
+            CatalogProperties.CACHE_REFRESH_INTERVAL_MS,
+            CatalogProperties.CACHE_REFRESH_INTERVAL_MS_DEFAULT);
+
     // An expiration interval of 0ms effectively disables caching.
     // Do not wrap with CachingCatalog.
     if (cacheExpirationIntervalMs == 0) {
@@ -758,7 +764,8 @@ public class SparkCatalog extends BaseCatalog {
             SparkUtil.hadoopConfCatalogOverrides(SparkSession.getActiveSession().get(), name));
     this.icebergCatalog =
         cacheEnabled
-            ? CachingCatalog.wrap(catalog, cacheCaseSensitive, cacheExpirationIntervalMs)
+            ? CachingCatalog.wrap(
+                catalog, cacheCaseSensitive, cacheExpirationIntervalMs, cacheRefreshIntervalMs)
             : catalog;
     if (catalog instanceof SupportsNamespaces) {
       this.asNamespaceCatalog = (SupportsNamespaces) catalog;